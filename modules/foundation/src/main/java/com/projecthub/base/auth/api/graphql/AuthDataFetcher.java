@@ -1,8 +1,11 @@
 package com.projecthub.base.auth.api.graphql;
 
 import com.netflix.graphql.dgs.DgsComponent;
+import com.netflix.graphql.dgs.DgsDataFetchingEnvironment;
 import com.netflix.graphql.dgs.DgsMutation;
 import com.netflix.graphql.dgs.InputArgument;
+import com.netflix.graphql.dgs.context.DgsContext;
+import com.netflix.graphql.dgs.internal.DgsWebMvcRequestData;
 import com.projecthub.base.auth.api.dto.*;
 import com.projecthub.base.auth.application.registration.AppUserRegistrationService;
 import com.projecthub.base.auth.domain.event.AuthEventPublisher;
@@ -10,6 +13,7 @@ import com.projecthub.base.auth.service.security.AuthenticationService;
 import com.projecthub.base.user.api.dto.AppUserCredentialsDTO;
 import com.projecthub.base.user.api.dto.AppUserDTO;
 import lombok.RequiredArgsConstructor;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @DgsComponent
 @RequiredArgsConstructor
@@ -20,12 +24,13 @@ public class AuthDataFetcher {
     private final AuthEventPublisher eventPublisher;
 
     @DgsMutation
-    public AuthResponseDTO login(@InputArgument final String username, @InputArgument final String password) {
+    public AuthResponseDTO login(@InputArgument final String username, @InputArgument final String password,
+                                 final DgsDataFetchingEnvironment dfe) {
         final LoginRequestDTO request = new LoginRequestDTO(
             username,
             password,
             false,
-            null
+            AuthDataFetcher.clientAddress(dfe)
         );
 
         final AuthenticationResultDTO result = this.authService.authenticate(request);
@@ -52,4 +57,12 @@ public class AuthDataFetcher {
         this.eventPublisher.publishUserRegistered(user.id());
         return user;
     }
+
+    private static String clientAddress(final DgsDataFetchingEnvironment dfe) {
+        if (DgsContext.getRequestData(dfe) instanceof final DgsWebMvcRequestData requestData
+            && requestData.getWebRequest() instanceof final ServletWebRequest webRequest) {
+            return webRequest.getRequest().getRemoteAddr();
+        }
+        return null;
+    }
 }
@@ -1,7 +1,6 @@
 package com.projecthub.base.auth.application.security;
 
 import com.projecthub.base.auth.domain.entity.SecurityAuditLog;
-import com.projecthub.base.repository.jpa.SecurityAuditLogRepository;
 import com.projecthub.base.shared.domain.enums.security.SecurityAuditAction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,10 +18,10 @@ public class SecurityAuditService {
     private static final String DEFAULT_IP_ADDRESS = "0.0.0.0";
     private static final String SOURCE_SYSTEM = "WEB";
 
-    private final SecurityAuditLogRepository auditLogRepository;
+    private final SecurityAuditWriter auditWriter;
 
-    public SecurityAuditService(final SecurityAuditLogRepository auditLogRepository) {
-        this.auditLogRepository = auditLogRepository;
+    public SecurityAuditService(final SecurityAuditWriter auditWriter) {
+        this.auditWriter = auditWriter;
     }
 
     public void logAccountAction(final UUID userId, final SecurityAuditAction action) {
@@ -35,7 +34,7 @@ public class SecurityAuditService {
 
     public void logAccountAction(final UUID userId, final SecurityAuditAction action, final String details, final String ipAddress) {
         final SecurityAuditLog log = this.createAuditLog(userId, null, action, details, ipAddress);
-        this.auditLogRepository.save(log);
+        this.auditWriter.write(log);
         SecurityAuditService.logger.info("Security audit logged - User: {}, Action: {}, Details: {}",
             userId, action, null != details ? details : "none");
     }
@@ -48,7 +47,7 @@ public class SecurityAuditService {
             null,
             ipAddress
         );
-        this.auditLogRepository.save(log);
+        this.auditWriter.write(log);
         SecurityAuditService.logger.info("Authentication attempt - User: {}, Success: {}", username, success);
     }
 
@@ -60,7 +59,7 @@ public class SecurityAuditService {
             reason,
             SecurityAuditService.DEFAULT_IP_ADDRESS
         );
-        this.auditLogRepository.save(log);
+        this.auditWriter.write(log);
         SecurityAuditService.logger.warn("Password validation failed - User: {}, Reason: {}", userId, reason);
     }
 
@@ -72,7 +71,7 @@ public class SecurityAuditService {
             null,
             ipAddress
         );
-        this.auditLogRepository.save(log);
+        this.auditWriter.write(log);
         SecurityAuditService.logger.info("Password change attempt - User: {}, Success: {}", userId, success);
     }
 
@@ -92,8 +91,4 @@ public class SecurityAuditService {
         log.setSourceSystem(SecurityAuditService.SOURCE_SYSTEM);
         return log;
     }
-
-    public int countRecentFailedAttempts(final String username, final String ipAddress, final LocalDateTime localDateTime) {
-        return 0;
-    }
 }
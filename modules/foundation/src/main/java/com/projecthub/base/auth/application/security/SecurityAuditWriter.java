@@ -0,0 +1,269 @@
+package com.projecthub.base.auth.application.security;
+
+import com.projecthub.base.auth.domain.entity.SecurityAuditLog;
+import com.projecthub.base.repository.jpa.SecurityAuditLogRepository;
+import com.projecthub.base.shared.domain.enums.security.SecurityAuditDurability;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persists {@link SecurityAuditLog} records off the caller's thread.
+ * <p>
+ * In {@link SecurityAuditDurability#ASYNC} mode records are queued in a bounded ring buffer and a
+ * background writer inserts them in JDBC batches once {@code batch-size} records are pending or
+ * {@code flush-interval} has elapsed. When the buffer is full the record is written synchronously
+ * instead of being dropped. In {@link SecurityAuditDurability#SYNC} mode every record is saved
+ * in the caller's transaction, as before.
+ * </p>
+ * <p>
+ * Records are never dropped on a write failure. A failed batch is retried with exponential
+ * backoff, then written row by row so one bad record cannot take the rest of the batch with it.
+ * Each record's id is fixed when it is queued, so rows that already made it in are recognised by
+ * their primary key instead of being duplicated. Records that still fail are re-queued a limited
+ * number of times and finally spilled, in full, to the {@code security-audit-spill} logger at
+ * error level.
+ * </p>
+ */
+@Component
+public class SecurityAuditWriter implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(SecurityAuditWriter.class);
+    private static final Logger spillLogger = LoggerFactory.getLogger("security-audit-spill");
+
+    private static final String INSERT_SQL = """
+        INSERT INTO security_audit_log
+            (id, created_date, last_modified_date, user_id, username, action, details, ip_address, timestamp, source_system)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private final SecurityAuditLogRepository auditLogRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final SecurityAuditDurability durability;
+    private final BlockingQueue<PendingRecord> buffer;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final int maxRequeues;
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    private final Counter overflowCounter;
+    private final Counter failureCounter;
+    private final Counter retryCounter;
+    private final Counter spillCounter;
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizeSummary;
+
+    public SecurityAuditWriter(
+        final SecurityAuditLogRepository auditLogRepository,
+        final JdbcTemplate jdbcTemplate,
+        final MeterRegistry registry,
+        @Value("${app.security.audit.durability:ASYNC}") final SecurityAuditDurability durability,
+        @Value("${app.security.audit.buffer-capacity:8192}") final int bufferCapacity,
+        @Value("${app.security.audit.batch-size:200}") final int batchSize,
+        @Value("${app.security.audit.flush-interval:500ms}") final Duration flushInterval,
+        @Value("${app.security.audit.retry.max-attempts:3}") final int maxAttempts,
+        @Value("${app.security.audit.retry.backoff:200ms}") final Duration backoff,
+        @Value("${app.security.audit.retry.max-requeues:5}") final int maxRequeues) {
+        this.auditLogRepository = auditLogRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.durability = durability;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushInterval.toMillis();
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoff.toMillis();
+        this.maxRequeues = maxRequeues;
+
+        this.overflowCounter = registry.counter("security.audit.overflow");
+        this.failureCounter = registry.counter("security.audit.write.failures");
+        this.retryCounter = registry.counter("security.audit.write.retries");
+        this.spillCounter = registry.counter("security.audit.spilled");
+        this.flushTimer = registry.timer("security.audit.flush");
+        this.batchSizeSummary = registry.summary("security.audit.batch.size");
+        registry.gauge("security.audit.queue.size", this.buffer, BlockingQueue::size);
+
+        this.flusher = new Thread(this::runFlusher, "security-audit-writer");
+        this.flusher.setDaemon(true);
+        if (SecurityAuditDurability.ASYNC == durability) {
+            this.flusher.start();
+        }
+    }
+
+    public void write(final SecurityAuditLog log) {
+        if (SecurityAuditDurability.SYNC == this.durability) {
+            this.auditLogRepository.save(log);
+            return;
+        }
+        if (!this.buffer.offer(new PendingRecord(UUID.randomUUID(), log, 0))) {
+            // Losing audit records is worse than a slow login, so fall back to writing in place
+            this.overflowCounter.increment();
+            this.auditLogRepository.save(log);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        // The flusher wakes up at least once per flush interval, so no interrupt is needed
+        this.running = false;
+        this.flusher.join(TimeUnit.SECONDS.toMillis(10));
+        this.flushRemaining();
+    }
+
+    private void runFlusher() {
+        final List<PendingRecord> batch = new ArrayList<>(this.batchSize);
+        while (this.running) {
+            try {
+                final PendingRecord first = this.buffer.poll(this.flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (null == first) {
+                    continue;
+                }
+                batch.add(first);
+                final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.flushIntervalMillis);
+                while (batch.size() < this.batchSize) {
+                    this.buffer.drainTo(batch, this.batchSize - batch.size());
+                    final long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= this.batchSize || 0 >= remaining) {
+                        break;
+                    }
+                    final PendingRecord next = this.buffer.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (null == next) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                this.flush(batch);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flushRemaining() {
+        final List<PendingRecord> batch = new ArrayList<>(this.batchSize);
+        while (0 < this.buffer.drainTo(batch, this.batchSize)) {
+            this.flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(final List<PendingRecord> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        final LocalDateTime now = LocalDateTime.now();
+        RuntimeException failure = null;
+        for (int attempt = 1; attempt <= this.maxAttempts; attempt++) {
+            try {
+                this.flushTimer.record(() -> this.jdbcTemplate.batchUpdate(SecurityAuditWriter.INSERT_SQL, batch, batch.size(),
+                    (ps, pending) -> SecurityAuditWriter.bind(ps, pending, now)));
+                this.batchSizeSummary.record(batch.size());
+                return;
+            } catch (final DuplicateKeyException e) {
+                // Part of the batch was written by an earlier attempt; sort it out row by row
+                failure = e;
+                break;
+            } catch (final RuntimeException e) {
+                failure = e;
+                if (attempt == this.maxAttempts || !this.backOff(attempt)) {
+                    break;
+                }
+                this.retryCounter.increment();
+            }
+        }
+        SecurityAuditWriter.logger.warn("Batch write of {} security audit records failed, writing row by row",
+            batch.size(), failure);
+        for (final PendingRecord pending : batch) {
+            this.writeRow(pending, now);
+        }
+    }
+
+    private void writeRow(final PendingRecord pending, final LocalDateTime now) {
+        try {
+            this.jdbcTemplate.update(SecurityAuditWriter.INSERT_SQL, ps -> SecurityAuditWriter.bind(ps, pending, now));
+        } catch (final DuplicateKeyException e) {
+            // Already written by the failed batch
+        } catch (final RuntimeException e) {
+            this.failureCounter.increment();
+            final PendingRecord retry = pending.retried();
+            if (this.running && retry.requeues() <= this.maxRequeues && this.buffer.offer(retry)) {
+                SecurityAuditWriter.logger.error("Failed to write security audit record {}, re-queued (attempt {})",
+                    pending.id(), retry.requeues(), e);
+                return;
+            }
+            this.spill(pending, e);
+        }
+    }
+
+    private void spill(final PendingRecord pending, final RuntimeException cause) {
+        this.spillCounter.increment();
+        final SecurityAuditLog log = pending.log();
+        SecurityAuditWriter.spillLogger.error(
+            "Unwritten security audit record id={} userId={} username={} action={} ipAddress={} timestamp={} sourceSystem={} details={}",
+            pending.id(), log.getUserId(), log.getUsername(), log.getAction(), log.getIpAddress(),
+            log.getTimestamp(), log.getSourceSystem(), log.getDetails(), cause);
+    }
+
+    /**
+     * Sleeps before the next attempt, doubling the pause each time.
+     *
+     * @return whether to retry; {@code false} once the writer was interrupted
+     */
+    private boolean backOff(final int attempt) {
+        try {
+            Thread.sleep(this.backoffMillis << (attempt - 1));
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void bind(final PreparedStatement ps, final PendingRecord pending, final LocalDateTime now) throws SQLException {
+        final SecurityAuditLog log = pending.log();
+        ps.setObject(1, pending.id());
+        ps.setTimestamp(2, Timestamp.valueOf(now));
+        ps.setTimestamp(3, Timestamp.valueOf(now));
+        ps.setObject(4, log.getUserId());
+        ps.setString(5, log.getUsername());
+        ps.setString(6, log.getAction().name());
+        ps.setString(7, log.getDetails());
+        ps.setString(8, log.getIpAddress());
+        ps.setTimestamp(9, Timestamp.valueOf(log.getTimestamp()));
+        ps.setString(10, log.getSourceSystem());
+    }
+
+    /**
+     * A queued record with the primary key it will be inserted under.
+     */
+    private record PendingRecord(UUID id, SecurityAuditLog log, int requeues) {
+        PendingRecord retried() {
+            return new PendingRecord(this.id, this.log, this.requeues + 1);
+        }
+    }
+}
@@ -1,17 +1,23 @@
 package com.projecthub.base.auth.infrastructure.persistence.token;
 
+import com.projecthub.base.auth.domain.enums.TokenType;
 import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public class TokenRepository {
     private final EntityManager entityManager;
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    public TokenRepository(final EntityManager entityManager) {
+    public TokenRepository(final EntityManager entityManager, final VerifiedTokenCache verifiedTokenCache) {
         this.entityManager = entityManager;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     @Transactional
@@ -20,6 +26,7 @@ public class TokenRepository {
                 "UPDATE Token t SET t.revoked = true WHERE t.user.username = :username")
             .setParameter("username", username)
             .executeUpdate();
+        this.verifiedTokenCache.invalidateUser(username);
     }
 
     public boolean isTokenValid(final String token) {
@@ -32,11 +39,114 @@ public class TokenRepository {
         return 0 < count;
     }
 
+    /**
+     * Loads what token validation needs about a stored token in a single query.
+     *
+     * @return the stored state of the token, or empty if the token was never issued or was purged
+     */
+    public Optional<StoredToken> findStoredToken(final String token) {
+        return this.entityManager.createQuery(
+                "SELECT t.expiryDate, t.tokenType, t.revoked FROM Token t WHERE t.tokenValue = :token",
+                Object[].class)
+            .setParameter("token", token)
+            .setMaxResults(1)
+            .getResultList().stream()
+            .findFirst()
+            .map(row -> new StoredToken((LocalDateTime) row[0], (TokenType) row[1], Boolean.TRUE.equals(row[2])));
+    }
+
     @Transactional
     public void revokeToken(final String token) {
         this.entityManager.createQuery(
                 "UPDATE Token t SET t.revoked = true WHERE t.tokenValue = :token")
             .setParameter("token", token)
             .executeUpdate();
+        this.verifiedTokenCache.invalidate(token);
+    }
+
+    /**
+     * Counts the user's tokens that are neither revoked nor purged yet, which is the quantity
+     * {@link #purgeExpiredTokens} reports back as it deletes them.
+     */
+    public long countActiveTokensByUsername(final String username) {
+        return this.entityManager.createQuery(
+                "SELECT COUNT(t) FROM Token t WHERE t.user.username = :username AND t.revoked = false",
+                Long.class)
+            .setParameter("username", username)
+            .getSingleResult();
+    }
+
+    /**
+     * Deletes the user's active token that expires first.
+     *
+     * @return {@code true} if a token was deleted
+     */
+    @Transactional
+    public boolean deleteOldestTokenForUser(final String username) {
+        final List<Object[]> oldest = this.entityManager.createQuery(
+                "SELECT t.id, t.tokenValue FROM Token t WHERE t.user.username = :username AND t.revoked = false "
+                    + "ORDER BY t.expiryDate", Object[].class)
+            .setParameter("username", username)
+            .setMaxResults(1)
+            .getResultList();
+        if (oldest.isEmpty()) {
+            return false;
+        }
+        this.entityManager.createQuery("DELETE FROM Token t WHERE t.id = :id")
+            .setParameter("id", oldest.getFirst()[0])
+            .executeUpdate();
+        this.verifiedTokenCache.invalidate((String) oldest.getFirst()[1]);
+        return true;
+    }
+
+    /**
+     * Deletes at most {@code batchSize} expired tokens, oldest expiry first, in a transaction of
+     * its own so the token table is only locked for one bounded batch at a time.
+     *
+     * @return the number of deleted tokens and the owners of those that were not revoked
+     */
+    @Transactional
+    public PurgeResult purgeExpiredTokens(final LocalDateTime now, final int batchSize) {
+        final List<Object[]> expired = this.entityManager.createQuery(
+                "SELECT t.id, t.user.username, t.revoked FROM Token t WHERE t.expiryDate <= :now ORDER BY t.expiryDate",
+                Object[].class)
+            .setParameter("now", now)
+            .setMaxResults(batchSize)
+            .getResultList();
+        if (expired.isEmpty()) {
+            return PurgeResult.EMPTY;
+        }
+
+        final List<Object> ids = new ArrayList<>(expired.size());
+        final List<String> activeOwners = new ArrayList<>();
+        for (final Object[] row : expired) {
+            ids.add(row[0]);
+            if (!Boolean.TRUE.equals(row[2])) {
+                activeOwners.add((String) row[1]);
+            }
+        }
+        this.entityManager.createQuery("DELETE FROM Token t WHERE t.id IN :ids")
+            .setParameter("ids", ids)
+            .executeUpdate();
+        return new PurgeResult(ids.size(), activeOwners);
+    }
+
+    /**
+     * Validation-relevant state of a stored token.
+     */
+    public record StoredToken(LocalDateTime expiryDate, TokenType tokenType, boolean revoked) {
+        public boolean isActive(final LocalDateTime now) {
+            return !this.revoked && this.expiryDate.isAfter(now);
+        }
+    }
+
+    /**
+     * Outcome of one purge batch.
+     *
+     * @param deleted      number of deleted tokens
+     * @param activeOwners owners of deleted tokens that had not been revoked, one entry per token
+     */
+    public record PurgeResult(int deleted, List<String> activeOwners) {
+        public static final PurgeResult EMPTY = new PurgeResult(0, List.of());
     }
 }
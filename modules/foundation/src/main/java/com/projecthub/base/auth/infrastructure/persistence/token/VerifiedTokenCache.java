@@ -0,0 +1,179 @@
+package com.projecthub.base.auth.infrastructure.persistence.token;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process cache of token validation results.
+ * <p>
+ * Entries are keyed by a SHA-256 hash of the whole token, header, payload and signature alike,
+ * since all three decide its validity. They live until the token
+ * expires, so steady-state validation of a known token needs no parsing and no database access.
+ * Revocations are applied immediately: {@link #invalidate(String)} leaves a tombstone for the
+ * revoked token and {@link #invalidateUser(String)} bumps the user's version stamp, which makes
+ * every entry cached under an older stamp a miss. Callers take the stamp with
+ * {@link #userStamp(String)} <em>before</em> reading the database so that a revocation racing
+ * with a validation can never be overwritten by a stale result. Inside a transaction the user's
+ * stamp is bumped again once the revocation commits, so a validation that read the still-active
+ * row before the commit cannot keep its result either.
+ * </p>
+ * <p>
+ * The cache is local to this node. Revocations only reach the cache of the node that performed
+ * them; other nodes keep serving their cached results until those tokens expire.
+ * </p>
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(VerifiedTokenCache.class);
+
+    private final Map<TokenKey, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<TokenKey, Instant> revoked = new ConcurrentHashMap<>();
+    private final Map<String, Long> userVersions = new ConcurrentHashMap<>();
+    private final AtomicLong versionSequence = new AtomicLong();
+    private final int maxEntries;
+    private final Duration revocationTtl;
+
+    public VerifiedTokenCache(
+        @Value("${app.security.token-cache.max-entries:100000}") final int maxEntries,
+        @Value("${app.security.token-cache.revocation-ttl:7d}") final Duration revocationTtl) {
+        this.maxEntries = maxEntries;
+        this.revocationTtl = revocationTtl;
+    }
+
+    /**
+     * Returns the cached result for the token, or {@code null} when the token has to be verified.
+     */
+    public Entry lookup(final String token) {
+        final TokenKey key = VerifiedTokenCache.keyOf(token);
+        final Instant now = Instant.now();
+        if (this.isRevoked(key, now)) {
+            return Entry.REJECTED;
+        }
+        final Entry entry = this.entries.get(key);
+        if (null == entry) {
+            return null;
+        }
+        if (!entry.expiresAt().isAfter(now) || entry.userVersion() != this.userStamp(entry.username())) {
+            this.entries.remove(key, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Current revocation stamp for the user; pass it back to {@link #put} after verifying a token.
+     */
+    public long userStamp(final String username) {
+        return this.userVersions.getOrDefault(username, 0L);
+    }
+
+    /**
+     * Caches a verification result unless the token or its user was revoked since {@code userStamp}
+     * was taken. Returns the entry so callers can use it directly.
+     */
+    public Entry put(final String token, final String username, final boolean active, final boolean refresh,
+                     final Instant expiresAt, final long userStamp) {
+        final Entry entry = new Entry(username, active, refresh, expiresAt, userStamp);
+        final TokenKey key = VerifiedTokenCache.keyOf(token);
+        final Instant now = Instant.now();
+        if (!expiresAt.isAfter(now) || userStamp != this.userStamp(username)) {
+            return entry;
+        }
+        if (this.maxEntries <= this.entries.size()) {
+            this.evict(now);
+        }
+        this.entries.put(key, entry);
+        if (this.isRevoked(key, now) || userStamp != this.userStamp(username)) {
+            this.entries.remove(key, entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Marks a single token as revoked.
+     */
+    public void invalidate(final String token) {
+        final TokenKey key = VerifiedTokenCache.keyOf(token);
+        final Entry entry = this.entries.remove(key);
+        final Instant until = null != entry ? entry.expiresAt() : Instant.now().plus(this.revocationTtl);
+        this.revoked.put(key, until);
+    }
+
+    /**
+     * Invalidates every cached token of the user, now and, when called inside a transaction, again
+     * after it commits.
+     */
+    public void invalidateUser(final String username) {
+        this.bumpUserStamp(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    VerifiedTokenCache.this.bumpUserStamp(username);
+                }
+            });
+        }
+    }
+
+    private void bumpUserStamp(final String username) {
+        final long version = this.versionSequence.incrementAndGet();
+        this.userVersions.put(username, version);
+    }
+
+    private boolean isRevoked(final TokenKey key, final Instant now) {
+        final Instant until = this.revoked.get(key);
+        if (null == until) {
+            return false;
+        }
+        if (!until.isAfter(now)) {
+            this.revoked.remove(key, until);
+            return false;
+        }
+        return true;
+    }
+
+    private void evict(final Instant now) {
+        this.entries.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+        this.revoked.values().removeIf(until -> !until.isAfter(now));
+        if (this.maxEntries <= this.entries.size()) {
+            VerifiedTokenCache.logger.debug("Token cache full with {} live entries, clearing", this.entries.size());
+            this.entries.clear();
+        }
+    }
+
+    private static TokenKey keyOf(final String token) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(token.getBytes(StandardCharsets.UTF_8));
+            final ByteBuffer buffer = ByteBuffer.wrap(digest);
+            return new TokenKey(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record TokenKey(long a, long b, long c, long d) {
+    }
+
+    /**
+     * Verification result of a token.
+     */
+    public record Entry(String username, boolean active, boolean refresh, Instant expiresAt, long userVersion) {
+        public static final Entry REJECTED = new Entry(null, false, false, Instant.MAX, 0L);
+    }
+}
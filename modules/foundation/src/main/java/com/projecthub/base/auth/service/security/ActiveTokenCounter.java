@@ -0,0 +1,87 @@
+package com.projecthub.base.auth.service.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+/**
+ * Per-user count of active tokens, kept in memory so that login-time bookkeeping does not have
+ * to count rows in the token table.
+ * <p>
+ * A user's counter is seeded from the database the first time it is used and is then maintained
+ * by token issue, revocation and purge. Changes made inside a transaction are applied only once
+ * it commits, so a rolled-back login or revocation leaves the count untouched. Counts never go
+ * below zero.
+ * </p>
+ * <p>
+ * At most {@code max-users} counters are held and a counter nobody used for
+ * {@code expire-after-access} is dropped. Every counter is also dropped {@code reseed-after} its
+ * seeding, so the next use loads it from the database again; that bounds how long drift, such as
+ * tokens purged or issued by another node, can go uncorrected.
+ * </p>
+ */
+@Component
+public class ActiveTokenCounter {
+
+    private final Cache<String, AtomicLong> counters;
+
+    public ActiveTokenCounter(
+        @Value("${app.security.token.counter.max-users:10000}") final long maxUsers,
+        @Value("${app.security.token.counter.expire-after-access:30m}") final Duration expireAfterAccess,
+        @Value("${app.security.token.counter.reseed-after:10m}") final Duration reseedAfter) {
+        this.counters = Caffeine.newBuilder()
+            .maximumSize(maxUsers)
+            .expireAfterAccess(expireAfterAccess)
+            .expireAfterWrite(reseedAfter)
+            .build();
+    }
+
+    /**
+     * Current count for the user, loading it with {@code loader} if the user is not tracked yet.
+     */
+    public long get(final String username, final ToLongFunction<String> loader) {
+        return this.counters
+            .get(username, name -> new AtomicLong(loader.applyAsLong(name)))
+            .get();
+    }
+
+    /**
+     * Adds {@code delta} tokens to a tracked user once the current transaction commits;
+     * untracked users are left to be seeded lazily.
+     */
+    public void add(final String username, final long delta) {
+        ActiveTokenCounter.afterCommit(() -> {
+            final AtomicLong counter = this.counters.getIfPresent(username);
+            if (null != counter) {
+                counter.accumulateAndGet(delta, (current, change) -> Math.max(0L, current + change));
+            }
+        });
+    }
+
+    /**
+     * Forgets the user's count once the revocation of all their tokens commits.
+     */
+    public void reset(final String username) {
+        ActiveTokenCounter.afterCommit(() -> this.counters.invalidate(username));
+    }
+
+    private static void afterCommit(final Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
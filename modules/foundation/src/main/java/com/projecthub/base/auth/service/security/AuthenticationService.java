@@ -27,8 +27,6 @@ import java.util.UUID;
 public class AuthenticationService {
     private static final Logger logger = LoggerFactory.getLogger(AuthenticationService.class);
     private static final String INVALID_CREDENTIALS_MESSAGE = "Invalid username or password";
-    private static final int MAX_ATTEMPTS_WINDOW_MINUTES = 30;
-    private static final int MAX_LOGIN_ATTEMPTS = 5;
     private static final int SUSPICIOUS_LOGIN_THRESHOLD = 3;
 
     private final AppUserJpaRepository userRepository;
@@ -37,6 +35,7 @@ public class AuthenticationService {
     private final TokenManagementService tokenService;
     private final SecurityAuditService auditService;
     private final RememberMeService rememberMeService;
+    private final LoginRateLimiter rateLimiter;
 
     public AuthenticationService(
         AppUserJpaRepository userRepository,
@@ -44,24 +43,27 @@ public class AuthenticationService {
         AccountLockingService lockingService,
         TokenManagementService tokenService,
         SecurityAuditService auditService,
-        RememberMeService rememberMeService) {
+        RememberMeService rememberMeService,
+        LoginRateLimiter rateLimiter) {
         this.userRepository = userRepository;
         this.passwordService = passwordService;
         this.lockingService = lockingService;
         this.tokenService = tokenService;
         this.auditService = auditService;
         this.rememberMeService = rememberMeService;
+        this.rateLimiter = rateLimiter;
     }
 
     @Transactional
     public AuthenticationResultDTO authenticate(LoginRequestDTO loginRequest) {
         logger.info("Authentication attempt for user: {}", loginRequest.principal());
 
-        try {
-            if (isRateLimited(loginRequest.principal(), loginRequest.ipAddress())) {
-                throw new AccountLockedException("Too many login attempts. Please try again later.");
-            }
+        // Rejected without counting: a throttled caller must not extend its own lockout
+        if (isRateLimited(loginRequest.principal(), loginRequest.ipAddress())) {
+            throw new AccountLockedException("Too many login attempts. Please try again later.");
+        }
 
+        try {
             AppUser user = validateAndGetUser(loginRequest);
             validateSecurityStatus(user, loginRequest.ipAddress());
 
@@ -78,12 +80,7 @@ public class AuthenticationService {
     }
 
     private boolean isRateLimited(String username, String ipAddress) {
-        int recentAttempts = auditService.countRecentFailedAttempts(
-            username,
-            ipAddress,
-            LocalDateTime.now().minusMinutes(MAX_ATTEMPTS_WINDOW_MINUTES)
-        );
-        return MAX_LOGIN_ATTEMPTS <= recentAttempts;
+        return rateLimiter.isRateLimited(username, ipAddress);
     }
 
     private void validateSecurityStatus(final AppUser user, final String ipAddress) {
@@ -98,6 +95,7 @@ public class AuthenticationService {
 
     private void handleFailedLogin(final String principal, final String ipAddress) {
         this.auditService.logAuthenticationAttempt(principal, false, ipAddress);
+        this.rateLimiter.recordFailure(principal, ipAddress);
         if (this.isRateLimited(principal, ipAddress)) {
             this.auditService.logAccountAction(
                 null,
@@ -142,6 +140,7 @@ public class AuthenticationService {
 
     private AuthenticationResultDTO handleSuccessfulLogin(final AppUser user, final LoginRequestDTO loginRequest, final String accessToken) {
         this.resetSecurityFlags(user);
+        this.rateLimiter.reset(user.getUsername());
         this.updateLoginMetadata(user, loginRequest.ipAddress());
 
         if (loginRequest.rememberMe()) {
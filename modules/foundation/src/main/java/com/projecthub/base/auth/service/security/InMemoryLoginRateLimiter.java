@@ -0,0 +1,150 @@
+package com.projecthub.base.auth.service.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Node-local {@link LoginRateLimiter} using sliding-window counters.
+ * <p>
+ * Each key keeps the counts of the current and previous fixed window; the estimate weights the
+ * previous window by how much of it still overlaps the sliding window. Counters are updated with
+ * compare-and-set, so concurrent attempts never block each other. The map is bounded by
+ * {@code max-entries}: once full, counters idle for more than two windows are evicted, then the
+ * least recently used remaining ones until a tenth of the capacity is free again.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "app.security.rate-limit.backend", havingValue = "memory", matchIfMissing = true)
+public class InMemoryLoginRateLimiter implements LoginRateLimiter {
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryLoginRateLimiter.class);
+
+    private final Map<String, SlidingWindow> windows = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final long windowMillis;
+    private final int maxAttemptsPerUser;
+    private final int maxAttemptsPerIp;
+    private final int maxEntries;
+
+    public InMemoryLoginRateLimiter(
+        @Value("${app.security.rate-limit.window:30m}") final Duration window,
+        @Value("${app.security.rate-limit.max-attempts-per-user:5}") final int maxAttemptsPerUser,
+        @Value("${app.security.rate-limit.max-attempts-per-ip:20}") final int maxAttemptsPerIp,
+        @Value("${app.security.rate-limit.max-entries:100000}") final int maxEntries) {
+        this.windowMillis = window.toMillis();
+        this.maxAttemptsPerUser = maxAttemptsPerUser;
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public boolean isRateLimited(final String username, final String ipAddress) {
+        final long now = System.currentTimeMillis();
+        final String ipKey = LoginRateLimitKeys.ip(ipAddress);
+        return this.estimate(LoginRateLimitKeys.user(username), now) >= this.maxAttemptsPerUser
+            || (null != ipKey && this.estimate(ipKey, now) >= this.maxAttemptsPerIp);
+    }
+
+    @Override
+    public void recordFailure(final String username, final String ipAddress) {
+        final long now = System.currentTimeMillis();
+        this.windows.computeIfAbsent(LoginRateLimitKeys.user(username), key -> new SlidingWindow()).increment(now, this.windowMillis);
+        final String ipKey = LoginRateLimitKeys.ip(ipAddress);
+        if (null != ipKey) {
+            this.windows.computeIfAbsent(ipKey, key -> new SlidingWindow()).increment(now, this.windowMillis);
+        }
+        if (this.windows.size() > this.maxEntries) {
+            this.evict(now);
+        }
+    }
+
+    @Override
+    public void reset(final String username) {
+        this.windows.remove(LoginRateLimitKeys.user(username));
+    }
+
+    private double estimate(final String key, final long now) {
+        final SlidingWindow window = this.windows.get(key);
+        return null == window ? 0 : window.estimate(now, this.windowMillis);
+    }
+
+    private void evict(final long now) {
+        if (!this.evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            this.windows.values().removeIf(window -> window.isIdle(now, this.windowMillis));
+            final int excess = this.windows.size() - (this.maxEntries - this.maxEntries / 10);
+            if (this.windows.size() <= this.maxEntries || 0 >= excess) {
+                return;
+            }
+            final List<Map.Entry<String, SlidingWindow>> leastRecent = this.windows.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().lastSeen()))
+                .limit(excess)
+                .toList();
+            int evicted = 0;
+            for (final Map.Entry<String, SlidingWindow> entry : leastRecent) {
+                if (this.windows.remove(entry.getKey(), entry.getValue())) {
+                    evicted++;
+                }
+            }
+            if (0 < evicted) {
+                InMemoryLoginRateLimiter.logger.warn("Rate limiter full, evicted {} active counters", evicted);
+            }
+        } finally {
+            this.evicting.set(false);
+        }
+    }
+
+    /**
+     * Current and previous window counts, swapped atomically as a unit.
+     */
+    private static final class SlidingWindow {
+        private final AtomicReference<Counts> counts = new AtomicReference<>(new Counts(0L, 0, 0));
+        private volatile long lastSeen;
+
+        void increment(final long now, final long windowMillis) {
+            this.lastSeen = now;
+            this.counts.updateAndGet(current -> {
+                final Counts rolled = current.roll(now, windowMillis);
+                return new Counts(rolled.windowStart(), rolled.current() + 1, rolled.previous());
+            });
+        }
+
+        double estimate(final long now, final long windowMillis) {
+            final Counts rolled = this.counts.get().roll(now, windowMillis);
+            final double previousWeight = 1.0 - (double) (now - rolled.windowStart()) / windowMillis;
+            return rolled.current() + rolled.previous() * previousWeight;
+        }
+
+        long lastSeen() {
+            return this.lastSeen;
+        }
+
+        boolean isIdle(final long now, final long windowMillis) {
+            return 2 * windowMillis <= now - this.counts.get().windowStart();
+        }
+    }
+
+    private record Counts(long windowStart, int current, int previous) {
+        Counts roll(final long now, final long windowMillis) {
+            final long start = now - now % windowMillis;
+            if (start == this.windowStart) {
+                return this;
+            }
+            return start - this.windowStart == windowMillis
+                ? new Counts(start, 0, this.current)
+                : new Counts(start, 0, 0);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.projecthub.base.auth.service.security;
+
+import java.util.Locale;
+
+/**
+ * Counter keys shared by the {@link LoginRateLimiter} implementations. Usernames are lower-cased
+ * so case variations of one account share a budget. Attempts without a known client address have
+ * no IP key, so they are throttled by username only instead of sharing one anonymous IP budget.
+ */
+enum LoginRateLimitKeys {
+    ;
+
+    static String user(final String username) {
+        return "user:" + (null == username ? "" : username.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * @return the IP counter key, or {@code null} when the client address is unknown
+     */
+    static String ip(final String ipAddress) {
+        return null == ipAddress || ipAddress.isBlank() ? null : "ip:" + ipAddress.strip();
+    }
+}
@@ -0,0 +1,24 @@
+package com.projecthub.base.auth.service.security;
+
+/**
+ * Throttles login attempts by username and by client IP address without consulting the database.
+ */
+public interface LoginRateLimiter {
+
+    /**
+     * @return whether either the username or the IP address has exhausted its failed-attempt budget;
+     * a {@code null} or blank IP address is not checked
+     */
+    boolean isRateLimited(String username, String ipAddress);
+
+    /**
+     * Counts a failed login attempt against the username and, when known, the IP address.
+     */
+    void recordFailure(String username, String ipAddress);
+
+    /**
+     * Clears the failed-attempt count of a username after a successful login. The IP address
+     * keeps its count, so one valid account cannot be used to reset an attacker's budget.
+     */
+    void reset(String username);
+}
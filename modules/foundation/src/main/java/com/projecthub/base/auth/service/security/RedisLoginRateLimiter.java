@@ -0,0 +1,90 @@
+package com.projecthub.base.auth.service.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * {@link LoginRateLimiter} shared across nodes through Redis.
+ * <p>
+ * Uses the same sliding-window estimate as {@link InMemoryLoginRateLimiter}, with one counter key
+ * per fixed window that expires after two windows. Enabled with
+ * {@code app.security.rate-limit.backend=redis}.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "app.security.rate-limit.backend", havingValue = "redis")
+public class RedisLoginRateLimiter implements LoginRateLimiter {
+    private static final String KEY_PREFIX = "auth:login-attempts:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final long windowMillis;
+    private final int maxAttemptsPerUser;
+    private final int maxAttemptsPerIp;
+
+    public RedisLoginRateLimiter(
+        final StringRedisTemplate redisTemplate,
+        @Value("${app.security.rate-limit.window:30m}") final Duration window,
+        @Value("${app.security.rate-limit.max-attempts-per-user:5}") final int maxAttemptsPerUser,
+        @Value("${app.security.rate-limit.max-attempts-per-ip:20}") final int maxAttemptsPerIp) {
+        this.redisTemplate = redisTemplate;
+        this.windowMillis = window.toMillis();
+        this.maxAttemptsPerUser = maxAttemptsPerUser;
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+    }
+
+    @Override
+    public boolean isRateLimited(final String username, final String ipAddress) {
+        final long now = System.currentTimeMillis();
+        final String ipKey = LoginRateLimitKeys.ip(ipAddress);
+        return this.estimate(LoginRateLimitKeys.user(username), now) >= this.maxAttemptsPerUser
+            || (null != ipKey && this.estimate(ipKey, now) >= this.maxAttemptsPerIp);
+    }
+
+    @Override
+    public void recordFailure(final String username, final String ipAddress) {
+        final long window = System.currentTimeMillis() / this.windowMillis;
+        this.increment(this.windowKey(LoginRateLimitKeys.user(username), window));
+        final String ipKey = LoginRateLimitKeys.ip(ipAddress);
+        if (null != ipKey) {
+            this.increment(this.windowKey(ipKey, window));
+        }
+    }
+
+    @Override
+    public void reset(final String username) {
+        final long window = System.currentTimeMillis() / this.windowMillis;
+        final String key = LoginRateLimitKeys.user(username);
+        this.redisTemplate.delete(List.of(this.windowKey(key, window), this.windowKey(key, window - 1)));
+    }
+
+    private void increment(final String key) {
+        final Long count = this.redisTemplate.opsForValue().increment(key);
+        if (null != count && 1L == count) {
+            this.redisTemplate.expire(key, Duration.ofMillis(2 * this.windowMillis));
+        }
+    }
+
+    private double estimate(final String key, final long now) {
+        final long window = now / this.windowMillis;
+        final List<String> counts = this.redisTemplate.opsForValue()
+            .multiGet(List.of(this.windowKey(key, window), this.windowKey(key, window - 1)));
+        if (null == counts) {
+            return 0;
+        }
+        final double previousWeight = 1.0 - (double) (now % this.windowMillis) / this.windowMillis;
+        return RedisLoginRateLimiter.parse(counts.get(0)) + RedisLoginRateLimiter.parse(counts.get(1)) * previousWeight;
+    }
+
+    private String windowKey(final String key, final long window) {
+        return RedisLoginRateLimiter.KEY_PREFIX + key + ":" + window;
+    }
+
+    private static long parse(final String count) {
+        return null == count ? 0L : Long.parseLong(count);
+    }
+}
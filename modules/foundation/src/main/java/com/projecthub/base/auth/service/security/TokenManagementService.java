@@ -4,22 +4,52 @@ import com.projecthub.base.auth.domain.enums.TokenType;
 import com.projecthub.base.auth.service.token.TokenFactory;
 import com.projecthub.base.auth.service.token.TokenPair;
 import com.projecthub.base.auth.service.token.TokenProperties;
-import com.projecthub.base.repository.token.TokenRepository;
+import com.projecthub.base.auth.infrastructure.persistence.token.TokenRepository;
 import com.projecthub.base.user.domain.entity.AppUser;
 import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
 @Transactional
 public class TokenManagementService {
+    private static final Logger logger = LoggerFactory.getLogger(TokenManagementService.class);
+
     private final TokenFactory tokenFactory;
     private final TokenRepository tokenRepository;
     private final TokenProperties properties;
     private final SecurityEventPublisher eventPublisher;
+    private final ActiveTokenCounter activeTokenCounter;
+    private final int purgeBatchSize;
+    private final int purgeMaxBatches;
+    private final long purgePauseMillis;
+
+    public TokenManagementService(
+        final TokenFactory tokenFactory,
+        final TokenRepository tokenRepository,
+        final TokenProperties properties,
+        final SecurityEventPublisher eventPublisher,
+        final ActiveTokenCounter activeTokenCounter,
+        @Value("${app.security.token.purge-batch-size:1000}") final int purgeBatchSize,
+        @Value("${app.security.token.purge-max-batches:100}") final int purgeMaxBatches,
+        @Value("${app.security.token.purge-pause:50ms}") final Duration purgePause) {
+        this.tokenFactory = tokenFactory;
+        this.tokenRepository = tokenRepository;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.activeTokenCounter = activeTokenCounter;
+        this.purgeBatchSize = purgeBatchSize;
+        this.purgeMaxBatches = purgeMaxBatches;
+        this.purgePauseMillis = purgePause.toMillis();
+    }
 
     @Transactional
     public TokenPair generateTokenPair(final AppUser user) {
@@ -39,8 +69,8 @@ public class TokenManagementService {
     @Transactional
     public void revokeUserTokens(final String username) {
         this.tokenRepository.revokeAllUserTokens(username);
+        this.activeTokenCounter.reset(username);
         this.eventPublisher.publish(new TokenRevokedEvent(username));
-        this.cleanupExpiredTokens();
     }
 
     private void storeTokenPair(final String accessToken, final String refreshToken, final String username) {
@@ -50,18 +80,57 @@ public class TokenManagementService {
         final TokenEntity refreshTokenEntity = createTokenEntity(refreshToken, username, TokenType.REFRESH);
 
         this.tokenRepository.saveAll(List.of(accessTokenEntity, refreshTokenEntity));
+        this.activeTokenCounter.add(username, 2);
     }
 
+    /**
+     * Checks the in-memory per-user counter, so only a login that actually exceeds the limit
+     * touches the token table.
+     */
     private void enforceMaximumTokenLimit(final String username) {
-        final long activeTokenCount = this.tokenRepository.countActiveTokensByUsername(username);
-        if (activeTokenCount >= this.properties.maxActiveTokens()) {
-            this.tokenRepository.deleteOldestTokenForUser(username);
+        final long activeTokenCount = this.activeTokenCounter.get(
+            username, this.tokenRepository::countActiveTokensByUsername);
+        if (activeTokenCount >= this.properties.maxActiveTokens()
+            && this.tokenRepository.deleteOldestTokenForUser(username)) {
+            this.activeTokenCounter.add(username, -1);
         }
     }
 
-    @Scheduled(fixedRateString = "${app.security.token.cleanup-interval-ms}")
+    /**
+     * Purges expired tokens in bounded batches, oldest expiry first. Every batch commits on its
+     * own and the purge pauses between batches so logins are not blocked behind one long delete.
+     * At most {@code purge-max-batches} batches run per invocation; whatever is left is picked up
+     * by the next run.
+     * <p>
+     * The scheduler only hands the purge to {@code tokenPurgeExecutor}, so the pauses never hold
+     * the shared scheduler thread that other {@code @Scheduled} jobs run on. That executor has a
+     * single worker and no queue, so runs never overlap.
+     * </p>
+     */
+    @Async("tokenPurgeExecutor")
+    @Scheduled(fixedDelayString = "${app.security.token.cleanup-interval-ms:60000}")
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public void cleanupExpiredTokens() {
-        this.tokenRepository.deleteExpiredTokens(LocalDateTime.now());
+        final LocalDateTime now = LocalDateTime.now();
+        int purged = 0;
+        for (int batch = 0; batch < this.purgeMaxBatches; batch++) {
+            final TokenRepository.PurgeResult result =
+                this.tokenRepository.purgeExpiredTokens(now, this.purgeBatchSize);
+            result.activeOwners().forEach(username -> this.activeTokenCounter.add(username, -1));
+            purged += result.deleted();
+            if (result.deleted() < this.purgeBatchSize) {
+                break;
+            }
+            try {
+                Thread.sleep(this.purgePauseMillis);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (0 < purged) {
+            TokenManagementService.logger.debug("Purged {} expired tokens", purged);
+        }
     }
 
     public String generateAccessToken(final AppUser user) {
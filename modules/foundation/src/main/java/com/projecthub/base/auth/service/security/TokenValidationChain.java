@@ -1,64 +1,82 @@
 package com.projecthub.base.auth.service.security;
 
 import com.projecthub.base.auth.config.TokenConfig;
-import com.projecthub.base.repository.token.TokenRepository;
+import com.projecthub.base.auth.domain.enums.TokenType;
+import com.projecthub.base.auth.infrastructure.persistence.token.TokenRepository;
+import com.projecthub.base.auth.infrastructure.persistence.token.VerifiedTokenCache;
 import com.projecthub.base.shared.utils.JwtUtil;
+import io.jsonwebtoken.Claims;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 @Component
 public class TokenValidationChain {
     private final JwtUtil jwtUtil;
     private final TokenRepository tokenRepository;
     private final TokenConfig tokenConfig;
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    public TokenValidationChain(final JwtUtil jwtUtil, final TokenRepository tokenRepository, final TokenConfig tokenConfig) {
+    public TokenValidationChain(final JwtUtil jwtUtil, final TokenRepository tokenRepository, final TokenConfig tokenConfig,
+                                final VerifiedTokenCache verifiedTokenCache) {
         this.jwtUtil = jwtUtil;
         this.tokenRepository = tokenRepository;
         this.tokenConfig = tokenConfig;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
+    /**
+     * Refresh tokens are long-lived and only exchangeable for new token pairs, so they are never
+     * accepted as access tokens.
+     */
     public boolean validateAccessToken(final String token) {
-        return this.validateBasicToken(token)
-            && !this.isTokenBlacklisted(token)
-            && this.isTokenActive(token)
-            && this.validateTokenSignature(token);
+        if (!this.validateBasicToken(token)) {
+            return false;
+        }
+        final VerifiedTokenCache.Entry entry = this.verify(token);
+        return entry.active() && !entry.refresh();
     }
 
     public boolean validateRefreshToken(final String token) {
-        return this.validateBasicToken(token)
-            && !this.isTokenBlacklisted(token)
-            && this.isTokenActive(token)
-            && this.validateTokenSignature(token)
-            && this.isRefreshTokenValid(token);
-    }
-
-    private boolean validateBasicToken(final String token) {
-        return null != token && !token.isEmpty();
+        if (!this.validateBasicToken(token)) {
+            return false;
+        }
+        final VerifiedTokenCache.Entry entry = this.verify(token);
+        return entry.active() && entry.refresh();
     }
 
-    private boolean isTokenBlacklisted(final String token) {
-        return this.tokenRepository.isTokenBlacklisted(token);
-    }
+    /**
+     * Resolves the token from the verified-token cache, falling back to signature and database
+     * checks on a miss. The signature is checked first so forged tokens never reach the database,
+     * and the stored token is loaded once for both the expiry and the refresh-type check.
+     */
+    private VerifiedTokenCache.Entry verify(final String token) {
+        final VerifiedTokenCache.Entry cached = this.verifiedTokenCache.lookup(token);
+        if (null != cached) {
+            return cached;
+        }
+        final Optional<Claims> verified = this.jwtUtil.verifyToken(token);
+        if (verified.isEmpty()) {
+            return VerifiedTokenCache.Entry.REJECTED;
+        }
 
-    private boolean isTokenActive(final String token) {
-        return this.tokenRepository.findByToken(token)
-            .map(t -> t.getExpiresAt().isAfter(LocalDateTime.now()))
+        final Claims claims = verified.get();
+        final long stamp = this.verifiedTokenCache.userStamp(claims.getSubject());
+        final Optional<TokenRepository.StoredToken> stored = this.tokenRepository.findStoredToken(token);
+        final LocalDateTime now = LocalDateTime.now();
+        final boolean active = stored
+            .map(t -> t.isActive(now))
+            .orElse(false);
+        final boolean refresh = stored
+            .map(t -> TokenType.REFRESH == t.tokenType())
             .orElse(false);
-    }
 
-    private boolean validateTokenSignature(final String token) {
-        try {
-            return this.jwtUtil.validateToken(token);
-        } catch (final Exception e) {
-            return false;
-        }
+        return this.verifiedTokenCache.put(token, claims.getSubject(), active, refresh,
+            claims.getExpiration().toInstant(), stamp);
     }
 
-    private boolean isRefreshTokenValid(final String token) {
-        return this.tokenRepository.findByToken(token)
-            .map(t -> t.getTokenType() == TokenType.REFRESH)
-            .orElse(false);
+    private boolean validateBasicToken(final String token) {
+        return null != token && !token.isEmpty();
     }
 }
@@ -1,29 +1,47 @@
 package com.projecthub.base.cohort.api.dto;
 
-import lombok.Value;
-import org.springframework.data.domain.Page;
+import com.projecthub.base.shared.api.graphql.PageInfo;
+import com.projecthub.base.shared.repository.keyset.KeysetSlice;
+import lombok.AccessLevel;
+import lombok.Getter;
 
 import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.stream.IntStream;
 
-@Value
+/**
+ * Relay connection over a keyset page of cohorts.
+ * <p>
+ * {@code totalCount} is computed on first access only. GraphQL resolves the field through its
+ * getter, so the count query runs only for requests that select it.
+ * </p>
+ */
+@Getter
 public class CohortConnection {
-    List<CohortEdge> edges;
-    PageInfo pageInfo;
-    long totalCount;
+    private final List<CohortEdge> edges;
+    private final PageInfo pageInfo;
+    @Getter(AccessLevel.NONE)
+    private final LongSupplier totalCountSupplier;
+    @Getter(AccessLevel.NONE)
+    private Long totalCount;
 
-    public static CohortConnection of(final Page<CohortDTO> page) {
-        final List<CohortEdge> edges = page.getContent().stream()
-            .map(CohortEdge::new)
+    public CohortConnection(final List<CohortEdge> edges, final PageInfo pageInfo, final LongSupplier totalCountSupplier) {
+        this.edges = edges;
+        this.pageInfo = pageInfo;
+        this.totalCountSupplier = totalCountSupplier;
+    }
+
+    public static CohortConnection of(final KeysetSlice<CohortDTO> slice, final LongSupplier totalCount) {
+        final List<CohortEdge> edges = IntStream.range(0, slice.content().size())
+            .mapToObj(i -> new CohortEdge(slice.content().get(i), slice.cursors().get(i).encode()))
             .toList();
+        return new CohortConnection(edges, PageInfo.of(slice), totalCount);
+    }
 
-        return new CohortConnection(
-            edges,
-            new PageInfo(
-                page.hasNext(),
-                page.hasPrevious(),
-                page.getTotalElements()
-            ),
-            page.getTotalElements()
-        );
+    public synchronized long getTotalCount() {
+        if (null == this.totalCount) {
+            this.totalCount = this.totalCountSupplier.getAsLong();
+        }
+        return this.totalCount;
     }
 }
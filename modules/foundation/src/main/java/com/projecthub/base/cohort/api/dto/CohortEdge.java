@@ -5,8 +5,10 @@ import lombok.Value;
 @Value
 public class CohortEdge {
     CohortDTO node;
+    String cursor;
 
-    public CohortEdge(final CohortDTO node) {
+    public CohortEdge(final CohortDTO node, final String cursor) {
         this.node = node;
+        this.cursor = cursor;
     }
 }
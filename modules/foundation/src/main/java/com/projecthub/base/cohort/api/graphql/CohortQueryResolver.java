@@ -1,15 +1,20 @@
 package com.projecthub.base.cohort.api.graphql;
 
 import com.netflix.graphql.dgs.DgsComponent;
+import com.netflix.graphql.dgs.DgsDataFetchingEnvironment;
 import com.netflix.graphql.dgs.DgsQuery;
 import com.netflix.graphql.dgs.InputArgument;
 import com.projecthub.base.cohort.api.dto.CohortConnection;
 import com.projecthub.base.cohort.api.dto.CohortDTO;
+import com.projecthub.base.cohort.api.graphql.loader.CohortsBySchoolDataLoader;
 import com.projecthub.base.cohort.application.service.CohortQueryService;
+import com.projecthub.base.shared.repository.keyset.KeysetPageRequest;
 import lombok.RequiredArgsConstructor;
+import org.dataloader.DataLoader;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @DgsComponent
 @RequiredArgsConstructor
@@ -26,13 +31,22 @@ public class CohortQueryResolver {
         @InputArgument final Integer first,
         @InputArgument final String after,
         @InputArgument final Integer last,
-        @InputArgument final String before
+        @InputArgument final String before,
+        @InputArgument final Integer page,
+        @InputArgument final Integer size
     ) {
+        if (KeysetPageRequest.isOffsetRequest(first, after, last, before, page, size)) {
+            return this.queryService.findPage(page, size);
+        }
         return this.queryService.findAll(first, after, last, before);
     }
 
     @DgsQuery(field = "cohortsBySchool")
-    public List<CohortDTO> getCohortsBySchool(@InputArgument final String schoolId) {
-        return this.queryService.findBySchoolId(UUID.fromString(schoolId));
+    public CompletableFuture<List<CohortDTO>> getCohortsBySchool(
+        @InputArgument final String schoolId,
+        final DgsDataFetchingEnvironment dfe
+    ) {
+        final DataLoader<UUID, List<CohortDTO>> loader = dfe.getDataLoader(CohortsBySchoolDataLoader.NAME);
+        return loader.load(UUID.fromString(schoolId));
     }
 }
@@ -0,0 +1,34 @@
+package com.projecthub.base.cohort.api.graphql.loader;
+
+import com.netflix.graphql.dgs.DgsDataLoader;
+import com.projecthub.base.cohort.api.dto.CohortDTO;
+import com.projecthub.base.cohort.application.service.CohortQueryService;
+import lombok.RequiredArgsConstructor;
+import org.dataloader.MappedBatchLoader;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Batches cohort-by-school lookups of a GraphQL request into one query. Schools without cohorts
+ * resolve to an empty list rather than {@code null}.
+ */
+@DgsDataLoader(name = CohortsBySchoolDataLoader.NAME)
+@RequiredArgsConstructor
+public class CohortsBySchoolDataLoader implements MappedBatchLoader<UUID, List<CohortDTO>> {
+    public static final String NAME = "cohortsBySchool";
+
+    private final CohortQueryService queryService;
+
+    @Override
+    public CompletionStage<Map<UUID, List<CohortDTO>>> load(final Set<UUID> schoolIds) {
+        final Map<UUID, List<CohortDTO>> cohorts = new HashMap<>(this.queryService.findBySchoolIds(schoolIds));
+        schoolIds.forEach(id -> cohorts.putIfAbsent(id, List.of()));
+        return CompletableFuture.completedFuture(cohorts);
+    }
+}
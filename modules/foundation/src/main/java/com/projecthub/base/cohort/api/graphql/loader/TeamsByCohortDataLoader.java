@@ -0,0 +1,34 @@
+package com.projecthub.base.cohort.api.graphql.loader;
+
+import com.netflix.graphql.dgs.DgsDataLoader;
+import com.projecthub.base.team.api.dto.TeamDTO;
+import com.projecthub.base.team.application.service.TeamService;
+import lombok.RequiredArgsConstructor;
+import org.dataloader.MappedBatchLoader;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Batches the {@code Cohort.teams} lookups of a GraphQL request into one query. Cohorts without
+ * teams resolve to an empty list rather than {@code null}.
+ */
+@DgsDataLoader(name = TeamsByCohortDataLoader.NAME)
+@RequiredArgsConstructor
+public class TeamsByCohortDataLoader implements MappedBatchLoader<UUID, List<TeamDTO>> {
+    public static final String NAME = "teamsByCohort";
+
+    private final TeamService teamService;
+
+    @Override
+    public CompletionStage<Map<UUID, List<TeamDTO>>> load(final Set<UUID> cohortIds) {
+        final Map<UUID, List<TeamDTO>> teams = new HashMap<>(this.teamService.getTeamsByCohortIds(cohortIds));
+        cohortIds.forEach(id -> teams.putIfAbsent(id, List.of()));
+        return CompletableFuture.completedFuture(teams);
+    }
+}
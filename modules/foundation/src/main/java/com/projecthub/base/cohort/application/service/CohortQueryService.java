@@ -1,24 +1,34 @@
 package com.projecthub.base.cohort.application.service;
 
+import com.projecthub.base.cohort.api.dto.CohortConnection;
 import com.projecthub.base.cohort.api.dto.CohortDTO;
 import com.projecthub.base.cohort.api.mapper.CohortMapper;
 import com.projecthub.base.cohort.domain.entity.Cohort;
 import com.projecthub.base.cohort.infrastructure.persistence.CohortRepository;
+import com.projecthub.base.cohort.infrastructure.search.CohortSearchIndex;
 import com.projecthub.base.school.domain.repository.SchoolRepository;
+import com.projecthub.base.shared.config.CacheConfig;
 import com.projecthub.base.shared.exception.ResourceNotFoundException;
+import com.projecthub.base.shared.repository.keyset.KeysetCursor;
+import com.projecthub.base.shared.repository.keyset.KeysetPageRequest;
+import com.projecthub.base.shared.repository.keyset.KeysetSlice;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
-
-import org.springframework.data.domain.PageRequest;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -27,6 +37,7 @@ public class CohortQueryService implements CohortQuery {
     private final CohortRepository cohortRepository;
     private final SchoolRepository schoolRepository;
     private final CohortMapper cohortMapper;
+    private final CohortSearchIndex searchIndex;
 
     @Override
     public CohortDTO getCohortById(final UUID id) {
@@ -42,6 +53,7 @@ public class CohortQueryService implements CohortQuery {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.COHORTS_BY_SCHOOL, key = "#schoolId + ':' + #pageable")
     public Page<CohortDTO> getCohortsBySchoolId(final UUID schoolId, final Pageable pageable) {
         CohortQueryService.log.debug("Retrieving cohorts for school ID: {} with pagination", schoolId);
         validateSchoolExists(schoolId);
@@ -66,34 +78,72 @@ public class CohortQueryService implements CohortQuery {
     @Override
     public Page<CohortDTO> searchCohorts(final String query, final Pageable pageable) {
         CohortQueryService.log.debug("Searching cohorts with query: {} and pagination", query);
-        final Specification<Cohort> spec = (root, criteriaQuery, criteriaBuilder) -> {
-            final String wildcardQuery = "%" + query.toLowerCase() + "%";
-            return criteriaBuilder.or(
-                criteriaBuilder.like(criteriaBuilder.lower(root.get("name")), wildcardQuery),
-                criteriaBuilder.like(criteriaBuilder.lower(root.get("assignment").get("level")), wildcardQuery)
-            );
-        };
-        return this.cohortRepository.findAll(spec, pageable)
-            .map(this.cohortMapper::toDto);
+        final List<UUID> ranked = this.searchIndex.search(query);
+        final int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        final int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        final List<UUID> pageIds = ranked.subList(from, to);
+
+        final Map<UUID, CohortDTO> cohorts = this.cohortRepository.findAllById(pageIds).stream()
+            .map(this.cohortMapper::toDto)
+            .collect(Collectors.toMap(CohortDTO::id, Function.identity()));
+        final List<CohortDTO> content = pageIds.stream()
+            .map(cohorts::get)
+            .filter(Objects::nonNull)
+            .toList();
+        return new PageImpl<>(content, pageable, ranked.size());
     }
 
     public CohortDTO findById(final UUID id) {
         return this.cohortRepository.findById(id)
-            .map(this.cohortMapper::toDTO)
+            .map(this.cohortMapper::toDto)
             .orElseThrow(() -> new ResourceNotFoundException("Cohort", id));
     }
 
-    public CohortConnection findAll(final PageRequest pageRequest) {
-        return this.cohortMapper.toConnection(
-            this.cohortRepository.findAll(pageRequest)
-                .map(this.cohortMapper::toDTO)
+    public CohortConnection findAll(final Integer first, final String after, final Integer last, final String before) {
+        final KeysetPageRequest pageRequest = KeysetPageRequest.of(first, after, last, before);
+        CohortQueryService.log.debug("Retrieving cohorts from cursor: {}", pageRequest.cursor());
+        return CohortConnection.of(
+            this.cohortRepository.findAll(pageRequest).map(this.cohortMapper::toDto),
+            this.cohortRepository::count
+        );
+    }
+
+    /**
+     * Serves the deprecated {@code page}/{@code size} arguments of the cohorts query, with cursors
+     * so clients can continue with {@code first}/{@code after}.
+     */
+    public CohortConnection findPage(final Integer page, final Integer size) {
+        final Page<CohortDTO> cohorts = this.cohortRepository
+            .findAll(KeysetPageRequest.offsetPage(page, size, CohortRepository.SORT_ATTRIBUTE))
+            .map(this.cohortMapper::toDto);
+        return CohortConnection.of(
+            KeysetSlice.of(cohorts, cohort -> new KeysetCursor(cohort.name(), cohort.id())),
+            cohorts::getTotalElements
         );
     }
 
     public List<CohortDTO> findBySchoolId(final UUID schoolId) {
         return this.cohortRepository.findBySchoolId(schoolId)
             .stream()
-            .map(this.cohortMapper::toDTO)
+            .map(this.cohortMapper::toDto)
             .toList();
     }
+
+    public Map<UUID, List<CohortDTO>> findBySchoolIds(final Collection<UUID> schoolIds) {
+        CohortQueryService.log.debug("Retrieving cohorts for {} schools", schoolIds.size());
+        return this.cohortRepository.findBySchoolIdIn(schoolIds)
+            .stream()
+            .map(this.cohortMapper::toDto)
+            .collect(Collectors.groupingBy(CohortDTO::schoolId));
+    }
+
+    /**
+     * Checks that the school exists by loading it by id, which is served from the second-level
+     * cache once the school has been read.
+     */
+    private void validateSchoolExists(final UUID schoolId) {
+        if (this.schoolRepository.findById(schoolId).isEmpty()) {
+            throw new ResourceNotFoundException("School", schoolId);
+        }
+    }
 }
@@ -45,6 +45,7 @@ public sealed interface CohortDomainEvent {
     record Updated(
         UUID eventId,
         UUID cohortId,
+        UUID schoolId,
         String name,
         int maxStudents,
         UUID initiatorId,
@@ -3,6 +3,7 @@ package com.projecthub.base.cohort.domain.event;
 import com.projecthub.base.cohort.domain.entity.Cohort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
@@ -13,6 +14,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class CohortEventPublisher {
     private final CohortEventAdapter eventAdapter;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     public void publishCreated(final Cohort cohort) {
         CohortEventPublisher.log.debug("Publishing cohort created event for cohort: {}", cohort.getId());
@@ -25,7 +27,7 @@ public class CohortEventPublisher {
             this.getCurrentUserId(),
             Instant.now()
         );
-        this.eventAdapter.publish(event);
+        this.publish(event);
     }
 
     public void publishUpdated(final Cohort cohort) {
@@ -33,12 +35,13 @@ public class CohortEventPublisher {
         final CohortDomainEvent event = new CohortDomainEvent.Updated(
             UUID.randomUUID(),
             cohort.getId(),
+            cohort.getSchool().getId(),
             cohort.getName(),
             cohort.getAssignment().maxStudents(),
             this.getCurrentUserId(),
             Instant.now()
         );
-        this.eventAdapter.publish(event);
+        this.publish(event);
     }
 
     public void publishDeleted(final UUID cohortId) {
@@ -49,7 +52,16 @@ public class CohortEventPublisher {
             this.getCurrentUserId(),
             Instant.now()
         );
+        this.publish(event);
+    }
+
+    /**
+     * Sends the event to the broker and to in-process listeners, which react after the surrounding
+     * transaction commits.
+     */
+    private void publish(final CohortDomainEvent event) {
         this.eventAdapter.publish(event);
+        this.applicationEventPublisher.publishEvent(event);
     }
 
     private UUID getCurrentUserId() {
@@ -0,0 +1,56 @@
+package com.projecthub.base.cohort.infrastructure.cache;
+
+import com.projecthub.base.cohort.api.dto.CohortDTO;
+import com.projecthub.base.cohort.domain.event.CohortDomainEvent;
+import com.projecthub.base.shared.cache.ResultCaches;
+import com.projecthub.base.shared.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * Invalidates cohort result caches once a cohort change has been committed.
+ * <p>
+ * A new cohort drops the cached pages of its school. An updated cohort drops the cached pages
+ * that contain it and those of the school it now belongs to, so a cohort moved to another school
+ * leaves neither school stale. An archived or deleted cohort drops only the cached pages that
+ * contain it. Events that do not change the cohort itself, such as student membership changes,
+ * leave the caches alone.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class CohortResultCacheInvalidator {
+    private final ResultCaches resultCaches;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCohortEvent(final CohortDomainEvent event) {
+        switch (event) {
+            case final CohortDomainEvent.Created e -> this.evictPagesOfSchool(e.schoolId());
+            case final CohortDomainEvent.Updated e -> {
+                this.evictPagesContaining(e.cohortId());
+                this.evictPagesOfSchool(e.schoolId());
+            }
+            case final CohortDomainEvent.Archived e -> this.evictPagesContaining(e.cohortId());
+            case final CohortDomainEvent.Deleted e -> this.evictPagesContaining(e.cohortId());
+            default -> {
+                // Membership events do not change cached cohort pages
+            }
+        }
+    }
+
+    private void evictPagesOfSchool(final UUID schoolId) {
+        final String prefix = schoolId + ":";
+        this.resultCaches.evictIf(CacheConfig.COHORTS_BY_SCHOOL, (key, value) -> key.toString().startsWith(prefix));
+    }
+
+    private void evictPagesContaining(final UUID cohortId) {
+        this.resultCaches.evictIf(CacheConfig.COHORTS_BY_SCHOOL, (key, value) ->
+            value instanceof final Page<?> page
+                && page.getContent().stream().anyMatch(cohort -> cohort instanceof final CohortDTO dto && cohortId.equals(dto.id())));
+    }
+}
@@ -2,17 +2,24 @@ package com.projecthub.base.cohort.infrastructure.persistence;
 
 import com.projecthub.base.cohort.domain.entity.Cohort;
 import com.projecthub.base.cohort.infrastructure.repository.CohortJpaRepository;
+import com.projecthub.base.shared.repository.keyset.KeysetPageRequest;
+import com.projecthub.base.shared.repository.keyset.KeysetQueries;
+import com.projecthub.base.shared.repository.keyset.KeysetSlice;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 @RequiredArgsConstructor
 public class CohortRepository {
+    public static final String SORT_ATTRIBUTE = "name";
+
     private final CohortJpaRepository jpaRepository;
 
     public Optional<Cohort> findById(final UUID id) {
@@ -23,10 +30,29 @@ public class CohortRepository {
         return this.jpaRepository.findBySchoolId(schoolId, pageable);
     }
 
+    public List<Cohort> findAllById(final Collection<UUID> ids) {
+        return this.jpaRepository.findAllById(ids);
+    }
+
+    public List<Cohort> findBySchoolIdIn(final Collection<UUID> schoolIds) {
+        return this.jpaRepository.findBySchoolIdIn(schoolIds);
+    }
+
     public Page<Cohort> findAll(final Pageable pageable) {
         return this.jpaRepository.findAll(pageable);
     }
 
+    /**
+     * Reads one page of cohorts ordered by name, seeking from the request's cursor.
+     */
+    public KeysetSlice<Cohort> findAll(final KeysetPageRequest pageRequest) {
+        return KeysetQueries.fetch(this.jpaRepository, null, CohortRepository.SORT_ATTRIBUTE, Cohort::getName, pageRequest);
+    }
+
+    public long count() {
+        return this.jpaRepository.count();
+    }
+
     public Cohort save(final Cohort cohort) {
         return this.jpaRepository.save(cohort);
     }
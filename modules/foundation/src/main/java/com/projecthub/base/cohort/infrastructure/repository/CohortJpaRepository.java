@@ -5,10 +5,12 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -17,7 +19,7 @@ import java.util.UUID;
  */
 @Repository("jpaCohortRepository")
 @Profile("jpa")
-public interface CohortJpaRepository extends JpaRepository<Cohort, UUID> {
+public interface CohortJpaRepository extends JpaRepository<Cohort, UUID>, JpaSpecificationExecutor<Cohort> {
 
     /**
      * Finds cohorts by school ID.
@@ -28,6 +30,15 @@ public interface CohortJpaRepository extends JpaRepository<Cohort, UUID> {
      */
     Page<Cohort> findBySchoolId(UUID schoolId, Pageable pageable);
 
+    /**
+     * Finds the cohorts of several schools in a single query.
+     *
+     * @param schoolIds the UUIDs of the schools
+     * @return the cohorts belonging to any of the schools
+     */
+    @Query("SELECT c FROM Cohort c WHERE c.school.id IN :schoolIds")
+    List<Cohort> findBySchoolIdIn(@Param("schoolIds") Collection<UUID> schoolIds);
+
     @Query("SELECT c FROM Cohort c WHERE c.school.id = :schoolId AND c.assignment.year = :year")
     List<Cohort> findBySchoolIdAndYear(@Param("schoolId") UUID schoolId, @Param("year") String year);
 
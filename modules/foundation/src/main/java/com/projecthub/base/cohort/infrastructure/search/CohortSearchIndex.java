@@ -0,0 +1,89 @@
+package com.projecthub.base.cohort.infrastructure.search;
+
+import com.projecthub.base.cohort.domain.entity.Cohort;
+import com.projecthub.base.cohort.domain.event.CohortDomainEvent;
+import com.projecthub.base.cohort.infrastructure.persistence.CohortRepository;
+import com.projecthub.base.shared.search.InvertedIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Search index over cohort name and grade level.
+ * <p>
+ * Built from the database once the application is ready and kept current from committed
+ * {@link CohortDomainEvent}s, so searches never scan the cohorts table.
+ * </p>
+ */
+@Slf4j
+@Component
+public class CohortSearchIndex {
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final InvertedIndex<UUID> index = new InvertedIndex<>();
+    private final CohortRepository repository;
+    private final int maxResults;
+
+    public CohortSearchIndex(
+        final CohortRepository repository,
+        @Value("${app.search.max-results:1000}") final int maxResults) {
+        this.repository = repository;
+        this.maxResults = maxResults;
+    }
+
+    /**
+     * Ids of the cohorts matching the query, best match first.
+     */
+    public List<UUID> search(final String query) {
+        return this.index.search(query, this.maxResults);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        this.index.clear();
+        Page<Cohort> page = this.repository.findAll(
+            PageRequest.of(0, CohortSearchIndex.REBUILD_BATCH_SIZE, Sort.by("id")));
+        page.forEach(this::index);
+        while (page.hasNext()) {
+            page = this.repository.findAll(page.nextPageable());
+            page.forEach(this::index);
+        }
+        CohortSearchIndex.log.info("Indexed {} cohorts for search", this.index.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCohortEvent(final CohortDomainEvent event) {
+        switch (event) {
+            case final CohortDomainEvent.Deleted e -> this.index.remove(e.cohortId());
+            case final CohortDomainEvent.Created e -> this.reindex(e.cohortId());
+            case final CohortDomainEvent.Updated e -> this.reindex(e.cohortId());
+            default -> {
+                // Other events do not change indexed fields
+            }
+        }
+    }
+
+    private void reindex(final UUID cohortId) {
+        this.repository.findById(cohortId)
+            .ifPresentOrElse(this::index, () -> this.index.remove(cohortId));
+    }
+
+    private void index(final Cohort cohort) {
+        this.index.put(cohort.getId(), List.of(
+            cohort.getName(),
+            null != cohort.getAssignment() ? cohort.getAssignment().level().name() : ""
+        ));
+    }
+}
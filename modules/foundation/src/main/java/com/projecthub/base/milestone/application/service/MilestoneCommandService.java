@@ -11,6 +11,7 @@ import com.projecthub.base.milestone.domain.command.CreateMilestoneCommand;
 import com.projecthub.base.milestone.domain.command.UpdateMilestoneCommand;
 import com.projecthub.base.milestone.domain.entity.Milestone;
 import com.projecthub.base.milestone.domain.event.MilestoneDomainEvent;
+import com.projecthub.base.milestone.domain.event.MilestoneEventPublisher;
 import com.projecthub.base.milestone.domain.exception.MilestoneNotFoundException;
 import com.projecthub.base.milestone.domain.validation.MilestoneValidator;
 import com.projecthub.base.milestone.infrastructure.mapper.MilestoneMapper;
@@ -29,6 +30,7 @@ import java.util.UUID;
 public class MilestoneCommandService implements CreateMilestoneUseCase, UpdateMilestoneUseCase, DeleteMilestoneUseCase {
     private final MilestonePort milestonePort;
     private final MilestoneEventPort milestoneEventPort;
+    private final MilestoneEventPublisher milestoneEventPublisher;
     private final MilestoneValidator milestoneValidator;
     private final MilestoneMapper milestoneMapper;
     private final MilestoneQueryService milestoneQueryService;
@@ -41,7 +43,7 @@ public class MilestoneCommandService implements CreateMilestoneUseCase, UpdateMi
         this.milestoneValidator.validateCreate(command.milestoneDetails(), command.projectId());
         final MilestoneAggregate milestoneAggregate = MilestoneAggregate.create(command, this.milestoneEventPort);
         final Milestone milestone = this.milestonePort.save(milestoneAggregate.getRoot());
-        this.milestoneEventPort.publish(new MilestoneDomainEvent.Created(
+        this.publish(new MilestoneDomainEvent.Created(
             UUID.randomUUID(),
             milestone.getId(),
             command.initiatorId(),
@@ -61,7 +63,7 @@ public class MilestoneCommandService implements CreateMilestoneUseCase, UpdateMi
         this.milestoneValidator.validateUpdate(milestone);
 
         final Milestone updatedMilestone = this.milestonePort.save(milestone);
-        this.milestoneEventPort.publish(new MilestoneDomainEvent.Updated(
+        this.publish(new MilestoneDomainEvent.Updated(
             UUID.randomUUID(),
             updatedMilestone.getId(),
             command.initiatorId(),
@@ -79,7 +81,7 @@ public class MilestoneCommandService implements CreateMilestoneUseCase, UpdateMi
 
         this.milestoneValidator.validateDelete(milestone);
         this.milestonePort.deleteById(milestone.getId());
-        this.milestoneEventPort.publish(new MilestoneDomainEvent.Deleted(
+        this.publish(new MilestoneDomainEvent.Deleted(
             UUID.randomUUID(),
             milestone.getId(),
             initiatorId,
@@ -89,6 +91,15 @@ public class MilestoneCommandService implements CreateMilestoneUseCase, UpdateMi
         MilestoneCommandService.log.info("Milestone with ID {} deleted.", id);
     }
 
+    /**
+     * Sends the event to the broker and also publishes it in-process, where listeners such as
+     * {@link MilestoneDependencyGraphService} react once the transaction commits.
+     */
+    private void publish(final MilestoneDomainEvent event) {
+        this.milestoneEventPort.publish(event);
+        this.milestoneEventPublisher.publish(event);
+    }
+
     private Milestone findActiveMilestoneById(final UUID id) {
         return this.milestonePort.findById(id)
             .orElseThrow(() -> new MilestoneNotFoundException("Milestone not found with id " + id));
@@ -0,0 +1,121 @@
+package com.projecthub.base.milestone.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projecthub.base.milestone.domain.event.MilestoneDomainEvent;
+import com.projecthub.base.milestone.domain.graph.MilestoneDependencyGraph;
+import com.projecthub.base.milestone.domain.graph.MilestoneDependencyQueries;
+import com.projecthub.base.milestone.infrastructure.persistence.MilestoneDependencyEdge;
+import com.projecthub.base.milestone.infrastructure.persistence.MilestoneRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Per-project milestone dependency graphs.
+ * <p>
+ * A project's graph is loaded from the {@code milestone_dependencies} edges in a single query
+ * the first time it is needed and kept for a bounded time after loading. Committed milestone
+ * changes published by {@code MilestoneCommandService} keep it current: a deleted milestone is
+ * removed from the graph in place, and a created or updated milestone drops its project's graph
+ * so it is reloaded with the new edges. The expiry bounds how long a change made elsewhere, such
+ * as by another node, can go unnoticed.
+ * </p>
+ */
+@Slf4j
+@Service
+public class MilestoneDependencyGraphService implements MilestoneDependencyQueries {
+    private final MilestoneRepository milestoneRepository;
+    private final Cache<UUID, MilestoneDependencyGraph> graphs;
+
+    public MilestoneDependencyGraphService(
+        final MilestoneRepository milestoneRepository,
+        @Value("${app.milestone.dependency-graph.max-projects:1000}") final long maxProjects,
+        @Value("${app.milestone.dependency-graph.expire-after-write:10m}") final Duration expireAfterWrite) {
+        this.milestoneRepository = milestoneRepository;
+        this.graphs = Caffeine.newBuilder()
+            .maximumSize(maxProjects)
+            .expireAfterWrite(expireAfterWrite)
+            .build();
+    }
+
+    @Override
+    public boolean wouldCreateCycle(final UUID projectId, final UUID milestoneId, final UUID dependencyId) {
+        return this.query(projectId, graph -> graph.wouldCreateCycle(milestoneId, dependencyId));
+    }
+
+    @Override
+    public boolean hasDependents(final UUID projectId, final UUID milestoneId) {
+        return this.query(projectId, graph -> graph.hasDependents(milestoneId));
+    }
+
+    public List<UUID> getDependents(final UUID projectId, final UUID milestoneId) {
+        return this.query(projectId, graph -> graph.dependents(milestoneId));
+    }
+
+    public List<UUID> getTopologicalOrder(final UUID projectId) {
+        return this.query(projectId, MilestoneDependencyGraph::topologicalOrder);
+    }
+
+    /**
+     * Heaviest dependency chain of the project, weighting each milestone with {@code weight}.
+     */
+    public List<UUID> getCriticalPath(final UUID projectId, final ToLongFunction<UUID> weight) {
+        return this.query(projectId, graph -> graph.criticalPath(weight));
+    }
+
+    public void evict(final UUID projectId) {
+        this.graphs.invalidate(projectId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleMilestoneEvent(final MilestoneDomainEvent event) {
+        switch (event) {
+            case final MilestoneDomainEvent.Deleted e -> this.graphs.asMap().values().forEach(graph -> {
+                synchronized (graph) {
+                    graph.removeMilestone(e.milestoneId());
+                }
+            });
+            case final MilestoneDomainEvent.Created e -> this.evictProjectOf(e.milestoneId());
+            case final MilestoneDomainEvent.Updated e -> this.evictProjectOf(e.milestoneId());
+            case final MilestoneDomainEvent.Completed e -> {
+                // Completion does not change dependencies
+            }
+        }
+    }
+
+    private void evictProjectOf(final UUID milestoneId) {
+        if (0 < this.graphs.estimatedSize()) {
+            this.milestoneRepository.findProjectIdById(milestoneId).ifPresent(this::evict);
+        }
+    }
+
+    private <T> T query(final UUID projectId, final Function<MilestoneDependencyGraph, T> query) {
+        final MilestoneDependencyGraph graph = this.graphs.get(projectId, this::load);
+        synchronized (graph) {
+            return query.apply(graph);
+        }
+    }
+
+    private MilestoneDependencyGraph load(final UUID projectId) {
+        final List<MilestoneDependencyEdge> edges = this.milestoneRepository.findDependencyEdgesByProjectId(projectId);
+        final MilestoneDependencyGraph graph = new MilestoneDependencyGraph(edges.size());
+        for (final MilestoneDependencyEdge edge : edges) {
+            graph.addMilestone(edge.milestoneId());
+            if (null != edge.dependencyId() && !graph.addDependency(edge.milestoneId(), edge.dependencyId())) {
+                MilestoneDependencyGraphService.log.warn("Ignoring dependency of milestone {} on {} in project {}: it closes a cycle",
+                    edge.milestoneId(), edge.dependencyId(), projectId);
+            }
+        }
+        MilestoneDependencyGraphService.log.debug("Loaded dependency graph of project {} with {} milestones", projectId, graph.size());
+        return graph;
+    }
+}
@@ -85,6 +85,21 @@ public class Milestone extends BaseEntity {
     @OneToMany(mappedBy = "milestone", cascade = CascadeType.ALL)
     private Set<Task> tasks = new HashSet<>();
 
+    /**
+     * Number of completed tasks, maintained by the task progress projection and never written
+     * through the entity.
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(nullable = false, updatable = false)
+    private int completedTaskCount;
+
+    /**
+     * Number of tasks, maintained like {@link #completedTaskCount}.
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(nullable = false, updatable = false)
+    private int totalTaskCount;
+
     @ManyToMany
     @JoinTable(name = "milestone_dependencies", joinColumns = @JoinColumn(name = "milestone_id"), inverseJoinColumns = @JoinColumn(name = "dependency_id"))
     private Set<Milestone> dependencies = new HashSet<>();
@@ -131,7 +146,7 @@ public class Milestone extends BaseEntity {
     }
 
     public void complete() {
-        if (!this.tasks.isEmpty() && this.tasks.stream().anyMatch(t -> !t.isCompleted())) {
+        if (this.hasIncompleteTasks()) {
             throw new IllegalStateException("Cannot complete milestone with incomplete tasks");
         }
         this.status = MilestoneStatus.COMPLETED;
@@ -157,33 +172,17 @@ public class Milestone extends BaseEntity {
     }
 
     public boolean hasIncompleteTasks() {
-        return this.tasks.stream().anyMatch(task -> !task.isCompleted());
-    }
-
-    public boolean hasCyclicDependencies() {
-        final Set<Milestone> visited = new HashSet<>();
-        final Set<Milestone> recursionStack = new HashSet<>();
-        return this.checkCyclicDependencies(this, visited, recursionStack);
+        return this.completedTaskCount < this.totalTaskCount;
     }
 
-    private boolean checkCyclicDependencies(final Milestone milestone,
-                                            final Set<Milestone> visited,
-                                            final Set<Milestone> recursionStack) {
-        if (recursionStack.contains(milestone)) {
-            return true;
-        }
-        if (visited.contains(milestone)) {
-            return false;
+    /**
+     * Percentage of completed tasks, rounded; {@code 0} without tasks.
+     */
+    public int getTaskCompletionRate() {
+        if (0 == this.totalTaskCount) {
+            return 0;
         }
-
-        visited.add(milestone);
-        recursionStack.add(milestone);
-
-        final boolean hasCycle = milestone.dependencies.stream()
-            .anyMatch(dep -> this.checkCyclicDependencies(dep, visited, recursionStack));
-
-        recursionStack.remove(milestone);
-        return hasCycle;
+        return (int) Math.round((this.completedTaskCount * 100.0) / this.totalTaskCount);
     }
 
     public boolean isCompleted() {
@@ -0,0 +1,385 @@
+package com.projecthub.base.milestone.domain.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.ToLongFunction;
+
+/**
+ * Dependency graph of the milestones of one project.
+ * <p>
+ * Milestones are mapped to dense int indexes. Each one keeps its forward (dependencies) and
+ * reverse (dependents) adjacency as int arrays, so the number of dependents of a milestone is
+ * available in constant time. The graph also keeps a topological order: every dependency comes
+ * before the milestones that depend on it. Adding an edge runs an incremental cycle check
+ * (Pearce-Kelly). The check costs nothing when the new edge already agrees with the order.
+ * Otherwise it searches only the milestones whose positions lie between the two endpoints and
+ * reorders just that region.
+ * </p>
+ * <p>
+ * Instances are not thread-safe.
+ * </p>
+ */
+public final class MilestoneDependencyGraph {
+
+    private static final int[] NO_EDGES = new int[0];
+    private static final int INITIAL_EDGE_CAPACITY = 4;
+
+    private final Map<UUID, Integer> index;
+    private UUID[] ids;
+    private int[][] dependencies;
+    private int[] dependencyCounts;
+    private int[][] dependents;
+    private int[] dependentCounts;
+    private int[] order;
+    private int[] nodeAt;
+    private int[] marks;
+    private int epoch;
+    private int nodeCount;
+    private int liveCount;
+
+    public MilestoneDependencyGraph(final int expectedSize) {
+        final int capacity = Math.max(8, expectedSize);
+        this.index = new HashMap<>(capacity * 2);
+        this.ids = new UUID[capacity];
+        this.dependencies = new int[capacity][];
+        this.dependencyCounts = new int[capacity];
+        this.dependents = new int[capacity][];
+        this.dependentCounts = new int[capacity];
+        this.order = new int[capacity];
+        this.nodeAt = new int[capacity];
+        this.marks = new int[capacity];
+    }
+
+    public int size() {
+        return this.liveCount;
+    }
+
+    public boolean contains(final UUID milestoneId) {
+        return this.index.containsKey(milestoneId);
+    }
+
+    /**
+     * Adds a milestone without edges, placing it last in the topological order.
+     */
+    public void addMilestone(final UUID milestoneId) {
+        this.nodeOf(milestoneId);
+    }
+
+    /**
+     * Records that {@code milestoneId} depends on {@code dependencyId}, adding either milestone
+     * if it is unknown.
+     *
+     * @return {@code false}, leaving the graph unchanged, if the edge would close a cycle
+     */
+    public boolean addDependency(final UUID milestoneId, final UUID dependencyId) {
+        if (milestoneId.equals(dependencyId)) {
+            return false;
+        }
+        final int milestone = this.nodeOf(milestoneId);
+        final int dependency = this.nodeOf(dependencyId);
+        if (0 <= MilestoneDependencyGraph.indexOf(this.dependencies[milestone], this.dependencyCounts[milestone], dependency)) {
+            return true;
+        }
+        if (this.order[dependency] > this.order[milestone]) {
+            final int[] affected = this.dependentsBefore(milestone, dependency);
+            if (null == affected) {
+                return false;
+            }
+            this.reorder(this.dependenciesAfter(dependency, this.order[milestone]), affected);
+        }
+        this.dependencies[milestone] = MilestoneDependencyGraph.append(this.dependencies[milestone], this.dependencyCounts[milestone]++, dependency);
+        this.dependents[dependency] = MilestoneDependencyGraph.append(this.dependents[dependency], this.dependentCounts[dependency]++, milestone);
+        return true;
+    }
+
+    /**
+     * Whether making {@code milestoneId} depend on {@code dependencyId} would close a cycle.
+     * Does not modify the graph.
+     */
+    public boolean wouldCreateCycle(final UUID milestoneId, final UUID dependencyId) {
+        if (milestoneId.equals(dependencyId)) {
+            return true;
+        }
+        final Integer milestone = this.index.get(milestoneId);
+        final Integer dependency = this.index.get(dependencyId);
+        if (null == milestone || null == dependency || this.order[dependency] < this.order[milestone]) {
+            return false;
+        }
+        return null == this.dependentsBefore(milestone, dependency);
+    }
+
+    public void removeDependency(final UUID milestoneId, final UUID dependencyId) {
+        final Integer milestone = this.index.get(milestoneId);
+        final Integer dependency = this.index.get(dependencyId);
+        if (null != milestone && null != dependency) {
+            this.unlink(milestone, dependency);
+        }
+    }
+
+    /**
+     * Removes the milestone and all of its edges.
+     */
+    public void removeMilestone(final UUID milestoneId) {
+        final Integer node = this.index.remove(milestoneId);
+        if (null == node) {
+            return;
+        }
+        while (0 < this.dependencyCounts[node]) {
+            this.unlink(node, this.dependencies[node][this.dependencyCounts[node] - 1]);
+        }
+        while (0 < this.dependentCounts[node]) {
+            this.unlink(this.dependents[node][this.dependentCounts[node] - 1], node);
+        }
+        this.nodeAt[this.order[node]] = -1;
+        this.ids[node] = null;
+        this.liveCount--;
+    }
+
+    public int dependentCount(final UUID milestoneId) {
+        final Integer node = this.index.get(milestoneId);
+        return null == node ? 0 : this.dependentCounts[node];
+    }
+
+    public boolean hasDependents(final UUID milestoneId) {
+        return 0 < this.dependentCount(milestoneId);
+    }
+
+    /**
+     * Milestones that directly depend on the given milestone.
+     */
+    public List<UUID> dependents(final UUID milestoneId) {
+        final Integer node = this.index.get(milestoneId);
+        return null == node ? List.of() : this.idsOf(this.dependents[node], this.dependentCounts[node]);
+    }
+
+    /**
+     * Milestones the given milestone directly depends on.
+     */
+    public List<UUID> dependencies(final UUID milestoneId) {
+        final Integer node = this.index.get(milestoneId);
+        return null == node ? List.of() : this.idsOf(this.dependencies[node], this.dependencyCounts[node]);
+    }
+
+    /**
+     * All milestones, each one listed after everything it depends on.
+     */
+    public List<UUID> topologicalOrder() {
+        final List<UUID> result = new ArrayList<>(this.liveCount);
+        for (int position = 0; position < this.nodeCount; position++) {
+            final int node = this.nodeAt[position];
+            if (0 <= node) {
+                result.add(this.ids[node]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The dependency chain with the highest total weight, listed from the first milestone to the
+     * last. With a weight of one per milestone this is the longest chain.
+     */
+    public List<UUID> criticalPath(final ToLongFunction<UUID> weight) {
+        final long[] total = new long[this.nodeCount];
+        final int[] previous = new int[this.nodeCount];
+        int end = -1;
+        for (int position = 0; position < this.nodeCount; position++) {
+            final int node = this.nodeAt[position];
+            if (0 > node) {
+                continue;
+            }
+            long best = 0L;
+            previous[node] = -1;
+            for (int i = 0; i < this.dependencyCounts[node]; i++) {
+                final int dependency = this.dependencies[node][i];
+                if (total[dependency] > best) {
+                    best = total[dependency];
+                    previous[node] = dependency;
+                }
+            }
+            total[node] = best + weight.applyAsLong(this.ids[node]);
+            if (0 > end || total[node] > total[end]) {
+                end = node;
+            }
+        }
+        final List<UUID> path = new ArrayList<>();
+        for (int node = end; 0 <= node; node = previous[node]) {
+            path.add(this.ids[node]);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    private int nodeOf(final UUID milestoneId) {
+        final Integer existing = this.index.get(milestoneId);
+        if (null != existing) {
+            return existing;
+        }
+        if (this.nodeCount == this.ids.length) {
+            this.grow();
+        }
+        final int node = this.nodeCount++;
+        this.ids[node] = milestoneId;
+        this.dependencies[node] = MilestoneDependencyGraph.NO_EDGES;
+        this.dependents[node] = MilestoneDependencyGraph.NO_EDGES;
+        this.order[node] = node;
+        this.nodeAt[node] = node;
+        this.index.put(milestoneId, node);
+        this.liveCount++;
+        return node;
+    }
+
+    /**
+     * Dependents reachable from {@code start} that sit before {@code target} in the order, or
+     * {@code null} if {@code target} itself is reachable.
+     */
+    private int[] dependentsBefore(final int start, final int target) {
+        final int bound = this.order[target];
+        final int mark = ++this.epoch;
+        int[] stack = new int[8];
+        int[] visited = new int[8];
+        int stackSize = 0;
+        int visitedCount = 0;
+        stack[stackSize++] = start;
+        this.marks[start] = mark;
+        while (0 < stackSize) {
+            final int node = stack[--stackSize];
+            visited = MilestoneDependencyGraph.append(visited, visitedCount++, node);
+            for (int i = 0; i < this.dependentCounts[node]; i++) {
+                final int next = this.dependents[node][i];
+                if (next == target) {
+                    return null;
+                }
+                if (mark != this.marks[next] && this.order[next] < bound) {
+                    this.marks[next] = mark;
+                    stack = MilestoneDependencyGraph.append(stack, stackSize++, next);
+                }
+            }
+        }
+        return Arrays.copyOf(visited, visitedCount);
+    }
+
+    /**
+     * Dependencies reachable from {@code start} that sit after position {@code bound}.
+     */
+    private int[] dependenciesAfter(final int start, final int bound) {
+        final int mark = ++this.epoch;
+        int[] stack = new int[8];
+        int[] visited = new int[8];
+        int stackSize = 0;
+        int visitedCount = 0;
+        stack[stackSize++] = start;
+        this.marks[start] = mark;
+        while (0 < stackSize) {
+            final int node = stack[--stackSize];
+            visited = MilestoneDependencyGraph.append(visited, visitedCount++, node);
+            for (int i = 0; i < this.dependencyCounts[node]; i++) {
+                final int next = this.dependencies[node][i];
+                if (mark != this.marks[next] && this.order[next] > bound) {
+                    this.marks[next] = mark;
+                    stack = MilestoneDependencyGraph.append(stack, stackSize++, next);
+                }
+            }
+        }
+        return Arrays.copyOf(visited, visitedCount);
+    }
+
+    /**
+     * Reassigns the positions held by both regions so the dependency region comes first, each
+     * region keeping its relative order.
+     */
+    private void reorder(final int[] dependencyRegion, final int[] dependentRegion) {
+        this.sortByOrder(dependencyRegion);
+        this.sortByOrder(dependentRegion);
+        final int[] positions = new int[dependencyRegion.length + dependentRegion.length];
+        int k = 0;
+        for (final int node : dependencyRegion) {
+            positions[k++] = this.order[node];
+        }
+        for (final int node : dependentRegion) {
+            positions[k++] = this.order[node];
+        }
+        Arrays.sort(positions);
+        k = 0;
+        for (final int node : dependencyRegion) {
+            this.place(node, positions[k++]);
+        }
+        for (final int node : dependentRegion) {
+            this.place(node, positions[k++]);
+        }
+    }
+
+    private void place(final int node, final int position) {
+        this.order[node] = position;
+        this.nodeAt[position] = node;
+    }
+
+    private void sortByOrder(final int[] nodes) {
+        final long[] keys = new long[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            keys[i] = ((long) this.order[nodes[i]] << 32) | nodes[i];
+        }
+        Arrays.sort(keys);
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = (int) keys[i];
+        }
+    }
+
+    private void unlink(final int milestone, final int dependency) {
+        if (MilestoneDependencyGraph.remove(this.dependencies[milestone], this.dependencyCounts[milestone], dependency)) {
+            this.dependencyCounts[milestone]--;
+            MilestoneDependencyGraph.remove(this.dependents[dependency], this.dependentCounts[dependency], milestone);
+            this.dependentCounts[dependency]--;
+        }
+    }
+
+    private List<UUID> idsOf(final int[] nodes, final int count) {
+        final List<UUID> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(this.ids[nodes[i]]);
+        }
+        return result;
+    }
+
+    private void grow() {
+        final int capacity = this.ids.length * 2;
+        this.ids = Arrays.copyOf(this.ids, capacity);
+        this.dependencies = Arrays.copyOf(this.dependencies, capacity);
+        this.dependencyCounts = Arrays.copyOf(this.dependencyCounts, capacity);
+        this.dependents = Arrays.copyOf(this.dependents, capacity);
+        this.dependentCounts = Arrays.copyOf(this.dependentCounts, capacity);
+        this.order = Arrays.copyOf(this.order, capacity);
+        this.nodeAt = Arrays.copyOf(this.nodeAt, capacity);
+        this.marks = Arrays.copyOf(this.marks, capacity);
+    }
+
+    private static int[] append(final int[] values, final int count, final int value) {
+        final int[] target = count < values.length
+            ? values
+            : Arrays.copyOf(values, Math.max(MilestoneDependencyGraph.INITIAL_EDGE_CAPACITY, values.length * 2));
+        target[count] = value;
+        return target;
+    }
+
+    private static boolean remove(final int[] values, final int count, final int value) {
+        final int i = MilestoneDependencyGraph.indexOf(values, count, value);
+        if (0 > i) {
+            return false;
+        }
+        values[i] = values[count - 1];
+        return true;
+    }
+
+    private static int indexOf(final int[] values, final int count, final int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,17 @@
+package com.projecthub.base.milestone.domain.graph;
+
+import java.util.UUID;
+
+/**
+ * Read access to a project's committed milestone dependencies, as needed by the domain rules.
+ */
+public interface MilestoneDependencyQueries {
+
+    /**
+     * Whether making {@code milestoneId} depend on {@code dependencyId} would close a cycle in
+     * the project's committed dependencies.
+     */
+    boolean wouldCreateCycle(UUID projectId, UUID milestoneId, UUID dependencyId);
+
+    boolean hasDependents(UUID projectId, UUID milestoneId);
+}
@@ -2,15 +2,16 @@ package com.projecthub.base.milestone.domain.validation;
 
 import com.projecthub.base.milestone.domain.entity.Milestone;
 import com.projecthub.base.milestone.domain.enums.MilestoneStatus;
+import com.projecthub.base.milestone.domain.graph.MilestoneDependencyGraph;
+import com.projecthub.base.milestone.domain.graph.MilestoneDependencyQueries;
 import com.projecthub.base.shared.exception.ValidationException;
-import com.projecthub.base.task.domain.entity.Task;
 import jakarta.validation.constraints.NotNull;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Validator for Milestone entities. Organized in validation groups:
@@ -23,6 +24,7 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class MilestoneValidator implements MilestoneValidation {
 
     private static final Map<MilestoneStatus, Set<MilestoneStatus>> VALID_TRANSITIONS = Map.of(
@@ -33,6 +35,8 @@ public class MilestoneValidator implements MilestoneValidation {
         MilestoneStatus.CANCELLED, Set.of()
     );
 
+    private final MilestoneDependencyQueries dependencyQueries;
+
     @Override
     public void validateCreate(@NotNull Milestone milestone) {
         MilestoneValidator.log.debug("Validating milestone creation: {}", milestone);
@@ -140,7 +144,7 @@ public class MilestoneValidator implements MilestoneValidation {
     }
 
     private void validateCompletedTransition(Milestone milestone) {
-        if (milestone.getTasks().stream().anyMatch(t -> !t.isCompleted())) {
+        if (milestone.hasIncompleteTasks()) {
             throw new ValidationException("Cannot complete milestone with incomplete tasks");
         }
         double actualProgress = this.calculateProgress(milestone);
@@ -219,12 +223,11 @@ public class MilestoneValidator implements MilestoneValidation {
         if (MilestoneStatus.IN_PROGRESS == milestone.getStatus()) {
             throw new ValidationException("Cannot delete in-progress milestone");
         }
-        if (!milestone.getTasks().isEmpty()) {
+        if (0 < milestone.getTotalTaskCount()) {
             throw new ValidationException("Cannot delete milestone with existing tasks");
         }
         // Check if other milestones depend on this one
-        if (milestone.getProject().getMilestones().stream()
-            .anyMatch(m -> m.getDependencies().contains(milestone))) {
+        if (this.dependencyQueries.hasDependents(milestone.getProject().getId(), milestone.getId())) {
             throw new ValidationException("Cannot delete milestone that others depend on");
         }
     }
@@ -243,7 +246,9 @@ public class MilestoneValidator implements MilestoneValidation {
 
     // Dependency Validations
     private void validateDependencies(@NotNull Milestone milestone) {
-        if (milestone.hasCyclicDependencies()) {
+        final UUID projectId = milestone.getProject().getId();
+        if (null != milestone.getId() && milestone.getDependencies().stream()
+            .anyMatch(dep -> this.dependencyQueries.wouldCreateCycle(projectId, milestone.getId(), dep.getId()))) {
             throw new ValidationException("Cyclic dependencies detected");
         }
         if (milestone.getDependencies().stream()
@@ -260,18 +265,11 @@ public class MilestoneValidator implements MilestoneValidation {
     }
 
     private int calculateProgress(@NotNull Milestone milestone) {
-        if (milestone.getTasks().isEmpty()) {
-            return 0;
-        }
-        long completed = milestone.getTasks().stream()
-            .filter(Task::isCompleted)
-            .count();
-        return (int) Math.round((completed * 100.0) / milestone.getTasks().size()); // Integer progress
+        return milestone.getTaskCompletionRate();
     }
 
     private void validateTaskAlignment(@NotNull Milestone milestone) {
-        if (MilestoneStatus.COMPLETED == milestone.getStatus() &&
-            milestone.getTasks().stream().anyMatch(t -> !t.isCompleted())) {
+        if (MilestoneStatus.COMPLETED == milestone.getStatus() && milestone.hasIncompleteTasks()) {
             throw new ValidationException("Cannot complete milestone with incomplete tasks");
         }
     }
@@ -292,52 +290,14 @@ public class MilestoneValidator implements MilestoneValidation {
     private void validateDependencyCycles(@NotNull Set<Milestone> milestones) {
         MilestoneValidator.log.debug("Checking dependency cycles in {} milestones", milestones.size());
 
-        // Create adjacency map for milestone dependencies
-        Map<UUID, Set<UUID>> dependencyGraph = new HashMap<>();
-        for (Milestone milestone : milestones) {
-            dependencyGraph.put(milestone.getId(),
-                milestone.getDependencies().stream()
-                    .map(Milestone::getId)
-                    .collect(Collectors.toSet()));
-        }
-
-        // Check for cycles using DFS
-        Set<UUID> visited = new HashSet<>();
-        Set<UUID> recursionStack = new HashSet<>();
-
+        final MilestoneDependencyGraph graph = new MilestoneDependencyGraph(milestones.size());
         for (Milestone milestone : milestones) {
-            if (this.hasCycle(milestone.getId(), dependencyGraph, visited, recursionStack)) {
-                throw new ValidationException("Cyclic dependency detected in milestones");
-            }
-        }
-    }
-
-    private boolean hasCycle(UUID currentId,
-                             Map<UUID, Set<UUID>> dependencyGraph,
-                             Set<UUID> visited,
-                             Set<UUID> recursionStack) {
-        if (recursionStack.contains(currentId)) {
-            return true;
-        }
-
-        if (visited.contains(currentId)) {
-            return false;
-        }
-
-        visited.add(currentId);
-        recursionStack.add(currentId);
-
-        Set<UUID> dependencies = dependencyGraph.get(currentId);
-        if (null != dependencies) {
-            for (UUID dependencyId : dependencies) {
-                if (this.hasCycle(dependencyId, dependencyGraph, visited, recursionStack)) {
-                    return true;
+            for (Milestone dependency : milestone.getDependencies()) {
+                if (!graph.addDependency(milestone.getId(), dependency.getId())) {
+                    throw new ValidationException("Cyclic dependency detected in milestones");
                 }
             }
         }
-
-        recursionStack.remove(currentId);
-        return false;
     }
 
     private void validateTimelineConsistency(@NotNull Set<Milestone> milestones) {
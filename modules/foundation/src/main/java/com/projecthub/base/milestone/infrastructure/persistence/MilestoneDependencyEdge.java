@@ -0,0 +1,10 @@
+package com.projecthub.base.milestone.infrastructure.persistence;
+
+import java.util.UUID;
+
+/**
+ * One row of the {@code milestone_dependencies} join table. {@code dependencyId} is
+ * {@code null} for a milestone without dependencies.
+ */
+public record MilestoneDependencyEdge(UUID milestoneId, UUID dependencyId) {
+}
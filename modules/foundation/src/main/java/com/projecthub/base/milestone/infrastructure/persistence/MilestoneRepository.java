@@ -2,14 +2,18 @@ package com.projecthub.base.milestone.infrastructure.persistence;
 
 import com.projecthub.base.milestone.domain.entity.Milestone;
 import com.projecthub.base.milestone.domain.enums.MilestoneStatus;
+import com.projecthub.base.task.domain.enums.TaskStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -32,4 +36,34 @@ public interface MilestoneRepository extends JpaRepository<Milestone, UUID>, Jpa
     List<Milestone> findByProjectIdAndDueDateBetween(UUID projectId, LocalDate startDate, LocalDate endDate);
 
     Arrays findByProjectId(UUID projectId);
+
+    @Query("SELECT new com.projecthub.base.milestone.infrastructure.persistence.MilestoneDependencyEdge(m.id, d.id) " +
+        "FROM Milestone m LEFT JOIN m.dependencies d WHERE m.project.id = :projectId")
+    List<MilestoneDependencyEdge> findDependencyEdgesByProjectId(UUID projectId);
+
+    @Query("SELECT m.project.id FROM Milestone m WHERE m.id = :milestoneId")
+    Optional<UUID> findProjectIdById(UUID milestoneId);
+
+    /**
+     * Atomically adds the deltas to the milestone's task counters.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Milestone m SET m.completedTaskCount = m.completedTaskCount + :completedDelta, " +
+        "m.totalTaskCount = m.totalTaskCount + :totalDelta WHERE m.id = :milestoneId")
+    int adjustTaskCounts(UUID milestoneId, int completedDelta, int totalDelta);
+
+    /**
+     * Recounts the tasks of every milestone whose counters drifted.
+     *
+     * @return the number of repaired milestones
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Milestone m SET " +
+        "m.totalTaskCount = (SELECT COUNT(t) FROM Task t WHERE t.milestone = m), " +
+        "m.completedTaskCount = (SELECT COUNT(t) FROM Task t WHERE t.milestone = m AND t.status = :completed) " +
+        "WHERE m.totalTaskCount <> (SELECT COUNT(t) FROM Task t WHERE t.milestone = m) " +
+        "OR m.completedTaskCount <> (SELECT COUNT(t) FROM Task t WHERE t.milestone = m AND t.status = :completed)")
+    int reconcileTaskCounts(TaskStatus completed);
 }
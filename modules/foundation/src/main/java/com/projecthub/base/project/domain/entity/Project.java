@@ -36,8 +36,13 @@ public class Project extends BaseEntity {
     @Embedded
     private ProjectDetails details;
 
+    /**
+     * Task counters are maintained by the task progress projection, so the entity never writes them.
+     */
     @Embedded
-    private ProjectProgress progress;
+    @AttributeOverride(name = "completedTasks", column = @Column(name = "completed_tasks", updatable = false))
+    @AttributeOverride(name = "totalTasks", column = @Column(name = "total_tasks", updatable = false))
+    private ProjectProgress progress = new ProjectProgress(null, null, 0, 0);
 
     @Embedded
     private ProjectTeam team;
@@ -64,7 +69,7 @@ public class Project extends BaseEntity {
             throw new IllegalStateException("Cannot start project without team");
         }
         this.status = ProjectStatus.ACTIVE;
-        this.progress = new ProjectProgress(LocalDate.now(), null, 0, this.tasks.size());
+        this.progress = new ProjectProgress(LocalDate.now(), null, this.progress.completedTasks(), this.progress.totalTasks());
     }
 
     public void complete() {
@@ -75,7 +80,7 @@ public class Project extends BaseEntity {
             throw new IllegalStateException("Cannot complete project with incomplete tasks");
         }
         this.status = ProjectStatus.COMPLETED;
-        this.progress = new ProjectProgress(this.progress.startDate(), LocalDate.now(), this.progress.completedTasks(), this.tasks.size());
+        this.progress = new ProjectProgress(this.progress.startDate(), LocalDate.now(), this.progress.completedTasks(), this.progress.totalTasks());
     }
 
     public void cancel() {
@@ -83,7 +88,7 @@ public class Project extends BaseEntity {
             throw new IllegalStateException("Cannot cancel completed project");
         }
         this.status = ProjectStatus.CANCELLED;
-        this.progress = new ProjectProgress(this.progress.startDate(), LocalDate.now(), this.progress.completedTasks(), this.tasks.size());
+        this.progress = new ProjectProgress(this.progress.startDate(), LocalDate.now(), this.progress.completedTasks(), this.progress.totalTasks());
     }
 
     public void addTask(final Task task) {
@@ -97,14 +102,11 @@ public class Project extends BaseEntity {
     }
 
     public boolean hasIncompleteTasks() {
-        return this.tasks.stream().anyMatch(task -> !task.isCompleted());
+        return null != this.progress && this.progress.hasIncompleteTasks();
     }
 
     public int calculateProgress() {
-        if (this.tasks.isEmpty()) return 0;
-        return (int) (this.tasks.stream()
-            .filter(Task::isCompleted)
-            .count() * 100.0 / this.tasks.size());
+        return null == this.progress ? 0 : this.progress.completionRate();
     }
 
     public boolean isActive() {
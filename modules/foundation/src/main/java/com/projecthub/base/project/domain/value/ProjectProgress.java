@@ -8,4 +8,14 @@ public record ProjectProgress(
     int completedTasks,
     int totalTasks
 ) {
+    public boolean hasIncompleteTasks() {
+        return this.completedTasks < this.totalTasks;
+    }
+
+    public int completionRate() {
+        if (0 == this.totalTasks) {
+            return 0;
+        }
+        return (int) (this.completedTasks * 100.0 / this.totalTasks);
+    }
 }
@@ -1,11 +1,15 @@
 package com.projecthub.base.project.infrastructure.repository;
 
 import com.projecthub.base.project.domain.entity.Project;
+import com.projecthub.base.task.domain.enums.TaskStatus;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -26,6 +30,15 @@ public interface ProjectJpaRepository extends JpaRepository<Project, UUID> {
      */
     List<Project> findAllByTeamId(UUID teamId);
 
+    /**
+     * Finds the ID of the team a project is assigned to.
+     *
+     * @param projectId the UUID of the project
+     * @return an {@code Optional} containing the team ID if the project exists and has a team
+     */
+    @Query("SELECT p.team.teamId FROM Project p WHERE p.id = :projectId")
+    Optional<UUID> findTeamIdById(UUID projectId);
+
     /**
      * Finds a project with its components by project ID.
      *
@@ -35,4 +48,34 @@ public interface ProjectJpaRepository extends JpaRepository<Project, UUID> {
     @NonNull
     @EntityGraph(attributePaths = "components")
     Optional<Project> findById(@NonNull UUID projectId);
+
+    /**
+     * Atomically adds the deltas to the project's task counters.
+     *
+     * @param projectId      the UUID of the project
+     * @param completedDelta change in the number of completed tasks
+     * @param totalDelta     change in the number of tasks
+     * @return the number of updated rows
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Project p SET " +
+        "p.progress.completedTasks = COALESCE(p.progress.completedTasks, 0) + :completedDelta, " +
+        "p.progress.totalTasks = COALESCE(p.progress.totalTasks, 0) + :totalDelta WHERE p.id = :projectId")
+    int adjustTaskCounts(UUID projectId, int completedDelta, int totalDelta);
+
+    /**
+     * Recounts the tasks of every project whose counters drifted.
+     *
+     * @param completed the status counted as completed
+     * @return the number of repaired projects
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Project p SET " +
+        "p.progress.totalTasks = (SELECT COUNT(t) FROM Task t WHERE t.project = p), " +
+        "p.progress.completedTasks = (SELECT COUNT(t) FROM Task t WHERE t.project = p AND t.status = :completed) " +
+        "WHERE COALESCE(p.progress.totalTasks, -1) <> (SELECT COUNT(t) FROM Task t WHERE t.project = p) " +
+        "OR COALESCE(p.progress.completedTasks, -1) <> (SELECT COUNT(t) FROM Task t WHERE t.project = p AND t.status = :completed)")
+    int reconcileTaskCounts(TaskStatus completed);
 }
@@ -1,28 +1,45 @@
 package com.projecthub.base.school.api.graphql;
 
 import com.projecthub.base.school.api.dto.SchoolDTO;
-import lombok.Builder;
-import lombok.Data;
-import org.springframework.data.domain.Page;
+import com.projecthub.base.shared.api.graphql.PageInfo;
+import com.projecthub.base.shared.repository.keyset.KeysetSlice;
+import lombok.AccessLevel;
+import lombok.Getter;
 
 import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.stream.IntStream;
 
-@Data
-@Builder
+/**
+ * Relay connection over a keyset page of schools; {@code totalCount} is only counted when the
+ * client selects it.
+ */
+@Getter
 public class SchoolConnection {
-    private List<SchoolDTO> content;
-    private int pageNumber;
-    private int pageSize;
-    private long totalElements;
-    private int totalPages;
+    private final List<SchoolEdge> edges;
+    private final PageInfo pageInfo;
+    @Getter(AccessLevel.NONE)
+    private final LongSupplier totalCountSupplier;
+    @Getter(AccessLevel.NONE)
+    private Long totalCount;
 
-    public static SchoolConnection from(final Page<SchoolDTO> page) {
-        return builder()
-            .content(page.getContent())
-            .pageNumber(page.getNumber())
-            .pageSize(page.getSize())
-            .totalElements(page.getTotalElements())
-            .totalPages(page.getTotalPages())
-            .build();
+    public SchoolConnection(final List<SchoolEdge> edges, final PageInfo pageInfo, final LongSupplier totalCountSupplier) {
+        this.edges = edges;
+        this.pageInfo = pageInfo;
+        this.totalCountSupplier = totalCountSupplier;
+    }
+
+    public static SchoolConnection from(final KeysetSlice<SchoolDTO> slice, final LongSupplier totalCount) {
+        final List<SchoolEdge> edges = IntStream.range(0, slice.content().size())
+            .mapToObj(i -> new SchoolEdge(slice.content().get(i), slice.cursors().get(i).encode()))
+            .toList();
+        return new SchoolConnection(edges, PageInfo.of(slice), totalCount);
+    }
+
+    public synchronized long getTotalCount() {
+        if (null == this.totalCount) {
+            this.totalCount = this.totalCountSupplier.getAsLong();
+        }
+        return this.totalCount;
     }
 }
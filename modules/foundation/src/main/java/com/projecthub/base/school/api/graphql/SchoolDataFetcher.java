@@ -6,16 +6,23 @@ import com.netflix.graphql.dgs.InputArgument;
 import com.projecthub.base.school.api.dto.SchoolDTO;
 import com.projecthub.base.school.application.port.in.SchoolQuery;
 import com.projecthub.base.school.domain.criteria.SchoolSearchCriteria;
+import com.projecthub.base.shared.repository.keyset.KeysetCursor;
+import com.projecthub.base.shared.repository.keyset.KeysetPageRequest;
+import com.projecthub.base.shared.repository.keyset.KeysetSlice;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
+import java.util.List;
 import java.util.UUID;
 
 @DgsComponent
 @RequiredArgsConstructor
 public class SchoolDataFetcher {
 
+    private static final String SORT_ATTRIBUTE = "name";
+
     private final SchoolQuery schoolQuery;
 
     @DgsQuery
@@ -24,36 +31,102 @@ public class SchoolDataFetcher {
     }
 
     @DgsQuery
-    public SchoolConnection schools(@InputArgument final Integer page, @InputArgument final Integer size) {
-        final Page<SchoolDTO> schoolPage = this.schoolQuery.getAllSchools(
-            PageRequest.of(null != page ? page : 0, null != size ? size : 10)
-        );
-        return SchoolConnection.from(schoolPage);
+    public SchoolConnection schools(
+        @InputArgument final Integer first,
+        @InputArgument final String after,
+        @InputArgument final Integer last,
+        @InputArgument final String before,
+        @InputArgument final Integer page,
+        @InputArgument final Integer size) {
+        if (KeysetPageRequest.isOffsetRequest(first, after, last, before, page, size)) {
+            return SchoolDataFetcher.connection(this.schoolQuery.getAllSchools(SchoolDataFetcher.offsetPage(page, size)));
+        }
+        return this.connection(SchoolSearchCriteria.builder().build(), KeysetPageRequest.of(first, after, last, before));
     }
 
     @DgsQuery
     public SchoolConnection searchSchools(
         @InputArgument final SchoolSearchInput criteria,
+        @InputArgument final Integer first,
+        @InputArgument final String after,
+        @InputArgument final Integer last,
+        @InputArgument final String before,
         @InputArgument final Integer page,
         @InputArgument final Integer size) {
-        return SchoolConnection.from(this.schoolQuery.searchSchools(
-            this.toSearchCriteria(criteria),
-            PageRequest.of(null != page ? page : 0, null != size ? size : 10)
-        ));
+        final SchoolSearchCriteria searchCriteria = this.toSearchCriteria(criteria);
+        if (KeysetPageRequest.isOffsetRequest(first, after, last, before, page, size)) {
+            if (null == searchCriteria.getName() || searchCriteria.getName().isBlank()) {
+                return SchoolDataFetcher.connection(this.schoolQuery.searchSchools(searchCriteria,
+                    SchoolDataFetcher.offsetPage(page, size)));
+            }
+            return SchoolDataFetcher.rankedConnection(this.schoolQuery.searchSchools(searchCriteria,
+                SchoolDataFetcher.offsetPage(page, size).withSort(Sort.unsorted())));
+        }
+        return this.connection(searchCriteria, KeysetPageRequest.of(first, after, last, before));
     }
 
     @DgsQuery
-    public SchoolConnection activeSchools(@InputArgument final Integer page, @InputArgument final Integer size) {
-        return SchoolConnection.from(this.schoolQuery.getActiveSchools(
-            PageRequest.of(null != page ? page : 0, null != size ? size : 10)
-        ));
+    public SchoolConnection activeSchools(
+        @InputArgument final Integer first,
+        @InputArgument final String after,
+        @InputArgument final Integer last,
+        @InputArgument final String before,
+        @InputArgument final Integer page,
+        @InputArgument final Integer size) {
+        if (KeysetPageRequest.isOffsetRequest(first, after, last, before, page, size)) {
+            return SchoolDataFetcher.connection(this.schoolQuery.getActiveSchools(SchoolDataFetcher.offsetPage(page, size)));
+        }
+        return this.connection(SchoolSearchCriteria.builder().archived(false).build(),
+            KeysetPageRequest.of(first, after, last, before));
     }
 
     @DgsQuery
-    public SchoolConnection archivedSchools(@InputArgument final Integer page, @InputArgument final Integer size) {
-        return SchoolConnection.from(this.schoolQuery.getArchivedSchools(
-            PageRequest.of(null != page ? page : 0, null != size ? size : 10)
-        ));
+    public SchoolConnection archivedSchools(
+        @InputArgument final Integer first,
+        @InputArgument final String after,
+        @InputArgument final Integer last,
+        @InputArgument final String before,
+        @InputArgument final Integer page,
+        @InputArgument final Integer size) {
+        if (KeysetPageRequest.isOffsetRequest(first, after, last, before, page, size)) {
+            return SchoolDataFetcher.connection(this.schoolQuery.getArchivedSchools(SchoolDataFetcher.offsetPage(page, size)));
+        }
+        return this.connection(SchoolSearchCriteria.builder().archived(true).build(),
+            KeysetPageRequest.of(first, after, last, before));
+    }
+
+    private SchoolConnection connection(final SchoolSearchCriteria criteria, final KeysetPageRequest pageRequest) {
+        return SchoolConnection.from(
+            this.schoolQuery.findSchools(criteria, pageRequest),
+            () -> this.schoolQuery.countSchools(criteria)
+        );
+    }
+
+    /**
+     * Connection for the deprecated {@code page}/{@code size} arguments.
+     */
+    private static SchoolConnection connection(final Page<SchoolDTO> page) {
+        return SchoolConnection.from(
+            KeysetSlice.of(page, school -> new KeysetCursor(school.name(), school.id())),
+            page::getTotalElements
+        );
+    }
+
+    /**
+     * Connection for the deprecated {@code page}/{@code size} arguments of a name search, which
+     * is ranked by relevance; each row's cursor carries its rank like {@code findSchools} does.
+     */
+    private static SchoolConnection rankedConnection(final Page<SchoolDTO> page) {
+        final long offset = page.getPageable().getOffset();
+        final List<SchoolDTO> content = page.getContent();
+        return SchoolConnection.from(
+            KeysetSlice.of(page, school -> new KeysetCursor(String.valueOf(offset + content.indexOf(school)), school.id())),
+            page::getTotalElements
+        );
+    }
+
+    private static PageRequest offsetPage(final Integer page, final Integer size) {
+        return KeysetPageRequest.offsetPage(page, size, SchoolDataFetcher.SORT_ATTRIBUTE);
     }
 
     private SchoolSearchCriteria toSearchCriteria(final SchoolSearchInput input) {
@@ -0,0 +1,31 @@
+package com.projecthub.base.school.api.graphql;
+
+import com.netflix.graphql.dgs.DgsDataLoader;
+import com.projecthub.base.school.api.dto.SchoolDTO;
+import com.projecthub.base.school.application.port.in.SchoolQuery;
+import lombok.RequiredArgsConstructor;
+import org.dataloader.MappedBatchLoader;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Batches school lookups of a GraphQL request into one {@code findAllById} query. Results are
+ * cached by the request-scoped {@link org.dataloader.DataLoader}, so each school is loaded at
+ * most once per request.
+ */
+@DgsDataLoader(name = SchoolDataLoader.NAME)
+@RequiredArgsConstructor
+public class SchoolDataLoader implements MappedBatchLoader<UUID, SchoolDTO> {
+    public static final String NAME = "schools";
+
+    private final SchoolQuery schoolQuery;
+
+    @Override
+    public CompletionStage<Map<UUID, SchoolDTO>> load(final Set<UUID> schoolIds) {
+        return CompletableFuture.completedFuture(this.schoolQuery.getSchoolsByIds(schoolIds));
+    }
+}
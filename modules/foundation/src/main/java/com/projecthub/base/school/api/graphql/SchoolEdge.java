@@ -0,0 +1,10 @@
+package com.projecthub.base.school.api.graphql;
+
+import com.projecthub.base.school.api.dto.SchoolDTO;
+import lombok.Value;
+
+@Value
+public class SchoolEdge {
+    SchoolDTO node;
+    String cursor;
+}
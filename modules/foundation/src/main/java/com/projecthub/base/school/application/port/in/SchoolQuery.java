@@ -2,20 +2,40 @@ package com.projecthub.base.school.application.port.in;
 
 import com.projecthub.base.school.api.dto.SchoolDTO;
 import com.projecthub.base.school.domain.criteria.SchoolSearchCriteria;
+import com.projecthub.base.shared.repository.keyset.KeysetPageRequest;
+import com.projecthub.base.shared.repository.keyset.KeysetSlice;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 
 public interface SchoolQuery {
     SchoolDTO getSchoolById(UUID id);
 
+    Map<UUID, SchoolDTO> getSchoolsByIds(Collection<UUID> ids);
+
     Page<SchoolDTO> getAllSchools(PageRequest pageRequest);
 
+    /**
+     * Searches schools. A name criterion is matched through the node-local search index and,
+     * unless {@code pageable} is sorted, results come back best match first. While the index is
+     * still being built after startup the name is matched with {@code LIKE} and ordered by the
+     * requested sort instead.
+     */
     Page<SchoolDTO> searchSchools(SchoolSearchCriteria criteria, Pageable pageable);
 
     Page<SchoolDTO> getActiveSchools(Pageable pageable);
 
     Page<SchoolDTO> getArchivedSchools(Pageable pageable);
+
+    /**
+     * Keyset page of schools, ordered by name, or best match first when a name criterion is given
+     * and the search index is ready.
+     */
+    KeysetSlice<SchoolDTO> findSchools(SchoolSearchCriteria criteria, KeysetPageRequest pageRequest);
+
+    long countSchools(SchoolSearchCriteria criteria);
 }
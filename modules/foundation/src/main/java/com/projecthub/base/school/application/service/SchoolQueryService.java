@@ -7,17 +7,40 @@ import com.projecthub.base.school.domain.criteria.SchoolSearchCriteria;
 import com.projecthub.base.school.domain.entity.School;
 import com.projecthub.base.school.domain.exception.SchoolNotFoundException;
 import com.projecthub.base.school.domain.repository.SchoolRepository;
+import com.projecthub.base.school.infrastructure.search.SchoolSearchIndex;
 import com.projecthub.base.school.infrastructure.specification.SchoolSpecification;
+import com.projecthub.base.shared.config.CacheConfig;
+import com.projecthub.base.shared.repository.keyset.KeysetCursor;
+import com.projecthub.base.shared.repository.keyset.KeysetPageRequest;
+import com.projecthub.base.shared.repository.keyset.KeysetQueries;
+import com.projecthub.base.shared.repository.keyset.KeysetSlice;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -25,8 +48,13 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class SchoolQueryService implements SchoolQuery {
     private static final String PAGEABLE_CANNOT_BE_NULL = "Pageable cannot be null";
+    private static final String SORT_ATTRIBUTE = "name";
+    private static final String ID = "id";
+    private static final int ID_BATCH_SIZE = 1000;
     private final SchoolRepository repository;
     private final SchoolMapper mapper;
+    private final SchoolSearchIndex searchIndex;
+    private final EntityManager entityManager;
 
     @Override
     public SchoolDTO getSchoolById(final UUID id) {
@@ -38,14 +66,147 @@ public class SchoolQueryService implements SchoolQuery {
             .orElseThrow(() -> new SchoolNotFoundException(id));
     }
 
+    @Override
+    public Map<UUID, SchoolDTO> getSchoolsByIds(final Collection<UUID> ids) {
+        Objects.requireNonNull(ids, "School IDs cannot be null");
+        SchoolQueryService.log.debug("Fetching {} schools", ids.size());
+
+        return this.repository.findAllById(ids).stream()
+            .map(this.mapper::toDto)
+            .collect(Collectors.toMap(SchoolDTO::id, Function.identity()));
+    }
+
     @Override
     public Page<SchoolDTO> searchSchools(final SchoolSearchCriteria criteria, final Pageable pageable) {
         Objects.requireNonNull(pageable, SchoolQueryService.PAGEABLE_CANNOT_BE_NULL);
         SchoolQueryService.log.debug("Searching schools with criteria: {}", criteria);
 
-        return this.repository.findAll(
-            SchoolSpecification.withCriteria(criteria),
-            pageable).map(this.mapper::toDto);
+        final List<UUID> ranked = this.rankedMatches(criteria);
+        if (null == ranked) {
+            return this.repository.findAll(SchoolQueryService.databaseFilter(criteria), pageable).map(this.mapper::toDto);
+        }
+        if (pageable.getSort().isSorted()) {
+            return this.repository.findAll(SchoolSpecification.hasIdIn(ranked), pageable).map(this.mapper::toDto);
+        }
+
+        // Keep the search index's ranking and load only the rows of the requested page
+        final int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        final int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        final List<SchoolDTO> content = this.loadInOrder(ranked.subList(from, to)).stream()
+            .map(this.mapper::toDto)
+            .toList();
+        return new PageImpl<>(content, pageable, ranked.size());
+    }
+
+    /**
+     * Resolves the name criterion through the search index as a free-text query over name, city and
+     * state, with prefix and fuzzy matching. The other criteria are applied to the candidates in
+     * the database before the result is capped at {@code app.search.max-results}, so a selective
+     * filter cannot empty a result the cap has already cut short.
+     *
+     * @return ids of the matching schools, best match first, or {@code null} when the criteria have
+     * no name or the index is still warming up, in which case the name is matched in SQL
+     */
+    private List<UUID> rankedMatches(final SchoolSearchCriteria criteria) {
+        if (!SchoolQueryService.hasName(criteria)) {
+            return null;
+        }
+        if (!this.searchIndex.isReady()) {
+            SchoolQueryService.log.debug("Search index is warming up, matching school names in the database");
+            return null;
+        }
+
+        final Specification<School> filters = SchoolSpecification.withCriteria(criteria, null);
+        final List<UUID> candidates = SchoolQueryService.hasFilters(criteria)
+            ? this.searchIndex.searchAll(criteria.getName())
+            : this.searchIndex.search(criteria.getName());
+        final int maxResults = this.searchIndex.getMaxResults();
+        final List<UUID> matches = new ArrayList<>();
+        for (int from = 0; from < candidates.size() && matches.size() < maxResults; from += SchoolQueryService.ID_BATCH_SIZE) {
+            final List<UUID> batch = candidates.subList(from, Math.min(from + SchoolQueryService.ID_BATCH_SIZE, candidates.size()));
+            final Set<UUID> kept = new HashSet<>(this.findIds(filters.and(SchoolSpecification.hasIdIn(batch))));
+            for (final UUID id : batch) {
+                if (kept.contains(id) && matches.size() < maxResults) {
+                    matches.add(id);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private List<UUID> findIds(final Specification<School> spec) {
+        final CriteriaBuilder cb = this.entityManager.getCriteriaBuilder();
+        final CriteriaQuery<UUID> query = cb.createQuery(UUID.class);
+        final Root<School> root = query.from(School.class);
+        query.select(root.<UUID>get(SchoolQueryService.ID)).where(spec.toPredicate(root, query, cb));
+        return this.entityManager.createQuery(query).getResultList();
+    }
+
+    /**
+     * Loads the schools with the given ids, in the order of the ids.
+     */
+    private List<School> loadInOrder(final List<UUID> ids) {
+        final Map<UUID, Integer> position = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            position.put(ids.get(i), i);
+        }
+        return this.repository.findAllById(ids).stream()
+            .sorted(Comparator.comparing(school -> position.get(school.getId())))
+            .toList();
+    }
+
+    /**
+     * Pages through ranked ids. A row's cursor carries its rank as sort key; the boundary row is
+     * looked up by id first so pages stay contiguous when the ranking shifts between requests, and
+     * by rank when the row no longer matches.
+     */
+    private KeysetSlice<SchoolDTO> rankedSlice(final List<UUID> ranked, final KeysetPageRequest request) {
+        final int boundary = null == request.cursor()
+            ? (request.forward() ? -1 : ranked.size())
+            : Math.max(-1, Math.min(SchoolQueryService.rankOf(ranked, request.cursor()), ranked.size()));
+        final int from = request.forward()
+            ? Math.min(boundary + 1, ranked.size())
+            : Math.max(0, boundary - request.limit());
+        final int to = request.forward()
+            ? Math.min(from + request.limit(), ranked.size())
+            : Math.max(0, boundary);
+
+        final List<UUID> ids = ranked.subList(from, to);
+        final List<School> schools = this.loadInOrder(ids);
+        final List<KeysetCursor> cursors = schools.stream()
+            .map(school -> new KeysetCursor(String.valueOf(from + ids.indexOf(school.getId())), school.getId()))
+            .toList();
+        return new KeysetSlice<>(schools, cursors, to < ranked.size(), 0 < from).map(this.mapper::toDto);
+    }
+
+    private static int rankOf(final List<UUID> ranked, final KeysetCursor cursor) {
+        final int position = ranked.indexOf(cursor.id());
+        if (0 <= position) {
+            return position;
+        }
+        try {
+            return Integer.parseInt(cursor.sortKey());
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed cursor: " + cursor.encode(), e);
+        }
+    }
+
+    private static boolean hasName(final SchoolSearchCriteria criteria) {
+        return null != criteria.getName() && !criteria.getName().isBlank();
+    }
+
+    private static boolean hasFilters(final SchoolSearchCriteria criteria) {
+        return null != criteria.getCity() || null != criteria.getState() || null != criteria.getArchived()
+            || null != criteria.getCreatedAfter() || null != criteria.getCreatedBefore();
+    }
+
+    /**
+     * Criteria evaluated entirely in the database, matching the name with {@code LIKE}.
+     */
+    private static Specification<School> databaseFilter(final SchoolSearchCriteria criteria) {
+        return SchoolQueryService.hasName(criteria)
+            ? SchoolSpecification.withCriteria(criteria)
+            : SchoolSpecification.withCriteria(criteria, null);
     }
 
     @Override
@@ -58,6 +219,7 @@ public class SchoolQueryService implements SchoolQuery {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.ACTIVE_SCHOOLS, key = "#pageable")
     public Page<SchoolDTO> getActiveSchools(final Pageable pageable) {
         Objects.requireNonNull(pageable, SchoolQueryService.PAGEABLE_CANNOT_BE_NULL);
         SchoolQueryService.log.debug("Fetching active schools");
@@ -75,6 +237,29 @@ public class SchoolQueryService implements SchoolQuery {
             .map(this.mapper::toDto);
     }
 
+    @Override
+    public KeysetSlice<SchoolDTO> findSchools(final SchoolSearchCriteria criteria, final KeysetPageRequest pageRequest) {
+        Objects.requireNonNull(pageRequest, "Page request cannot be null");
+        SchoolQueryService.log.debug("Fetching schools with criteria: {} from cursor: {}", criteria, pageRequest.cursor());
+
+        final List<UUID> ranked = this.rankedMatches(criteria);
+        if (null != ranked) {
+            return this.rankedSlice(ranked, pageRequest);
+        }
+        return KeysetQueries.fetch(
+            this.repository,
+            SchoolQueryService.databaseFilter(criteria),
+            SchoolQueryService.SORT_ATTRIBUTE,
+            School::getName,
+            pageRequest).map(this.mapper::toDto);
+    }
+
+    @Override
+    public long countSchools(final SchoolSearchCriteria criteria) {
+        final List<UUID> ranked = this.rankedMatches(criteria);
+        return null != ranked ? ranked.size() : this.repository.count(SchoolQueryService.databaseFilter(criteria));
+    }
+
     public School findActiveSchoolById(final UUID id) {
         Objects.requireNonNull(id, "School ID cannot be null");
         SchoolQueryService.log.debug("Fetching active school: {}", id);
@@ -0,0 +1,41 @@
+package com.projecthub.base.school.infrastructure.cache;
+
+import com.projecthub.base.school.domain.event.SchoolDomainEvent;
+import com.projecthub.base.shared.cache.ResultCaches;
+import com.projecthub.base.shared.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * Invalidates school result caches once a school change has been committed.
+ * <p>
+ * Any change to a school can move it into, out of, or within the active school pages, so those
+ * pages are dropped. The cohort pages of a deleted school are dropped as well.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class SchoolResultCacheInvalidator {
+    private final ResultCaches resultCaches;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleSchoolEvent(final SchoolDomainEvent event) {
+        switch (event) {
+            case final SchoolDomainEvent.CohortAdded e -> this.evictCohortPages(e.schoolId());
+            case final SchoolDomainEvent.Deleted e -> {
+                this.resultCaches.clear(CacheConfig.ACTIVE_SCHOOLS);
+                this.evictCohortPages(e.schoolId());
+            }
+            default -> this.resultCaches.clear(CacheConfig.ACTIVE_SCHOOLS);
+        }
+    }
+
+    private void evictCohortPages(final UUID schoolId) {
+        final String prefix = schoolId + ":";
+        this.resultCaches.evictIf(CacheConfig.COHORTS_BY_SCHOOL, (key, value) -> key.toString().startsWith(prefix));
+    }
+}
@@ -0,0 +1,118 @@
+package com.projecthub.base.school.infrastructure.search;
+
+import com.projecthub.base.school.domain.entity.School;
+import com.projecthub.base.school.domain.event.SchoolDomainEvent;
+import com.projecthub.base.school.domain.repository.SchoolRepository;
+import com.projecthub.base.shared.search.InvertedIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Search index over school name, city and state.
+ * <p>
+ * Built from the database once the application is ready and kept current from committed
+ * {@link SchoolDomainEvent}s, so searches never scan the schools table.
+ * </p>
+ * <p>
+ * The index lives in this node's memory: it only sees changes committed through this node, and it
+ * is empty until {@link #rebuild()} has run on {@link ApplicationReadyEvent}. Callers check
+ * {@link #isReady()} and fall back to a database query while it is warming up.
+ * </p>
+ */
+@Slf4j
+@Component
+public class SchoolSearchIndex {
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final InvertedIndex<UUID> index = new InvertedIndex<>();
+    private final SchoolRepository repository;
+    private final int maxResults;
+    private volatile boolean ready;
+
+    public SchoolSearchIndex(
+        final SchoolRepository repository,
+        @Value("${app.search.max-results:1000}") final int maxResults) {
+        this.repository = repository;
+        this.maxResults = maxResults;
+    }
+
+    /**
+     * Ids of the schools matching the query, best match first, capped at
+     * {@code app.search.max-results}.
+     */
+    public List<UUID> search(final String query) {
+        return this.index.search(query, this.maxResults);
+    }
+
+    /**
+     * Ids of every school matching the query, best match first. Used when further filters still
+     * have to be applied, so the cap does not cut off matches that would pass them.
+     */
+    public List<UUID> searchAll(final String query) {
+        return this.index.search(query, Integer.MAX_VALUE);
+    }
+
+    public int getMaxResults() {
+        return this.maxResults;
+    }
+
+    /**
+     * Whether the initial build has completed. Until then searches return nothing.
+     */
+    public boolean isReady() {
+        return this.ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        this.index.clear();
+        Page<School> page = this.repository.findAll(
+            PageRequest.of(0, SchoolSearchIndex.REBUILD_BATCH_SIZE, Sort.by("id")));
+        page.forEach(this::index);
+        while (page.hasNext()) {
+            page = this.repository.findAll(page.nextPageable());
+            page.forEach(this::index);
+        }
+        this.ready = true;
+        SchoolSearchIndex.log.info("Indexed {} schools for search", this.index.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleSchoolEvent(final SchoolDomainEvent event) {
+        switch (event) {
+            case final SchoolDomainEvent.Deleted e -> this.index.remove(e.schoolId());
+            case final SchoolDomainEvent.Created e -> this.reindex(e.schoolId());
+            case final SchoolDomainEvent.Updated e -> this.reindex(e.schoolId());
+            case final SchoolDomainEvent.NameUpdated e -> this.reindex(e.schoolId());
+            default -> {
+                // Other events do not change indexed fields
+            }
+        }
+    }
+
+    private void reindex(final UUID schoolId) {
+        this.repository.findById(schoolId)
+            .ifPresentOrElse(this::index, () -> this.index.remove(schoolId));
+    }
+
+    private void index(final School school) {
+        this.index.put(school.getId(), List.of(
+            school.getName(),
+            school.getAddress().city(),
+            school.getAddress().state()
+        ));
+    }
+}
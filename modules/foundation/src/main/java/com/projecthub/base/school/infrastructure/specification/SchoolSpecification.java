@@ -5,6 +5,8 @@ import com.projecthub.base.school.domain.entity.School;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
 
 public enum SchoolSpecification {
     ;
@@ -14,6 +16,7 @@ public enum SchoolSpecification {
     private static final String STATE = "state";
     private static final String ARCHIVED = "archived";
     private static final String CREATED_AT = "createdAt";
+    private static final String ID = "id";
 
     public static Specification<School> withCriteria(final SchoolSearchCriteria criteria) {
         return Specification.where(SchoolSpecification.hasName(criteria.getName()))
@@ -24,6 +27,27 @@ public enum SchoolSpecification {
             .and(SchoolSpecification.createdBefore(criteria.getCreatedBefore()));
     }
 
+    /**
+     * Same as {@link #withCriteria(SchoolSearchCriteria)}, but the name criterion is resolved by the
+     * search index beforehand and applied as an id filter instead of a {@code LIKE} scan.
+     *
+     * @param nameMatches ids of the schools matching the name criterion, or {@code null} when no
+     *                    name criterion is given
+     */
+    public static Specification<School> withCriteria(final SchoolSearchCriteria criteria, final Collection<UUID> nameMatches) {
+        return Specification.where(SchoolSpecification.hasIdIn(nameMatches))
+            .and(SchoolSpecification.hasCity(criteria.getCity()))
+            .and(SchoolSpecification.hasState(criteria.getState()))
+            .and(SchoolSpecification.isArchived(criteria.getArchived()))
+            .and(SchoolSpecification.createdAfter(criteria.getCreatedAfter()))
+            .and(SchoolSpecification.createdBefore(criteria.getCreatedBefore()));
+    }
+
+    public static Specification<School> hasIdIn(final Collection<UUID> ids) {
+        return (root, query, cb) -> null == ids ? null :
+            ids.isEmpty() ? cb.disjunction() : root.get(SchoolSpecification.ID).in(ids);
+    }
+
     public static Specification<School> hasName(final String name) {
         return (root, _, cb) -> null == name ? null :
             cb.like(cb.lower(root.get(SchoolSpecification.NAME)), "%" + name.toLowerCase() + "%");
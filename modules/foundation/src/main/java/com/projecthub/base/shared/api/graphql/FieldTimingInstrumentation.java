@@ -0,0 +1,56 @@
+package com.projecthub.base.shared.api.graphql;
+
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.DataFetcher;
+import graphql.schema.GraphQLFieldDefinition;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Records the latency of every non-trivial GraphQL resolver as the {@code graphql.field} timer,
+ * tagged with parent type and field name. Asynchronous resolvers, such as data loader backed
+ * ones, are timed until their result completes. Plain property reads are not timed.
+ */
+public class FieldTimingInstrumentation extends SimplePerformantInstrumentation {
+
+    private final MeterRegistry registry;
+
+    public FieldTimingInstrumentation(final MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public DataFetcher<?> instrumentDataFetcher(
+        final DataFetcher<?> dataFetcher,
+        final InstrumentationFieldFetchParameters parameters,
+        final InstrumentationState state) {
+        if (parameters.isTrivialDataFetcher()) {
+            return dataFetcher;
+        }
+        final GraphQLFieldDefinition field = parameters.getField();
+        final Timer timer = Timer.builder("graphql.field")
+            .tag("parent", parameters.getExecutionStepInfo().getObjectType().getName())
+            .tag("field", field.getName())
+            .register(this.registry);
+
+        return environment -> {
+            final Timer.Sample sample = Timer.start(this.registry);
+            final Object result;
+            try {
+                result = dataFetcher.get(environment);
+            } catch (final Exception e) {
+                sample.stop(timer);
+                throw e;
+            }
+            if (result instanceof final CompletionStage<?> stage) {
+                return stage.whenComplete((value, error) -> sample.stop(timer));
+            }
+            sample.stop(timer);
+            return result;
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package com.projecthub.base.shared.api.graphql;
+
+import com.projecthub.base.shared.repository.keyset.KeysetCursor;
+import com.projecthub.base.shared.repository.keyset.KeysetSlice;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class PageInfo {
+    boolean hasNextPage;
+    boolean hasPreviousPage;
+    String startCursor;
+    String endCursor;
+
+    public PageInfo(final boolean hasNextPage, final boolean hasPreviousPage, final String startCursor, final String endCursor) {
+        this.hasNextPage = hasNextPage;
+        this.hasPreviousPage = hasPreviousPage;
+        this.startCursor = startCursor;
+        this.endCursor = endCursor;
+    }
+
+    public static PageInfo of(final KeysetSlice<?> slice) {
+        final List<KeysetCursor> cursors = slice.cursors();
+        return new PageInfo(
+            slice.hasNext(),
+            slice.hasPrevious(),
+            cursors.isEmpty() ? null : cursors.getFirst().encode(),
+            cursors.isEmpty() ? null : cursors.getLast().encode()
+        );
+    }
+}
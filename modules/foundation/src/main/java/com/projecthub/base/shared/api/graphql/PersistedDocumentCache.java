@@ -0,0 +1,105 @@
+package com.projecthub.base.shared.api.graphql;
+
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.PersistedQueryIdInvalid;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * LRU cache of parsed and validated GraphQL documents keyed by the SHA-256 hash of the query
+ * text, so a repeated query skips parsing and validation.
+ * <p>
+ * Also implements automatic persisted queries: a client may send only
+ * {@code extensions.persistedQuery.sha256Hash}, and resend the full query when it receives
+ * {@code PersistedQueryNotFound}. A hash sent together with a query must match the query.
+ * Documents that failed validation are not cached.
+ * </p>
+ */
+public class PersistedDocumentCache implements PreparsedDocumentProvider {
+
+    private static final String PERSISTED_QUERY = "persistedQuery";
+    private static final String SHA256_HASH = "sha256Hash";
+
+    private final Map<String, PreparsedDocumentEntry> documents;
+    private final Counter hits;
+    private final Counter misses;
+
+    public PersistedDocumentCache(final int maxSize, final MeterRegistry registry) {
+        this.documents = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, PreparsedDocumentEntry> eldest) {
+                return this.size() > maxSize;
+            }
+        };
+        this.hits = registry.counter("graphql.document.cache", "result", "hit");
+        this.misses = registry.counter("graphql.document.cache", "result", "miss");
+        registry.gauge("graphql.document.cache.size", this.documents, Map::size);
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(
+        final ExecutionInput executionInput,
+        final Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+        final String query = executionInput.getQuery();
+        final String requestedHash = PersistedDocumentCache.requestedHash(executionInput);
+        final boolean hasQuery = null != query && !query.isBlank();
+
+        if (!hasQuery && null == requestedHash) {
+            return CompletableFuture.completedFuture(parseAndValidateFunction.apply(executionInput));
+        }
+        final String hash = hasQuery ? PersistedDocumentCache.sha256(query) : requestedHash;
+        if (hasQuery && null != requestedHash && !requestedHash.equalsIgnoreCase(hash)) {
+            return CompletableFuture.completedFuture(new PreparsedDocumentEntry(new PersistedQueryIdInvalid(requestedHash)));
+        }
+
+        final PreparsedDocumentEntry cached;
+        synchronized (this.documents) {
+            cached = this.documents.get(hash);
+        }
+        if (null != cached) {
+            this.hits.increment();
+            return CompletableFuture.completedFuture(cached);
+        }
+        this.misses.increment();
+        if (!hasQuery) {
+            return CompletableFuture.completedFuture(new PreparsedDocumentEntry(new PersistedQueryNotFound(requestedHash)));
+        }
+
+        final PreparsedDocumentEntry entry = parseAndValidateFunction.apply(executionInput);
+        if (!entry.hasErrors()) {
+            synchronized (this.documents) {
+                this.documents.put(hash, entry);
+            }
+        }
+        return CompletableFuture.completedFuture(entry);
+    }
+
+    private static String requestedHash(final ExecutionInput executionInput) {
+        final Map<String, Object> extensions = executionInput.getExtensions();
+        if (null == extensions || !(extensions.get(PersistedDocumentCache.PERSISTED_QUERY) instanceof final Map<?, ?> persisted)) {
+            return null;
+        }
+        return persisted.get(PersistedDocumentCache.SHA256_HASH) instanceof final String hash ? hash : null;
+    }
+
+    private static String sha256(final String query) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(query.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.projecthub.base.shared.api.graphql;
+
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLNonNull;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLOutputType;
+
+import java.util.Map;
+
+/**
+ * Static cost of a GraphQL field, evaluated on the query document before execution.
+ * <p>
+ * Every field costs one. A field returning a list, or a connection, multiplies the cost of its
+ * selection by the page size the client asked for ({@code first}, {@code last} or {@code size}),
+ * or by {@code defaultListSize} when no size is given. Nested lists therefore grow
+ * multiplicatively, which is what makes {@code cohorts -> teams -> ...} queries expensive. The
+ * {@code edges} list of a connection is already paid for by the connection field itself.
+ * </p>
+ */
+public class QueryCostCalculator implements FieldComplexityCalculator {
+
+    private static final String CONNECTION_SUFFIX = "Connection";
+    private static final String[] SIZE_ARGUMENTS = {"first", "last", "size"};
+
+    private final int defaultListSize;
+
+    public QueryCostCalculator(final int defaultListSize) {
+        this.defaultListSize = defaultListSize;
+    }
+
+    @Override
+    public int calculate(final FieldComplexityEnvironment environment, final int childComplexity) {
+        if (!QueryCostCalculator.isMultiValued(environment.getFieldDefinition().getType())
+            || environment.getParentType().getName().endsWith(QueryCostCalculator.CONNECTION_SUFFIX)) {
+            return 1 + childComplexity;
+        }
+        final long cost = 1L + (long) this.pageSize(environment.getArguments()) * childComplexity;
+        return (int) Math.min(cost, Integer.MAX_VALUE);
+    }
+
+    private int pageSize(final Map<String, Object> arguments) {
+        for (final String name : QueryCostCalculator.SIZE_ARGUMENTS) {
+            if (arguments.get(name) instanceof final Integer size && 0 < size) {
+                return size;
+            }
+        }
+        return this.defaultListSize;
+    }
+
+    private static boolean isMultiValued(final GraphQLOutputType type) {
+        final GraphQLOutputType unwrapped = type instanceof final GraphQLNonNull nonNull
+            ? (GraphQLOutputType) nonNull.getWrappedType()
+            : type;
+        return unwrapped instanceof GraphQLList
+            || unwrapped instanceof final GraphQLObjectType object && object.getName().endsWith(QueryCostCalculator.CONNECTION_SUFFIX);
+    }
+}
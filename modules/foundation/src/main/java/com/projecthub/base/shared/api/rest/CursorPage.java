@@ -0,0 +1,36 @@
+package com.projecthub.base.shared.api.rest;
+
+import com.projecthub.base.shared.repository.keyset.KeysetCursor;
+import com.projecthub.base.shared.repository.keyset.KeysetSlice;
+
+import java.util.List;
+
+/**
+ * Keyset-paged REST response. Pass {@code endCursor} as {@code after} for the next page and
+ * {@code startCursor} as {@code before} for the previous one.
+ *
+ * @param content     items on the page
+ * @param startCursor cursor of the first item, {@code null} on an empty page
+ * @param endCursor   cursor of the last item, {@code null} on an empty page
+ * @param hasNext     whether items follow the page
+ * @param hasPrevious whether items precede the page
+ * @param <T>         item type
+ */
+public record CursorPage<T>(
+    List<T> content,
+    String startCursor,
+    String endCursor,
+    boolean hasNext,
+    boolean hasPrevious
+) {
+    public static <T> CursorPage<T> of(final KeysetSlice<T> slice) {
+        final List<KeysetCursor> cursors = slice.cursors();
+        return new CursorPage<>(
+            slice.content(),
+            cursors.isEmpty() ? null : cursors.getFirst().encode(),
+            cursors.isEmpty() ? null : cursors.getLast().encode(),
+            slice.hasNext(),
+            slice.hasPrevious()
+        );
+    }
+}
@@ -0,0 +1,80 @@
+package com.projecthub.base.shared.api.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes exports as newline-delimited JSON, one object per line, or as a single JSON array for
+ * list endpoints whose response shape predates paging.
+ * <p>
+ * The producer pushes items into the response as it reads them, and the output is flushed every
+ * {@code app.rest.stream-flush-every} items. The client receives the first rows while the export
+ * is still running, and the server never holds more than one flush window of output. Producers
+ * read their rows one short transaction per chunk, so a slow client holds no database connection.
+ * The response runs asynchronously and is cut off after {@code spring.mvc.async.request-timeout}.
+ * </p>
+ */
+@Component
+public class NdjsonStreamer {
+    private final ObjectMapper objectMapper;
+    private final int flushEvery;
+
+    public NdjsonStreamer(final ObjectMapper objectMapper,
+                          @Value("${app.rest.stream-flush-every:500}") final int flushEvery) {
+        this.objectMapper = objectMapper;
+        this.flushEvery = flushEvery;
+    }
+
+    /**
+     * @param producer called on the response thread with a sink that writes one item per line
+     */
+    public <T> ResponseEntity<StreamingResponseBody> stream(final Consumer<Consumer<T>> producer) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(this.body(producer, false));
+    }
+
+    /**
+     * @param producer called on the response thread with a sink that appends one item to the array
+     */
+    public <T> ResponseEntity<StreamingResponseBody> streamArray(final Consumer<Consumer<T>> producer) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(this.body(producer, true));
+    }
+
+    private <T> StreamingResponseBody body(final Consumer<Consumer<T>> producer, final boolean array) {
+        return out -> {
+            final ObjectWriter objectWriter = this.objectMapper.writer();
+            try (final SequenceWriter writer = array
+                ? objectWriter.writeValuesAsArray(out)
+                : objectWriter.withRootValueSeparator("\n").writeValues(out)) {
+                final long[] written = {0L};
+                producer.accept(item -> {
+                    try {
+                        writer.write(item);
+                        if (0 == ++written[0] % this.flushEvery) {
+                            writer.flush();
+                        }
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                writer.flush();
+                if (!array && 0 < written[0]) {
+                    out.write('\n');
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,75 @@
+package com.projecthub.base.shared.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.BiPredicate;
+
+/**
+ * Targeted invalidation of the Caffeine-backed result caches. Each removal is counted in the
+ * {@code cache.invalidations} metric, next to the hit, miss and eviction metrics Spring Boot
+ * exports for every cache.
+ */
+@Slf4j
+@Component
+public class ResultCaches {
+    private final CacheManager cacheManager;
+    private final MeterRegistry registry;
+
+    public ResultCaches(final CacheManager cacheManager, final MeterRegistry registry) {
+        this.cacheManager = cacheManager;
+        this.registry = registry;
+    }
+
+    /**
+     * Removes every entry of the cache.
+     */
+    public void clear(final String cacheName) {
+        this.evictIf(cacheName, (key, value) -> true);
+    }
+
+    /**
+     * Removes every entry of the cache once the current transaction has committed, or right away
+     * outside a transaction, so a concurrent reader cannot cache the old state again before the
+     * change is visible.
+     */
+    public void clearAfterCommit(final String cacheName) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.clear(cacheName);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ResultCaches.this.clear(cacheName);
+            }
+        });
+    }
+
+    /**
+     * Removes the entries of the cache matching the predicate.
+     */
+    @SuppressWarnings("unchecked")
+    public void evictIf(final String cacheName, final BiPredicate<Object, Object> predicate) {
+        final org.springframework.cache.Cache cache = this.cacheManager.getCache(cacheName);
+        if (null == cache || !(cache.getNativeCache() instanceof final Cache<?, ?> nativeCache)) {
+            return;
+        }
+        int removed = 0;
+        for (final var entry : ((Cache<Object, Object>) nativeCache).asMap().entrySet()) {
+            if (predicate.test(entry.getKey(), entry.getValue())
+                && nativeCache.asMap().remove(entry.getKey(), entry.getValue())) {
+                removed++;
+            }
+        }
+        if (0 < removed) {
+            this.registry.counter("cache.invalidations", "cache", cacheName).increment(removed);
+            ResultCaches.log.debug("Invalidated {} entries of cache {}", removed, cacheName);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.projecthub.base.shared.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Result caches for read-heavy queries. The caches are Caffeine caches declared under
+ * {@code spring.cache}, bounded and expiring after write, with statistics exported as
+ * {@code cache.*} metrics. Entries are invalidated from domain events by the owning modules.
+ * <p>
+ * Reference aggregates (schools, cohorts) are additionally held in the Hibernate second-level
+ * cache, configured under {@code spring.jpa.properties.hibernate.cache}.
+ * </p>
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String ACTIVE_SCHOOLS = "activeSchools";
+    public static final String COHORTS_BY_SCHOOL = "cohortsBySchool";
+    public static final String ROLES = "roles";
+    public static final String TEAM_ROSTERS = "teamRosters";
+}
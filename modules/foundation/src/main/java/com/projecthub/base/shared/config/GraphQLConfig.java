@@ -0,0 +1,49 @@
+package com.projecthub.base.shared.config;
+
+import com.projecthub.base.shared.api.graphql.FieldTimingInstrumentation;
+import com.projecthub.base.shared.api.graphql.PersistedDocumentCache;
+import com.projecthub.base.shared.api.graphql.QueryCostCalculator;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.execution.instrumentation.Instrumentation;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * GraphQL execution safeguards. DGS applies the {@link PreparsedDocumentProvider} bean and chains
+ * every {@link Instrumentation} bean automatically.
+ * <p>
+ * Queries whose static cost or depth exceeds the configured budget are rejected after validation
+ * and before any resolver runs.
+ * </p>
+ */
+@Configuration
+public class GraphQLConfig {
+
+    @Bean
+    public PreparsedDocumentProvider persistedDocumentCache(
+        @Value("${app.graphql.document-cache-size:1000}") final int cacheSize,
+        final MeterRegistry registry) {
+        return new PersistedDocumentCache(cacheSize, registry);
+    }
+
+    @Bean
+    public Instrumentation queryCostInstrumentation(
+        @Value("${app.graphql.max-query-cost:5000}") final int maxQueryCost,
+        @Value("${app.graphql.default-list-size:10}") final int defaultListSize) {
+        return new MaxQueryComplexityInstrumentation(maxQueryCost, new QueryCostCalculator(defaultListSize));
+    }
+
+    @Bean
+    public Instrumentation queryDepthInstrumentation(@Value("${app.graphql.max-query-depth:10}") final int maxQueryDepth) {
+        return new MaxQueryDepthInstrumentation(maxQueryDepth);
+    }
+
+    @Bean
+    public Instrumentation fieldTimingInstrumentation(final MeterRegistry registry) {
+        return new FieldTimingInstrumentation(registry);
+    }
+}
@@ -3,22 +3,29 @@ package com.projecthub.base.shared.config;
 import com.projecthub.base.sync.application.service.LocalDataService;
 import com.projecthub.base.sync.application.service.NetworkStatusChecker;
 import com.projecthub.base.sync.application.service.RemoteDataService;
+import com.projecthub.base.sync.application.service.SyncFingerprintStore;
 import com.projecthub.base.sync.application.service.SyncStatusTracker;
+import com.projecthub.base.sync.application.service.SyncWatermarkStore;
 import com.projecthub.base.sync.application.service.impl.H2LocalDataService;
+import com.projecthub.base.sync.application.service.impl.H2SyncFingerprintStore;
+import com.projecthub.base.sync.application.service.impl.H2SyncWatermarkStore;
 import com.projecthub.base.sync.application.service.impl.PostgresRemoteDataService;
 import com.projecthub.base.sync.application.service.impl.SyncStatusTrackerImpl;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.retry.annotation.EnableRetry;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 import javax.sql.DataSource;
+import java.util.concurrent.Executor;
 
 @Configuration
 @EnableScheduling
@@ -35,6 +42,8 @@ public class SyncConfig {
     private String remotePassword;
     @Value("${sync.local.path}")
     private String localDbPath;
+    @Value("${sync.parallelism:4}")
+    private int syncParallelism;
 
     public SyncConfig() {
         // Default constructor for Spring configuration
@@ -63,9 +72,21 @@ public class SyncConfig {
         return new HikariDataSource(config);
     }
 
+    @Bean(name = "syncExecutor")
+    public Executor syncExecutor() {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(this.syncParallelism);
+        executor.setMaxPoolSize(this.syncParallelism);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("entity-sync-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
     @Bean
-    public NetworkStatusChecker networkStatusChecker() {
-        return new NetworkStatusChecker();
+    public NetworkStatusChecker networkStatusChecker(final ApplicationEventPublisher eventPublisher) {
+        return new NetworkStatusChecker(eventPublisher);
     }
 
     @Bean
@@ -78,6 +99,16 @@ public class SyncConfig {
         return new H2LocalDataService(localDataSource);
     }
 
+    @Bean
+    public SyncWatermarkStore syncWatermarkStore(@Qualifier("localDataSource") final DataSource localDataSource) {
+        return new H2SyncWatermarkStore(localDataSource);
+    }
+
+    @Bean
+    public SyncFingerprintStore syncFingerprintStore(@Qualifier("localDataSource") final DataSource localDataSource) {
+        return new H2SyncFingerprintStore(localDataSource);
+    }
+
     @Bean
     public RemoteDataService remoteDataService(@Qualifier("remoteDataSource") final DataSource remoteDataSource) {
         return new PostgresRemoteDataService(remoteDataSource);
@@ -1,6 +1,7 @@
 package com.projecthub.base.shared.domain.entity;
 
 import jakarta.persistence.*;
+import com.projecthub.base.shared.middleware.listener.SyncTombstoneEntityListener;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -18,7 +19,7 @@ import java.util.UUID;
 @SuperBuilder(toBuilder = true)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @MappedSuperclass
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, SyncTombstoneEntityListener.class})
 public abstract class BaseEntity implements Auditable {
 
     @SuperBuilder.Default
@@ -0,0 +1,15 @@
+package com.projecthub.base.shared.domain.enums.security;
+
+/**
+ * How security audit records are persisted relative to the action being audited.
+ */
+public enum SecurityAuditDurability {
+    /**
+     * Records are queued and written in background batches; callers never wait for audit I/O.
+     */
+    ASYNC,
+    /**
+     * Records are written in the caller's thread and transaction before the call returns.
+     */
+    SYNC
+}
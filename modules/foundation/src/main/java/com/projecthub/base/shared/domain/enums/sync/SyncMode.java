@@ -0,0 +1,20 @@
+package com.projecthub.base.shared.domain.enums.sync;
+
+
+/**
+ * Strategy used by entity synchronizers to reconcile the local and remote stores.
+ */
+public enum SyncMode {
+    /**
+     * Load both tables into memory and rewrite every merged row
+     */
+    FULL,
+    /**
+     * Read both tables as id-ordered cursors and write back the winners in fixed-size chunks
+     */
+    STREAMING,
+    /**
+     * Read only the rows changed since the last stored watermarks
+     */
+    DELTA
+}
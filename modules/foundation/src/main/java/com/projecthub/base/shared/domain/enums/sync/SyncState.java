@@ -24,5 +24,9 @@ public enum SyncState {
     /**
      * Synchronization completed successfully
      */
-    SUCCESS
+    SUCCESS,
+    /**
+     * Synchronization was not attempted because a dependency failed
+     */
+    SKIPPED
 }
@@ -0,0 +1,60 @@
+package com.projecthub.base.shared.middleware.listener;
+
+import com.projecthub.base.shared.domain.entity.BaseEntity;
+import com.projecthub.base.sync.application.service.impl.SyncTrackingSchema;
+import jakarta.persistence.PostRemove;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Records a tombstone for every deleted entity so delta synchronization can propagate the
+ * deletion. The tombstone table is created at startup, outside any transaction; the upsert then
+ * runs on the JPA data source and joins the deleting transaction.
+ * <p>
+ * Hibernate obtains its own instance of this listener through the bean container, on which
+ * {@link #afterSingletonsInstantiated()} never runs, so the upsert statement is resolved on first
+ * use rather than at startup.
+ * </p>
+ */
+@Component
+public class SyncTombstoneEntityListener implements SmartInitializingSingleton {
+
+    private final ObjectProvider<JdbcTemplate> jdbcTemplateProvider;
+    private volatile String upsertSql;
+
+    public SyncTombstoneEntityListener(final ObjectProvider<JdbcTemplate> jdbcTemplateProvider) {
+        this.jdbcTemplateProvider = jdbcTemplateProvider;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        final JdbcTemplate jdbcTemplate = this.jdbcTemplateProvider.getIfAvailable();
+        if (null == jdbcTemplate) {
+            return;
+        }
+        SyncTrackingSchema.ensureTombstoneTable(jdbcTemplate);
+    }
+
+    @PostRemove
+    public void afterRemove(final BaseEntity entity) {
+        final JdbcTemplate jdbcTemplate = this.jdbcTemplateProvider.getIfAvailable();
+        if (null == jdbcTemplate || null == entity.getId()) {
+            return;
+        }
+        jdbcTemplate.update(this.upsertSql(jdbcTemplate),
+            SyncTrackingSchema.tableName(entity.getClass()), entity.getId(), LocalDateTime.now());
+    }
+
+    private String upsertSql(final JdbcTemplate jdbcTemplate) {
+        String sql = this.upsertSql;
+        if (null == sql) {
+            sql = SyncTrackingSchema.upsertTombstoneSql(jdbcTemplate);
+            this.upsertSql = sql;
+        }
+        return sql;
+    }
+}
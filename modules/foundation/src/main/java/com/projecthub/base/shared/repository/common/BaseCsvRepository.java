@@ -12,6 +12,8 @@ import java.util.UUID;
 public interface BaseCsvRepository<T> {
     T save(T entity);
 
+    List<T> saveAll(List<T> entities);
+
     List<T> findAll();
 
     Optional<T> findById(UUID id);
@@ -0,0 +1,38 @@
+package com.projecthub.base.shared.repository.keyset;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of a row in a keyset-ordered result: the row's sort key and its id as tie-breaker.
+ * <p>
+ * Cursors are opaque to clients; {@link #encode()} produces a URL-safe Base64 string and
+ * {@link #decode(String)} rejects anything it did not produce with an
+ * {@link IllegalArgumentException}.
+ * </p>
+ *
+ * @param sortKey value of the sort column of the boundary row
+ * @param id      id of the boundary row
+ */
+public record KeysetCursor(String sortKey, UUID id) {
+    private static final char SEPARATOR = '\u0000';
+
+    public String encode() {
+        final String raw = this.id.toString() + KeysetCursor.SEPARATOR + this.sortKey;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(final String cursor) {
+        try {
+            final String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final int separator = raw.indexOf(KeysetCursor.SEPARATOR);
+            if (0 > separator) {
+                throw new IllegalArgumentException("Malformed cursor: " + cursor);
+            }
+            return new KeysetCursor(raw.substring(separator + 1), UUID.fromString(raw.substring(0, separator)));
+        } catch (final IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor: " + cursor, e);
+        }
+    }
+}
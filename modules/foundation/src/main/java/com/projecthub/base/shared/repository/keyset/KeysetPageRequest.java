@@ -0,0 +1,57 @@
+package com.projecthub.base.shared.repository.keyset;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Relay-style page request resolved to a keyset seek.
+ * <p>
+ * {@code first}/{@code after} page forward from the cursor, {@code last}/{@code before} page
+ * backward from it. Without a cursor, forward paging starts at the first row and backward paging
+ * at the last one. A limit of zero reads no rows but still reports whether any follow.
+ * </p>
+ *
+ * @param limit   maximum number of rows on the page
+ * @param cursor  boundary row to seek from, or {@code null} to start at either end
+ * @param forward {@code true} to read rows after the cursor, {@code false} for rows before it
+ */
+public record KeysetPageRequest(int limit, KeysetCursor cursor, boolean forward) {
+    public static final int DEFAULT_SIZE = 10;
+    public static final int MAX_SIZE = 100;
+
+    public KeysetPageRequest {
+        if (0 > limit) {
+            throw new IllegalArgumentException("Page size must not be negative");
+        }
+    }
+
+    public static KeysetPageRequest of(final Integer first, final String after, final Integer last, final String before) {
+        final boolean forward = null == last && null == before;
+        final Integer requested = forward ? first : last;
+        final int limit = Math.min(null != requested ? requested : KeysetPageRequest.DEFAULT_SIZE, KeysetPageRequest.MAX_SIZE);
+        final String cursor = forward ? after : before;
+        return new KeysetPageRequest(limit, null != cursor ? KeysetCursor.decode(cursor) : null, forward);
+    }
+
+    public static KeysetPageRequest first(final int limit) {
+        return new KeysetPageRequest(Math.min(limit, KeysetPageRequest.MAX_SIZE), null, true);
+    }
+
+    /**
+     * Whether a connection query should be served from the deprecated {@code page}/{@code size}
+     * arguments, which is the case when they are given without any cursor argument.
+     */
+    public static boolean isOffsetRequest(final Integer first, final String after, final Integer last, final String before,
+                                          final Integer page, final Integer size) {
+        return (null != page || null != size) && null == first && null == after && null == last && null == before;
+    }
+
+    /**
+     * Offset page for the deprecated {@code page}/{@code size} arguments, in the same
+     * {@code (sortAttribute, id)} order as keyset pages so the returned cursors stay valid.
+     */
+    public static PageRequest offsetPage(final Integer page, final Integer size, final String sortAttribute) {
+        return PageRequest.of(null != page ? page : 0, null != size ? size : KeysetPageRequest.DEFAULT_SIZE,
+            Sort.by(sortAttribute, "id"));
+    }
+}
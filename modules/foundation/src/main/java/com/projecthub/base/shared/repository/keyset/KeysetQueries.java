@@ -0,0 +1,142 @@
+package com.projecthub.base.shared.repository.keyset;
+
+import com.projecthub.base.shared.domain.entity.BaseEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Seek-method pagination over {@link JpaSpecificationExecutor} repositories.
+ * <p>
+ * Rows are ordered by {@code (sortAttribute, id)} and a page is read as
+ * {@code WHERE (sort, id) > (:sort, :id) ORDER BY sort, id LIMIT n + 1}, so a deep page costs
+ * the same index range scan as the first one and no {@code OFFSET} or {@code COUNT} is issued.
+ * The extra row only tells whether another page follows. Backward pages are read in descending
+ * order and reversed.
+ * </p>
+ * <p>
+ * Repositories that are not specification executors are served through the
+ * {@link EntityManager} overloads. {@link #forEachChunk} reads a whole result in the same order,
+ * one page per transaction.
+ * </p>
+ */
+public enum KeysetQueries {
+    ;
+    private static final String ID = "id";
+
+    public static <T extends BaseEntity> KeysetSlice<T> fetch(
+        final JpaSpecificationExecutor<T> repository,
+        final Specification<T> filter,
+        final String sortAttribute,
+        final Function<T, String> sortKey,
+        final KeysetPageRequest request) {
+        final Sort.Direction direction = request.forward() ? Sort.Direction.ASC : Sort.Direction.DESC;
+        final Sort sort = Sort.by(direction, sortAttribute).and(Sort.by(direction, KeysetQueries.ID));
+        final Specification<T> spec = Specification.where(filter)
+            .and(KeysetQueries.seek(sortAttribute, request.cursor(), request.forward()));
+
+        final List<T> rows = new ArrayList<>(repository.findBy(spec, query -> query
+            .sortBy(sort)
+            .limit(request.limit() + 1)
+            .all()));
+        return KeysetQueries.toSlice(rows, sortKey, request);
+    }
+
+    public static <T extends BaseEntity> KeysetSlice<T> fetch(
+        final EntityManager entityManager,
+        final Class<T> type,
+        final Specification<T> filter,
+        final String sortAttribute,
+        final Function<T, String> sortKey,
+        final KeysetPageRequest request) {
+        final Specification<T> spec = Specification.where(filter)
+            .and(KeysetQueries.seek(sortAttribute, request.cursor(), request.forward()));
+        final List<T> rows = new ArrayList<>(entityManager
+            .createQuery(KeysetQueries.query(entityManager, type, spec, sortAttribute, request.forward()))
+            .setMaxResults(request.limit() + 1)
+            .getResultList());
+        return KeysetQueries.toSlice(rows, sortKey, request);
+    }
+
+    /**
+     * Reads a whole result in keyset order, {@code chunkSize} rows at a time, and hands each row to
+     * {@code sink}. {@code reader} reads one page and is expected to run in its own short
+     * transaction, so that no transaction or connection is held while {@code sink} writes the rows
+     * out, however slowly the client reads them, and memory never holds more than one chunk.
+     */
+    public static <R> void forEachChunk(final Function<KeysetPageRequest, KeysetSlice<R>> reader, final int chunkSize,
+                                        final Consumer<? super R> sink) {
+        KeysetPageRequest request = new KeysetPageRequest(Math.max(1, chunkSize), null, true);
+        KeysetSlice<R> chunk;
+        do {
+            chunk = reader.apply(request);
+            chunk.content().forEach(sink);
+            if (!chunk.cursors().isEmpty()) {
+                request = new KeysetPageRequest(request.limit(), chunk.cursors().getLast(), true);
+            }
+        } while (chunk.hasNext() && !chunk.cursors().isEmpty());
+    }
+
+    private static <T> CriteriaQuery<T> query(final EntityManager entityManager, final Class<T> type,
+                                              final Specification<T> spec, final String sortAttribute,
+                                              final boolean forward) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<T> query = cb.createQuery(type);
+        final Root<T> root = query.from(type);
+        final Predicate predicate = spec.toPredicate(root, query, cb);
+        if (null != predicate) {
+            query.where(predicate);
+        }
+        final Order bySort = forward ? cb.asc(root.get(sortAttribute)) : cb.desc(root.get(sortAttribute));
+        final Order byId = forward ? cb.asc(root.get(KeysetQueries.ID)) : cb.desc(root.get(KeysetQueries.ID));
+        return query.select(root).orderBy(bySort, byId);
+    }
+
+    private static <T extends BaseEntity> KeysetSlice<T> toSlice(final List<T> rows, final Function<T, String> sortKey,
+                                                                  final KeysetPageRequest request) {
+        final boolean more = rows.size() > request.limit();
+        if (more) {
+            rows.removeLast();
+        }
+        if (!request.forward()) {
+            Collections.reverse(rows);
+        }
+
+        final List<KeysetCursor> cursors = rows.stream()
+            .map(row -> new KeysetCursor(sortKey.apply(row), row.getId()))
+            .toList();
+        final boolean fromCursor = null != request.cursor();
+        return request.forward()
+            ? new KeysetSlice<>(rows, cursors, more, fromCursor)
+            : new KeysetSlice<>(rows, cursors, fromCursor, more);
+    }
+
+    private static <T> Specification<T> seek(final String sortAttribute, final KeysetCursor cursor, final boolean forward) {
+        return (root, query, cb) -> {
+            if (null == cursor) {
+                return null;
+            }
+            final Path<String> sort = root.get(sortAttribute);
+            final Path<UUID> id = root.get(KeysetQueries.ID);
+            return forward
+                ? cb.or(cb.greaterThan(sort, cursor.sortKey()),
+                    cb.and(cb.equal(sort, cursor.sortKey()), cb.greaterThan(id, cursor.id())))
+                : cb.or(cb.lessThan(sort, cursor.sortKey()),
+                    cb.and(cb.equal(sort, cursor.sortKey()), cb.lessThan(id, cursor.id())));
+        };
+    }
+}
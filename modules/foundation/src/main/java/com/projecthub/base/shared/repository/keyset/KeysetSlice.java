@@ -0,0 +1,30 @@
+package com.projecthub.base.shared.repository.keyset;
+
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated result, always in ascending sort order.
+ *
+ * @param content     rows on the page
+ * @param cursors     cursor of each row, index-aligned with {@code content}
+ * @param hasNext     whether rows exist after the last row of the page
+ * @param hasPrevious whether rows exist before the first row of the page
+ * @param <T>         row type
+ */
+public record KeysetSlice<T>(List<T> content, List<KeysetCursor> cursors, boolean hasNext, boolean hasPrevious) {
+
+    /**
+     * Wraps an offset page read in keyset order, deriving each row's cursor with {@code cursor}.
+     */
+    public static <T> KeysetSlice<T> of(final Page<T> page, final Function<? super T, KeysetCursor> cursor) {
+        return new KeysetSlice<>(page.getContent(), page.getContent().stream().<KeysetCursor>map(cursor).toList(),
+            page.hasNext(), page.hasPrevious());
+    }
+
+    public <R> KeysetSlice<R> map(final Function<? super T, ? extends R> mapper) {
+        return new KeysetSlice<>(this.content.stream().<R>map(mapper).toList(), this.cursors, this.hasNext, this.hasPrevious);
+    }
+}
@@ -0,0 +1,241 @@
+package com.projecthub.base.shared.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Embedded in-memory inverted index over short text fields such as names and places.
+ * <p>
+ * Text is normalized (lower case, accents stripped) and split into tokens. Each token is kept in
+ * a sorted term dictionary, for exact and prefix lookups, and in a trigram dictionary, for fuzzy
+ * lookups. A query matches a document when every query token matches one of the document's
+ * terms, either exactly, as a prefix, or within a small edit distance. Results are ranked by the
+ * summed match quality. Lookups never scan documents, so their cost does not grow with the
+ * number of indexed rows.
+ * </p>
+ *
+ * @param <K> document key type
+ */
+public class InvertedIndex<K extends Comparable<K>> {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final double EXACT_SCORE = 1.0;
+    private static final double PREFIX_SCORE = 0.75;
+    private static final double FUZZY_SCORE = 0.5;
+
+    private final NavigableMap<String, Set<K>> postings = new TreeMap<>();
+    private final Map<String, Set<String>> trigrams = new HashMap<>();
+    private final Map<K, Set<String>> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Indexes the document, replacing whatever was indexed for it before.
+     */
+    public void put(final K key, final Collection<String> fields) {
+        final Set<String> terms = new HashSet<>();
+        for (final String field : fields) {
+            terms.addAll(InvertedIndex.tokenize(field));
+        }
+        this.lock.writeLock().lock();
+        try {
+            this.removeLocked(key);
+            this.documents.put(key, terms);
+            for (final String term : terms) {
+                final Set<K> keys = this.postings.computeIfAbsent(term, t -> new HashSet<>());
+                if (keys.isEmpty()) {
+                    for (final String trigram : InvertedIndex.trigramsOf(term)) {
+                        this.trigrams.computeIfAbsent(trigram, t -> new HashSet<>()).add(term);
+                    }
+                }
+                keys.add(key);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(final K key) {
+        this.lock.writeLock().lock();
+        try {
+            this.removeLocked(key);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        this.lock.writeLock().lock();
+        try {
+            this.postings.clear();
+            this.trigrams.clear();
+            this.documents.clear();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.documents.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the keys of the documents matching every token of the query, best match first and
+     * ties broken by key, capped at {@code limit}.
+     */
+    public List<K> search(final String query, final int limit) {
+        final List<String> tokens = InvertedIndex.tokenize(query);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        Map<K, Double> scores = null;
+        this.lock.readLock().lock();
+        try {
+            for (final String token : tokens) {
+                final Map<K, Double> tokenScores = this.match(token);
+                if (null == scores) {
+                    scores = tokenScores;
+                } else {
+                    scores.keySet().retainAll(tokenScores.keySet());
+                    scores.replaceAll((key, score) -> score + tokenScores.get(key));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+        } finally {
+            this.lock.readLock().unlock();
+        }
+        return scores.entrySet().stream()
+            .sorted(Map.Entry.<K, Double>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()))
+            .limit(limit)
+            .map(Map.Entry::getKey)
+            .toList();
+    }
+
+    private Map<K, Double> match(final String token) {
+        final Map<K, Double> scores = new HashMap<>();
+        final NavigableMap<String, Set<K>> prefixed = this.postings.subMap(token, true, token + Character.MAX_VALUE, false);
+        for (final Map.Entry<String, Set<K>> entry : prefixed.entrySet()) {
+            final double score = entry.getKey().length() == token.length()
+                ? InvertedIndex.EXACT_SCORE
+                : InvertedIndex.PREFIX_SCORE * token.length() / entry.getKey().length();
+            InvertedIndex.merge(scores, entry.getValue(), score);
+        }
+
+        final int maxEdits = 4 > token.length() ? 0 : 7 > token.length() ? 1 : 2;
+        if (0 < maxEdits) {
+            final Set<String> candidates = new HashSet<>();
+            for (final String trigram : InvertedIndex.trigramsOf(token)) {
+                candidates.addAll(this.trigrams.getOrDefault(trigram, Set.of()));
+            }
+            for (final String candidate : candidates) {
+                if (!candidate.startsWith(token)
+                    && maxEdits >= Math.abs(candidate.length() - token.length())
+                    && maxEdits >= InvertedIndex.editDistance(token, candidate, maxEdits)) {
+                    InvertedIndex.merge(scores, this.postings.get(candidate), InvertedIndex.FUZZY_SCORE);
+                }
+            }
+        }
+        return scores;
+    }
+
+    private static <K> void merge(final Map<K, Double> scores, final Set<K> keys, final double score) {
+        for (final K key : keys) {
+            scores.merge(key, score, Math::max);
+        }
+    }
+
+    private void removeLocked(final K key) {
+        final Set<String> terms = this.documents.remove(key);
+        if (null == terms) {
+            return;
+        }
+        for (final String term : terms) {
+            final Set<K> keys = this.postings.get(term);
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                this.postings.remove(term);
+                for (final String trigram : InvertedIndex.trigramsOf(term)) {
+                    final Set<String> indexed = this.trigrams.get(trigram);
+                    indexed.remove(term);
+                    if (indexed.isEmpty()) {
+                        this.trigrams.remove(trigram);
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<String> tokenize(final String text) {
+        if (null == text || text.isBlank()) {
+            return List.of();
+        }
+        final String normalized = InvertedIndex.DIACRITICS
+            .matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+            .replaceAll("")
+            .toLowerCase(Locale.ROOT);
+        final List<String> tokens = new ArrayList<>();
+        for (final String token : InvertedIndex.TOKEN_SEPARATOR.split(normalized)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static Set<String> trigramsOf(final String term) {
+        final String padded = "  " + term + " ";
+        final Set<String> result = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            result.add(padded.substring(i, i + 3));
+        }
+        return result;
+    }
+
+    /**
+     * Levenshtein distance, giving up with {@code max + 1} once the distance exceeds {@code max}.
+     */
+    private static int editDistance(final String a, final String b, final int max) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                final int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            final int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+}
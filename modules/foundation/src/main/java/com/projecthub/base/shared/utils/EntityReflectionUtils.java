@@ -1,6 +1,7 @@
 package com.projecthub.base.shared.utils;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Id;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -8,6 +9,7 @@ import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 public enum EntityReflectionUtils {
     ;
@@ -27,6 +29,21 @@ public enum EntityReflectionUtils {
             .toList();
     }
 
+    public static Optional<Field> getIdField(final Class<?> entityClass) {
+        Class<?> currentClass = entityClass;
+
+        while (null != currentClass && Object.class != currentClass) {
+            for (final Field field : currentClass.getDeclaredFields()) {
+                if (field.isAnnotationPresent(Id.class)) {
+                    return Optional.of(field);
+                }
+            }
+            currentClass = currentClass.getSuperclass();
+        }
+
+        return Optional.empty();
+    }
+
     public static Object getFieldValue(final Object entity, final Field field) {
         try {
             return field.get(entity);
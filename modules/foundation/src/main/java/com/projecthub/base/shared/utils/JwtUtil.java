@@ -1,7 +1,11 @@
 package com.projecthub.base.shared.utils;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,10 +18,18 @@ import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
  * Utility class for handling JSON Web Tokens (JWT).
+ * <p>
+ * Signing keys and the parser are built once at startup; both are immutable and thread-safe.
+ * Tokens are signed with the current key and carry its id in the {@code kid} header. Keys listed
+ * in {@code jwt.retired-keys} ({@code kid=secret,...}) are still accepted for verification, which
+ * allows the secret to be rotated without invalidating tokens that are already issued. Tokens
+ * without a {@code kid} are verified with the current key.
+ * </p>
  */
 @Component
 public class JwtUtil {
@@ -25,25 +37,79 @@ public class JwtUtil {
     private static final Logger logger = LoggerFactory.getLogger(JwtUtil.class);
 
     /**
-     * Secret key for signing JWTs.
+     * Id of the key used for signing new tokens.
      */
-    @Value("${jwt.secret}")
-    private String secret;
+    private final String keyId;
+
+    /**
+     * Key used for signing new tokens.
+     */
+    private final SecretKey signingKey;
+
+    /**
+     * Keys accepted for verification, by key id.
+     */
+    private final Map<String, SecretKey> verificationKeys;
+
+    /**
+     * Shared parser resolving the verification key from the token header.
+     */
+    private final JwtParser parser;
 
     /**
      * JWT expiration time in seconds.
      */
-    @Value("${jwt.expiration}")
-    private long expiration;
+    private final long expiration;
 
     /**
-     * Generates a signing key using the secret.
-     *
-     * @return the signing key.
+     * Refresh token expiration time in seconds.
      */
-    private Key getSigningKey() {
-        final byte[] keyBytes = this.secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private final long refreshExpiration;
+
+    public JwtUtil(
+        @Value("${jwt.secret}") final String secret,
+        @Value("${jwt.expiration}") final long expiration,
+        @Value("${jwt.refresh-expiration:604800}") final long refreshExpiration,
+        @Value("${jwt.key-id:primary}") final String keyId,
+        @Value("${jwt.retired-keys:}") final String retiredKeys) {
+        this.keyId = keyId;
+        this.signingKey = JwtUtil.hmacKey(secret);
+        this.expiration = expiration;
+        this.refreshExpiration = refreshExpiration;
+
+        final Map<String, SecretKey> keys = new HashMap<>();
+        for (final String entry : retiredKeys.split(",")) {
+            final int separator = entry.indexOf('=');
+            if (0 < separator) {
+                keys.put(entry.substring(0, separator).trim(), JwtUtil.hmacKey(entry.substring(separator + 1).trim()));
+            }
+        }
+        keys.put(keyId, this.signingKey);
+        this.verificationKeys = Map.copyOf(keys);
+
+        this.parser = Jwts.parser()
+            .keyLocator(new LocatorAdapter<Key>() {
+                @Override
+                protected Key locate(final JwsHeader header) {
+                    return JwtUtil.this.resolveKey(header.getKeyId());
+                }
+            })
+            .build();
+    }
+
+    private static SecretKey hmacKey(final String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Key resolveKey(final String kid) {
+        if (null == kid) {
+            return this.signingKey;
+        }
+        final SecretKey key = this.verificationKeys.get(kid);
+        if (null == key) {
+            throw new UnsupportedJwtException("Unknown signing key id: " + kid);
+        }
+        return key;
     }
 
     /**
@@ -53,25 +119,47 @@ public class JwtUtil {
      * @return the generated JWT token.
      */
     public String generateToken(final String username) {
-        final Map<String, Object> claims = new HashMap<>();
-        return this.doGenerateToken(claims, username);
+        return this.doGenerateToken(Map.of(), username, this.expiration);
+    }
+
+    /**
+     * Generates a JWT token for a given username with additional claims.
+     *
+     * @param username the username for which to generate the token.
+     * @param claims   the claims to include in the token.
+     * @return the generated JWT token.
+     */
+    public String generateToken(final String username, final Map<String, Object> claims) {
+        return this.doGenerateToken(claims, username, this.expiration);
+    }
+
+    /**
+     * Generates a long-lived refresh token for a given username.
+     *
+     * @param username the username for which to generate the token.
+     * @return the generated JWT token.
+     */
+    public String generateRefreshToken(final String username) {
+        return this.doGenerateToken(Map.of(), username, this.refreshExpiration);
     }
 
     /**
      * Generates a JWT token with claims and subject.
      *
-     * @param claims  the claims to include in the token.
-     * @param subject the subject (username) of the token.
+     * @param claims   the claims to include in the token.
+     * @param subject  the subject (username) of the token.
+     * @param validity the token lifetime in seconds.
      * @return the generated JWT token.
      */
-    private String doGenerateToken(final Map<String, Object> claims, final String subject) {
-        final Key key = this.getSigningKey();
+    private String doGenerateToken(final Map<String, Object> claims, final String subject, final long validity) {
+        final long now = System.currentTimeMillis();
         return Jwts.builder()
+            .header().keyId(this.keyId).and()
             .subject(subject)
-            .issuedAt(new Date())
-            .expiration(new Date(System.currentTimeMillis() + this.expiration * 1000))
+            .issuedAt(new Date(now))
+            .expiration(new Date(now + validity * 1000))
             .claims().add(claims).and()
-            .signWith(key)
+            .signWith(this.signingKey)
             .compact();
     }
 
@@ -115,59 +203,60 @@ public class JwtUtil {
      * @return the claims extracted from the token.
      */
     private Claims getAllClaimsFromToken(final String token) {
-        final Key key = this.getSigningKey();
-        return Jwts.parser()
-            .verifyWith((SecretKey) key)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
+        return this.parser.parseSignedClaims(token).getPayload();
     }
 
     /**
-     * Enhanced token validation with multiple checks.
+     * Parses and validates a token once, returning its claims when the signature and the
+     * expiration and issue times are valid.
+     *
+     * @param token the JWT token.
+     * @return the claims of the token, or empty if the token is not valid.
      */
-    public boolean validateToken(final String token) {
+    public Optional<Claims> verifyToken(final String token) {
+        if (null == token || token.isEmpty()) {
+            return Optional.empty();
+        }
         try {
-            if (null == token || token.isEmpty()) {
-                return false;
-            }
-
-            final SecretKey key = (SecretKey) this.getSigningKey();
-            final Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-            // Check if token is expired
-            if (claims.getExpiration().before(new Date())) {
-                JwtUtil.logger.debug("Token is expired");
-                return false;
-            }
-
-            // Check if token was issued in the future
-            if (claims.getIssuedAt().after(new Date())) {
-                JwtUtil.logger.debug("Token was issued in the future");
-                return false;
-            }
-
-            return true;
+            final Claims claims = this.getAllClaimsFromToken(token);
+            return this.isCurrent(claims) ? Optional.of(claims) : Optional.empty();
         } catch (final Exception e) {
             JwtUtil.logger.error("Token validation failed", e);
-            return false;
+            return Optional.empty();
         }
     }
 
+    /**
+     * Enhanced token validation with multiple checks.
+     */
+    public boolean validateToken(final String token) {
+        return this.verifyToken(token).isPresent();
+    }
+
     /**
      * Validate token for a specific username.
      */
     public boolean validateToken(final String token, final String username) {
-        try {
-            final String tokenUsername = this.getUsernameFromToken(token);
-            return (tokenUsername.equals(username) && this.validateToken(token));
-        } catch (final Exception e) {
-            JwtUtil.logger.error("Token validation failed for user: {}", username, e);
+        return this.verifyToken(token)
+            .map(claims -> claims.getSubject().equals(username))
+            .orElse(false);
+    }
+
+    private boolean isCurrent(final Claims claims) {
+        final Date now = new Date();
+
+        // Check if token is expired
+        if (claims.getExpiration().before(now)) {
+            JwtUtil.logger.debug("Token is expired");
             return false;
         }
+
+        // Check if token was issued in the future
+        if (claims.getIssuedAt().after(now)) {
+            JwtUtil.logger.debug("Token was issued in the future");
+            return false;
+        }
+
+        return true;
     }
 }
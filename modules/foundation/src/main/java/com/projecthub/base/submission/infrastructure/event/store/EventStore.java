@@ -1,20 +1,446 @@
 package com.projecthub.base.submission.infrastructure.event.store;
 
 import com.projecthub.base.submission.domain.event.SubmissionEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+/**
+ * Durable, append-only store for {@link SubmissionEvent}s.
+ * <p>
+ * Events are written as fixed-width records into numbered segment files of
+ * {@code records-per-segment} slots each, so an event's sequence number fixes its segment and
+ * offset. Appenders reserve a sequence number with a single atomic increment and write their slot
+ * with a positional {@link FileChannel} write, without a store-wide lock. Readers only see the
+ * contiguous prefix of completed appends.
+ * </p>
+ * <p>
+ * Appends are made durable by group commit: an appender waiting for its record to reach the disk
+ * either joins a {@link FileChannel#force} already in flight or, if none is, forces every segment
+ * covering the visible records not yet synced. One fsync therefore covers all appenders that
+ * completed in the meantime. Waiting appenders park on a condition instead of spinning.
+ * </p>
+ * <p>
+ * Lookup by submission id uses an in-memory list of sequence numbers per submission. Lookup by
+ * time range uses a sparse index holding the earliest and latest timestamp of every block of
+ * {@code time-index-interval} records, so only overlapping blocks are read. Both indexes are
+ * rebuilt from the segments on startup.
+ * </p>
+ */
 @Component
-public class EventStore {
-    private final List<SubmissionEvent> events = new ArrayList<>();
+public class EventStore implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(EventStore.class);
 
-    public void save(SubmissionEvent event) {
-        events.add(event);
+    private static final String SEGMENT_PREFIX = "submission-events-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int READ_BATCH_RECORDS = 256;
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final int timeIndexInterval;
+
+    private final Map<Long, FileChannel> segments = new ConcurrentHashMap<>();
+    private final Map<UUID, SequenceList> submissionIndex = new ConcurrentHashMap<>();
+    private final Map<Long, TimeBlock> timeIndex = new ConcurrentHashMap<>();
+    private final AtomicLong nextSequence = new AtomicLong();
+    private final AtomicLong committedSequence = new AtomicLong();
+
+    private final ReentrantLock commitLock = new ReentrantLock();
+    private final Condition commitProgress = this.commitLock.newCondition();
+    // Guarded by commitLock
+    private final NavigableSet<Long> completedOutOfOrder = new TreeSet<>();
+    private long durableSequence;
+    private boolean forcing;
+
+    public EventStore(
+        @Value("${app.submission.event-store.path:${user.home}/projecthub/events/submission}") final String directory,
+        @Value("${app.submission.event-store.records-per-segment:65536}") final int recordsPerSegment,
+        @Value("${app.submission.event-store.time-index-interval:1024}") final int timeIndexInterval) {
+        this.directory = Path.of(directory);
+        this.recordsPerSegment = recordsPerSegment;
+        this.timeIndexInterval = timeIndexInterval;
+        try {
+            Files.createDirectories(this.directory);
+            this.recover();
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to open submission event store at " + directory, e);
+        }
+    }
+
+    /**
+     * Appends an event and returns once it is forced to disk and visible to readers.
+     *
+     * @return the sequence number assigned to the event
+     */
+    public long save(final SubmissionEvent event) {
+        final ByteBuffer buffer = ByteBuffer.allocate(SubmissionEventCodec.RECORD_SIZE);
+        SubmissionEventCodec.encode(event, buffer);
+        buffer.flip();
+
+        final long sequence = this.nextSequence.getAndIncrement();
+        try {
+            final FileChannel channel = this.segment(sequence / this.recordsPerSegment);
+            long position = this.offsetOf(sequence);
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            this.index(sequence, event);
+        } catch (final IOException e) {
+            // The slot stays empty and is skipped by readers; later appends must not wait on it forever
+            this.commit(sequence);
+            throw new UncheckedIOException("Unable to append submission event " + event.getEventId(), e);
+        }
+        this.commit(sequence);
+        try {
+            this.awaitDurable(sequence);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to sync submission event " + event.getEventId(), e);
+        }
+        return sequence;
+    }
+
+    /**
+     * @return the number of event slots visible to readers
+     */
+    public long size() {
+        return this.committedSequence.get();
+    }
+
+    /**
+     * Streams every stored event in append order, for rebuilding projections. Segments are read
+     * lazily in batches, so memory use does not grow with the size of the store.
+     */
+    public Stream<SubmissionEvent> replay() {
+        return this.replay(0L);
+    }
+
+    /**
+     * Streams stored events in append order starting at the given sequence number.
+     */
+    public Stream<SubmissionEvent> replay(final long fromSequence) {
+        final long until = this.committedSequence.get();
+        return StreamSupport.stream(new SegmentSpliterator(Math.max(0L, fromSequence), until), false);
+    }
+
+    /**
+     * @return the events of one submission, in append order
+     */
+    public List<SubmissionEvent> findBySubmissionId(final UUID submissionId) {
+        final SequenceList sequences = this.submissionIndex.get(submissionId);
+        if (null == sequences) {
+            return List.of();
+        }
+        final long until = this.committedSequence.get();
+        final List<SubmissionEvent> events = new ArrayList<>();
+        final ByteBuffer buffer = ByteBuffer.allocate(SubmissionEventCodec.RECORD_SIZE);
+        for (final long sequence : sequences.toArray()) {
+            if (sequence < until) {
+                final SubmissionEvent event = this.read(sequence, buffer);
+                if (null != event) {
+                    events.add(event);
+                }
+            }
+        }
+        return events;
+    }
+
+    /**
+     * @return the events that occurred in {@code [from, to)}, in append order
+     */
+    public List<SubmissionEvent> findByTimeRange(final Instant from, final Instant to) {
+        final long until = this.committedSequence.get();
+        final List<SubmissionEvent> events = new ArrayList<>();
+        for (long block = 0; block * this.timeIndexInterval < until; block++) {
+            final TimeBlock range = this.timeIndex.get(block);
+            if (null == range || !range.overlaps(from, to)) {
+                continue;
+            }
+            final long start = block * this.timeIndexInterval;
+            try (Stream<SubmissionEvent> stream = StreamSupport.stream(
+                new SegmentSpliterator(start, Math.min(until, start + this.timeIndexInterval)), false)) {
+                stream.filter(event -> !event.getOccurredOn().isBefore(from) && event.getOccurredOn().isBefore(to))
+                    .forEach(events::add);
+            }
+        }
+        return events;
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        for (final FileChannel channel : this.segments.values()) {
+            channel.force(false);
+            channel.close();
+        }
+    }
+
+    private void index(final long sequence, final SubmissionEvent event) {
+        this.submissionIndex.computeIfAbsent(event.getSubmissionId(), id -> new SequenceList()).add(sequence);
+        this.timeIndex.computeIfAbsent(sequence / this.timeIndexInterval, block -> new TimeBlock())
+            .include(event.getOccurredOn());
+    }
+
+    /**
+     * Publishes appends in sequence order without waiting: a completed append is parked until
+     * every earlier one has completed, and whoever completes the gap advances the visible prefix.
+     */
+    private void commit(final long sequence) {
+        this.commitLock.lock();
+        try {
+            this.completedOutOfOrder.add(sequence);
+            long committed = this.committedSequence.get();
+            while (!this.completedOutOfOrder.isEmpty() && committed == this.completedOutOfOrder.first()) {
+                this.completedOutOfOrder.pollFirst();
+                committed++;
+            }
+            if (committed != this.committedSequence.get()) {
+                this.committedSequence.set(committed);
+                this.commitProgress.signalAll();
+            }
+        } finally {
+            this.commitLock.unlock();
+        }
+    }
+
+    /**
+     * Waits until the record is visible and synced. The first waiter finding no sync in flight
+     * forces all visible records on behalf of everyone; the others wait for its result.
+     */
+    private void awaitDurable(final long sequence) throws IOException {
+        this.commitLock.lock();
+        try {
+            while (this.durableSequence <= sequence) {
+                if (this.forcing || this.committedSequence.get() <= sequence) {
+                    this.commitProgress.awaitUninterruptibly();
+                    continue;
+                }
+                this.forcing = true;
+                final long from = this.durableSequence;
+                final long until = this.committedSequence.get();
+                this.commitLock.unlock();
+                boolean synced = false;
+                try {
+                    this.force(from, until);
+                    synced = true;
+                } finally {
+                    this.commitLock.lock();
+                    this.forcing = false;
+                    if (synced) {
+                        this.durableSequence = until;
+                    }
+                    this.commitProgress.signalAll();
+                }
+            }
+        } finally {
+            this.commitLock.unlock();
+        }
     }
 
-    public List<SubmissionEvent> getEvents() {
-        return new ArrayList<>(events);
+    private void force(final long from, final long until) throws IOException {
+        for (long segment = from / this.recordsPerSegment; segment <= (until - 1) / this.recordsPerSegment; segment++) {
+            this.segment(segment).force(false);
+        }
+    }
+
+    private SubmissionEvent read(final long sequence, final ByteBuffer buffer) {
+        buffer.clear();
+        try {
+            final FileChannel channel = this.segment(sequence / this.recordsPerSegment);
+            long position = this.offsetOf(sequence);
+            while (buffer.hasRemaining()) {
+                final int read = channel.read(buffer, position);
+                if (0 > read) {
+                    return null;
+                }
+                position += read;
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to read submission event " + sequence, e);
+        }
+        buffer.flip();
+        return SubmissionEventCodec.decode(buffer);
+    }
+
+    private long offsetOf(final long sequence) {
+        return (sequence % this.recordsPerSegment) * SubmissionEventCodec.RECORD_SIZE;
+    }
+
+    private FileChannel segment(final long segment) throws IOException {
+        try {
+            return this.segments.computeIfAbsent(segment, number -> {
+                try {
+                    return FileChannel.open(this.segmentPath(number),
+                        StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Path segmentPath(final long segment) {
+        return this.directory.resolve(String.format("%s%06d%s", EventStore.SEGMENT_PREFIX, segment, EventStore.SEGMENT_SUFFIX));
+    }
+
+    /**
+     * Rebuilds the indexes from the segment files. A torn record at the tail of the last segment
+     * is overwritten by the next append.
+     */
+    private void recover() throws IOException {
+        long segment = 0;
+        long slots = 0;
+        while (Files.exists(this.segmentPath(segment))) {
+            final long segmentSlots = Files.size(this.segmentPath(segment)) / SubmissionEventCodec.RECORD_SIZE;
+            slots = segment * this.recordsPerSegment + Math.min(segmentSlots, this.recordsPerSegment);
+            segment++;
+        }
+        this.nextSequence.set(slots);
+        this.committedSequence.set(slots);
+        this.durableSequence = slots;
+
+        try (Stream<SubmissionEvent> events = StreamSupport.stream(new SegmentSpliterator(0L, slots, true), false)) {
+            events.forEach(event -> { });
+        }
+        EventStore.logger.info("Opened submission event store at {} with {} events", this.directory, slots);
+    }
+
+    /**
+     * Reads slots {@code [from, until)} segment by segment in batches, skipping empty slots. When
+     * {@code indexing} is set, every decoded event is also added to the indexes.
+     */
+    private final class SegmentSpliterator extends Spliterators.AbstractSpliterator<SubmissionEvent> {
+        private final long until;
+        private final boolean indexing;
+        private final ByteBuffer buffer = ByteBuffer.allocate(EventStore.READ_BATCH_RECORDS * SubmissionEventCodec.RECORD_SIZE);
+        private long sequence;
+
+        SegmentSpliterator(final long from, final long until) {
+            this(from, until, false);
+        }
+
+        SegmentSpliterator(final long from, final long until, final boolean indexing) {
+            super(until - from, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.sequence = from;
+            this.until = until;
+            this.indexing = indexing;
+            this.buffer.limit(0);
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super SubmissionEvent> action) {
+            while (this.sequence < this.until) {
+                if (!this.buffer.hasRemaining() && !this.fill()) {
+                    return false;
+                }
+                final long current = this.sequence++;
+                final SubmissionEvent event = SubmissionEventCodec.decode(this.buffer);
+                if (null != event) {
+                    if (this.indexing) {
+                        EventStore.this.index(current, event);
+                    }
+                    action.accept(event);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean fill() {
+            final long segmentEnd = (this.sequence / EventStore.this.recordsPerSegment + 1) * EventStore.this.recordsPerSegment;
+            final long records = Math.min(EventStore.READ_BATCH_RECORDS, Math.min(this.until, segmentEnd) - this.sequence);
+            this.buffer.clear().limit((int) records * SubmissionEventCodec.RECORD_SIZE);
+            try {
+                final FileChannel channel = EventStore.this.segment(this.sequence / EventStore.this.recordsPerSegment);
+                long position = EventStore.this.offsetOf(this.sequence);
+                while (this.buffer.hasRemaining()) {
+                    final int read = channel.read(this.buffer, position);
+                    if (0 > read) {
+                        break;
+                    }
+                    position += read;
+                }
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Unable to read submission events from " + this.sequence, e);
+            }
+            this.buffer.flip();
+            // Drop a partial trailing record so decode always sees whole slots
+            this.buffer.limit(this.buffer.limit() - this.buffer.limit() % SubmissionEventCodec.RECORD_SIZE);
+            return this.buffer.hasRemaining();
+        }
+    }
+
+    /**
+     * Append-only list of sequence numbers for one submission.
+     */
+    private static final class SequenceList {
+        private long[] sequences = new long[4];
+        private int size;
+
+        synchronized void add(final long sequence) {
+            if (this.size == this.sequences.length) {
+                this.sequences = Arrays.copyOf(this.sequences, this.size * 2);
+            }
+            this.sequences[this.size++] = sequence;
+        }
+
+        synchronized long[] toArray() {
+            final long[] copy = Arrays.copyOf(this.sequences, this.size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+
+    /**
+     * Earliest and latest event time within one block of the time index.
+     */
+    private static final class TimeBlock {
+        private Instant earliest;
+        private Instant latest;
+
+        synchronized void include(final Instant occurredOn) {
+            if (null == this.earliest || occurredOn.isBefore(this.earliest)) {
+                this.earliest = occurredOn;
+            }
+            if (null == this.latest || occurredOn.isAfter(this.latest)) {
+                this.latest = occurredOn;
+            }
+        }
+
+        /**
+         * A block is created before its first event is included, so a reader can see it without
+         * bounds; it is then treated as unbounded and scanned.
+         */
+        synchronized boolean overlaps(final Instant from, final Instant to) {
+            return (null == this.earliest || this.earliest.isBefore(to))
+                && (null == this.latest || !this.latest.isBefore(from));
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,81 @@
+package com.projecthub.base.submission.infrastructure.event.store;
+
+import com.projecthub.base.submission.domain.event.SubmissionEvent;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * Fixed-width binary encoding of {@link SubmissionEvent} records for the segmented event log.
+ * <p>
+ * Layout: type (1), event id (16), submission id (16), initiator id (16), occurred-on seconds (8)
+ * and nanos (4), then a CRC32C of the preceding bytes (4). A fixed width lets a record's file
+ * position be derived from its sequence number. A slot whose type byte is zero or whose checksum
+ * does not match was never fully written and is skipped.
+ * </p>
+ */
+enum SubmissionEventCodec {
+    ;
+
+    static final int RECORD_SIZE = 1 + 16 + 16 + 16 + 8 + 4 + 4;
+
+    private static final int PAYLOAD_SIZE = RECORD_SIZE - 4;
+    private static final byte CREATED = 1;
+    private static final byte UPDATED = 2;
+    private static final byte DELETED = 3;
+
+    static void encode(final SubmissionEvent event, final ByteBuffer target) {
+        final int start = target.position();
+        target.put(switch (event) {
+            case SubmissionEvent.SubmissionCreated e -> SubmissionEventCodec.CREATED;
+            case SubmissionEvent.SubmissionUpdated e -> SubmissionEventCodec.UPDATED;
+            case SubmissionEvent.SubmissionDeleted e -> SubmissionEventCodec.DELETED;
+        });
+        SubmissionEventCodec.putUuid(target, event.getEventId());
+        SubmissionEventCodec.putUuid(target, event.getSubmissionId());
+        SubmissionEventCodec.putUuid(target, event.getInitiatorId());
+        target.putLong(event.getOccurredOn().getEpochSecond());
+        target.putInt(event.getOccurredOn().getNano());
+        target.putInt(SubmissionEventCodec.checksum(target, start));
+    }
+
+    /**
+     * @return the decoded event, or {@code null} if the slot at the buffer's position is empty or torn
+     */
+    static SubmissionEvent decode(final ByteBuffer source) {
+        final int start = source.position();
+        final byte type = source.get();
+        if (0 == type || source.getInt(start + SubmissionEventCodec.PAYLOAD_SIZE) != SubmissionEventCodec.checksum(source, start)) {
+            source.position(start + SubmissionEventCodec.RECORD_SIZE);
+            return null;
+        }
+        final UUID eventId = SubmissionEventCodec.getUuid(source);
+        final UUID submissionId = SubmissionEventCodec.getUuid(source);
+        final UUID initiatorId = SubmissionEventCodec.getUuid(source);
+        final Instant occurredOn = Instant.ofEpochSecond(source.getLong(), source.getInt());
+        source.position(start + SubmissionEventCodec.RECORD_SIZE);
+        return switch (type) {
+            case SubmissionEventCodec.CREATED -> new SubmissionEvent.SubmissionCreated(eventId, submissionId, initiatorId, occurredOn);
+            case SubmissionEventCodec.UPDATED -> new SubmissionEvent.SubmissionUpdated(eventId, submissionId, initiatorId, occurredOn);
+            case SubmissionEventCodec.DELETED -> new SubmissionEvent.SubmissionDeleted(eventId, submissionId, initiatorId, occurredOn);
+            default -> null;
+        };
+    }
+
+    private static int checksum(final ByteBuffer buffer, final int start) {
+        final CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(start, SubmissionEventCodec.PAYLOAD_SIZE));
+        return (int) crc.getValue();
+    }
+
+    private static void putUuid(final ByteBuffer target, final UUID id) {
+        target.putLong(id.getMostSignificantBits());
+        target.putLong(id.getLeastSignificantBits());
+    }
+
+    private static UUID getUuid(final ByteBuffer source) {
+        return new UUID(source.getLong(), source.getLong());
+    }
+}
@@ -0,0 +1,26 @@
+package com.projecthub.base.sync.api.dto;
+
+import com.projecthub.base.shared.domain.enums.sync.SyncState;
+
+import java.time.Duration;
+
+
+public record EntitySyncResult(
+    String entityName,
+    SyncState state,
+    Duration duration,
+    String error,
+    SyncRunStatistics statistics
+) {
+    public static EntitySyncResult success(final String entityName, final Duration duration, final SyncRunStatistics statistics) {
+        return new EntitySyncResult(entityName, SyncState.SUCCESS, duration, null, statistics);
+    }
+
+    public static EntitySyncResult failed(final String entityName, final Duration duration, final String error) {
+        return new EntitySyncResult(entityName, SyncState.FAILED, duration, error, SyncRunStatistics.EMPTY);
+    }
+
+    public static EntitySyncResult skipped(final String entityName, final String reason) {
+        return new EntitySyncResult(entityName, SyncState.SKIPPED, Duration.ZERO, reason, SyncRunStatistics.EMPTY);
+    }
+}
@@ -0,0 +1,10 @@
+package com.projecthub.base.sync.api.dto;
+
+
+public record SyncRunStatistics(
+    long rowsScanned,
+    long rowsChanged,
+    long bytesAvoided
+) {
+    public static final SyncRunStatistics EMPTY = new SyncRunStatistics(0, 0, 0);
+}
@@ -3,31 +3,44 @@ package com.projecthub.base.sync.api.dto;
 import com.projecthub.base.shared.domain.enums.sync.SyncState;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 
 public record SyncStatus(
     LocalDateTime lastSyncAttempt,
     LocalDateTime lastSuccessfulSync,
     String lastError,
-    SyncState state
+    SyncState state,
+    Map<String, EntitySyncResult> entityResults
 ) {
+    public SyncStatus(final LocalDateTime lastSyncAttempt, final LocalDateTime lastSuccessfulSync, final String lastError, final SyncState state) {
+        this(lastSyncAttempt, lastSuccessfulSync, lastError, state, Map.of());
+    }
+
     public SyncStatus withStartTime(final LocalDateTime now) {
-        return new SyncStatus(now, this.lastSuccessfulSync, this.lastError, SyncState.IN_PROGRESS);
+        return new SyncStatus(now, this.lastSuccessfulSync, this.lastError, SyncState.IN_PROGRESS, Map.of());
     }
 
     public SyncStatus withEndTime(final LocalDateTime now) {
-        return new SyncStatus(this.lastSyncAttempt, this.lastSuccessfulSync, this.lastError, SyncState.COMPLETED);
+        return new SyncStatus(this.lastSyncAttempt, this.lastSuccessfulSync, this.lastError, SyncState.COMPLETED, this.entityResults);
     }
 
     public SyncStatus withLastSuccessful(final LocalDateTime now) {
-        return new SyncStatus(this.lastSyncAttempt, now, this.lastError, SyncState.SUCCESS);
+        return new SyncStatus(this.lastSyncAttempt, now, this.lastError, SyncState.SUCCESS, this.entityResults);
     }
 
     public SyncStatus withSyncing(final boolean syncing) {
-        return new SyncStatus(this.lastSyncAttempt, this.lastSuccessfulSync, this.lastError, syncing ? SyncState.IN_PROGRESS : SyncState.IDLE);
+        return new SyncStatus(this.lastSyncAttempt, this.lastSuccessfulSync, this.lastError, syncing ? SyncState.IN_PROGRESS : SyncState.IDLE, this.entityResults);
     }
 
     public SyncStatus withError(final String error) {
-        return new SyncStatus(this.lastSyncAttempt, this.lastSuccessfulSync, error, SyncState.FAILED);
+        return new SyncStatus(this.lastSyncAttempt, this.lastSuccessfulSync, error, SyncState.FAILED, this.entityResults);
+    }
+
+    public SyncStatus withEntityResult(final EntitySyncResult result) {
+        final Map<String, EntitySyncResult> results = new LinkedHashMap<>(this.entityResults);
+        results.put(result.entityName(), result);
+        return new SyncStatus(this.lastSyncAttempt, this.lastSuccessfulSync, this.lastError, this.state, Map.copyOf(results));
     }
 }
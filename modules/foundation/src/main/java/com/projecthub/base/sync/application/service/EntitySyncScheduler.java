@@ -0,0 +1,186 @@
+package com.projecthub.base.sync.application.service;
+
+import com.projecthub.base.shared.domain.enums.sync.SyncState;
+import com.projecthub.base.shared.exception.SynchronizationException;
+import com.projecthub.base.sync.api.dto.EntitySyncResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs entity synchronizers as a dependency graph. Each synchronizer starts as soon as all of its
+ * dependencies have finished, so independent entity types run concurrently on the sync executor and
+ * total wall time approaches the longest dependency chain. A failing synchronizer only skips the
+ * synchronizers that depend on it.
+ * <p>
+ * Deletions are applied afterwards in reverse dependency order: children first, so a parent row is
+ * never deleted while rows referencing it are still in place.
+ * </p>
+ */
+@Component
+public class EntitySyncScheduler {
+    private static final Logger logger = LoggerFactory.getLogger(EntitySyncScheduler.class);
+
+    private final SyncStatusTracker syncStatusTracker;
+    private final Executor syncExecutor;
+
+    public EntitySyncScheduler(final SyncStatusTracker syncStatusTracker,
+                               @Qualifier("syncExecutor") final Executor syncExecutor) {
+        this.syncStatusTracker = syncStatusTracker;
+        this.syncExecutor = syncExecutor;
+    }
+
+    public List<EntitySyncResult> synchronizeAll(final List<EntitySynchronizer<?>> synchronizers) {
+        final Map<Class<?>, EntitySynchronizer<?>> byType = EntitySyncScheduler.indexByType(synchronizers);
+        final List<EntitySynchronizer<?>> ordered = EntitySyncScheduler.topologicalOrder(byType);
+
+        final Map<Class<?>, CompletableFuture<EntitySyncResult>> futures = new HashMap<>();
+        for (final EntitySynchronizer<?> synchronizer : ordered) {
+            final List<CompletableFuture<EntitySyncResult>> dependencies = synchronizer.getDependencies().stream()
+                .filter(byType::containsKey)
+                .map(futures::get)
+                .toList();
+            final CompletableFuture<EntitySyncResult> future = CompletableFuture
+                .allOf(dependencies.toArray(CompletableFuture[]::new))
+                .thenApplyAsync(_ -> this.execute(synchronizer, dependencies), this.syncExecutor);
+            futures.put(synchronizer.getEntityType(), future);
+        }
+
+        final Map<Class<?>, EntitySyncResult> results = new HashMap<>();
+        ordered.forEach(synchronizer -> results.put(synchronizer.getEntityType(), futures.get(synchronizer.getEntityType()).join()));
+        this.applyDeletes(ordered, byType, results);
+
+        return ordered.stream()
+            .map(synchronizer -> results.get(synchronizer.getEntityType()))
+            .toList();
+    }
+
+    /**
+     * Walks the topological order backwards, so every entity type applies its deletions only after
+     * all types depending on it have applied theirs. A type keeps its deletions for the next run if
+     * it failed itself or if any of its dependents did not complete.
+     */
+    private void applyDeletes(final List<EntitySynchronizer<?>> ordered, final Map<Class<?>, EntitySynchronizer<?>> byType,
+                              final Map<Class<?>, EntitySyncResult> results) {
+        final Map<Class<?>, List<Class<?>>> dependents = new HashMap<>();
+        byType.forEach((type, synchronizer) -> synchronizer.getDependencies().stream()
+            .filter(byType::containsKey)
+            .forEach(dependency -> dependents.computeIfAbsent(dependency, _ -> new ArrayList<>()).add(type)));
+
+        for (final EntitySynchronizer<?> synchronizer : ordered.reversed()) {
+            final Class<?> type = synchronizer.getEntityType();
+            final EntitySyncResult result = results.get(type);
+            if (SyncState.SUCCESS != result.state()) {
+                continue;
+            }
+            final Optional<EntitySyncResult> unfinishedDependent = dependents.getOrDefault(type, List.of()).stream()
+                .map(results::get)
+                .filter(dependent -> SyncState.SUCCESS != dependent.state())
+                .findFirst();
+            if (unfinishedDependent.isPresent()) {
+                final String reason = String.format("Deletions deferred because %s did not synchronize", unfinishedDependent.get().entityName());
+                EntitySyncScheduler.logger.warn("Deferring deletions of {}: {}", synchronizer.getEntityName(), reason);
+                results.put(type, this.report(EntitySyncResult.skipped(synchronizer.getEntityName(), reason)));
+                continue;
+            }
+
+            final long start = System.nanoTime();
+            try {
+                synchronizer.applyDeletes();
+                final Duration duration = result.duration().plusNanos(System.nanoTime() - start);
+                results.put(type, this.report(EntitySyncResult.success(synchronizer.getEntityName(), duration, synchronizer.getLastRunStatistics())));
+            } catch (final Exception e) {
+                final String errorMessage = String.format("Failed to apply deletions of entity type: %s", synchronizer.getEntityName());
+                EntitySyncScheduler.logger.error(errorMessage, e);
+                results.put(type, this.report(EntitySyncResult.failed(synchronizer.getEntityName(),
+                    result.duration().plusNanos(System.nanoTime() - start), e.getMessage())));
+            }
+        }
+    }
+
+    private EntitySyncResult execute(final EntitySynchronizer<?> synchronizer, final List<CompletableFuture<EntitySyncResult>> dependencies) {
+        final Optional<EntitySyncResult> failedDependency = dependencies.stream()
+            .map(CompletableFuture::join)
+            .filter(result -> SyncState.SUCCESS != result.state())
+            .findFirst();
+        if (failedDependency.isPresent()) {
+            final String reason = String.format("Skipped because %s did not synchronize", failedDependency.get().entityName());
+            EntitySyncScheduler.logger.warn("Skipping sync of {}: {}", synchronizer.getEntityName(), reason);
+            return this.report(EntitySyncResult.skipped(synchronizer.getEntityName(), reason));
+        }
+
+        final long start = System.nanoTime();
+        try {
+            synchronizer.synchronize();
+            final Duration duration = Duration.ofNanos(System.nanoTime() - start);
+            EntitySyncScheduler.logger.debug("Synchronized {} in {} ms", synchronizer.getEntityName(), duration.toMillis());
+            return this.report(EntitySyncResult.success(synchronizer.getEntityName(), duration, synchronizer.getLastRunStatistics()));
+        } catch (final Exception e) {
+            final String errorMessage = String.format("Failed to synchronize entity type: %s", synchronizer.getEntityName());
+            EntitySyncScheduler.logger.error(errorMessage, e);
+            return this.report(EntitySyncResult.failed(synchronizer.getEntityName(), Duration.ofNanos(System.nanoTime() - start), e.getMessage()));
+        }
+    }
+
+    private EntitySyncResult report(final EntitySyncResult result) {
+        this.syncStatusTracker.entitySyncFinished(result);
+        return result;
+    }
+
+    private static Map<Class<?>, EntitySynchronizer<?>> indexByType(final List<EntitySynchronizer<?>> synchronizers) {
+        final Map<Class<?>, EntitySynchronizer<?>> byType = new LinkedHashMap<>();
+        for (final EntitySynchronizer<?> synchronizer : synchronizers) {
+            if (null != byType.putIfAbsent(synchronizer.getEntityType(), synchronizer)) {
+                throw new SynchronizationException("Duplicate synchronizer for entity type: " + synchronizer.getEntityName());
+            }
+        }
+        return byType;
+    }
+
+    /**
+     * Orders synchronizers so that every synchronizer comes after its dependencies (Kahn's algorithm).
+     * Dependencies without a registered synchronizer are ignored.
+     */
+    private static List<EntitySynchronizer<?>> topologicalOrder(final Map<Class<?>, EntitySynchronizer<?>> byType) {
+        final Map<Class<?>, Integer> pendingDependencies = new HashMap<>();
+        final Map<Class<?>, List<Class<?>>> dependents = new HashMap<>();
+        byType.forEach((type, synchronizer) -> {
+            final List<Class<?>> dependencies = synchronizer.getDependencies().stream()
+                .filter(byType::containsKey)
+                .toList();
+            pendingDependencies.put(type, dependencies.size());
+            dependencies.forEach(dependency -> dependents.computeIfAbsent(dependency, _ -> new ArrayList<>()).add(type));
+        });
+
+        final Deque<Class<?>> ready = new ArrayDeque<>();
+        pendingDependencies.forEach((type, count) -> {
+            if (0 == count) ready.add(type);
+        });
+
+        final List<EntitySynchronizer<?>> ordered = new ArrayList<>(byType.size());
+        while (!ready.isEmpty()) {
+            final Class<?> type = ready.poll();
+            ordered.add(byType.get(type));
+            dependents.getOrDefault(type, List.of()).forEach(dependent -> {
+                if (0 == pendingDependencies.merge(dependent, -1, Integer::sum)) {
+                    ready.add(dependent);
+                }
+            });
+        }
+
+        if (ordered.size() != byType.size()) {
+            final List<String> cyclic = byType.values().stream()
+                .filter(synchronizer -> !ordered.contains(synchronizer))
+                .map(EntitySynchronizer::getEntityName)
+                .toList();
+            throw new SynchronizationException("Cyclic synchronizer dependencies between: " + String.join(", ", cyclic));
+        }
+        return ordered;
+    }
+}
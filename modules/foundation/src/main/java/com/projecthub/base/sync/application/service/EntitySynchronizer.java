@@ -1,9 +1,35 @@
 package com.projecthub.base.sync.application.service;
 
+import com.projecthub.base.sync.api.dto.SyncRunStatistics;
+
+import java.util.Set;
+
 public interface EntitySynchronizer<T> {
     void synchronize();
 
     Class<T> getEntityType();
 
     String getEntityName();
+
+    /**
+     * Entity types that must be synchronized before this one, e.g. because its rows reference them.
+     */
+    default Set<Class<?>> getDependencies() {
+        return Set.of();
+    }
+
+    /**
+     * Applies the deletions staged by the last {@link #synchronize()} run. Called once every
+     * synchronizer has run, for dependent entity types before the types they depend on, so no row
+     * is deleted while rows of another type may still reference it.
+     */
+    default void applyDeletes() {
+    }
+
+    /**
+     * Row counters of the most recent {@link #synchronize()} run.
+     */
+    default SyncRunStatistics getLastRunStatistics() {
+        return SyncRunStatistics.EMPTY;
+    }
 }
@@ -1,11 +1,40 @@
 package com.projecthub.base.sync.application.service;
 
+import com.projecthub.base.sync.domain.value.SyncTombstone;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface LocalDataService {
     <T> List<T> getLocalData(Class<T> entityClass);
 
+    /**
+     * Rows whose {@code last_modified_date} is at or after {@code since}; every row when it is null.
+     */
+    <T> List<T> getLocalDataModifiedSince(Class<T> entityClass, LocalDateTime since);
+
+    /**
+     * Opens a cursor over the whole table ordered by id. The returned stream holds a connection
+     * and must be closed by the caller.
+     */
+    <T> Stream<T> streamLocalData(Class<T> entityClass, int fetchSize);
+
+    /**
+     * Deletions recorded at or after {@code since}; every deletion when it is null.
+     */
+    List<SyncTombstone> getLocalTombstonesSince(Class<?> entityClass, LocalDateTime since);
+
     <T> void saveLocalData(List<T> entities);
 
+    /**
+     * Inserts new rows and overwrites existing ones by id, leaving all other rows untouched.
+     */
+    <T> void upsertLocalData(List<T> entities);
+
+    void deleteLocalData(Class<?> entityClass, Collection<UUID> ids);
+
     void clearLocalData(Class<?> entityClass);
 }
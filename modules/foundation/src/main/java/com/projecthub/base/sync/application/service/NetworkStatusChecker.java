@@ -1,59 +1,191 @@
 package com.projecthub.base.sync.application.service;
 
-import org.apache.commons.net.telnet.TelnetClient;
+import com.projecthub.base.sync.domain.event.ConnectivityRestoredEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Component;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
 
 import java.io.IOException;
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.UnresolvedAddressException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
 
-@Component
+/**
+ * Tells whether the remote store is reachable, without stalling the sync tick.
+ * <p>
+ * Reachability is probed with a non-blocking TCP connect to the configured remote host and port,
+ * bounded by a short timeout. The host name is resolved on a dedicated daemon thread within the
+ * same timeout, because a DNS lookup cannot be interrupted and may block far longer. Results are cached for a TTL while online; while offline, probes
+ * back off exponentially and a background poll publishes a {@link ConnectivityRestoredEvent} as
+ * soon as the remote answers again.
+ * </p>
+ * <p>
+ * Registered only by {@code SyncConfig} under the desktop profile, so exactly one instance, and
+ * one offline poll, exists.
+ * </p>
+ */
 public class NetworkStatusChecker {
     private static final Logger logger = LoggerFactory.getLogger(NetworkStatusChecker.class);
 
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReentrantLock probeLock = new ReentrantLock();
+    private final ExecutorService resolver = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("network-status-resolver").daemon().factory());
+    // Guarded by probeLock; a lookup that outlived its probe is awaited again rather than duplicated
+    private CompletableFuture<InetAddress> pendingLookup;
+    private volatile ProbeState state = new ProbeState(false, 0, System.nanoTime(), Instant.now());
+
     @Value("${sync.remote.host:localhost}")
     private String remoteHost;
 
     @Value("${sync.remote.port:5432}")
     private int remotePort;
 
-    @Value("${sync.network.timeout:5000}")
+    @Value("${sync.network.timeout:1000}")
     private int timeout;
 
+    @Value("${sync.network.cache-ttl:30000}")
+    private long cacheTtlMillis;
+
+    @Value("${sync.network.initial-backoff:5000}")
+    private long initialBackoffMillis;
+
+    @Value("${sync.network.max-backoff:300000}")
+    private long maxBackoffMillis;
+
+    public NetworkStatusChecker(final ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
     public boolean isNetworkAvailable() {
-        // First check if basic internet connectivity is available
-        if (!this.checkInternetConnectivity()) {
-            NetworkStatusChecker.logger.warn("No internet connectivity available");
-            return false;
+        final ProbeState current = this.state;
+        if (System.nanoTime() - current.nextProbeAt() < 0) {
+            return current.available();
         }
+        return this.probe();
+    }
 
-        // Then check if remote server is reachable
-        return this.checkRemoteServerConnection();
+    /**
+     * Re-probes in the background while offline so a reconnect is noticed between sync ticks.
+     */
+    @Scheduled(fixedDelayString = "${sync.network.poll-interval:5000}")
+    public void pollWhileOffline() {
+        final ProbeState current = this.state;
+        if (!current.available() && System.nanoTime() - current.nextProbeAt() >= 0) {
+            this.probe();
+        }
     }
 
-    private boolean checkInternetConnectivity() {
+    private boolean probe() {
+        // Concurrent callers reuse the last known state instead of queueing up behind a probe
+        if (!this.probeLock.tryLock()) {
+            return this.state.available();
+        }
         try {
-            final InetAddress[] addresses = InetAddress.getAllByName("8.8.8.8");
-            return 0 < addresses.length && addresses[0].isReachable(this.timeout);
-        } catch (final IOException e) {
-            NetworkStatusChecker.logger.debug("Internet connectivity check failed", e);
-            return false;
+            final ProbeState previous = this.state;
+            final boolean available = this.checkRemoteServerConnection();
+            final long now = System.nanoTime();
+
+            if (available) {
+                final boolean restored = !previous.available() && 0 < previous.failures();
+                this.state = new ProbeState(true, 0, now + Duration.ofMillis(this.cacheTtlMillis).toNanos(),
+                    previous.available() ? previous.since() : Instant.now());
+                if (restored) {
+                    final Duration offlineDuration = Duration.between(previous.since(), this.state.since());
+                    NetworkStatusChecker.logger.info("Remote server {}:{} reachable again after {}",
+                        this.remoteHost, this.remotePort, offlineDuration);
+                    this.eventPublisher.publishEvent(new ConnectivityRestoredEvent(this, offlineDuration));
+                }
+            } else {
+                final int failures = previous.failures() + 1;
+                final Duration backoff = this.backoff(failures);
+                this.state = new ProbeState(false, failures, now + backoff.toNanos(),
+                    previous.available() ? Instant.now() : previous.since());
+                NetworkStatusChecker.logger.debug("Remote server unreachable, next probe in {} ms", backoff.toMillis());
+            }
+            return available;
+        } finally {
+            this.probeLock.unlock();
         }
     }
 
-    private boolean checkRemoteServerConnection() {
-        final TelnetClient telnet = new TelnetClient();
-        telnet.setConnectTimeout(this.timeout);
+    private Duration backoff(final int failures) {
+        final long factor = 1L << Math.min(failures - 1, 20);
+        return Duration.ofMillis(Math.min(this.initialBackoffMillis * factor, this.maxBackoffMillis));
+    }
 
-        try {
-            telnet.connect(this.remoteHost, this.remotePort);
-            telnet.disconnect();
-            return true;
-        } catch (final IOException e) {
+    private boolean checkRemoteServerConnection() {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.timeout);
+        final InetSocketAddress address = this.resolveRemote();
+        if (null == address) {
+            return false;
+        }
+        try (final SocketChannel channel = SocketChannel.open()) {
+            channel.configureBlocking(false);
+            if (channel.connect(address)) {
+                return true;
+            }
+            final long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            try (final Selector selector = Selector.open()) {
+                channel.register(selector, SelectionKey.OP_CONNECT);
+                return 0 < selector.select(Math.max(1L, remainingMillis)) && channel.finishConnect();
+            }
+        } catch (final IOException | UnresolvedAddressException e) {
             NetworkStatusChecker.logger.debug("Remote server connection check failed", e);
             return false;
         }
     }
+
+    /**
+     * Resolves the remote host within the probe timeout, or returns {@code null} if it cannot be.
+     */
+    private InetSocketAddress resolveRemote() {
+        CompletableFuture<InetAddress> lookup = this.pendingLookup;
+        if (null == lookup || lookup.isDone()) {
+            final String host = this.remoteHost;
+            lookup = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return InetAddress.getByName(host);
+                } catch (final UnknownHostException e) {
+                    throw new CompletionException(e);
+                }
+            }, this.resolver);
+            this.pendingLookup = lookup;
+        }
+        try {
+            return new InetSocketAddress(lookup.get(this.timeout, TimeUnit.MILLISECONDS), this.remotePort);
+        } catch (final TimeoutException e) {
+            NetworkStatusChecker.logger.debug("Resolving {} took longer than {} ms", this.remoteHost, this.timeout);
+            return null;
+        } catch (final ExecutionException e) {
+            NetworkStatusChecker.logger.debug("Remote server host {} could not be resolved", this.remoteHost, e.getCause());
+            return null;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * @param nextProbeAt {@link System#nanoTime()} after which the cached result is stale
+     * @param since       when the current online/offline period started
+     */
+    private record ProbeState(boolean available, int failures, long nextProbeAt, Instant since) {
+    }
 }
@@ -1,9 +1,33 @@
 package com.projecthub.base.sync.application.service;
 
+import com.projecthub.base.sync.domain.value.SyncTombstone;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface RemoteDataService {
     <T> List<T> getRemoteData(Class<T> entityClass);
 
+    /**
+     * Rows whose {@code last_modified_date} is at or after {@code since}; every row when it is null.
+     */
+    <T> List<T> getRemoteDataModifiedSince(Class<T> entityClass, LocalDateTime since);
+
+    /**
+     * Opens a cursor over the whole table ordered by id. The returned stream holds a connection
+     * and must be closed by the caller.
+     */
+    <T> Stream<T> streamRemoteData(Class<T> entityClass, int fetchSize);
+
+    /**
+     * Deletions recorded at or after {@code since}; every deletion when it is null.
+     */
+    List<SyncTombstone> getRemoteTombstonesSince(Class<?> entityClass, LocalDateTime since);
+
     <T> void saveRemoteData(List<T> entities);
+
+    void deleteRemoteData(Class<?> entityClass, Collection<UUID> ids);
 }
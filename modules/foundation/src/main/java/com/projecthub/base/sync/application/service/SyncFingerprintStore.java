@@ -0,0 +1,17 @@
+package com.projecthub.base.sync.application.service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Fingerprints of the row contents both stores held after the last successful sync, used to skip
+ * writes that would not change anything.
+ */
+public interface SyncFingerprintStore {
+    Map<UUID, Long> find(String entityName, Collection<UUID> ids);
+
+    void save(String entityName, Map<UUID, Long> fingerprints);
+
+    void delete(String entityName, Collection<UUID> ids);
+}
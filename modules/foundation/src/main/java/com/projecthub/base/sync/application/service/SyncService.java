@@ -1,15 +1,19 @@
 package com.projecthub.base.sync.application.service;
 
+import com.projecthub.base.shared.domain.enums.sync.SyncState;
 import com.projecthub.base.shared.exception.SynchronizationException;
+import com.projecthub.base.sync.api.dto.EntitySyncResult;
+import com.projecthub.base.sync.domain.event.ConnectivityRestoredEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import javax.sql.DataSource;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Service
 public class SyncService {
@@ -17,22 +21,19 @@ public class SyncService {
 
     private final SyncStatusTracker syncStatusTracker;
     private final NetworkStatusChecker networkChecker;
+    private final EntitySyncScheduler syncScheduler;
     private final List<EntitySynchronizer<?>> synchronizers;
+    private final AtomicBoolean running = new AtomicBoolean();
 
     @Autowired
     public SyncService(
         final SyncStatusTracker syncStatusTracker,
         final NetworkStatusChecker networkChecker,
+        final EntitySyncScheduler syncScheduler,
         final List<EntitySynchronizer<?>> synchronizers) {
         this.syncStatusTracker = syncStatusTracker;
         this.networkChecker = networkChecker;
-        this.synchronizers = synchronizers;
-    }
-
-    public SyncService(final DataSource dataSource, final SyncStatusTracker syncStatusTracker, final NetworkStatusChecker networkChecker, final List<EntitySynchronizer<?>> synchronizers) {
-        //TODO Auto-generated constructor stub
-        this.syncStatusTracker = syncStatusTracker;
-        this.networkChecker = networkChecker;
+        this.syncScheduler = syncScheduler;
         this.synchronizers = synchronizers;
     }
 
@@ -41,11 +42,19 @@ public class SyncService {
         throw new UnsupportedOperationException("Constructor with DataSource is not supported");
     }
 
-    @Transactional
+    // Synchronizers run concurrently, see EntitySyncScheduler, and commit their writes chunk by chunk;
+    // deletions follow once every synchronizer has run, children before their parents
     @Scheduled(fixedDelay = 300000) // 5 minutes
     public void synchronizeData() {
+        // Claimed before the network check: a probe that detects a reconnect publishes
+        // ConnectivityRestoredEvent synchronously, which would otherwise start a nested run
+        if (!this.running.compareAndSet(false, true)) {
+            SyncService.logger.info("Synchronization already in progress, skipping");
+            return;
+        }
         if (!this.networkChecker.isNetworkAvailable()) {
             SyncService.logger.info("Network unavailable, skipping sync");
+            this.running.set(false);
             return;
         }
 
@@ -59,19 +68,29 @@ public class SyncService {
             SyncService.logger.error(errorMessage, e);
             this.syncStatusTracker.syncFailed(e);
             throw new SynchronizationException(errorMessage, e);
+        } finally {
+            this.running.set(false);
+        }
+    }
+
+    @EventListener
+    public void onConnectivityRestored(final ConnectivityRestoredEvent event) {
+        SyncService.logger.info("Connectivity restored after {}, starting synchronization", event.getOfflineDuration());
+        try {
+            this.synchronizeData();
+        } catch (final SynchronizationException e) {
+            // Already logged and recorded by synchronizeData; the next scheduled run retries
         }
     }
 
     private void synchronizeEntities() {
-        this.synchronizers.forEach(synchronizer -> {
-            try {
-                synchronizer.synchronize();
-            } catch (final Exception e) {
-                final String errorMessage = String.format("Failed to synchronize entity type: %s",
-                    synchronizer.getEntityName());
-                SyncService.logger.error(errorMessage, e);
-                throw new SynchronizationException(errorMessage, e);
-            }
-        });
+        final List<String> failedEntities = this.syncScheduler.synchronizeAll(this.synchronizers).stream()
+            .filter(result -> SyncState.SUCCESS != result.state())
+            .map(EntitySyncResult::entityName)
+            .toList();
+        if (!failedEntities.isEmpty()) {
+            throw new SynchronizationException(String.format("Failed to synchronize entity types: %s",
+                String.join(", ", failedEntities)));
+        }
     }
 }
@@ -1,5 +1,6 @@
 package com.projecthub.base.sync.application.service;
 
+import com.projecthub.base.sync.api.dto.EntitySyncResult;
 import com.projecthub.base.sync.api.dto.SyncStatus;
 
 public interface SyncStatusTracker {
@@ -9,5 +10,7 @@ public interface SyncStatusTracker {
 
     void syncFailed(Exception e);
 
+    void entitySyncFinished(EntitySyncResult result);
+
     SyncStatus getCurrentStatus();
 }
@@ -0,0 +1,11 @@
+package com.projecthub.base.sync.application.service;
+
+import com.projecthub.base.sync.domain.value.SyncWatermark;
+
+import java.util.Optional;
+
+public interface SyncWatermarkStore {
+    Optional<SyncWatermark> find(String entityName);
+
+    void save(SyncWatermark watermark);
+}
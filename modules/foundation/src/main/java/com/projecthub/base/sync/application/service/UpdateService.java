@@ -1,6 +1,7 @@
 package com.projecthub.base.sync.application.service;
 
 import com.projecthub.base.shared.domain.entity.BaseEntity;
+import com.projecthub.base.sync.domain.value.SyncChangeSet;
 
 import java.util.List;
 
@@ -19,4 +20,14 @@ public interface UpdateService {
      * @throws SynchronizationException if update fails
      */
     <T extends BaseEntity> void updateBothStores(List<T> mergedData, Class<T> entityClass);
+
+    /**
+     * Applies the winners of a delta sync run, touching only the rows listed in the change set.
+     *
+     * @param <T>         the type of entity extending BaseEntity
+     * @param changes     the upserts and deletes to apply to each store
+     * @param entityClass the class of the entity type
+     * @throws SynchronizationException if update fails
+     */
+    <T extends BaseEntity> void applyChanges(SyncChangeSet<T> changes, Class<T> entityClass);
 }
@@ -1,49 +1,292 @@
 package com.projecthub.base.sync.application.service.impl;
 
 import com.projecthub.base.shared.domain.entity.BaseEntity;
+import com.projecthub.base.shared.domain.enums.sync.SyncMode;
 import com.projecthub.base.shared.exception.SynchronizationException;
 import com.projecthub.base.sync.application.service.EntitySynchronizer;
 import com.projecthub.base.sync.application.service.LocalDataService;
+import com.projecthub.base.sync.api.dto.SyncRunStatistics;
 import com.projecthub.base.sync.application.service.RemoteDataService;
+import com.projecthub.base.sync.application.service.SyncFingerprintStore;
+import com.projecthub.base.sync.application.service.SyncWatermarkStore;
 import com.projecthub.base.sync.application.service.UpdateService;
+import com.projecthub.base.sync.domain.value.SyncChangeSet;
+import com.projecthub.base.sync.domain.value.SyncTombstone;
+import com.projecthub.base.sync.domain.value.SyncWatermark;
+import io.micrometer.core.instrument.Metrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Stream;
 
 public abstract class BaseSynchronizer<T extends BaseEntity> implements EntitySynchronizer<T> {
     private static final Logger logger = LoggerFactory.getLogger(BaseSynchronizer.class);
     private static final int MAX_RETRY_ATTEMPTS = 3;
+    /**
+     * Both stores order UUID columns as unsigned bytes, unlike {@link UUID#compareTo}.
+     */
+    private static final Comparator<UUID> STORE_ID_ORDER = Comparator
+        .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+        .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
 
     protected final LocalDataService localDataService;
     protected final RemoteDataService remoteDataService;
     protected final UpdateService updateService;
+    protected final SyncWatermarkStore watermarkStore;
+    protected final SyncFingerprintStore fingerprintStore;
 
-    protected BaseSynchronizer(final LocalDataService localDataService, final RemoteDataService remoteDataService, final UpdateService updateService) {
+    @Value("${sync.mode:DELTA}")
+    private SyncMode syncMode = SyncMode.DELTA;
+    @Value("${sync.stream.fetch-size:500}")
+    private int streamFetchSize = 500;
+    @Value("${sync.stream.chunk-size:500}")
+    private int streamChunkSize = 500;
+    @Value("${sync.delta.lookback:5s}")
+    private Duration deltaLookback = Duration.ofSeconds(5);
+
+    private TransactionOperations transactions = TransactionOperations.withoutTransaction();
+
+    private volatile SyncRunStatistics lastRunStatistics = SyncRunStatistics.EMPTY;
+    private volatile StagedDeletes stagedDeletes;
+
+    protected BaseSynchronizer(final LocalDataService localDataService, final RemoteDataService remoteDataService,
+                               final UpdateService updateService, final SyncWatermarkStore watermarkStore,
+                               final SyncFingerprintStore fingerprintStore) {
         this.localDataService = localDataService;
         this.remoteDataService = remoteDataService;
         this.updateService = updateService;
+        this.watermarkStore = watermarkStore;
+        this.fingerprintStore = fingerprintStore;
+    }
+
+    /**
+     * Each write of a run commits on its own: a delta run's change set, or one chunk of a streaming
+     * run. A run that fails part way leaves the committed chunks in place and its watermark
+     * unchanged, so the next run reads the same rows again and skips the ones already written by
+     * their fingerprint.
+     */
+    @Autowired
+    void setTransactionManager(final PlatformTransactionManager transactionManager) {
+        this.transactions = new TransactionTemplate(transactionManager);
     }
 
     @Override
-    @Transactional
     @Retryable(maxAttempts = BaseSynchronizer.MAX_RETRY_ATTEMPTS, backoff = @Backoff(delay = 1000), retryFor = SynchronizationException.class)
     public void synchronize() {
+        this.stagedDeletes = null;
+        final RunCounters counters = new RunCounters();
         try {
-            final List<T> localData = this.fetchLocalData();
-            final List<T> remoteData = this.fetchRemoteData();
-            final List<T> mergedData = this.merge(localData, remoteData);
-            this.updateService.updateBothStores(mergedData, this.getEntityType());
+            switch (this.syncMode) {
+                case FULL -> this.synchronizeFull(counters);
+                case STREAMING -> this.synchronizeStreaming(SyncWatermark.initial(this.getEntityName()), counters);
+                case DELTA -> this.synchronizeDelta(counters);
+            }
+            this.recordStatistics(counters);
             this.logSyncSuccess();
         } catch (final Exception e) {
             this.handleSyncError(e);
         }
     }
 
+    /**
+     * Deletes the rows staged by the last delta run in one transaction and only then advances that
+     * run's watermarks, so deletions that fail or are deferred are read again by the next run.
+     */
+    @Override
+    public void applyDeletes() {
+        final StagedDeletes staged = this.stagedDeletes;
+        if (null == staged) {
+            return;
+        }
+        this.stagedDeletes = null;
+
+        final RunCounters counters = new RunCounters();
+        final SyncChangeSet<T> deletes = new SyncChangeSet<>(List.of(), staged.localDeletes(), List.of(), staged.remoteDeletes());
+        try {
+            this.transactions.executeWithoutResult(status -> this.writeChanges(deletes, counters));
+        } catch (final Exception e) {
+            this.handleSyncError(e);
+        }
+        this.watermarkStore.save(staged.watermark());
+
+        final SyncRunStatistics run = this.lastRunStatistics;
+        this.lastRunStatistics = new SyncRunStatistics(run.rowsScanned(), run.rowsChanged() + counters.rowsChanged, run.bytesAvoided());
+        Metrics.counter("sync.rows.changed", "entity", this.getEntityName()).increment(counters.rowsChanged);
+    }
+
+    @Override
+    public SyncRunStatistics getLastRunStatistics() {
+        return this.lastRunStatistics;
+    }
+
+    private void synchronizeFull(final RunCounters counters) {
+        final List<T> localData = this.fetchLocalData();
+        final List<T> remoteData = this.fetchRemoteData();
+        final List<T> mergedData = this.merge(localData, remoteData);
+        this.updateService.updateBothStores(mergedData, this.getEntityType());
+        counters.rowsScanned += localData.size() + remoteData.size();
+        counters.rowsChanged += mergedData.size();
+    }
+
+    /**
+     * Fetches only the rows and tombstones changed on each side since the stored watermarks and
+     * writes back the winning upserts. The deletions and the advanced watermarks are staged for
+     * {@link #applyDeletes()}, which runs once the entity types depending on this one have applied
+     * theirs. Without stored watermarks the stores are first reconciled with a streaming pass.
+     * <p>
+     * Each side is re-read from {@code sync.delta.lookback} before its watermark, inclusive, so a
+     * row stamped at or just before the watermark but committed after the previous run is not
+     * missed. Rows seen again are dropped by their fingerprint before anything is written.
+     * </p>
+     */
+    private void synchronizeDelta(final RunCounters counters) {
+        final Optional<SyncWatermark> stored = this.watermarkStore.find(this.getEntityName());
+        if (stored.isEmpty()) {
+            this.watermarkStore.save(this.synchronizeStreaming(SyncWatermark.initial(this.getEntityName()), counters));
+            return;
+        }
+        final SyncWatermark watermark = stored.get();
+
+        final LocalDateTime localSince = this.lookBack(watermark.localWatermark());
+        final LocalDateTime remoteSince = this.lookBack(watermark.remoteWatermark());
+        final List<T> localChanges = BaseSynchronizer.distinctById(this.fetchLocalChanges(localSince));
+        final List<SyncTombstone> localTombstones = BaseSynchronizer.distinctTombstones(this.fetchLocalTombstones(localSince));
+        final List<T> remoteChanges = BaseSynchronizer.distinctById(this.fetchRemoteChanges(remoteSince));
+        final List<SyncTombstone> remoteTombstones = BaseSynchronizer.distinctTombstones(this.fetchRemoteTombstones(remoteSince));
+
+        counters.rowsScanned += localChanges.size() + localTombstones.size() + remoteChanges.size() + remoteTombstones.size();
+        final SyncChangeSet<T> changes = this.resolve(localChanges, localTombstones, remoteChanges, remoteTombstones);
+        final SyncChangeSet<T> upserts = new SyncChangeSet<>(changes.localUpserts(), Set.of(), changes.remoteUpserts(), Set.of());
+        this.transactions.executeWithoutResult(status -> this.writeChanges(upserts, counters));
+
+        BaseSynchronizer.logger.debug("Delta sync of {}: {} local and {} remote changes, {} rows written, {} deletions staged",
+            this.getEntityName(), localChanges.size() + localTombstones.size(), remoteChanges.size() + remoteTombstones.size(),
+            counters.rowsChanged, changes.localDeletes().size() + changes.remoteDeletes().size());
+
+        this.stagedDeletes = new StagedDeletes(changes.localDeletes(), changes.remoteDeletes(), watermark.advance(
+            BaseSynchronizer.latestChange(localChanges, localTombstones),
+            BaseSynchronizer.latestChange(remoteChanges, remoteTombstones)));
+    }
+
+    /**
+     * Sort-merge join of both tables on id. Only the current row of each cursor and one chunk of
+     * winners are held in memory, whatever the table size, and each chunk is written in its own
+     * transaction, so no transaction grows with the table either.
+     *
+     * @return the watermark advanced to the newest row seen on each side
+     */
+    private SyncWatermark synchronizeStreaming(final SyncWatermark watermark, final RunCounters counters) {
+        final SyncChunkWriter<T> writer = new SyncChunkWriter<>(this.streamChunkSize,
+            chunk -> this.transactions.executeWithoutResult(status -> this.writeChanges(chunk, counters)));
+        LocalDateTime latestLocal = null;
+        LocalDateTime latestRemote = null;
+
+        try (final Stream<T> localStream = this.localDataService.streamLocalData(this.getEntityType(), this.streamFetchSize);
+             final Stream<T> remoteStream = this.remoteDataService.streamRemoteData(this.getEntityType(), this.streamFetchSize)) {
+            final Iterator<T> localRows = localStream.iterator();
+            final Iterator<T> remoteRows = remoteStream.iterator();
+            T local = BaseSynchronizer.next(localRows);
+            T remote = BaseSynchronizer.next(remoteRows);
+
+            while (null != local || null != remote) {
+                final int order;
+                if (null == local) order = 1;
+                else if (null == remote) order = -1;
+                else order = BaseSynchronizer.STORE_ID_ORDER.compare(local.getId(), remote.getId());
+
+                if (0 >= order) {
+                    latestLocal = BaseSynchronizer.latest(latestLocal, local.getLastModifiedDate());
+                    counters.rowsScanned++;
+                }
+                if (0 <= order) {
+                    latestRemote = BaseSynchronizer.latest(latestRemote, remote.getLastModifiedDate());
+                    counters.rowsScanned++;
+                }
+
+                if (0 > order) {
+                    writer.writeRemote(local);
+                } else if (0 < order) {
+                    writer.writeLocal(remote);
+                } else if (BaseSynchronizer.isNewer(local.getLastModifiedDate(), remote.getLastModifiedDate())) {
+                    writer.writeRemote(local);
+                } else if (BaseSynchronizer.isNewer(remote.getLastModifiedDate(), local.getLastModifiedDate())) {
+                    writer.writeLocal(remote);
+                }
+
+                if (0 >= order) local = BaseSynchronizer.next(localRows);
+                if (0 <= order) remote = BaseSynchronizer.next(remoteRows);
+            }
+            writer.flush();
+        } catch (final SynchronizationException e) {
+            throw e;
+        } catch (final Exception e) {
+            throw new SynchronizationException("Failed to stream " + this.getEntityName(), e);
+        }
+
+        BaseSynchronizer.logger.debug("Streaming sync of {}: scanned {} rows, wrote {}", this.getEntityName(), counters.rowsScanned, counters.rowsChanged);
+        return watermark.advance(latestLocal, latestRemote);
+    }
+
+    /**
+     * Drops upserts whose content fingerprint matches what both stores held after the last sync,
+     * applies the rest and records their new fingerprints.
+     */
+    private void writeChanges(final SyncChangeSet<T> changes, final RunCounters counters) {
+        final EntityRowBinder<T> binder = EntityRowBinders.of(this.getEntityType());
+        final List<UUID> upsertIds = new ArrayList<>(changes.localUpserts().size() + changes.remoteUpserts().size());
+        changes.localUpserts().forEach(item -> upsertIds.add(item.getId()));
+        changes.remoteUpserts().forEach(item -> upsertIds.add(item.getId()));
+        final Map<UUID, Long> known = this.fingerprintStore.find(this.getEntityName(), upsertIds);
+
+        final Map<UUID, Long> fingerprints = new HashMap<>();
+        final List<T> localUpserts = this.dropUnchanged(changes.localUpserts(), binder, known, fingerprints, counters);
+        final List<T> remoteUpserts = this.dropUnchanged(changes.remoteUpserts(), binder, known, fingerprints, counters);
+        final SyncChangeSet<T> effective = new SyncChangeSet<>(localUpserts, changes.localDeletes(), remoteUpserts, changes.remoteDeletes());
+        if (effective.isEmpty()) {
+            return;
+        }
+
+        this.updateService.applyChanges(effective, this.getEntityType());
+        this.fingerprintStore.save(this.getEntityName(), fingerprints);
+        final Set<UUID> deleted = new HashSet<>(effective.localDeletes());
+        deleted.addAll(effective.remoteDeletes());
+        this.fingerprintStore.delete(this.getEntityName(), deleted);
+        counters.rowsChanged += localUpserts.size() + remoteUpserts.size() + deleted.size();
+    }
+
+    private List<T> dropUnchanged(final List<T> upserts, final EntityRowBinder<T> binder, final Map<UUID, Long> known,
+                                  final Map<UUID, Long> fingerprints, final RunCounters counters) {
+        final List<T> changed = new ArrayList<>(upserts.size());
+        for (final T item : upserts) {
+            final long fingerprint = binder.fingerprint(item);
+            final Long previous = known.get(item.getId());
+            if (null != previous && fingerprint == previous) {
+                counters.bytesAvoided += binder.estimateSize(item);
+            } else {
+                changed.add(item);
+                fingerprints.put(item.getId(), fingerprint);
+            }
+        }
+        return changed;
+    }
+
+    private void recordStatistics(final RunCounters counters) {
+        this.lastRunStatistics = new SyncRunStatistics(counters.rowsScanned, counters.rowsChanged, counters.bytesAvoided);
+        Metrics.counter("sync.rows.scanned", "entity", this.getEntityName()).increment(counters.rowsScanned);
+        Metrics.counter("sync.rows.changed", "entity", this.getEntityName()).increment(counters.rowsChanged);
+        Metrics.counter("sync.bytes.avoided", "entity", this.getEntityName()).increment(counters.bytesAvoided);
+    }
+
     private List<T> fetchLocalData() {
         try {
             return this.localDataService.getLocalData(this.getEntityType());
@@ -60,6 +303,38 @@ public abstract class BaseSynchronizer<T extends BaseEntity> implements EntitySy
         }
     }
 
+    private List<T> fetchLocalChanges(final LocalDateTime since) {
+        try {
+            return this.localDataService.getLocalDataModifiedSince(this.getEntityType(), since);
+        } catch (final Exception e) {
+            throw new SynchronizationException("Failed to fetch local changes of " + this.getEntityName(), e);
+        }
+    }
+
+    private List<T> fetchRemoteChanges(final LocalDateTime since) {
+        try {
+            return this.remoteDataService.getRemoteDataModifiedSince(this.getEntityType(), since);
+        } catch (final Exception e) {
+            throw new SynchronizationException("Failed to fetch remote changes of " + this.getEntityName(), e);
+        }
+    }
+
+    private List<SyncTombstone> fetchLocalTombstones(final LocalDateTime since) {
+        try {
+            return this.localDataService.getLocalTombstonesSince(this.getEntityType(), since);
+        } catch (final Exception e) {
+            throw new SynchronizationException("Failed to fetch local deletions of " + this.getEntityName(), e);
+        }
+    }
+
+    private List<SyncTombstone> fetchRemoteTombstones(final LocalDateTime since) {
+        try {
+            return this.remoteDataService.getRemoteTombstonesSince(this.getEntityType(), since);
+        } catch (final Exception e) {
+            throw new SynchronizationException("Failed to fetch remote deletions of " + this.getEntityName(), e);
+        }
+    }
+
     protected List<T> merge(final List<T> local, final List<T> remote) {
         final Map<UUID, T> mergedMap = new HashMap<>();
         final Map<UUID, LocalDateTime> lastModifiedMap = new HashMap<>();
@@ -84,10 +359,121 @@ public abstract class BaseSynchronizer<T extends BaseEntity> implements EntitySy
         return new ArrayList<>(mergedMap.values());
     }
 
+    /**
+     * Resolves the changes seen on both sides since the last run. A row changed on one side only
+     * wins outright; a row changed on both sides goes to the newer version, and equal versions are
+     * left alone. A deletion wins unless the other side modified the row after it was deleted.
+     */
+    protected SyncChangeSet<T> resolve(final List<T> localChanges, final List<SyncTombstone> localTombstones,
+                                       final List<T> remoteChanges, final List<SyncTombstone> remoteTombstones) {
+        final Map<UUID, T> localById = BaseSynchronizer.indexById(localChanges);
+        final Map<UUID, T> remoteById = BaseSynchronizer.indexById(remoteChanges);
+        final Map<UUID, LocalDateTime> localDeleted = BaseSynchronizer.indexTombstones(localTombstones);
+        final Map<UUID, LocalDateTime> remoteDeleted = BaseSynchronizer.indexTombstones(remoteTombstones);
+
+        final List<T> localUpserts = new ArrayList<>();
+        final Set<UUID> localDeletes = new HashSet<>();
+        final List<T> remoteUpserts = new ArrayList<>();
+        final Set<UUID> remoteDeletes = new HashSet<>();
+
+        localChanges.forEach(item -> {
+            final T remote = remoteById.get(item.getId());
+            if (null != remote) {
+                if (BaseSynchronizer.isNewer(item.getLastModifiedDate(), remote.getLastModifiedDate())) {
+                    remoteUpserts.add(item);
+                }
+            } else if (this.survivesDeletion(item, remoteDeleted.get(item.getId()))) {
+                remoteUpserts.add(item);
+            } else {
+                localDeletes.add(item.getId());
+            }
+        });
+
+        remoteChanges.forEach(item -> {
+            final T local = localById.get(item.getId());
+            if (null != local) {
+                if (BaseSynchronizer.isNewer(item.getLastModifiedDate(), local.getLastModifiedDate())) {
+                    localUpserts.add(item);
+                }
+            } else if (this.survivesDeletion(item, localDeleted.get(item.getId()))) {
+                localUpserts.add(item);
+            } else {
+                remoteDeletes.add(item.getId());
+            }
+        });
+
+        // Deletions of rows the other side has not touched since the last run
+        localDeleted.keySet().stream()
+            .filter(id -> !remoteById.containsKey(id) && !remoteDeleted.containsKey(id))
+            .forEach(remoteDeletes::add);
+        remoteDeleted.keySet().stream()
+            .filter(id -> !localById.containsKey(id) && !localDeleted.containsKey(id))
+            .forEach(localDeletes::add);
+
+        return new SyncChangeSet<>(localUpserts, localDeletes, remoteUpserts, remoteDeletes);
+    }
+
     private boolean shouldUseLocalVersion(final LocalDateTime localModified, final LocalDateTime remoteModified) {
-        if (null == localModified) return false;
-        if (null == remoteModified) return true;
-        return localModified.isAfter(remoteModified);
+        return BaseSynchronizer.isNewer(localModified, remoteModified);
+    }
+
+    private boolean survivesDeletion(final T item, final LocalDateTime deletedDate) {
+        return null == deletedDate || BaseSynchronizer.isNewer(item.getLastModifiedDate(), deletedDate);
+    }
+
+    private static boolean isNewer(final LocalDateTime candidate, final LocalDateTime other) {
+        if (null == candidate) return false;
+        if (null == other) return true;
+        return candidate.isAfter(other);
+    }
+
+    private LocalDateTime lookBack(final LocalDateTime watermark) {
+        return null == watermark ? null : watermark.minus(this.deltaLookback);
+    }
+
+    private static <E extends BaseEntity> List<E> distinctById(final List<E> items) {
+        return new ArrayList<>(BaseSynchronizer.indexById(items).values());
+    }
+
+    /**
+     * Keeps the latest deletion per id.
+     */
+    private static List<SyncTombstone> distinctTombstones(final List<SyncTombstone> tombstones) {
+        final Map<UUID, SyncTombstone> index = new LinkedHashMap<>();
+        tombstones.forEach(tombstone -> index.merge(tombstone.id(), tombstone,
+            (current, candidate) -> BaseSynchronizer.isNewer(candidate.deletedDate(), current.deletedDate()) ? candidate : current));
+        return new ArrayList<>(index.values());
+    }
+
+    private static <E> E next(final Iterator<E> iterator) {
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    private static LocalDateTime latest(final LocalDateTime current, final LocalDateTime candidate) {
+        return BaseSynchronizer.isNewer(candidate, current) ? candidate : current;
+    }
+
+    private static <E extends BaseEntity> Map<UUID, E> indexById(final List<E> items) {
+        final Map<UUID, E> index = new LinkedHashMap<>();
+        items.forEach(item -> index.put(item.getId(), item));
+        return index;
+    }
+
+    private static Map<UUID, LocalDateTime> indexTombstones(final List<SyncTombstone> tombstones) {
+        final Map<UUID, LocalDateTime> index = new HashMap<>();
+        tombstones.forEach(tombstone -> index.put(tombstone.id(), tombstone.deletedDate()));
+        return index;
+    }
+
+    private static LocalDateTime latestChange(final List<? extends BaseEntity> changes, final List<SyncTombstone> tombstones) {
+        LocalDateTime latest = null;
+        for (final BaseEntity change : changes) {
+            latest = BaseSynchronizer.latest(latest, change.getLastModifiedDate());
+        }
+        for (final SyncTombstone tombstone : tombstones) {
+            latest = BaseSynchronizer.latest(latest, tombstone.deletedDate());
+        }
+        return latest;
     }
 
     private void logSyncSuccess() {
@@ -99,4 +485,16 @@ public abstract class BaseSynchronizer<T extends BaseEntity> implements EntitySy
         BaseSynchronizer.logger.error(errorMessage, e);
         throw new SynchronizationException(errorMessage, e);
     }
+
+    /**
+     * Deletions of a delta run and the watermarks to store once they are applied.
+     */
+    private record StagedDeletes(Set<UUID> localDeletes, Set<UUID> remoteDeletes, SyncWatermark watermark) {
+    }
+
+    private static final class RunCounters {
+        private long rowsScanned;
+        private long rowsChanged;
+        private long bytesAvoided;
+    }
 }
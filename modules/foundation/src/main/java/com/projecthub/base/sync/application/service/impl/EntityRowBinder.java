@@ -0,0 +1,284 @@
+package com.projecthub.base.sync.application.service.impl;
+
+import com.projecthub.base.shared.utils.EntityReflectionUtils;
+import jakarta.persistence.Column;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.lang.NonNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Precompiled JDBC binding for one entity class, built once by {@link EntityRowBinders}.
+ * <p>
+ * Column lists, SQL statements and SQL types are resolved up front and field access goes through
+ * method handles, so binding and mapping rows does no reflection lookups. The binder also acts as
+ * the row mapper for queries built from {@link #selectSql()}, reading columns by position.
+ * </p>
+ *
+ * @param <T> the entity type
+ */
+public final class EntityRowBinder<T> implements RowMapper<T> {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final Class<T> entityClass;
+    private final String tableName;
+    private final ColumnBinding[] bindings;
+    private final MethodHandle constructor;
+    private final List<String> columns;
+    private final String selectSql;
+    private final String insertSql;
+    private final String upsertSql;
+    private final Map<Integer, String> mergeSql = new ConcurrentHashMap<>();
+
+    private EntityRowBinder(final Class<T> entityClass, final ColumnBinding[] bindings, final MethodHandle constructor) {
+        this.entityClass = entityClass;
+        this.tableName = SyncTrackingSchema.tableName(entityClass);
+        this.bindings = bindings;
+        this.constructor = constructor;
+        this.columns = Arrays.stream(bindings).map(ColumnBinding::column).toList();
+
+        final String columnList = String.join(", ", this.columns);
+        final String placeholders = this.columns.stream().map(_ -> "?").collect(Collectors.joining(", "));
+        this.selectSql = String.format("SELECT %s FROM %s", columnList, this.tableName);
+        this.insertSql = String.format("INSERT INTO %s (%s) VALUES (%s)", this.tableName, columnList, placeholders);
+        this.upsertSql = String.format("INSERT INTO %s (%s) VALUES (%s) ON CONFLICT (id) DO UPDATE SET %s",
+            this.tableName, columnList, placeholders,
+            this.columns.stream().map(column -> column + " = EXCLUDED." + column).collect(Collectors.joining(", ")));
+    }
+
+    static <T> EntityRowBinder<T> compile(final Class<T> entityClass) {
+        try {
+            final List<Field> fields = new ArrayList<>();
+            EntityReflectionUtils.getIdField(entityClass).ifPresent(fields::add);
+            fields.addAll(EntityReflectionUtils.getEntityFields(entityClass));
+
+            final ColumnBinding[] bindings = new ColumnBinding[fields.size()];
+            for (int i = 0; i < bindings.length; i++) {
+                bindings[i] = ColumnBinding.of(fields.get(i));
+            }
+
+            final MethodHandle constructor = MethodHandles.privateLookupIn(entityClass, MethodHandles.lookup())
+                .findConstructor(entityClass, MethodType.methodType(void.class))
+                .asType(EntityRowBinder.CONSTRUCTOR_TYPE);
+            return new EntityRowBinder<>(entityClass, bindings, constructor);
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot compile row binder for " + entityClass.getName(), e);
+        }
+    }
+
+    public Class<T> getEntityClass() {
+        return this.entityClass;
+    }
+
+    public String getTableName() {
+        return this.tableName;
+    }
+
+    public List<String> getColumns() {
+        return this.columns;
+    }
+
+    /**
+     * {@code SELECT <columns> FROM <table>}; callers may append WHERE and ORDER BY clauses.
+     */
+    public String selectSql() {
+        return this.selectSql;
+    }
+
+    public String insertSql() {
+        return this.insertSql;
+    }
+
+    /**
+     * Postgres {@code INSERT ... ON CONFLICT (id) DO UPDATE} statement.
+     */
+    public String upsertSql() {
+        return this.upsertSql;
+    }
+
+    /**
+     * H2 {@code MERGE INTO ... KEY (id)} statement carrying {@code rows} value groups.
+     */
+    public String mergeSql(final int rows) {
+        return this.mergeSql.computeIfAbsent(rows, count -> {
+            final String group = this.columns.stream().map(_ -> "?").collect(Collectors.joining(", ", "(", ")"));
+            return String.format("MERGE INTO %s (%s) KEY (id) VALUES %s", this.tableName, String.join(", ", this.columns),
+                String.join(", ", Collections.nCopies(count, group)));
+        });
+    }
+
+    public void bind(@NonNull final PreparedStatement ps, final T entity) throws SQLException {
+        this.bind(ps, entity, 0);
+    }
+
+    /**
+     * Binds the entity's columns starting after {@code offset} parameters, for multi-row statements.
+     */
+    public void bind(@NonNull final PreparedStatement ps, final T entity, final int offset) throws SQLException {
+        for (int i = 0; i < this.bindings.length; i++) {
+            final ColumnBinding binding = this.bindings[i];
+            final Object value = binding.get(entity);
+            final int index = offset + i + 1;
+            if (null == value) {
+                ps.setNull(index, binding.sqlType());
+            } else if (binding.enumType()) {
+                ps.setString(index, ((Enum<?>) value).name());
+            } else {
+                ps.setObject(index, value);
+            }
+        }
+    }
+
+    /**
+     * 64-bit FNV-1a hash over the bound columns, used to detect rows whose content did not change.
+     */
+    public long fingerprint(final T entity) {
+        long hash = EntityRowBinder.FNV_OFFSET_BASIS;
+        for (final ColumnBinding binding : this.bindings) {
+            final Object value = binding.get(entity);
+            if (null != value) {
+                final String text = binding.enumType() ? ((Enum<?>) value).name() : value.toString();
+                for (int i = 0; i < text.length(); i++) {
+                    hash = (hash ^ text.charAt(i)) * EntityRowBinder.FNV_PRIME;
+                }
+            }
+            // Column separator, keeps ("ab", "c") and ("a", "bc") apart; null differs from ""
+            hash = (hash ^ (null == value ? 0xFFFE : 0xFFFF)) * EntityRowBinder.FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * Rough size of the row on the wire, used for sync statistics.
+     */
+    public long estimateSize(final T entity) {
+        long size = 0;
+        for (final ColumnBinding binding : this.bindings) {
+            final Object value = binding.get(entity);
+            if (null == value) size += 1;
+            else if (value instanceof final CharSequence text) size += text.length();
+            else if (value instanceof Number || value instanceof Boolean) size += 8;
+            else if (value instanceof UUID) size += 16;
+            else size += value.toString().length();
+        }
+        return size;
+    }
+
+    @Override
+    public T mapRow(@NonNull final ResultSet rs, final int rowNum) throws SQLException {
+        final T entity = this.newInstance();
+        for (int i = 0; i < this.bindings.length; i++) {
+            final ColumnBinding binding = this.bindings[i];
+            final Object value = binding.read(rs, i + 1);
+            if (null != value) {
+                binding.set(entity, value);
+            }
+        }
+        return entity;
+    }
+
+    private T newInstance() {
+        try {
+            return this.entityClass.cast((Object) this.constructor.invokeExact());
+        } catch (final Throwable e) {
+            throw new IllegalStateException("Cannot instantiate " + this.entityClass.getName(), e);
+        }
+    }
+
+    private record ColumnBinding(
+        String column,
+        Class<?> javaType,
+        int sqlType,
+        boolean enumType,
+        MethodHandle getter,
+        MethodHandle setter
+    ) {
+        static ColumnBinding of(final Field field) throws IllegalAccessException {
+            final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+            final Class<?> javaType = ColumnBinding.boxed(field.getType());
+            return new ColumnBinding(
+                ColumnBinding.columnName(field),
+                javaType,
+                ColumnBinding.sqlTypeOf(javaType),
+                javaType.isEnum(),
+                lookup.unreflectGetter(field).asType(EntityRowBinder.GETTER_TYPE),
+                lookup.unreflectSetter(field).asType(EntityRowBinder.SETTER_TYPE)
+            );
+        }
+
+        Object get(final Object entity) {
+            try {
+                return (Object) this.getter.invokeExact(entity);
+            } catch (final Throwable e) {
+                throw new IllegalStateException("Cannot read column " + this.column, e);
+            }
+        }
+
+        void set(final Object entity, final Object value) {
+            try {
+                this.setter.invokeExact(entity, value);
+            } catch (final Throwable e) {
+                throw new IllegalStateException("Cannot write column " + this.column, e);
+            }
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Object read(final ResultSet rs, final int index) throws SQLException {
+            if (this.enumType) {
+                final String name = rs.getString(index);
+                return null == name ? null : Enum.valueOf((Class<? extends Enum>) this.javaType, name);
+            }
+            return rs.getObject(index, this.javaType);
+        }
+
+        private static String columnName(final Field field) {
+            final Column column = field.getAnnotation(Column.class);
+            if (null != column && !column.name().isEmpty()) {
+                return column.name();
+            }
+            // Same as Spring's default physical naming strategy
+            return field.getName().replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT);
+        }
+
+        private static Class<?> boxed(final Class<?> type) {
+            if (!type.isPrimitive()) return type;
+            return MethodType.methodType(type).wrap().returnType();
+        }
+
+        private static int sqlTypeOf(final Class<?> type) {
+            if (String.class == type || type.isEnum()) return Types.VARCHAR;
+            if (Integer.class == type) return Types.INTEGER;
+            if (Long.class == type) return Types.BIGINT;
+            if (Boolean.class == type) return Types.BOOLEAN;
+            if (Double.class == type) return Types.DOUBLE;
+            if (BigDecimal.class == type) return Types.NUMERIC;
+            if (LocalDateTime.class == type) return Types.TIMESTAMP;
+            if (LocalDate.class == type) return Types.DATE;
+            if (UUID.class == type) return Types.OTHER;
+            return Types.OTHER;
+        }
+    }
+}
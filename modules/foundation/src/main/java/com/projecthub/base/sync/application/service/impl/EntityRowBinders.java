@@ -0,0 +1,22 @@
+package com.projecthub.base.sync.application.service.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of {@link EntityRowBinder}s, compiled on first use and shared by both data services.
+ */
+public enum EntityRowBinders {
+    ;
+    private static final Map<Class<?>, EntityRowBinder<?>> binders = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public static <T> EntityRowBinder<T> of(final Class<T> entityClass) {
+        return (EntityRowBinder<T>) EntityRowBinders.binders.computeIfAbsent(entityClass, EntityRowBinder::compile);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> EntityRowBinder<T> forEntity(final T entity) {
+        return EntityRowBinders.of((Class<T>) entity.getClass());
+    }
+}
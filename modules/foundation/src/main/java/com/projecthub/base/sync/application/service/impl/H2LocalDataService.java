@@ -1,24 +1,30 @@
 package com.projecthub.base.sync.application.service.impl;
 
-import com.projecthub.base.shared.utils.EntityReflectionUtils;
 import com.projecthub.base.sync.application.service.LocalDataService;
-import jakarta.persistence.Column;
+import com.projecthub.base.sync.domain.value.SyncTombstone;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
-import org.springframework.jdbc.core.BeanPropertyRowMapper;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.lang.NonNull;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.sql.DataSource;
-import java.lang.reflect.Field;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Types;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 public class H2LocalDataService implements LocalDataService {
+    private static final int MERGE_ROWS_PER_STATEMENT = 50;
+    private static final RowMapper<SyncTombstone> TOMBSTONE_ROW_MAPPER = (rs, _) -> new SyncTombstone(
+        rs.getObject("entity_id", UUID.class),
+        rs.getTimestamp("deleted_date").toLocalDateTime()
+    );
+
     private final JdbcTemplate jdbcTemplate;
 
     public H2LocalDataService(final DataSource dataSource) {
@@ -28,9 +34,42 @@ public class H2LocalDataService implements LocalDataService {
     @Override
     @Transactional(readOnly = true)
     public <T> List<T> getLocalData(final Class<T> entityClass) {
-        final String tableName = entityClass.getSimpleName().toLowerCase();
-        final String sql = String.format("SELECT * FROM %s", tableName);
-        return this.jdbcTemplate.query(sql, new BeanPropertyRowMapper<>(entityClass));
+        final EntityRowBinder<T> binder = EntityRowBinders.of(entityClass);
+        return this.jdbcTemplate.query(binder.selectSql(), binder);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public <T> List<T> getLocalDataModifiedSince(final Class<T> entityClass, final LocalDateTime since) {
+        if (null == since) {
+            return this.getLocalData(entityClass);
+        }
+        final EntityRowBinder<T> binder = EntityRowBinders.of(entityClass);
+        return this.jdbcTemplate.query(binder.selectSql() + " WHERE last_modified_date >= ?", binder, since);
+    }
+
+    @Override
+    public <T> Stream<T> streamLocalData(final Class<T> entityClass, final int fetchSize) {
+        final EntityRowBinder<T> binder = EntityRowBinders.of(entityClass);
+        final String sql = binder.selectSql() + " ORDER BY id";
+        return this.jdbcTemplate.queryForStream(connection -> {
+            final PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, binder);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SyncTombstone> getLocalTombstonesSince(final Class<?> entityClass, final LocalDateTime since) {
+        SyncTrackingSchema.ensureTombstoneTable(this.jdbcTemplate);
+        final String tableName = SyncTrackingSchema.tableName(entityClass);
+        if (null == since) {
+            final String sql = String.format("SELECT entity_id, deleted_date FROM %s WHERE table_name = ?", SyncTrackingSchema.TOMBSTONE_TABLE);
+            return this.jdbcTemplate.query(sql, H2LocalDataService.TOMBSTONE_ROW_MAPPER, tableName);
+        }
+        final String sql = String.format("SELECT entity_id, deleted_date FROM %s WHERE table_name = ? AND deleted_date >= ?", SyncTrackingSchema.TOMBSTONE_TABLE);
+        return this.jdbcTemplate.query(sql, H2LocalDataService.TOMBSTONE_ROW_MAPPER, tableName, since);
     }
 
     @Override
@@ -40,12 +79,45 @@ public class H2LocalDataService implements LocalDataService {
             return;
         }
 
-        final Class<?> entityClass = entities.get(0).getClass();
-        final String tableName = entityClass.getSimpleName().toLowerCase();
+        final EntityRowBinder<T> binder = EntityRowBinders.forEntity(entities.get(0));
 
         // Using batch update for better performance
-        final String sql = this.generateInsertSql(tableName, entityClass);
-        this.jdbcTemplate.batchUpdate(sql, new EntityBatchPreparedStatementSetter<>(entities));
+        this.jdbcTemplate.batchUpdate(binder.insertSql(), new EntityBatchPreparedStatementSetter<>(entities, binder));
+    }
+
+    @Override
+    @Transactional
+    public <T> void upsertLocalData(final List<T> entities) {
+        if (null == entities || entities.isEmpty()) {
+            return;
+        }
+
+        final EntityRowBinder<T> binder = EntityRowBinders.forEntity(entities.get(0));
+        final int rowsPerStatement = H2LocalDataService.MERGE_ROWS_PER_STATEMENT;
+        final int fullStatements = entities.size() / rowsPerStatement;
+        final int remainder = entities.size() % rowsPerStatement;
+
+        // Multi-row MERGE statements, batched, followed by one statement for the leftover rows
+        if (0 < fullStatements) {
+            this.jdbcTemplate.batchUpdate(binder.mergeSql(rowsPerStatement),
+                new MultiRowBatchPreparedStatementSetter<>(entities, binder, rowsPerStatement, fullStatements));
+        }
+        if (0 < remainder) {
+            final List<T> leftover = entities.subList(fullStatements * rowsPerStatement, entities.size());
+            this.jdbcTemplate.batchUpdate(binder.mergeSql(remainder),
+                new MultiRowBatchPreparedStatementSetter<>(leftover, binder, remainder, 1));
+        }
+    }
+
+    @Override
+    @Transactional
+    public void deleteLocalData(final Class<?> entityClass, final Collection<UUID> ids) {
+        if (null == ids || ids.isEmpty()) {
+            return;
+        }
+        final String tableName = entityClass.getSimpleName().toLowerCase();
+        final String sql = String.format("DELETE FROM %s WHERE id = ?", tableName);
+        this.jdbcTemplate.batchUpdate(sql, ids.stream().map(id -> new Object[]{id}).toList());
     }
 
     @Override
@@ -56,57 +128,51 @@ public class H2LocalDataService implements LocalDataService {
         this.jdbcTemplate.update(sql);
     }
 
-    private String generateInsertSql(final String tableName, final Class<?> entityClass) {
-        final List<Field> fields = EntityReflectionUtils.getEntityFields(entityClass);
-        final String columns = fields.stream()
-            .map(field -> field.getAnnotation(Column.class).name())
-            .collect(Collectors.joining(", "));
+    private static class EntityBatchPreparedStatementSetter<T> implements BatchPreparedStatementSetter {
+        private final List<T> entities;
+        private final EntityRowBinder<T> binder;
 
-        final String values = fields.stream()
-            .map(_ -> "?")
-            .collect(Collectors.joining(", "));
+        public EntityBatchPreparedStatementSetter(final List<T> entities, final EntityRowBinder<T> binder) {
+            this.entities = entities;
+            this.binder = binder;
+        }
 
-        return String.format("INSERT INTO %s (%s) VALUES (%s)", tableName, columns, values);
+        @Override
+        public void setValues(@NonNull final PreparedStatement ps, final int i) throws SQLException {
+            this.binder.bind(ps, this.entities.get(i));
+        }
+
+        @Override
+        public int getBatchSize() {
+            return this.entities.size();
+        }
     }
 
-    private static class EntityBatchPreparedStatementSetter<T> implements BatchPreparedStatementSetter {
+    private static class MultiRowBatchPreparedStatementSetter<T> implements BatchPreparedStatementSetter {
         private final List<T> entities;
-        private final List<Field> fields;
+        private final EntityRowBinder<T> binder;
+        private final int rowsPerStatement;
+        private final int statements;
 
-        public EntityBatchPreparedStatementSetter(final List<T> entities) {
+        public MultiRowBatchPreparedStatementSetter(final List<T> entities, final EntityRowBinder<T> binder,
+                                                    final int rowsPerStatement, final int statements) {
             this.entities = entities;
-            fields = EntityReflectionUtils.getEntityFields(entities.get(0).getClass());
+            this.binder = binder;
+            this.rowsPerStatement = rowsPerStatement;
+            this.statements = statements;
         }
 
         @Override
         public void setValues(@NonNull final PreparedStatement ps, final int i) throws SQLException {
-            final T entity = this.entities.get(i);
-            int paramIndex = 1;
-
-            for (final Field field : this.fields) {
-                final Object value = EntityReflectionUtils.getFieldValue(entity, field);
-                if (null != value) {
-                    ps.setObject(paramIndex, value);
-                    paramIndex++;
-                } else {
-                    ps.setNull(paramIndex, this.getSqlType(field.getType()));
-                    paramIndex++;
-                }
+            final int columnCount = this.binder.getColumns().size();
+            for (int row = 0; row < this.rowsPerStatement; row++) {
+                this.binder.bind(ps, this.entities.get(i * this.rowsPerStatement + row), row * columnCount);
             }
         }
 
         @Override
         public int getBatchSize() {
-            return this.entities.size();
-        }
-
-        private int getSqlType(final Class<?> type) {
-            if (String.class == type) return Types.VARCHAR;
-            if (Integer.class == type) return Types.INTEGER;
-            if (Long.class == type) return Types.BIGINT;
-            if (Boolean.class == type) return Types.BOOLEAN;
-            if (LocalDateTime.class == type) return Types.TIMESTAMP;
-            return Types.OTHER;
+            return this.statements;
         }
     }
 }
@@ -0,0 +1,70 @@
+package com.projecthub.base.sync.application.service.impl;
+
+import com.projecthub.base.sync.application.service.SyncFingerprintStore;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.*;
+import java.util.stream.Collectors;
+
+public class H2SyncFingerprintStore implements SyncFingerprintStore {
+    private static final int LOOKUP_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public H2SyncFingerprintStore(final DataSource dataSource) {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, Long> find(final String entityName, final Collection<UUID> ids) {
+        if (null == ids || ids.isEmpty()) {
+            return Map.of();
+        }
+        SyncTrackingSchema.ensureFingerprintTable(this.jdbcTemplate);
+
+        final Map<UUID, Long> fingerprints = new HashMap<>();
+        final List<UUID> idList = new ArrayList<>(ids);
+        for (int from = 0; from < idList.size(); from += H2SyncFingerprintStore.LOOKUP_BATCH_SIZE) {
+            final List<UUID> batch = idList.subList(from, Math.min(from + H2SyncFingerprintStore.LOOKUP_BATCH_SIZE, idList.size()));
+            final String sql = String.format("SELECT entity_id, fingerprint FROM %s WHERE entity_name = ? AND entity_id IN (%s)",
+                SyncTrackingSchema.FINGERPRINT_TABLE, batch.stream().map(_ -> "?").collect(Collectors.joining(", ")));
+            final Object[] args = new Object[batch.size() + 1];
+            args[0] = entityName;
+            for (int i = 0; i < batch.size(); i++) {
+                args[i + 1] = batch.get(i);
+            }
+            this.jdbcTemplate.query(sql, rs -> {
+                fingerprints.put(rs.getObject("entity_id", UUID.class), rs.getLong("fingerprint"));
+            }, args);
+        }
+        return fingerprints;
+    }
+
+    @Override
+    @Transactional
+    public void save(final String entityName, final Map<UUID, Long> fingerprints) {
+        if (null == fingerprints || fingerprints.isEmpty()) {
+            return;
+        }
+        SyncTrackingSchema.ensureFingerprintTable(this.jdbcTemplate);
+        final String sql = String.format("MERGE INTO %s (entity_name, entity_id, fingerprint) KEY (entity_name, entity_id) VALUES (?, ?, ?)",
+            SyncTrackingSchema.FINGERPRINT_TABLE);
+        this.jdbcTemplate.batchUpdate(sql, fingerprints.entrySet().stream()
+            .map(entry -> new Object[]{entityName, entry.getKey(), entry.getValue()})
+            .toList());
+    }
+
+    @Override
+    @Transactional
+    public void delete(final String entityName, final Collection<UUID> ids) {
+        if (null == ids || ids.isEmpty()) {
+            return;
+        }
+        SyncTrackingSchema.ensureFingerprintTable(this.jdbcTemplate);
+        final String sql = String.format("DELETE FROM %s WHERE entity_name = ? AND entity_id = ?", SyncTrackingSchema.FINGERPRINT_TABLE);
+        this.jdbcTemplate.batchUpdate(sql, ids.stream().map(id -> new Object[]{entityName, id}).toList());
+    }
+}
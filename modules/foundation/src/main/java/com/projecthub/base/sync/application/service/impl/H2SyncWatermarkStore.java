@@ -0,0 +1,50 @@
+package com.projecthub.base.sync.application.service.impl;
+
+import com.projecthub.base.sync.application.service.SyncWatermarkStore;
+import com.projecthub.base.sync.domain.value.SyncWatermark;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public class H2SyncWatermarkStore implements SyncWatermarkStore {
+    private static final RowMapper<SyncWatermark> WATERMARK_ROW_MAPPER = (rs, _) -> new SyncWatermark(
+        rs.getString("entity_name"),
+        H2SyncWatermarkStore.toLocalDateTime(rs.getTimestamp("local_watermark")),
+        H2SyncWatermarkStore.toLocalDateTime(rs.getTimestamp("remote_watermark"))
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public H2SyncWatermarkStore(final DataSource dataSource) {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<SyncWatermark> find(final String entityName) {
+        SyncTrackingSchema.ensureWatermarkTable(this.jdbcTemplate);
+        final String sql = String.format("SELECT entity_name, local_watermark, remote_watermark FROM %s WHERE entity_name = ?",
+            SyncTrackingSchema.WATERMARK_TABLE);
+        final List<SyncWatermark> watermarks = this.jdbcTemplate.query(sql, H2SyncWatermarkStore.WATERMARK_ROW_MAPPER, entityName);
+        return watermarks.stream().findFirst();
+    }
+
+    @Override
+    @Transactional
+    public void save(final SyncWatermark watermark) {
+        SyncTrackingSchema.ensureWatermarkTable(this.jdbcTemplate);
+        final String sql = String.format("MERGE INTO %s (entity_name, local_watermark, remote_watermark) KEY (entity_name) VALUES (?, ?, ?)",
+            SyncTrackingSchema.WATERMARK_TABLE);
+        this.jdbcTemplate.update(sql, watermark.entityName(), watermark.localWatermark(), watermark.remoteWatermark());
+    }
+
+    private static LocalDateTime toLocalDateTime(final Timestamp timestamp) {
+        return null == timestamp ? null : timestamp.toLocalDateTime();
+    }
+}
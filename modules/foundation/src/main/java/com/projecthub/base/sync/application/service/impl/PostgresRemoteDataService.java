@@ -1,25 +1,30 @@
 package com.projecthub.base.sync.application.service.impl;
 
-import com.projecthub.base.shared.utils.EntityReflectionUtils;
 import com.projecthub.base.sync.application.service.RemoteDataService;
-import jakarta.persistence.Column;
+import com.projecthub.base.sync.domain.value.SyncTombstone;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
-import org.springframework.jdbc.core.BeanPropertyRowMapper;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.lang.NonNull;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.sql.DataSource;
-import java.lang.reflect.Field;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Types;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 public class PostgresRemoteDataService implements RemoteDataService {
+    private static final RowMapper<SyncTombstone> TOMBSTONE_ROW_MAPPER = (rs, _) -> new SyncTombstone(
+        rs.getObject("entity_id", UUID.class),
+        rs.getTimestamp("deleted_date").toLocalDateTime()
+    );
+
     private final JdbcTemplate jdbcTemplate;
 
     public PostgresRemoteDataService(final DataSource dataSource) {
@@ -30,9 +35,47 @@ public class PostgresRemoteDataService implements RemoteDataService {
     @Transactional(readOnly = true)
     @Retryable(retryFor = SQLException.class, maxAttempts = 3)
     public <T> List<T> getRemoteData(final Class<T> entityClass) {
-        final String tableName = entityClass.getSimpleName().toLowerCase();
-        final String sql = String.format("SELECT * FROM %s", tableName);
-        return this.jdbcTemplate.query(sql, new BeanPropertyRowMapper<>(entityClass));
+        final EntityRowBinder<T> binder = EntityRowBinders.of(entityClass);
+        return this.jdbcTemplate.query(binder.selectSql(), binder);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Retryable(retryFor = SQLException.class, maxAttempts = 3)
+    public <T> List<T> getRemoteDataModifiedSince(final Class<T> entityClass, final LocalDateTime since) {
+        if (null == since) {
+            return this.getRemoteData(entityClass);
+        }
+        final EntityRowBinder<T> binder = EntityRowBinders.of(entityClass);
+        return this.jdbcTemplate.query(binder.selectSql() + " WHERE last_modified_date >= ?", binder, since);
+    }
+
+    @Override
+    public <T> Stream<T> streamRemoteData(final Class<T> entityClass, final int fetchSize) {
+        final EntityRowBinder<T> binder = EntityRowBinders.of(entityClass);
+        final String sql = binder.selectSql() + " ORDER BY id";
+        return this.jdbcTemplate.queryForStream(connection -> {
+            // The Postgres driver only honours the fetch size (server-side cursor) outside auto-commit;
+            // the pool restores auto-commit when the stream releases the connection
+            connection.setAutoCommit(false);
+            final PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, binder);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Retryable(retryFor = SQLException.class, maxAttempts = 3)
+    public List<SyncTombstone> getRemoteTombstonesSince(final Class<?> entityClass, final LocalDateTime since) {
+        SyncTrackingSchema.ensureTombstoneTable(this.jdbcTemplate);
+        final String tableName = SyncTrackingSchema.tableName(entityClass);
+        if (null == since) {
+            final String sql = String.format("SELECT entity_id, deleted_date FROM %s WHERE table_name = ?", SyncTrackingSchema.TOMBSTONE_TABLE);
+            return this.jdbcTemplate.query(sql, PostgresRemoteDataService.TOMBSTONE_ROW_MAPPER, tableName);
+        }
+        final String sql = String.format("SELECT entity_id, deleted_date FROM %s WHERE table_name = ? AND deleted_date >= ?", SyncTrackingSchema.TOMBSTONE_TABLE);
+        return this.jdbcTemplate.query(sql, PostgresRemoteDataService.TOMBSTONE_ROW_MAPPER, tableName, since);
     }
 
     @Override
@@ -43,77 +86,41 @@ public class PostgresRemoteDataService implements RemoteDataService {
             return;
         }
 
-        final Class<?> entityClass = entities.get(0).getClass();
-        final String tableName = entityClass.getSimpleName().toLowerCase();
+        final EntityRowBinder<T> binder = EntityRowBinders.forEntity(entities.get(0));
 
         // Using batch update for better performance
-        final String sql = this.generateUpsertSql(tableName, entityClass);
-        this.jdbcTemplate.batchUpdate(sql, new EntityBatchPreparedStatementSetter<>(entities));
-    }
-
-    private String generateUpsertSql(final String tableName, final Class<?> entityClass) {
-        final List<Field> fields = EntityReflectionUtils.getEntityFields(entityClass);
-        final String columns = fields.stream()
-            .map(field -> field.getAnnotation(Column.class).name())
-            .collect(Collectors.joining(", "));
-
-        final String values = fields.stream()
-            .map(_ -> "?")
-            .collect(Collectors.joining(", "));
-
-        return String.format(
-            "INSERT INTO %s (%s) VALUES (%s) ON CONFLICT (id) DO UPDATE SET %s",
-            tableName,
-            columns,
-            values,
-            this.generateUpdateSet(fields)
-        );
+        this.jdbcTemplate.batchUpdate(binder.upsertSql(), new EntityBatchPreparedStatementSetter<>(entities, binder));
     }
 
-    private String generateUpdateSet(final List<Field> fields) {
-        return fields.stream()
-            .map(field -> field.getAnnotation(Column.class).name() + " = EXCLUDED." + field.getAnnotation(Column.class).name())
-            .collect(Collectors.joining(", "));
+    @Override
+    @Transactional
+    @Retryable(retryFor = SQLException.class, maxAttempts = 3)
+    public void deleteRemoteData(final Class<?> entityClass, final Collection<UUID> ids) {
+        if (null == ids || ids.isEmpty()) {
+            return;
+        }
+        final String tableName = entityClass.getSimpleName().toLowerCase();
+        final String sql = String.format("DELETE FROM %s WHERE id = ?", tableName);
+        this.jdbcTemplate.batchUpdate(sql, ids.stream().map(id -> new Object[]{id}).toList());
     }
 
     private static class EntityBatchPreparedStatementSetter<T> implements BatchPreparedStatementSetter {
         private final List<T> entities;
-        private final List<Field> fields;
+        private final EntityRowBinder<T> binder;
 
-        public EntityBatchPreparedStatementSetter(final List<T> entities) {
+        public EntityBatchPreparedStatementSetter(final List<T> entities, final EntityRowBinder<T> binder) {
             this.entities = entities;
-            fields = com.projecthub.base.shared.utils.EntityReflectionUtils.getEntityFields(entities.get(0).getClass());
-        }
-
-        @Override
-        public int getBatchSize() {
-            return this.entities.size();
+            this.binder = binder;
         }
 
         @Override
         public void setValues(@NonNull final PreparedStatement ps, final int i) throws SQLException {
-            final T entity = this.entities.get(i);
-            int paramIndex = 1;
-
-            for (final Field field : this.fields) {
-                final Object value = EntityReflectionUtils.getFieldValue(entity, field);
-                if (null != value) {
-                    ps.setObject(paramIndex, value);
-                    paramIndex++;
-                } else {
-                    ps.setNull(paramIndex, this.getSqlType(field.getType()));
-                    paramIndex++;
-                }
-            }
+            this.binder.bind(ps, this.entities.get(i));
         }
 
-        private int getSqlType(final Class<?> type) {
-            if (String.class == type) return Types.VARCHAR;
-            if (Integer.class == type) return Types.INTEGER;
-            if (Long.class == type) return Types.BIGINT;
-            if (Boolean.class == type) return Types.BOOLEAN;
-            if (LocalDateTime.class == type) return Types.TIMESTAMP;
-            return Types.OTHER;
+        @Override
+        public int getBatchSize() {
+            return this.entities.size();
         }
     }
 }
@@ -3,16 +3,24 @@ package com.projecthub.base.sync.application.service.impl;
 import com.projecthub.base.project.domain.entity.Project;
 import com.projecthub.base.sync.application.service.LocalDataService;
 import com.projecthub.base.sync.application.service.RemoteDataService;
+import com.projecthub.base.sync.application.service.SyncFingerprintStore;
+import com.projecthub.base.sync.application.service.SyncWatermarkStore;
 import com.projecthub.base.sync.application.service.UpdateService;
+import com.projecthub.base.team.domain.entity.Team;
+import com.projecthub.base.user.domain.entity.AppUser;
 import org.springframework.stereotype.Component;
 
+import java.util.Set;
+
 @Component
 public class ProjectSynchronizer extends BaseSynchronizer<Project> {
 
     public ProjectSynchronizer(final LocalDataService localDataService,
                                final RemoteDataService remoteDataService,
-                               final UpdateService updateService) {
-        super(localDataService, remoteDataService, updateService);
+                               final UpdateService updateService,
+                               final SyncWatermarkStore watermarkStore,
+                               final SyncFingerprintStore fingerprintStore) {
+        super(localDataService, remoteDataService, updateService, watermarkStore, fingerprintStore);
     }
 
     @Override
@@ -24,4 +32,9 @@ public class ProjectSynchronizer extends BaseSynchronizer<Project> {
     public String getEntityName() {
         return "projects";
     }
+
+    @Override
+    public Set<Class<?>> getDependencies() {
+        return Set.of(AppUser.class, Team.class);
+    }
 }
@@ -0,0 +1,49 @@
+package com.projecthub.base.sync.application.service.impl;
+
+import com.projecthub.base.sync.domain.value.SyncChangeSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Buffers the winners of a streaming sync run and hands them to the store writers in chunks, so
+ * the number of rows held in memory never exceeds the chunk size.
+ */
+class SyncChunkWriter<T> {
+    private final int chunkSize;
+    private final Consumer<SyncChangeSet<T>> sink;
+    private List<T> localUpserts = new ArrayList<>();
+    private List<T> remoteUpserts = new ArrayList<>();
+
+    SyncChunkWriter(final int chunkSize, final Consumer<SyncChangeSet<T>> sink) {
+        this.chunkSize = Math.max(1, chunkSize);
+        this.sink = sink;
+    }
+
+    void writeLocal(final T entity) {
+        this.localUpserts.add(entity);
+        this.flushIfFull();
+    }
+
+    void writeRemote(final T entity) {
+        this.remoteUpserts.add(entity);
+        this.flushIfFull();
+    }
+
+    void flush() {
+        if (this.localUpserts.isEmpty() && this.remoteUpserts.isEmpty()) {
+            return;
+        }
+        this.sink.accept(new SyncChangeSet<>(this.localUpserts, Set.of(), this.remoteUpserts, Set.of()));
+        this.localUpserts = new ArrayList<>();
+        this.remoteUpserts = new ArrayList<>();
+    }
+
+    private void flushIfFull() {
+        if (this.localUpserts.size() + this.remoteUpserts.size() >= this.chunkSize) {
+            this.flush();
+        }
+    }
+}
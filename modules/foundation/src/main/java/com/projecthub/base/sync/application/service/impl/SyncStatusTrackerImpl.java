@@ -1,6 +1,7 @@
 package com.projecthub.base.sync.application.service.impl;
 
 import com.projecthub.base.shared.domain.enums.sync.SyncState;
+import com.projecthub.base.sync.api.dto.EntitySyncResult;
 import com.projecthub.base.sync.api.dto.SyncStatus;
 import com.projecthub.base.sync.application.service.SyncStatusTracker;
 import org.springframework.stereotype.Component;
@@ -37,6 +38,12 @@ public class SyncStatusTrackerImpl implements SyncStatusTracker {
         this.currentStatus.set(status);
     }
 
+    @Override
+    public void entitySyncFinished(final EntitySyncResult result) {
+        // Synchronizers report from several worker threads at once
+        this.currentStatus.updateAndGet(status -> status.withEntityResult(result));
+    }
+
     @Override
     public SyncStatus getCurrentStatus() {
         return this.currentStatus.get();
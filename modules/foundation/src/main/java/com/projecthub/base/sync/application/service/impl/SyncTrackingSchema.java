@@ -0,0 +1,74 @@
+package com.projecthub.base.sync.application.service.impl;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bookkeeping tables used by delta synchronization. They live next to the entity tables in both
+ * stores and are created lazily, once per data source.
+ */
+public enum SyncTrackingSchema {
+    ;
+    public static final String TOMBSTONE_TABLE = "sync_tombstone";
+    public static final String WATERMARK_TABLE = "sync_watermark";
+    public static final String FINGERPRINT_TABLE = "sync_fingerprint";
+
+    private static final String CREATE_TOMBSTONE_TABLE = "CREATE TABLE IF NOT EXISTS " + SyncTrackingSchema.TOMBSTONE_TABLE
+        + " (table_name VARCHAR(100) NOT NULL, entity_id UUID NOT NULL, deleted_date TIMESTAMP NOT NULL,"
+        + " PRIMARY KEY (table_name, entity_id))";
+    private static final String CREATE_WATERMARK_TABLE = "CREATE TABLE IF NOT EXISTS " + SyncTrackingSchema.WATERMARK_TABLE
+        + " (entity_name VARCHAR(100) PRIMARY KEY, local_watermark TIMESTAMP, remote_watermark TIMESTAMP)";
+    private static final String CREATE_FINGERPRINT_TABLE = "CREATE TABLE IF NOT EXISTS " + SyncTrackingSchema.FINGERPRINT_TABLE
+        + " (entity_name VARCHAR(100) NOT NULL, entity_id UUID NOT NULL, fingerprint BIGINT NOT NULL,"
+        + " PRIMARY KEY (entity_name, entity_id))";
+
+    private static final String MERGE_TOMBSTONE = "MERGE INTO " + SyncTrackingSchema.TOMBSTONE_TABLE
+        + " (table_name, entity_id, deleted_date) KEY (table_name, entity_id) VALUES (?, ?, ?)";
+    private static final String UPSERT_TOMBSTONE = "INSERT INTO " + SyncTrackingSchema.TOMBSTONE_TABLE
+        + " (table_name, entity_id, deleted_date) VALUES (?, ?, ?)"
+        + " ON CONFLICT (table_name, entity_id) DO UPDATE SET deleted_date = EXCLUDED.deleted_date";
+
+    private static final Set<DataSource> tombstoneTables = ConcurrentHashMap.newKeySet();
+    private static final Set<DataSource> watermarkTables = ConcurrentHashMap.newKeySet();
+    private static final Set<DataSource> fingerprintTables = ConcurrentHashMap.newKeySet();
+
+    public static String tableName(final Class<?> entityClass) {
+        return entityClass.getSimpleName().toLowerCase();
+    }
+
+    public static void ensureTombstoneTable(final JdbcTemplate jdbcTemplate) {
+        SyncTrackingSchema.ensure(jdbcTemplate, SyncTrackingSchema.tombstoneTables, SyncTrackingSchema.CREATE_TOMBSTONE_TABLE);
+    }
+
+    /**
+     * Statement recording a tombstone as {@code (table_name, entity_id, deleted_date)}. An entity
+     * deleted again after being re-synced refreshes its existing tombstone instead of violating
+     * the primary key.
+     */
+    public static String upsertTombstoneSql(final JdbcTemplate jdbcTemplate) {
+        final String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+            connection.getMetaData().getDatabaseProductName());
+        return "H2".equalsIgnoreCase(product) ? SyncTrackingSchema.MERGE_TOMBSTONE : SyncTrackingSchema.UPSERT_TOMBSTONE;
+    }
+
+    public static void ensureWatermarkTable(final JdbcTemplate jdbcTemplate) {
+        SyncTrackingSchema.ensure(jdbcTemplate, SyncTrackingSchema.watermarkTables, SyncTrackingSchema.CREATE_WATERMARK_TABLE);
+    }
+
+    public static void ensureFingerprintTable(final JdbcTemplate jdbcTemplate) {
+        SyncTrackingSchema.ensure(jdbcTemplate, SyncTrackingSchema.fingerprintTables, SyncTrackingSchema.CREATE_FINGERPRINT_TABLE);
+    }
+
+    private static void ensure(final JdbcTemplate jdbcTemplate, final Set<DataSource> initialized, final String ddl) {
+        final DataSource dataSource = jdbcTemplate.getDataSource();
+        if (null == dataSource || initialized.contains(dataSource)) {
+            return;
+        }
+        jdbcTemplate.execute(ddl);
+        initialized.add(dataSource);
+    }
+}
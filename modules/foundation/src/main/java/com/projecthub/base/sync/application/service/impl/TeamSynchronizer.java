@@ -2,17 +2,24 @@ package com.projecthub.base.sync.application.service.impl;
 
 import com.projecthub.base.sync.application.service.LocalDataService;
 import com.projecthub.base.sync.application.service.RemoteDataService;
+import com.projecthub.base.sync.application.service.SyncFingerprintStore;
+import com.projecthub.base.sync.application.service.SyncWatermarkStore;
 import com.projecthub.base.sync.application.service.UpdateService;
 import com.projecthub.base.team.domain.entity.Team;
+import com.projecthub.base.user.domain.entity.AppUser;
 import org.springframework.stereotype.Component;
 
+import java.util.Set;
+
 @Component
 public class TeamSynchronizer extends BaseSynchronizer<Team> {
 
     public TeamSynchronizer(final LocalDataService localDataService,
                             final RemoteDataService remoteDataService,
-                            final UpdateService updateService) {
-        super(localDataService, remoteDataService, updateService);
+                            final UpdateService updateService,
+                            final SyncWatermarkStore watermarkStore,
+                            final SyncFingerprintStore fingerprintStore) {
+        super(localDataService, remoteDataService, updateService, watermarkStore, fingerprintStore);
     }
 
     @Override
@@ -24,4 +31,9 @@ public class TeamSynchronizer extends BaseSynchronizer<Team> {
     public String getEntityName() {
         return "teams";
     }
+
+    @Override
+    public Set<Class<?>> getDependencies() {
+        return Set.of(AppUser.class);
+    }
 }
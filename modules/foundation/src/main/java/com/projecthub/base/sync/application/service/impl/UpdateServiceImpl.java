@@ -5,6 +5,7 @@ import com.projecthub.base.shared.exception.SynchronizationException;
 import com.projecthub.base.sync.application.service.LocalDataService;
 import com.projecthub.base.sync.application.service.RemoteDataService;
 import com.projecthub.base.sync.application.service.UpdateService;
+import com.projecthub.base.sync.domain.value.SyncChangeSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -28,9 +29,10 @@ public class UpdateServiceImpl implements UpdateService {
     @Transactional
     public <T extends BaseEntity> void updateBothStores(final List<T> mergedData, final Class<T> entityClass) {
         try {
+            // The merged data is a superset of the local rows, so upserting keeps the local store
+            // readable and intact for the whole update instead of clearing it first
             UpdateServiceImpl.logger.debug("Updating local store with {} entities of type {}", mergedData.size(), entityClass.getSimpleName());
-            this.localDataService.clearLocalData(entityClass);
-            this.localDataService.saveLocalData(mergedData);
+            this.localDataService.upsertLocalData(mergedData);
 
             UpdateServiceImpl.logger.debug("Updating remote store with {} entities", mergedData.size());
             this.remoteDataService.saveRemoteData(mergedData);
@@ -40,4 +42,24 @@ public class UpdateServiceImpl implements UpdateService {
             throw new SynchronizationException(errorMessage, e);
         }
     }
+
+    @Override
+    @Transactional
+    public <T extends BaseEntity> void applyChanges(final SyncChangeSet<T> changes, final Class<T> entityClass) {
+        try {
+            UpdateServiceImpl.logger.debug("Applying {} upserts and {} deletes to local store for entity type {}",
+                changes.localUpserts().size(), changes.localDeletes().size(), entityClass.getSimpleName());
+            this.localDataService.deleteLocalData(entityClass, changes.localDeletes());
+            this.localDataService.upsertLocalData(changes.localUpserts());
+
+            UpdateServiceImpl.logger.debug("Applying {} upserts and {} deletes to remote store",
+                changes.remoteUpserts().size(), changes.remoteDeletes().size());
+            this.remoteDataService.deleteRemoteData(entityClass, changes.remoteDeletes());
+            this.remoteDataService.saveRemoteData(changes.remoteUpserts());
+        } catch (final Exception e) {
+            final String errorMessage = String.format("Failed to apply changes for entity type %s", entityClass.getSimpleName());
+            UpdateServiceImpl.logger.error(errorMessage, e);
+            throw new SynchronizationException(errorMessage, e);
+        }
+    }
 }
@@ -2,6 +2,8 @@ package com.projecthub.base.sync.application.service.impl;
 
 import com.projecthub.base.sync.application.service.LocalDataService;
 import com.projecthub.base.sync.application.service.RemoteDataService;
+import com.projecthub.base.sync.application.service.SyncFingerprintStore;
+import com.projecthub.base.sync.application.service.SyncWatermarkStore;
 import com.projecthub.base.sync.application.service.UpdateService;
 import com.projecthub.base.user.domain.entity.AppUser;
 import org.springframework.stereotype.Component;
@@ -11,8 +13,10 @@ public class UserSynchronizer extends BaseSynchronizer<AppUser> {
 
     public UserSynchronizer(final LocalDataService localDataService,
                             final RemoteDataService remoteDataService,
-                            final UpdateService updateService) {
-        super(localDataService, remoteDataService, updateService);
+                            final UpdateService updateService,
+                            final SyncWatermarkStore watermarkStore,
+                            final SyncFingerprintStore fingerprintStore) {
+        super(localDataService, remoteDataService, updateService, watermarkStore, fingerprintStore);
     }
 
     @Override
@@ -0,0 +1,21 @@
+package com.projecthub.base.sync.domain.event;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.time.Duration;
+
+/**
+ * Published when the remote store becomes reachable again after one or more failed probes.
+ */
+public class ConnectivityRestoredEvent extends ApplicationEvent {
+    private final Duration offlineDuration;
+
+    public ConnectivityRestoredEvent(final Object source, final Duration offlineDuration) {
+        super(source);
+        this.offlineDuration = offlineDuration;
+    }
+
+    public Duration getOfflineDuration() {
+        return this.offlineDuration;
+    }
+}
@@ -0,0 +1,22 @@
+package com.projecthub.base.sync.domain.value;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The conflict-resolved winners of a delta sync run, split by the store they have to be written to.
+ *
+ * @param <T> the synchronized entity type
+ */
+public record SyncChangeSet<T>(
+    List<T> localUpserts,
+    Set<UUID> localDeletes,
+    List<T> remoteUpserts,
+    Set<UUID> remoteDeletes
+) {
+    public boolean isEmpty() {
+        return this.localUpserts.isEmpty() && this.localDeletes.isEmpty()
+            && this.remoteUpserts.isEmpty() && this.remoteDeletes.isEmpty();
+    }
+}
@@ -0,0 +1,13 @@
+package com.projecthub.base.sync.domain.value;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Marker left behind when an entity row is deleted, so the deletion can be replayed on the other store.
+ */
+public record SyncTombstone(
+    UUID id,
+    LocalDateTime deletedDate
+) {
+}
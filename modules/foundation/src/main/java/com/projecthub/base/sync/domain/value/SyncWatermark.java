@@ -0,0 +1,27 @@
+package com.projecthub.base.sync.domain.value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Per-entity high-water marks on {@code lastModifiedDate}, tracked separately for each store
+ * because both sides stamp their rows with their own clock.
+ */
+public record SyncWatermark(
+    String entityName,
+    LocalDateTime localWatermark,
+    LocalDateTime remoteWatermark
+) {
+    public static SyncWatermark initial(final String entityName) {
+        return new SyncWatermark(entityName, null, null);
+    }
+
+    public SyncWatermark advance(final LocalDateTime local, final LocalDateTime remote) {
+        return new SyncWatermark(this.entityName, SyncWatermark.latest(this.localWatermark, local), SyncWatermark.latest(this.remoteWatermark, remote));
+    }
+
+    private static LocalDateTime latest(final LocalDateTime current, final LocalDateTime candidate) {
+        if (null == current) return candidate;
+        if (null == candidate) return current;
+        return candidate.isAfter(current) ? candidate : current;
+    }
+}
@@ -1,5 +1,10 @@
 package com.projecthub.base.task.api.controller;
 
+import com.projecthub.base.shared.api.rest.CursorPage;
+import com.projecthub.base.shared.api.rest.NdjsonStreamer;
+import com.projecthub.base.shared.repository.keyset.KeysetPageRequest;
+import com.projecthub.base.task.api.dto.BulkTaskAssignmentDTO;
+import com.projecthub.base.task.api.dto.BulkTaskResultDTO;
 import com.projecthub.base.task.api.dto.TaskDTO;
 import com.projecthub.base.task.api.rest.TaskApi;
 import com.projecthub.base.task.infrastructure.service.TaskService;
@@ -11,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -21,15 +27,31 @@ public class TaskController implements TaskApi {
 
     private static final Logger logger = LoggerFactory.getLogger(TaskController.class);
     private final TaskService taskService;
+    private final NdjsonStreamer ndjsonStreamer;
 
-    public TaskController(final TaskService taskService) {
+    public TaskController(final TaskService taskService, final NdjsonStreamer ndjsonStreamer) {
         this.taskService = taskService;
+        this.ndjsonStreamer = ndjsonStreamer;
     }
 
     @Override
-    public ResponseEntity<List<TaskDTO>> getAllTasks() {
+    public ResponseEntity<StreamingResponseBody> getAllTasks() {
         TaskController.logger.info("Retrieving all tasks");
-        return ResponseEntity.ok(this.taskService.getAllTasks());
+        return this.ndjsonStreamer.streamArray(this.taskService::streamAllTasks);
+    }
+
+    @Override
+    public ResponseEntity<CursorPage<TaskDTO>> getTasksPage(final Integer first, final String after,
+                                                            final Integer last, final String before) {
+        TaskController.logger.info("Retrieving tasks page");
+        final KeysetPageRequest pageRequest = KeysetPageRequest.of(first, after, last, before);
+        return ResponseEntity.ok(CursorPage.of(this.taskService.getAllTasks(pageRequest)));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamAllTasks() {
+        TaskController.logger.info("Streaming all tasks");
+        return this.ndjsonStreamer.stream(this.taskService::streamAllTasks);
     }
 
     @Override
@@ -56,6 +78,30 @@ public class TaskController implements TaskApi {
         return ResponseEntity.noContent().build();
     }
 
+    @Override
+    public ResponseEntity<BulkTaskResultDTO> createTasks(@RequestBody final List<TaskDTO> tasks) {
+        TaskController.logger.info("Creating {} tasks in bulk", tasks.size());
+        return ResponseEntity.ok(this.taskService.createTasks(tasks));
+    }
+
+    @Override
+    public ResponseEntity<BulkTaskResultDTO> updateTasks(@RequestBody final List<TaskDTO> tasks) {
+        TaskController.logger.info("Updating {} tasks in bulk", tasks.size());
+        return ResponseEntity.ok(this.taskService.updateTasks(tasks));
+    }
+
+    @Override
+    public ResponseEntity<BulkTaskResultDTO> deleteTasks(@RequestBody final List<UUID> taskIds) {
+        TaskController.logger.info("Deleting {} tasks in bulk", taskIds.size());
+        return ResponseEntity.ok(this.taskService.deleteTasks(taskIds));
+    }
+
+    @Override
+    public ResponseEntity<BulkTaskResultDTO> assignTasks(@Valid @RequestBody final BulkTaskAssignmentDTO assignment) {
+        TaskController.logger.info("Assigning {} tasks to user with ID {}", assignment.taskIds().size(), assignment.assigneeId());
+        return ResponseEntity.ok(this.taskService.assignTasks(assignment.taskIds(), assignment.assigneeId()));
+    }
+
     @Override
     public ResponseEntity<Void> updateTaskStatus(final UUID id, @RequestParam final String status) {
         TaskController.logger.info("Updating status of task with ID {}", id);
@@ -64,9 +110,24 @@ public class TaskController implements TaskApi {
     }
 
     @Override
-    public ResponseEntity<List<TaskDTO>> getTasksByProjectId(final UUID projectId) {
+    public ResponseEntity<StreamingResponseBody> getTasksByProjectId(final UUID projectId) {
         TaskController.logger.info("Retrieving tasks for project with ID {}", projectId);
-        return ResponseEntity.ok(this.taskService.getTasksByProjectId(projectId));
+        return this.ndjsonStreamer.<TaskDTO>streamArray(sink -> this.taskService.streamTasksByProjectId(projectId, sink));
+    }
+
+    @Override
+    public ResponseEntity<CursorPage<TaskDTO>> getTasksPageByProjectId(final UUID projectId, final Integer first,
+                                                                       final String after, final Integer last,
+                                                                       final String before) {
+        TaskController.logger.info("Retrieving tasks page for project with ID {}", projectId);
+        final KeysetPageRequest pageRequest = KeysetPageRequest.of(first, after, last, before);
+        return ResponseEntity.ok(CursorPage.of(this.taskService.getTasksByProjectId(projectId, pageRequest)));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamTasksByProjectId(final UUID projectId) {
+        TaskController.logger.info("Streaming tasks for project with ID {}", projectId);
+        return this.ndjsonStreamer.<TaskDTO>stream(sink -> this.taskService.streamTasksByProjectId(projectId, sink));
     }
 
     @Override
@@ -0,0 +1,19 @@
+package com.projecthub.base.task.api.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request to assign several tasks to one user.
+ *
+ * @param taskIds    IDs of the tasks to assign
+ * @param assigneeId ID of the user to assign them to
+ */
+public record BulkTaskAssignmentDTO(
+    @NotEmpty List<UUID> taskIds,
+    @NotNull UUID assigneeId
+) {
+}
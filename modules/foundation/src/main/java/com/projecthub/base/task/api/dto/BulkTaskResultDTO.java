@@ -0,0 +1,45 @@
+package com.projecthub.base.task.api.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of a bulk task operation.
+ *
+ * @param succeeded number of items that were applied
+ * @param failed    number of items that were rejected
+ * @param items     one entry per request item, in request order
+ */
+public record BulkTaskResultDTO(
+    int succeeded,
+    int failed,
+    List<Item> items
+) {
+    public static BulkTaskResultDTO of(final List<Item> items) {
+        final int succeeded = (int) items.stream().filter(Item::success).count();
+        return new BulkTaskResultDTO(succeeded, items.size() - succeeded, items);
+    }
+
+    /**
+     * Outcome of one request item.
+     *
+     * @param index  position of the item in the request
+     * @param taskId ID of the affected task, if known
+     * @param success whether the item was applied
+     * @param error  reason the item was rejected, {@code null} on success
+     */
+    public record Item(
+        int index,
+        UUID taskId,
+        boolean success,
+        String error
+    ) {
+        public static Item succeeded(final int index, final UUID taskId) {
+            return new Item(index, taskId, true, null);
+        }
+
+        public static Item failed(final int index, final UUID taskId, final String error) {
+            return new Item(index, taskId, false, error);
+        }
+    }
+}
@@ -8,15 +8,19 @@ import java.util.UUID;
  * Data Transfer Object representing a task in the ProjectHub system.
  * Tasks are individual units of work within a project.
  *
- * @param id          Unique identifier of the task
- * @param name        Display name of the task
- * @param description Detailed description of the task requirements
- * @param status      Current state of the task in its lifecycle
+ * @param id             Unique identifier of the task
+ * @param name           Display name of the task
+ * @param description    Detailed description of the task requirements
+ * @param status         Current state of the task in its lifecycle
+ * @param projectId      Project the task belongs to; required when creating a task
+ * @param assignedUserId User the task is assigned to, if any
  */
 public record TaskDTO(
     UUID id,
     String name,
     String description,
-    TaskStatus status
+    TaskStatus status,
+    UUID projectId,
+    UUID assignedUserId
 ) {
 }
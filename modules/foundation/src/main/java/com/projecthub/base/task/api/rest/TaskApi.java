@@ -1,12 +1,17 @@
 package com.projecthub.base.task.api.rest;
 
 import com.projecthub.base.shared.api.rest.BaseApi;
+import com.projecthub.base.shared.api.rest.CursorPage;
+import com.projecthub.base.task.api.dto.BulkTaskAssignmentDTO;
+import com.projecthub.base.task.api.dto.BulkTaskResultDTO;
 import com.projecthub.base.task.api.dto.TaskDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -16,21 +21,62 @@ import java.util.UUID;
 public interface TaskApi extends BaseApi<TaskDTO, UUID> {
 
     @Operation(summary = "Get all tasks")
-    @GetMapping
-    ResponseEntity<List<TaskDTO>> getAllTasks();
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<StreamingResponseBody> getAllTasks();
+
+    @Operation(summary = "Get a page of tasks")
+    @GetMapping(value = "/page", produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<CursorPage<TaskDTO>> getTasksPage(
+        @RequestParam(required = false) Integer first,
+        @RequestParam(required = false) String after,
+        @RequestParam(required = false) Integer last,
+        @RequestParam(required = false) String before);
+
+    @Operation(summary = "Stream all tasks as NDJSON")
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> streamAllTasks();
 
     @Operation(summary = "Create a new task")
     @PostMapping
     ResponseEntity<TaskDTO> createTask(@Valid @RequestBody TaskDTO task);
 
     @Operation(summary = "Get tasks by project")
-    @GetMapping("/project/{projectId}")
-    ResponseEntity<List<TaskDTO>> getTasksByProjectId(@PathVariable UUID projectId);
+    @GetMapping(value = "/project/{projectId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<StreamingResponseBody> getTasksByProjectId(@PathVariable UUID projectId);
+
+    @Operation(summary = "Get a page of tasks by project")
+    @GetMapping(value = "/project/{projectId}/page", produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<CursorPage<TaskDTO>> getTasksPageByProjectId(
+        @PathVariable UUID projectId,
+        @RequestParam(required = false) Integer first,
+        @RequestParam(required = false) String after,
+        @RequestParam(required = false) Integer last,
+        @RequestParam(required = false) String before);
+
+    @Operation(summary = "Stream tasks by project as NDJSON")
+    @GetMapping(value = "/project/{projectId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> streamTasksByProjectId(@PathVariable UUID projectId);
 
     @Operation(summary = "Get tasks by user")
     @GetMapping("/user/{userId}")
     ResponseEntity<List<TaskDTO>> getTasksByAssignedUserId(@PathVariable UUID userId);
 
+    @Operation(summary = "Create tasks in bulk")
+    @PostMapping("/bulk")
+    ResponseEntity<BulkTaskResultDTO> createTasks(@RequestBody List<TaskDTO> tasks);
+
+    @Operation(summary = "Update tasks in bulk")
+    @PutMapping("/bulk")
+    ResponseEntity<BulkTaskResultDTO> updateTasks(@RequestBody List<TaskDTO> tasks);
+
+    @Operation(summary = "Delete tasks in bulk")
+    @PostMapping("/bulk/delete")
+    ResponseEntity<BulkTaskResultDTO> deleteTasks(@RequestBody List<UUID> taskIds);
+
+    @Operation(summary = "Assign tasks to a user in bulk")
+    @PostMapping("/bulk/assign")
+    ResponseEntity<BulkTaskResultDTO> assignTasks(@Valid @RequestBody BulkTaskAssignmentDTO assignment);
+
     @Operation(summary = "Update task status")
     @PatchMapping("/{taskId}/status")
     ResponseEntity<TaskDTO> updateTaskStatus(
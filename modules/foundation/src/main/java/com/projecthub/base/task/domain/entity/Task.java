@@ -1,6 +1,7 @@
 package com.projecthub.base.task.domain.entity;
 
 
+import com.projecthub.base.milestone.domain.entity.Milestone;
 import com.projecthub.base.project.domain.entity.Project;
 import com.projecthub.base.shared.domain.entity.BaseEntity;
 import com.projecthub.base.task.domain.enums.TaskStatus;
@@ -40,7 +41,7 @@ import java.time.LocalDate;
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@ToString(exclude = "project")
+@ToString(exclude = {"project", "milestone"})
 public class Task extends BaseEntity {
 
     /**
@@ -109,6 +110,13 @@ public class Task extends BaseEntity {
     @JoinColumn(nullable = false)
     private Project project;
 
+    /**
+     * The milestone this task contributes to, if any.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "milestone_id")
+    private Milestone milestone;
+
     @PrePersist
     @PreUpdate
     protected void validateDates() {
@@ -118,8 +126,7 @@ public class Task extends BaseEntity {
     }
 
     public boolean isCompleted() {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("Unimplemented method 'isCompleted'");
+        return TaskStatus.COMPLETED == this.status;
     }
 
     public TaskValue getValue() {
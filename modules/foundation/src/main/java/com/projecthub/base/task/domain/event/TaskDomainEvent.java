@@ -1,6 +1,9 @@
 package com.projecthub.base.task.domain.event;
 
+import com.projecthub.base.task.domain.enums.TaskStatus;
+
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 public sealed interface TaskDomainEvent {
@@ -28,4 +31,39 @@ public sealed interface TaskDomainEvent {
         Instant occurredOn
     ) implements TaskDomainEvent {
     }
+
+    /**
+     * A task entered, left or changed status. {@code previousStatus} is {@code null} for a new
+     * task and {@code status} is {@code null} for a deleted one; {@code milestoneId} is
+     * {@code null} for tasks outside any milestone.
+     */
+    record StatusChanged(
+        UUID eventId,
+        UUID taskId,
+        UUID projectId,
+        UUID milestoneId,
+        TaskStatus previousStatus,
+        TaskStatus status,
+        UUID initiatorId,
+        Instant occurredOn
+    ) implements TaskDomainEvent {
+        public int completedDelta() {
+            return (TaskStatus.COMPLETED == this.status ? 1 : 0) - (TaskStatus.COMPLETED == this.previousStatus ? 1 : 0);
+        }
+
+        public int totalDelta() {
+            return (null != this.status ? 1 : 0) - (null != this.previousStatus ? 1 : 0);
+        }
+    }
+
+    /**
+     * The events of one bulk operation, published together.
+     */
+    record Batch(
+        UUID eventId,
+        List<TaskDomainEvent> events,
+        UUID initiatorId,
+        Instant occurredOn
+    ) implements TaskDomainEvent {
+    }
 }
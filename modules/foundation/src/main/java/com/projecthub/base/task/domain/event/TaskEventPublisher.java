@@ -1,8 +1,10 @@
 package com.projecthub.base.task.domain.event;
 
 import com.projecthub.base.task.domain.entity.Task;
+import com.projecthub.base.task.domain.enums.TaskStatus;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 public interface TaskEventPublisher {
@@ -26,6 +28,36 @@ public interface TaskEventPublisher {
         ));
     }
 
+    static TaskDomainEvent.StatusChanged statusChanged(final Task task, final TaskStatus previousStatus,
+                                                       final TaskStatus status, final UUID initiatorId) {
+        return new TaskDomainEvent.StatusChanged(
+            UUID.randomUUID(),
+            task.getId(),
+            task.getProject().getId(),
+            null != task.getMilestone() ? task.getMilestone().getId() : null,
+            previousStatus,
+            status,
+            initiatorId,
+            Instant.now()
+        );
+    }
+
+    default void publishStatusChanged(final Task task, final TaskStatus previousStatus, final TaskStatus status,
+                                      final UUID initiatorId) {
+        this.publish(TaskEventPublisher.statusChanged(task, previousStatus, status, initiatorId));
+    }
+
+    default void publishBatch(final List<TaskDomainEvent> events, final UUID initiatorId) {
+        if (!events.isEmpty()) {
+            this.publish(new TaskDomainEvent.Batch(
+                UUID.randomUUID(),
+                List.copyOf(events),
+                initiatorId,
+                Instant.now()
+            ));
+        }
+    }
+
     default void publishDeleted(final UUID taskId, final UUID initiatorId) {
         this.publish(new TaskDomainEvent.Deleted(
             UUID.randomUUID(),
@@ -6,6 +6,7 @@ import com.projecthub.base.task.domain.event.TaskEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -13,9 +14,11 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class TaskEventPublisherImpl implements TaskEventPublisher {
     private final RabbitTemplate rabbitTemplate;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Override
     public void publish(final TaskDomainEvent event) {
+        this.applicationEventPublisher.publishEvent(event);
         TaskEventPublisherImpl.log.debug("Publishing task event to RabbitMQ: {}", event);
         try {
             final String routingKey = this.determineRoutingKey(event);
@@ -30,6 +33,8 @@ public class TaskEventPublisherImpl implements TaskEventPublisher {
             case final TaskDomainEvent.Created _ -> "task.created";
             case final TaskDomainEvent.Updated _ -> "task.updated";
             case final TaskDomainEvent.Deleted _ -> "task.deleted";
+            case final TaskDomainEvent.StatusChanged _ -> "task.status-changed";
+            case final TaskDomainEvent.Batch _ -> "task.batch";
         };
     }
 }
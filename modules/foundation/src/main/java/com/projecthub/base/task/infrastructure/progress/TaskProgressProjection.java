@@ -0,0 +1,105 @@
+package com.projecthub.base.task.infrastructure.progress;
+
+import com.projecthub.base.milestone.domain.entity.Milestone;
+import com.projecthub.base.milestone.infrastructure.persistence.MilestoneRepository;
+import com.projecthub.base.project.domain.entity.Project;
+import com.projecthub.base.project.infrastructure.repository.ProjectJpaRepository;
+import com.projecthub.base.task.domain.event.TaskDomainEvent;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keeps the task counters of milestones and projects current.
+ * <p>
+ * Task status changes are applied as atomic increments on the owning milestone and project rows
+ * in the transaction that changed the task, so readers get completion figures without loading
+ * any tasks. The changes of a bulk operation are summed per row first, so each milestone and
+ * project is updated once per batch. {@link TaskProgressReconciler} repairs whatever drift remains.
+ * </p>
+ * <p>
+ * The increments bypass the persistence context, so a milestone or project already loaded in the
+ * same transaction is refreshed afterwards rather than left holding its old counters.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskProgressProjection {
+    private final MilestoneRepository milestoneRepository;
+    private final ProjectJpaRepository projectRepository;
+    private final EntityManager entityManager;
+
+    @EventListener
+    public void handleStatusChanged(final TaskDomainEvent.StatusChanged event) {
+        final int completedDelta = event.completedDelta();
+        final int totalDelta = event.totalDelta();
+        if (0 == completedDelta && 0 == totalDelta) {
+            return;
+        }
+        TaskProgressProjection.log.debug("Applying task counter deltas completed={} total={} for task {}",
+            completedDelta, totalDelta, event.taskId());
+        this.adjustProject(event.projectId(), completedDelta, totalDelta);
+        if (null != event.milestoneId()) {
+            this.adjustMilestone(event.milestoneId(), completedDelta, totalDelta);
+        }
+    }
+
+    @EventListener
+    public void handleBatch(final TaskDomainEvent.Batch batch) {
+        final Map<UUID, int[]> projectDeltas = new HashMap<>();
+        final Map<UUID, int[]> milestoneDeltas = new HashMap<>();
+        for (final TaskDomainEvent event : batch.events()) {
+            if (event instanceof final TaskDomainEvent.StatusChanged change) {
+                TaskProgressProjection.accumulate(projectDeltas, change.projectId(), change);
+                if (null != change.milestoneId()) {
+                    TaskProgressProjection.accumulate(milestoneDeltas, change.milestoneId(), change);
+                }
+            }
+        }
+        projectDeltas.forEach((projectId, delta) -> {
+            if (0 != delta[0] || 0 != delta[1]) {
+                this.adjustProject(projectId, delta[0], delta[1]);
+            }
+        });
+        milestoneDeltas.forEach((milestoneId, delta) -> {
+            if (0 != delta[0] || 0 != delta[1]) {
+                this.adjustMilestone(milestoneId, delta[0], delta[1]);
+            }
+        });
+    }
+
+    private void adjustProject(final UUID projectId, final int completedDelta, final int totalDelta) {
+        this.projectRepository.adjustTaskCounts(projectId, completedDelta, totalDelta);
+        this.refreshIfLoaded(Project.class, projectId);
+    }
+
+    private void adjustMilestone(final UUID milestoneId, final int completedDelta, final int totalDelta) {
+        this.milestoneRepository.adjustTaskCounts(milestoneId, completedDelta, totalDelta);
+        this.refreshIfLoaded(Milestone.class, milestoneId);
+    }
+
+    /**
+     * Re-reads the row into an instance the persistence context already holds. Rows that were
+     * never loaded only yield an uninitialized proxy and are left alone.
+     */
+    private void refreshIfLoaded(final Class<?> entityType, final UUID id) {
+        final Object reference = this.entityManager.getReference(entityType, id);
+        if (Hibernate.isInitialized(reference)) {
+            this.entityManager.refresh(reference);
+        }
+    }
+
+    private static void accumulate(final Map<UUID, int[]> deltas, final UUID id, final TaskDomainEvent.StatusChanged change) {
+        final int[] delta = deltas.computeIfAbsent(id, key -> new int[2]);
+        delta[0] += change.completedDelta();
+        delta[1] += change.totalDelta();
+    }
+}
@@ -0,0 +1,32 @@
+package com.projecthub.base.task.infrastructure.progress;
+
+import com.projecthub.base.milestone.infrastructure.persistence.MilestoneRepository;
+import com.projecthub.base.project.infrastructure.repository.ProjectJpaRepository;
+import com.projecthub.base.task.domain.enums.TaskStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically recounts milestone and project task counters and repairs those that drifted from
+ * the task table, for example after tasks were changed outside {@link TaskProgressProjection}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskProgressReconciler {
+    private final MilestoneRepository milestoneRepository;
+    private final ProjectJpaRepository projectRepository;
+
+    @Scheduled(
+        initialDelayString = "${app.task.progress-reconcile-interval-ms:3600000}",
+        fixedDelayString = "${app.task.progress-reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        final int milestones = this.milestoneRepository.reconcileTaskCounts(TaskStatus.COMPLETED);
+        final int projects = this.projectRepository.reconcileTaskCounts(TaskStatus.COMPLETED);
+        if (0 < milestones || 0 < projects) {
+            TaskProgressReconciler.log.warn("Repaired task counters of {} milestones and {} projects", milestones, projects);
+        }
+    }
+}
@@ -1,18 +1,41 @@
 package com.projecthub.base.task.infrastructure.service;
 
 
+import com.projecthub.base.project.domain.entity.Project;
 import com.projecthub.base.shared.exception.ResourceNotFoundException;
+import com.projecthub.base.shared.repository.keyset.KeysetPageRequest;
+import com.projecthub.base.shared.repository.keyset.KeysetQueries;
+import com.projecthub.base.shared.repository.keyset.KeysetSlice;
+import com.projecthub.base.task.api.dto.BulkTaskResultDTO;
 import com.projecthub.base.task.api.dto.TaskDTO;
 import com.projecthub.base.task.domain.entity.Task;
+import com.projecthub.base.task.domain.enums.TaskStatus;
+import com.projecthub.base.task.domain.event.TaskDomainEvent;
+import com.projecthub.base.task.domain.event.TaskEventPublisher;
 import com.projecthub.base.task.infrastructure.mapper.TaskMapper;
 import com.projecthub.base.task.infrastructure.repository.TaskJpaRepository;
+import com.projecthub.base.user.domain.entity.AppUser;
+import jakarta.persistence.EntityManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service class for managing tasks.
@@ -21,15 +44,31 @@ import java.util.UUID;
 public class TaskService {
 
     private static final Logger logger = LoggerFactory.getLogger(TaskService.class);
+    private static final String SORT_ATTRIBUTE = "name";
 
     private final TaskJpaRepository taskRepository;
     private final TaskMapper taskMapper;
+    private final TaskEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final int batchSize;
+    private final int maxBulkItems;
+    private final int streamChunkSize;
 
     private final TaskService self;
 
-    public TaskService(final TaskJpaRepository taskRepository, final TaskMapper taskMapper, final TaskService self) {
+    public TaskService(final TaskJpaRepository taskRepository, final TaskMapper taskMapper,
+                       final TaskEventPublisher eventPublisher, final EntityManager entityManager,
+                       @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") final int batchSize,
+                       @Value("${app.task.bulk.max-items:5000}") final int maxBulkItems,
+                       @Value("${app.rest.stream-chunk-size:500}") final int streamChunkSize,
+                       @Lazy final TaskService self) {
         this.taskRepository = taskRepository;
         this.taskMapper = taskMapper;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+        this.maxBulkItems = maxBulkItems;
+        this.streamChunkSize = streamChunkSize;
         this.self = self;
     }
 
@@ -38,14 +77,22 @@ public class TaskService {
      *
      * @param taskDTO the task data transfer object
      * @return the saved task DTO
-     * @throws IllegalArgumentException if taskDTO is null
+     * @throws IllegalArgumentException  if taskDTO is null or has no project
+     * @throws ResourceNotFoundException if the project is not found
      */
     @Transactional
     public TaskDTO createTask(final TaskDTO taskDTO) {
         TaskService.logger.info("Creating a new task");
         this.validateTaskDTO(taskDTO);
-        final Task task = this.taskMapper.toEntity(taskDTO);
+        if (null == taskDTO.projectId()) {
+            throw new IllegalArgumentException("Project is mandatory");
+        }
+        if (this.existingProjectIds(List.of(taskDTO)).isEmpty()) {
+            throw new ResourceNotFoundException("Project not found with ID: " + taskDTO.projectId());
+        }
+        final Task task = this.toNewTask(taskDTO);
         final Task savedTask = this.taskRepository.save(task);
+        this.eventPublisher.publishStatusChanged(savedTask, null, savedTask.getStatus(), null);
         TaskService.logger.info("Task created with ID: {}", savedTask.getId());
         return this.taskMapper.toDto(savedTask);
     }
@@ -64,8 +111,12 @@ public class TaskService {
         TaskService.logger.info("Updating task with ID: {}", id);
         this.validateTaskDTO(taskDTO);
         final Task existingTask = this.findTaskById(id);
+        final TaskStatus previousStatus = existingTask.getStatus();
         this.taskMapper.updateEntityFromDto(taskDTO, existingTask);
         final Task updatedTask = this.taskRepository.save(existingTask);
+        if (previousStatus != updatedTask.getStatus()) {
+            this.eventPublisher.publishStatusChanged(updatedTask, previousStatus, updatedTask.getStatus(), null);
+        }
         TaskService.logger.info("Task updated with ID: {}", updatedTask.getId());
         return this.taskMapper.toDto(updatedTask);
     }
@@ -79,10 +130,9 @@ public class TaskService {
     @Transactional
     public void deleteTask(final UUID id) {
         TaskService.logger.info("Deleting task with ID: {}", id);
-        if (!this.taskRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Task not found with ID: " + id);
-        }
-        this.taskRepository.deleteById(id);
+        final Task task = this.findTaskById(id);
+        this.taskRepository.delete(task);
+        this.eventPublisher.publishStatusChanged(task, task.getStatus(), null, null);
         TaskService.logger.info("Task deleted with ID: {}", id);
     }
 
@@ -100,15 +150,26 @@ public class TaskService {
     }
 
     /**
-     * Retrieves all tasks.
+     * Retrieves one keyset page of tasks, ordered by name.
      *
-     * @return a list of task DTOs
+     * @param pageRequest the page to read
+     * @return the page of task DTOs
      */
-    public List<TaskDTO> getAllTasks() {
-        TaskService.logger.info("Retrieving all tasks");
-        return this.taskRepository.findAll().stream()
-            .map(this.taskMapper::toDto)
-            .toList();
+    @Transactional(readOnly = true)
+    public KeysetSlice<TaskDTO> getAllTasks(final KeysetPageRequest pageRequest) {
+        TaskService.logger.info("Retrieving tasks page");
+        return this.findTasks(null, pageRequest);
+    }
+
+    /**
+     * Streams every task, ordered by name, to {@code sink}. Tasks are read one chunk per
+     * transaction, so no connection is held while the sink writes them out.
+     *
+     * @param sink receives each task DTO
+     */
+    public void streamAllTasks(final Consumer<TaskDTO> sink) {
+        TaskService.logger.info("Streaming all tasks");
+        KeysetQueries.forEachChunk(this.self::getAllTasks, this.streamChunkSize, sink);
     }
 
     private void validateTaskDTO(final TaskDTO taskDTO) {
@@ -124,16 +185,38 @@ public class TaskService {
     }
 
     /**
-     * Retrieves tasks by project ID.
+     * Retrieves one keyset page of the tasks of a project, ordered by name.
+     *
+     * @param projectId   the ID of the project
+     * @param pageRequest the page to read
+     * @return the page of task DTOs
+     */
+    @Transactional(readOnly = true)
+    public KeysetSlice<TaskDTO> getTasksByProjectId(final UUID projectId, final KeysetPageRequest pageRequest) {
+        TaskService.logger.info("Retrieving tasks page for project ID: {}", projectId);
+        return this.findTasks(TaskService.inProject(projectId), pageRequest);
+    }
+
+    /**
+     * Streams the tasks of a project, ordered by name, to {@code sink}. Tasks are read one chunk
+     * per transaction, so no connection is held while the sink writes them out.
      *
      * @param projectId the ID of the project
-     * @return a list of task DTOs
+     * @param sink      receives each task DTO
      */
-    public List<TaskDTO> getTasksByProjectId(final UUID projectId) {
-        TaskService.logger.info("Retrieving tasks for project ID: {}", projectId);
-        return this.taskRepository.findByProjectId(projectId).stream()
-            .map(this.taskMapper::toDto)
-            .toList();
+    public void streamTasksByProjectId(final UUID projectId, final Consumer<TaskDTO> sink) {
+        TaskService.logger.info("Streaming tasks for project ID: {}", projectId);
+        KeysetQueries.forEachChunk(pageRequest -> this.self.getTasksByProjectId(projectId, pageRequest),
+            this.streamChunkSize, sink);
+    }
+
+    private KeysetSlice<TaskDTO> findTasks(final Specification<Task> filter, final KeysetPageRequest pageRequest) {
+        return KeysetQueries.fetch(this.entityManager, Task.class, filter, TaskService.SORT_ATTRIBUTE, Task::getName, pageRequest)
+            .map(this.taskMapper::toDto);
+    }
+
+    private static Specification<Task> inProject(final UUID projectId) {
+        return (root, query, cb) -> cb.equal(root.get("project").get("id"), projectId);
     }
 
     /**
@@ -153,16 +236,265 @@ public class TaskService {
      * Saves a task (creates or updates).
      *
      * @param taskDTO the task data transfer object
+     * @return the saved task DTO
      * @throws IllegalArgumentException if taskDTO is null
      */
     @Transactional
-    public void saveTask(final TaskDTO taskDTO) {
-        this.self.updateTask(taskDTO.id(), taskDTO);
+    public TaskDTO saveTask(final TaskDTO taskDTO) {
         this.validateTaskDTO(taskDTO);
         if (null != taskDTO.id()) {
-            this.self.updateTask(taskDTO.id(), taskDTO);
-        } else {
-            this.self.createTask(taskDTO);
+            return this.self.updateTask(taskDTO.id(), taskDTO);
+        }
+        return this.self.createTask(taskDTO);
+    }
+
+    /**
+     * Creates tasks in JDBC batches within one transaction.
+     * <p>
+     * Invalid items, including those whose project does not exist, are reported and skipped; the
+     * rest are inserted and announced in a single batch event. The projects of all items are
+     * checked with one query.
+     * </p>
+     *
+     * @param taskDTOs the tasks to create
+     * @return the outcome of every item
+     * @throws IllegalArgumentException if the request is empty or too large
+     */
+    @Transactional
+    public BulkTaskResultDTO createTasks(final List<TaskDTO> taskDTOs) {
+        this.validateBulkSize(taskDTOs);
+        TaskService.logger.info("Creating {} tasks", taskDTOs.size());
+        final BulkTaskResultDTO.Item[] items = new BulkTaskResultDTO.Item[taskDTOs.size()];
+        final List<TaskDomainEvent> events = new ArrayList<>();
+        final List<Task> pending = new ArrayList<>(this.batchSize);
+        final List<Integer> pendingIndexes = new ArrayList<>(this.batchSize);
+        final Set<UUID> projectIds = this.existingProjectIds(taskDTOs);
+        for (int i = 0; i < taskDTOs.size(); i++) {
+            final TaskDTO taskDTO = taskDTOs.get(i);
+            String error = TaskService.validationError(taskDTO);
+            if (null == error) {
+                error = TaskService.projectError(taskDTO, projectIds);
+            }
+            if (null != error) {
+                items[i] = BulkTaskResultDTO.Item.failed(i, null == taskDTO ? null : taskDTO.id(), error);
+                continue;
+            }
+            pending.add(this.toNewTask(taskDTO));
+            pendingIndexes.add(i);
+            if (pending.size() == this.batchSize) {
+                this.insertBatch(pending, pendingIndexes, items, events);
+            }
         }
+        this.insertBatch(pending, pendingIndexes, items, events);
+        return this.complete(items, events);
+    }
+
+    /**
+     * Updates existing tasks in JDBC batches within one transaction.
+     *
+     * @param taskDTOs the new task data; each item must carry the task ID
+     * @return the outcome of every item
+     * @throws IllegalArgumentException if the request is empty or too large
+     */
+    @Transactional
+    public BulkTaskResultDTO updateTasks(final List<TaskDTO> taskDTOs) {
+        this.validateBulkSize(taskDTOs);
+        TaskService.logger.info("Updating {} tasks", taskDTOs.size());
+        final List<TaskDomainEvent> events = new ArrayList<>();
+        final BulkTaskResultDTO.Item[] items = this.applyToExisting(taskDTOs, taskDTO -> null == taskDTO ? null : taskDTO.id(),
+            (task, taskDTO) -> {
+                final String error = TaskService.validationError(taskDTO);
+                if (null != error) {
+                    return error;
+                }
+                final TaskStatus previousStatus = task.getStatus();
+                this.taskMapper.updateEntityFromDto(taskDTO, task);
+                events.add(new TaskDomainEvent.Updated(UUID.randomUUID(), task.getId(), null, Instant.now()));
+                if (previousStatus != task.getStatus()) {
+                    events.add(TaskEventPublisher.statusChanged(task, previousStatus, task.getStatus(), null));
+                }
+                return null;
+            });
+        return this.complete(items, events);
+    }
+
+    /**
+     * Deletes tasks in JDBC batches within one transaction. An ID repeated within the request is
+     * deleted once and its repeats are reported as failed.
+     *
+     * @param ids the IDs of the tasks to delete
+     * @return the outcome of every item
+     * @throws IllegalArgumentException if the request is empty or too large
+     */
+    @Transactional
+    public BulkTaskResultDTO deleteTasks(final List<UUID> ids) {
+        this.validateBulkSize(ids);
+        TaskService.logger.info("Deleting {} tasks", ids.size());
+        final List<TaskDomainEvent> events = new ArrayList<>();
+        final BulkTaskResultDTO.Item[] items = this.applyToExisting(ids, Function.identity(), (task, id) -> {
+            this.entityManager.remove(task);
+            events.add(new TaskDomainEvent.Deleted(UUID.randomUUID(), task.getId(), null, Instant.now()));
+            events.add(TaskEventPublisher.statusChanged(task, task.getStatus(), null, null));
+            return null;
+        });
+        return this.complete(items, events);
+    }
+
+    /**
+     * Assigns tasks to one user in JDBC batches within one transaction.
+     *
+     * @param ids        the IDs of the tasks to assign
+     * @param assigneeId the ID of the user
+     * @return the outcome of every item
+     * @throws IllegalArgumentException  if the request is empty or too large
+     * @throws ResourceNotFoundException if the user is not found
+     */
+    @Transactional
+    public BulkTaskResultDTO assignTasks(final List<UUID> ids, final UUID assigneeId) {
+        this.validateBulkSize(ids);
+        TaskService.logger.info("Assigning {} tasks to user {}", ids.size(), assigneeId);
+        final AppUser assignee = this.entityManager.find(AppUser.class, assigneeId);
+        if (null == assignee) {
+            throw new ResourceNotFoundException("User not found with ID: " + assigneeId);
+        }
+        final List<TaskDomainEvent> events = new ArrayList<>();
+        final BulkTaskResultDTO.Item[] items = this.applyToExisting(ids, Function.identity(), (task, id) -> {
+            task.setAssignedUser(this.entityManager.getReference(AppUser.class, assigneeId));
+            events.add(new TaskDomainEvent.Updated(UUID.randomUUID(), task.getId(), null, Instant.now()));
+            return null;
+        });
+        return this.complete(items, events);
+    }
+
+    private void insertBatch(final List<Task> pending, final List<Integer> pendingIndexes,
+                             final BulkTaskResultDTO.Item[] items, final List<TaskDomainEvent> events) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        final List<Task> saved = this.taskRepository.saveAll(pending);
+        this.entityManager.flush();
+        for (int k = 0; k < saved.size(); k++) {
+            final Task task = saved.get(k);
+            items[pendingIndexes.get(k)] = BulkTaskResultDTO.Item.succeeded(pendingIndexes.get(k), task.getId());
+            events.add(new TaskDomainEvent.Created(UUID.randomUUID(), task.getId(), null, Instant.now()));
+            events.add(TaskEventPublisher.statusChanged(task, null, task.getStatus(), null));
+        }
+        this.entityManager.clear();
+        pending.clear();
+        pendingIndexes.clear();
+    }
+
+    /**
+     * Loads the tasks of each chunk of requests with one query, applies the operation to the
+     * tasks found and flushes the chunk as one JDBC batch.
+     */
+    private <T> BulkTaskResultDTO.Item[] applyToExisting(final List<T> requests, final Function<T, UUID> idOf,
+                                                         final BulkTaskOperation<T> operation) {
+        final BulkTaskResultDTO.Item[] items = new BulkTaskResultDTO.Item[requests.size()];
+        final Set<UUID> seen = new HashSet<>();
+        for (int from = 0; from < requests.size(); from += this.batchSize) {
+            final List<T> chunk = requests.subList(from, Math.min(from + this.batchSize, requests.size()));
+            final List<UUID> ids = chunk.stream().map(idOf).filter(id -> null != id).toList();
+            final Map<UUID, Task> tasks = this.taskRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+            for (int k = 0; k < chunk.size(); k++) {
+                final int index = from + k;
+                final UUID id = idOf.apply(chunk.get(k));
+                if (null != id && !seen.add(id)) {
+                    items[index] = BulkTaskResultDTO.Item.failed(index, id, "Duplicate task ID in request: " + id);
+                    continue;
+                }
+                final Task task = null == id ? null : tasks.get(id);
+                if (null == task) {
+                    items[index] = BulkTaskResultDTO.Item.failed(index, id,
+                        null == id ? "Task ID is required" : "Task not found with ID: " + id);
+                    continue;
+                }
+                final String error = operation.apply(task, chunk.get(k));
+                items[index] = null == error
+                    ? BulkTaskResultDTO.Item.succeeded(index, id)
+                    : BulkTaskResultDTO.Item.failed(index, id, error);
+            }
+            this.entityManager.flush();
+            this.entityManager.clear();
+        }
+        return items;
+    }
+
+    private BulkTaskResultDTO complete(final BulkTaskResultDTO.Item[] items, final List<TaskDomainEvent> events) {
+        this.eventPublisher.publishBatch(events, null);
+        final BulkTaskResultDTO result = BulkTaskResultDTO.of(Arrays.asList(items));
+        TaskService.logger.info("Bulk operation finished: {} succeeded, {} failed", result.succeeded(), result.failed());
+        return result;
+    }
+
+    private void validateBulkSize(final List<?> requests) {
+        if (null == requests || requests.isEmpty()) {
+            throw new IllegalArgumentException("Bulk request cannot be empty");
+        }
+        if (this.maxBulkItems < requests.size()) {
+            throw new IllegalArgumentException("Bulk request cannot exceed " + this.maxBulkItems + " items");
+        }
+    }
+
+    /**
+     * Maps a new task and attaches it to its project by reference, without loading the project.
+     */
+    private Task toNewTask(final TaskDTO taskDTO) {
+        final Task task = this.taskMapper.toEntity(taskDTO);
+        task.setProject(this.entityManager.getReference(Project.class, taskDTO.projectId()));
+        return task;
+    }
+
+    /**
+     * The IDs among the requested projects that exist, read with one query.
+     */
+    private Set<UUID> existingProjectIds(final List<TaskDTO> taskDTOs) {
+        final Set<UUID> requested = taskDTOs.stream()
+            .filter(Objects::nonNull)
+            .map(TaskDTO::projectId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        if (requested.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(this.entityManager
+            .createQuery("SELECT p.id FROM Project p WHERE p.id IN :ids", UUID.class)
+            .setParameter("ids", requested)
+            .getResultList());
+    }
+
+    private static String projectError(final TaskDTO taskDTO, final Set<UUID> existingProjectIds) {
+        if (null == taskDTO.projectId()) {
+            return "Project is mandatory";
+        }
+        if (!existingProjectIds.contains(taskDTO.projectId())) {
+            return "Project not found with ID: " + taskDTO.projectId();
+        }
+        return null;
+    }
+
+    private static String validationError(final TaskDTO taskDTO) {
+        if (null == taskDTO) {
+            return "Task cannot be null";
+        }
+        if (null == taskDTO.name() || taskDTO.name().isBlank()) {
+            return "Task name is mandatory";
+        }
+        if (null == taskDTO.status()) {
+            return "Status is mandatory";
+        }
+        return null;
+    }
+
+    /**
+     * Applies one bulk item to a loaded task.
+     */
+    @FunctionalInterface
+    private interface BulkTaskOperation<T> {
+        /**
+         * @return the reason the item was rejected, or {@code null} if it was applied
+         */
+        String apply(Task task, T request);
     }
 }
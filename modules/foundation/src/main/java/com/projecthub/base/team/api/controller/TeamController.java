@@ -1,6 +1,10 @@
 package com.projecthub.base.team.api.controller;
 
+import com.projecthub.base.shared.api.rest.CursorPage;
+import com.projecthub.base.shared.api.rest.NdjsonStreamer;
+import com.projecthub.base.shared.repository.keyset.KeysetPageRequest;
 import com.projecthub.base.team.api.dto.TeamDTO;
+import com.projecthub.base.team.api.dto.TeamRosterDTO;
 import com.projecthub.base.team.api.rest.TeamApi;
 import com.projecthub.base.team.application.service.TeamService;
 import jakarta.validation.Valid;
@@ -10,8 +14,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -20,15 +24,31 @@ public class TeamController implements TeamApi {
 
     private static final Logger logger = LoggerFactory.getLogger(TeamController.class);
     private final TeamService teamService;
+    private final NdjsonStreamer ndjsonStreamer;
 
-    public TeamController(final TeamService teamService) {
+    public TeamController(final TeamService teamService, final NdjsonStreamer ndjsonStreamer) {
         this.teamService = teamService;
+        this.ndjsonStreamer = ndjsonStreamer;
     }
 
     @Override
-    public ResponseEntity<List<TeamDTO>> getAllTeams() {
+    public ResponseEntity<StreamingResponseBody> getAllTeams() {
         TeamController.logger.info("Retrieving all teams");
-        return ResponseEntity.ok(this.teamService.getAllTeams());
+        return this.ndjsonStreamer.streamArray(this.teamService::streamAllTeams);
+    }
+
+    @Override
+    public ResponseEntity<CursorPage<TeamDTO>> getTeamsPage(final Integer first, final String after,
+                                                            final Integer last, final String before) {
+        TeamController.logger.info("Retrieving teams page");
+        final KeysetPageRequest pageRequest = KeysetPageRequest.of(first, after, last, before);
+        return ResponseEntity.ok(CursorPage.of(this.teamService.getAllTeams(pageRequest)));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamAllTeams() {
+        TeamController.logger.info("Streaming all teams");
+        return this.ndjsonStreamer.stream(this.teamService::streamAllTeams);
     }
 
     @Override
@@ -37,6 +57,12 @@ public class TeamController implements TeamApi {
         return ResponseEntity.ok(this.teamService.getTeamById(id));
     }
 
+    @Override
+    public ResponseEntity<TeamRosterDTO> getTeamRoster(final UUID teamId) {
+        TeamController.logger.info("Retrieving roster of team with ID {}", teamId);
+        return ResponseEntity.ok(this.teamService.getTeamRoster(teamId));
+    }
+
     @Override
     public ResponseEntity<TeamDTO> createTeam(@Valid @RequestBody final TeamDTO team) {
         TeamController.logger.info("Creating new team");
@@ -0,0 +1,31 @@
+package com.projecthub.base.team.api.dto;
+
+import com.projecthub.base.project.api.dto.ProjectDTO;
+import com.projecthub.base.student.api.dto.StudentDTO;
+import com.projecthub.base.user.api.dto.AppUserDTO;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read model of a team page: the team together with its students, staff and projects.
+ *
+ * @param team     The team itself
+ * @param students Students that are members of the team
+ * @param staff    Summaries of the mentors, instructors and other staff users of the team
+ * @param projects Projects assigned to the team
+ */
+public record TeamRosterDTO(
+    TeamDTO team,
+    List<StudentDTO> students,
+    List<AppUserDTO> staff,
+    List<ProjectDTO> projects
+) {
+    public UUID teamId() {
+        return this.team.id();
+    }
+
+    public boolean hasProject(final UUID projectId) {
+        return this.projects.stream().anyMatch(project -> projectId.equals(project.id()));
+    }
+}
@@ -1,15 +1,18 @@
 package com.projecthub.base.team.api.rest;
 
 import com.projecthub.base.shared.api.rest.BaseApi;
+import com.projecthub.base.shared.api.rest.CursorPage;
 import com.projecthub.base.team.api.dto.TeamDTO;
+import com.projecthub.base.team.api.dto.TeamRosterDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
 import java.util.UUID;
 
 @Tag(name = "Teams", description = "Team management API")
@@ -20,8 +23,34 @@ public interface TeamApi extends BaseApi<TeamDTO, UUID> {
         responses = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved teams")
         })
-    @GetMapping
-    ResponseEntity<List<TeamDTO>> getAllTeams();
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<StreamingResponseBody> getAllTeams();
+
+    @Operation(summary = "Get a page of teams",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved teams")
+        })
+    @GetMapping(value = "/page", produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<CursorPage<TeamDTO>> getTeamsPage(
+        @RequestParam(required = false) Integer first,
+        @RequestParam(required = false) String after,
+        @RequestParam(required = false) Integer last,
+        @RequestParam(required = false) String before);
+
+    @Operation(summary = "Stream all teams as NDJSON",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Teams streamed one per line")
+        })
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> streamAllTeams();
+
+    @Operation(summary = "Get a team with its members and projects",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved team roster"),
+            @ApiResponse(responseCode = "404", description = "Team not found")
+        })
+    @GetMapping("/{teamId}/roster")
+    ResponseEntity<TeamRosterDTO> getTeamRoster(@PathVariable UUID teamId);
 
     @Operation(summary = "Create a new team",
         responses = {
@@ -0,0 +1,81 @@
+package com.projecthub.base.team.application.service;
+
+import com.projecthub.base.project.api.dto.ProjectDTO;
+import com.projecthub.base.project.infrastructure.mapper.ProjectMapper;
+import com.projecthub.base.project.infrastructure.repository.ProjectJpaRepository;
+import com.projecthub.base.shared.config.CacheConfig;
+import com.projecthub.base.shared.exception.ResourceNotFoundException;
+import com.projecthub.base.student.api.dto.StudentDTO;
+import com.projecthub.base.student.domain.entity.Student;
+import com.projecthub.base.team.api.dto.TeamRosterDTO;
+import com.projecthub.base.team.application.mapper.TeamMapper;
+import com.projecthub.base.team.domain.entity.Team;
+import com.projecthub.base.user.api.dto.AppUserDTO;
+import com.projecthub.base.user.api.mapper.AppUserMapper;
+import com.projecthub.base.user.domain.entity.AppUser;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Builds and caches team rosters.
+ * <p>
+ * A roster costs two queries whatever the team size: the team is read with its students and
+ * staff fetched in the same statement, and the team's projects are read in a second one. Both
+ * collections are small and bounded (at most 10 students and 5 staff), so the joined rows stay
+ * few. Staff are mapped to summaries so that their roles are never loaded. Rosters are cached
+ * per team and dropped by {@code TeamRosterCacheInvalidator} once a change to the team, its
+ * membership or its projects has been committed.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TeamRosterService {
+    private static final String TEAM_WITH_MEMBERS =
+        "SELECT DISTINCT t FROM Team t LEFT JOIN FETCH t.students LEFT JOIN FETCH t.members WHERE t.id = :teamId";
+
+    private final EntityManager entityManager;
+    private final ProjectJpaRepository projectRepository;
+    private final TeamMapper teamMapper;
+    private final AppUserMapper appUserMapper;
+    private final ProjectMapper projectMapper;
+
+    /**
+     * Retrieves the roster of a team.
+     *
+     * @param teamId the ID of the team
+     * @return the team with its students, staff and projects
+     * @throws ResourceNotFoundException if the team is not found
+     */
+    @Cacheable(cacheNames = CacheConfig.TEAM_ROSTERS, key = "#teamId")
+    @Transactional(readOnly = true)
+    public TeamRosterDTO getRoster(final UUID teamId) {
+        TeamRosterService.log.debug("Loading roster of team {}", teamId);
+        final Team team = this.entityManager.createQuery(TeamRosterService.TEAM_WITH_MEMBERS, Team.class)
+            .setParameter("teamId", teamId)
+            .getResultStream()
+            .findFirst()
+            .orElseThrow(() -> new ResourceNotFoundException("Team not found with ID: " + teamId));
+        final List<StudentDTO> students = team.getStudents().stream()
+            .sorted(Comparator.comparing(Student::getLastName).thenComparing(Student::getFirstName))
+            .map(student -> new StudentDTO(student.getId(), student.getEmail(), student.getFirstName(),
+                student.getLastName(), teamId))
+            .toList();
+        final List<AppUserDTO> staff = team.getMembers().stream()
+            .sorted(Comparator.comparing(AppUser::getUsername))
+            .map(this.appUserMapper::toSummaryDto)
+            .toList();
+        final List<ProjectDTO> projects = this.projectRepository.findAllByTeamId(teamId).stream()
+            .map(this.projectMapper::toDto)
+            .toList();
+        return new TeamRosterDTO(this.teamMapper.toDto(team), students, staff, projects);
+    }
+}
@@ -2,24 +2,36 @@ package com.projecthub.base.team.application.service;
 
 
 import com.projecthub.base.project.api.dto.ProjectDTO;
-import com.projecthub.base.project.infrastructure.mapper.ProjectMapper;
-import com.projecthub.base.project.infrastructure.repository.ProjectJpaRepository;
 import com.projecthub.base.repository.jpa.AppUserJpaRepository;
 import com.projecthub.base.repository.jpa.TeamJpaRepository;
 import com.projecthub.base.shared.exception.ResourceNotFoundException;
+import com.projecthub.base.shared.repository.keyset.KeysetPageRequest;
+import com.projecthub.base.shared.repository.keyset.KeysetQueries;
+import com.projecthub.base.shared.repository.keyset.KeysetSlice;
+import com.projecthub.base.student.api.dto.StudentDTO;
 import com.projecthub.base.student.domain.entity.Student;
 import com.projecthub.base.team.api.dto.TeamDTO;
+import com.projecthub.base.team.api.dto.TeamRosterDTO;
 import com.projecthub.base.team.application.mapper.TeamMapper;
 import com.projecthub.base.team.domain.entity.Team;
-import com.projecthub.base.user.api.dto.AppUserDTO;
-import com.projecthub.base.user.api.mapper.AppUserMapper;
+import com.projecthub.base.team.domain.event.TeamChangedEvent;
+import com.projecthub.base.team.domain.event.TeamMembershipChangedEvent;
+import jakarta.persistence.EntityManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Service class for managing teams.
@@ -28,21 +40,32 @@ import java.util.UUID;
 public class TeamService {
 
     private static final Logger logger = LoggerFactory.getLogger(TeamService.class);
+    private static final String SORT_ATTRIBUTE = "name";
+    private static final String TEAM_NAME = "SELECT t.name FROM Team t WHERE t.id = :teamId";
+    private static final String TEAMS_BY_COHORTS = "SELECT t FROM Team t WHERE t.cohort.id IN :cohortIds";
 
     private final TeamJpaRepository teamRepository;
     private final AppUserJpaRepository appUserRepository;
-    private final ProjectJpaRepository projectRepository;
     private final TeamMapper teamMapper;
-    private final ProjectMapper projectMapper;
-    private final AppUserMapper appUserMapper;
+    private final TeamRosterService teamRosterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final int streamChunkSize;
 
-    public TeamService(final TeamJpaRepository teamRepository, final AppUserJpaRepository appUserRepository, final ProjectJpaRepository projectRepository, final TeamMapper teamMapper, final ProjectMapper projectMapper, final AppUserMapper appUserMapper) {
+    private final TeamService self;
+
+    public TeamService(final TeamJpaRepository teamRepository, final AppUserJpaRepository appUserRepository, final TeamMapper teamMapper,
+                       final TeamRosterService teamRosterService, final ApplicationEventPublisher eventPublisher,
+                       final EntityManager entityManager, @Value("${app.rest.stream-chunk-size:500}") final int streamChunkSize,
+                       @Lazy final TeamService self) {
         this.teamRepository = teamRepository;
         this.appUserRepository = appUserRepository;
-        this.projectRepository = projectRepository;
         this.teamMapper = teamMapper;
-        this.projectMapper = projectMapper;
-        this.appUserMapper = appUserMapper;
+        this.teamRosterService = teamRosterService;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.streamChunkSize = streamChunkSize;
+        this.self = self;
     }
 
     /**
@@ -78,6 +101,7 @@ public class TeamService {
         final Team existingTeam = this.findTeamById(id);
         this.teamMapper.updateEntityFromDto(teamDTO, existingTeam);
         final Team updatedTeam = this.teamRepository.save(existingTeam);
+        this.eventPublisher.publishEvent(new TeamChangedEvent(id, Instant.now()));
         TeamService.logger.info("Team updated with ID: {}", updatedTeam.getId());
         return this.teamMapper.toDto(updatedTeam);
     }
@@ -95,6 +119,7 @@ public class TeamService {
             throw new ResourceNotFoundException("Team not found with ID: " + id);
         }
         this.teamRepository.deleteById(id);
+        this.eventPublisher.publishEvent(new TeamChangedEvent(id, Instant.now()));
         TeamService.logger.info("Team deleted with ID: {}", id);
     }
 
@@ -112,15 +137,27 @@ public class TeamService {
     }
 
     /**
-     * Retrieves all teams.
+     * Retrieves one keyset page of teams, ordered by name.
      *
-     * @return a list of team DTOs
+     * @param pageRequest the page to read
+     * @return the page of team DTOs
      */
-    public List<TeamDTO> getAllTeams() {
-        TeamService.logger.info("Retrieving all teams");
-        return this.teamRepository.findAll().stream()
-            .map(this.teamMapper::toDto)
-            .toList();
+    @Transactional(readOnly = true)
+    public KeysetSlice<TeamDTO> getAllTeams(final KeysetPageRequest pageRequest) {
+        TeamService.logger.info("Retrieving teams page");
+        return KeysetQueries.fetch(this.entityManager, Team.class, null, TeamService.SORT_ATTRIBUTE, Team::getName, pageRequest)
+            .map(this.teamMapper::toDto);
+    }
+
+    /**
+     * Streams every team, ordered by name, to {@code sink}. Teams are read one chunk per
+     * transaction, so no connection is held while the sink writes them out.
+     *
+     * @param sink receives each team DTO
+     */
+    public void streamAllTeams(final Consumer<TeamDTO> sink) {
+        TeamService.logger.info("Streaming all teams");
+        KeysetQueries.forEachChunk(this.self::getAllTeams, this.streamChunkSize, sink);
     }
 
     private void validateTeamDTO(final TeamDTO teamDTO) {
@@ -152,6 +189,7 @@ public class TeamService {
         final Student student = new Student();
         team.getStudents().add(student);
         final Team updatedTeam = this.teamRepository.save(team);
+        this.eventPublisher.publishEvent(new TeamMembershipChangedEvent(teamId, userId, Instant.now()));
         TeamService.logger.info("User added to team with ID: {}", updatedTeam.getId());
         return this.teamMapper.toDto(updatedTeam);
     }
@@ -169,40 +207,58 @@ public class TeamService {
             .toList();
     }
 
+    /**
+     * Retrieves the teams of several cohorts in a single query.
+     *
+     * @param cohortIds the IDs of the cohorts
+     * @return the team DTOs grouped by cohort ID; cohorts without teams are absent
+     */
+    public Map<UUID, List<TeamDTO>> getTeamsByCohortIds(final Collection<UUID> cohortIds) {
+        TeamService.logger.debug("Retrieving teams for {} cohorts", cohortIds.size());
+        if (cohortIds.isEmpty()) {
+            return Map.of();
+        }
+        return this.entityManager.createQuery(TeamService.TEAMS_BY_COHORTS, Team.class)
+            .setParameter("cohortIds", cohortIds)
+            .getResultList().stream()
+            .map(this.teamMapper::toDto)
+            .collect(Collectors.groupingBy(TeamDTO::cohortId));
+    }
+
+    /**
+     * Retrieves the roster of a team: the team with its students, staff and projects.
+     *
+     * @param teamId the ID of the team
+     * @return the team roster
+     * @throws ResourceNotFoundException if the team is not found
+     */
+    public TeamRosterDTO getTeamRoster(final UUID teamId) {
+        TeamService.logger.info("Retrieving roster for team ID: {}", teamId);
+        return this.teamRosterService.getRoster(teamId);
+    }
+
     /**
      * Retrieves projects by team ID.
      *
      * @param teamId the ID of the team
      * @return a list of project DTOs
+     * @throws ResourceNotFoundException if the team is not found
      */
     public List<ProjectDTO> getProjectsByTeamId(final UUID teamId) {
         TeamService.logger.info("Retrieving projects for team ID: {}", teamId);
-        this.findTeamById(teamId);
-        return this.projectRepository.findAllByTeamId(teamId).stream()
-            .map(this.projectMapper::toDto)
-            .toList();
+        return this.teamRosterService.getRoster(teamId).projects();
     }
 
     /**
-     * Retrieves members by team ID.
+     * Retrieves the students that are members of a team.
      *
      * @param teamId the ID of the team
-     * @return a list of app user DTOs
+     * @return a list of student DTOs
+     * @throws ResourceNotFoundException if the team is not found
      */
-    public List<AppUserDTO> getMembersByTeamId(final UUID teamId) {
+    public List<StudentDTO> getMembersByTeamId(final UUID teamId) {
         TeamService.logger.info("Retrieving members for team ID: {}", teamId);
-        final Team team = this.findTeamById(teamId);
-        return team.getStudents().stream()
-            .map(student -> {
-                final UUID studentId = student.getId();
-                if (null == studentId) {
-                    throw new IllegalArgumentException("Student ID cannot be null");
-                }
-                return this.appUserRepository.findById(studentId)
-                    .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + studentId));
-            })
-            .map(this.appUserMapper::toDto)
-            .toList();
+        return this.teamRosterService.getRoster(teamId).students();
     }
 
     /**
@@ -214,7 +270,10 @@ public class TeamService {
      */
     public String getTeamNameById(final UUID teamId) {
         TeamService.logger.info("Retrieving team name for team ID: {}", teamId);
-        final Team team = this.findTeamById(teamId);
-        return team.getName();
+        return this.entityManager.createQuery(TeamService.TEAM_NAME, String.class)
+            .setParameter("teamId", teamId)
+            .getResultList().stream()
+            .findFirst()
+            .orElseThrow(() -> new ResourceNotFoundException("Team not found with ID: " + teamId));
     }
 }
@@ -0,0 +1,12 @@
+package com.projecthub.base.team.domain.event;
+
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Value
+public class TeamChangedEvent {
+    UUID teamId;
+    Instant occurredOn;
+}
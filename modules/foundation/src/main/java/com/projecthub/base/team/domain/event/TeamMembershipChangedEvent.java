@@ -0,0 +1,13 @@
+package com.projecthub.base.team.domain.event;
+
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Value
+public class TeamMembershipChangedEvent {
+    UUID teamId;
+    UUID userId;
+    Instant occurredOn;
+}
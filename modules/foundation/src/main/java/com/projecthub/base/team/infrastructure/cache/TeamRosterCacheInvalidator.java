@@ -0,0 +1,72 @@
+package com.projecthub.base.team.infrastructure.cache;
+
+import com.projecthub.base.project.domain.event.ProjectDomainEvent;
+import com.projecthub.base.project.infrastructure.repository.ProjectJpaRepository;
+import com.projecthub.base.shared.cache.ResultCaches;
+import com.projecthub.base.shared.config.CacheConfig;
+import com.projecthub.base.team.api.dto.TeamRosterDTO;
+import com.projecthub.base.team.domain.event.TeamAssignedToCohortEvent;
+import com.projecthub.base.team.domain.event.TeamChangedEvent;
+import com.projecthub.base.team.domain.event.TeamMembershipChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * Invalidates cached team rosters once a change has been committed.
+ * <p>
+ * Team changes, cohort assignments and membership changes drop the roster of the team. A new or
+ * updated project drops the roster of the team it now belongs to, and an updated, re-statused or
+ * deleted project also drops every cached roster that still lists it.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class TeamRosterCacheInvalidator {
+    private final ResultCaches resultCaches;
+    private final ProjectJpaRepository projectRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleTeamChanged(final TeamChangedEvent event) {
+        this.evict(event.getTeamId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleTeamAssignedToCohort(final TeamAssignedToCohortEvent event) {
+        this.evict(event.getTeamId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleMembershipChanged(final TeamMembershipChangedEvent event) {
+        this.evict(event.getTeamId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProjectEvent(final ProjectDomainEvent event) {
+        switch (event) {
+            case final ProjectDomainEvent.Created e -> this.evictTeamOf(e.projectId());
+            case final ProjectDomainEvent.Updated e -> {
+                this.evictRostersListing(e.projectId());
+                this.evictTeamOf(e.projectId());
+            }
+            case final ProjectDomainEvent.StatusChanged e -> this.evictRostersListing(e.projectId());
+            case final ProjectDomainEvent.Deleted e -> this.evictRostersListing(e.projectId());
+        }
+    }
+
+    private void evict(final UUID teamId) {
+        this.resultCaches.evictIf(CacheConfig.TEAM_ROSTERS, (key, value) -> teamId.equals(key));
+    }
+
+    private void evictTeamOf(final UUID projectId) {
+        this.projectRepository.findTeamIdById(projectId).ifPresent(this::evict);
+    }
+
+    private void evictRostersListing(final UUID projectId) {
+        this.resultCaches.evictIf(CacheConfig.TEAM_ROSTERS, (key, value) ->
+            value instanceof final TeamRosterDTO roster && roster.hasProject(projectId));
+    }
+}
@@ -1,9 +1,13 @@
 package com.projecthub.base.user.api.controller;
 
 import com.projecthub.base.auth.api.dto.RegisterRequestDTO;
+import com.projecthub.base.shared.api.rest.CursorPage;
+import com.projecthub.base.shared.api.rest.NdjsonStreamer;
+import com.projecthub.base.shared.repository.keyset.KeysetPageRequest;
 import com.projecthub.base.user.api.dto.AppUserDTO;
 import com.projecthub.base.user.api.rest.AppUserApi;
 import com.projecthub.base.user.application.mgmt.service.AppUserManagementService;
+import com.projecthub.base.user.application.query.service.AppUserQueryService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,6 +16,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.UUID;
 
@@ -21,15 +26,34 @@ public class AppUserController implements AppUserApi {
 
     private static final Logger logger = LoggerFactory.getLogger(AppUserController.class);
     private final AppUserManagementService appUserService;
+    private final AppUserQueryService appUserQueryService;
+    private final NdjsonStreamer ndjsonStreamer;
 
-    public AppUserController(final AppUserManagementService appUserService) {
+    public AppUserController(final AppUserManagementService appUserService, final AppUserQueryService appUserQueryService,
+                             final NdjsonStreamer ndjsonStreamer) {
         this.appUserService = appUserService;
+        this.appUserQueryService = appUserQueryService;
+        this.ndjsonStreamer = ndjsonStreamer;
     }
 
     @Override
-    public ResponseEntity<?> getAllUsers() {
+    public ResponseEntity<StreamingResponseBody> getAllUsers() {
         AppUserController.logger.info("Retrieving all users");
-        return ResponseEntity.ok(this.appUserService.getAllUsers());
+        return this.ndjsonStreamer.streamArray(this.appUserQueryService::streamAllUsers);
+    }
+
+    @Override
+    public ResponseEntity<CursorPage<AppUserDTO>> getUsersPage(final Integer first, final String after,
+                                                               final Integer last, final String before) {
+        AppUserController.logger.info("Retrieving users page");
+        final KeysetPageRequest pageRequest = KeysetPageRequest.of(first, after, last, before);
+        return ResponseEntity.ok(CursorPage.of(this.appUserQueryService.getAllUsers(pageRequest)));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamAllUsers() {
+        AppUserController.logger.info("Streaming all users");
+        return this.ndjsonStreamer.stream(this.appUserQueryService::streamAllUsers);
     }
 
     @Override
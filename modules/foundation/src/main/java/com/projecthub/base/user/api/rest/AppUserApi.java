@@ -2,19 +2,36 @@ package com.projecthub.base.users.api.rest;
 
 import com.projecthub.base.auth.api.dto.RegisterRequestDTO;
 import com.projecthub.base.shared.api.rest.BaseApi;
+import com.projecthub.base.shared.api.rest.CursorPage;
 import com.projecthub.base.users.api.dto.AppUserDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
 import java.util.UUID;
 
 @Tag(name = "User API", description = "Operations for managing users")
 public interface AppUserApi extends BaseApi<AppUserDTO, UUID> {
 
     @Operation(summary = "Get all users")
-    ResponseEntity<List<AppUserDTO>> getAllUsers();
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<StreamingResponseBody> getAllUsers();
+
+    @Operation(summary = "Get a page of users")
+    @GetMapping(value = "/page", produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<CursorPage<AppUserDTO>> getUsersPage(
+        @RequestParam(required = false) Integer first,
+        @RequestParam(required = false) String after,
+        @RequestParam(required = false) Integer last,
+        @RequestParam(required = false) String before);
+
+    @Operation(summary = "Stream all users as NDJSON")
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> streamAllUsers();
 
     @Operation(summary = "Create a new user")
     ResponseEntity<AppUserDTO> createUser(RegisterRequestDTO registerRequest);
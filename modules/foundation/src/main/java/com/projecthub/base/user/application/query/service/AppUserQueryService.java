@@ -1,12 +1,16 @@
 package com.projecthub.base.user.application.query.service;
 
+import com.projecthub.base.shared.repository.keyset.KeysetPageRequest;
+import com.projecthub.base.shared.repository.keyset.KeysetSlice;
 import com.projecthub.base.user.api.dto.AppUserDTO;
 
-import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface AppUserQueryService {
-    List<AppUserDTO> getAllUsers();
+    KeysetSlice<AppUserDTO> getAllUsers(KeysetPageRequest pageRequest);
+
+    void streamAllUsers(Consumer<AppUserDTO> sink);
 
     AppUserDTO getUserById(UUID id);
 }
@@ -2,35 +2,62 @@ package com.projecthub.base.user.application.query.service;
 
 import com.projecthub.base.repository.jpa.AppUserJpaRepository;
 import com.projecthub.base.shared.exception.ResourceNotFoundException;
+import com.projecthub.base.shared.repository.keyset.KeysetPageRequest;
+import com.projecthub.base.shared.repository.keyset.KeysetQueries;
+import com.projecthub.base.shared.repository.keyset.KeysetSlice;
 import com.projecthub.base.user.api.dto.AppUserDTO;
 import com.projecthub.base.user.api.mapper.AppUserMapper;
 import com.projecthub.base.user.domain.entity.AppUser;
+import jakarta.persistence.EntityManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Service
 public class AppUserQueryServiceImpl implements AppUserQueryService {
     private static final Logger logger = LoggerFactory.getLogger(AppUserQueryServiceImpl.class);
     private static final String USER_NOT_FOUND = "User not found with ID: ";
+    private static final String SORT_ATTRIBUTE = "username";
 
     private final AppUserJpaRepository appUserRepository;
     private final AppUserMapper userMapper;
+    private final EntityManager entityManager;
+    private final int streamChunkSize;
+    private final AppUserQueryService self;
 
-    public AppUserQueryServiceImpl(final AppUserJpaRepository appUserRepository, final AppUserMapper userMapper) {
+    public AppUserQueryServiceImpl(final AppUserJpaRepository appUserRepository, final AppUserMapper userMapper,
+                                   final EntityManager entityManager,
+                                   @Value("${app.rest.stream-chunk-size:500}") final int streamChunkSize,
+                                   @Lazy final AppUserQueryService self) {
         this.appUserRepository = appUserRepository;
         this.userMapper = userMapper;
+        this.entityManager = entityManager;
+        this.streamChunkSize = streamChunkSize;
+        this.self = self;
     }
 
     @Override
-    public List<AppUserDTO> getAlluser() {
-        AppUserQueryServiceImpl.logger.info("Retrieving all user");
-        return this.appUserRepository.findAll().stream()
-            .map(this.userMapper::toDto)
-            .toList();
+    @Transactional(readOnly = true)
+    public KeysetSlice<AppUserDTO> getAllUsers(final KeysetPageRequest pageRequest) {
+        AppUserQueryServiceImpl.logger.info("Retrieving users page");
+        return KeysetQueries.fetch(this.entityManager, AppUser.class, null, AppUserQueryServiceImpl.SORT_ATTRIBUTE,
+                AppUser::getUsername, pageRequest)
+            .map(this.userMapper::toDto);
+    }
+
+    /**
+     * Reads one chunk per transaction, so no connection is held while the sink writes the users out.
+     */
+    @Override
+    public void streamAllUsers(final Consumer<AppUserDTO> sink) {
+        AppUserQueryServiceImpl.logger.info("Streaming all users");
+        KeysetQueries.forEachChunk(this.self::getAllUsers, this.streamChunkSize, sink);
     }
 
     @Override
@@ -40,10 +67,4 @@ public class AppUserQueryServiceImpl implements AppUserQueryService {
             .orElseThrow(() -> new ResourceNotFoundException(AppUserQueryServiceImpl.USER_NOT_FOUND + id));
         return this.userMapper.toDto(user);
     }
-
-    @Override
-    public List<AppUserDTO> getAllUsers() {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("Unimplemented method 'getAllUsers'");
-    }
 }
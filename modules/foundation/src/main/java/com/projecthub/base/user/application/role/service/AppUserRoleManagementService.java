@@ -3,6 +3,8 @@ package com.projecthub.base.user.application.role.service;
 
 import com.projecthub.base.auth.domain.entity.Role;
 import com.projecthub.base.repository.jpa.RoleJpaRepository;
+import com.projecthub.base.shared.cache.ResultCaches;
+import com.projecthub.base.shared.config.CacheConfig;
 import com.projecthub.base.shared.exception.ResourceAlreadyExistsException;
 import com.projecthub.base.shared.exception.ResourceNotFoundException;
 import org.slf4j.Logger;
@@ -19,9 +21,11 @@ public class AppUserRoleManagementService {
     private static final String ROLE_NOT_FOUND = "Role not found with ID: ";
 
     private final RoleJpaRepository roleRepository;
+    private final ResultCaches resultCaches;
 
-    public AppUserRoleManagementService(final RoleJpaRepository roleRepository) {
+    public AppUserRoleManagementService(final RoleJpaRepository roleRepository, final ResultCaches resultCaches) {
         this.roleRepository = roleRepository;
+        this.resultCaches = resultCaches;
     }
 
     @Transactional(readOnly = true)
@@ -41,6 +45,7 @@ public class AppUserRoleManagementService {
             throw new ResourceAlreadyExistsException("Role already exists with name: " + role.getName());
         }
         AppUserRoleManagementService.logger.info("Creating new role: {}", role.getName());
+        this.resultCaches.clearAfterCommit(CacheConfig.ROLES);
         return this.roleRepository.save(role);
     }
 
@@ -59,6 +64,7 @@ public class AppUserRoleManagementService {
         existingRole.setDescription(roleDetails.getDescription());
 
         AppUserRoleManagementService.logger.info("Updating role with ID: {}", id);
+        this.resultCaches.clearAfterCommit(CacheConfig.ROLES);
         return this.roleRepository.save(existingRole);
     }
 
@@ -67,6 +73,7 @@ public class AppUserRoleManagementService {
         final Role role = this.roleRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException(AppUserRoleManagementService.ROLE_NOT_FOUND + id));
         AppUserRoleManagementService.logger.info("Deleting role: {}", role.getName());
+        this.resultCaches.clearAfterCommit(CacheConfig.ROLES);
         this.roleRepository.delete(role);
     }
 }
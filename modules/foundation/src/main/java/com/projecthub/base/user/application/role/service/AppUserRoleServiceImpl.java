@@ -2,6 +2,7 @@ package com.projecthub.base.user.application.role.service;
 
 import com.projecthub.base.auth.domain.entity.Role;
 import com.projecthub.base.repository.jpa.RoleJpaRepository;
+import com.projecthub.base.shared.config.CacheConfig;
 import com.projecthub.base.shared.domain.enums.security.RoleType;
 import com.projecthub.base.shared.exception.ResourceNotFoundException;
 import org.slf4j.Logger;
@@ -15,6 +16,11 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * Role lookups, cached in {@link CacheConfig#ROLES}. The cached roles are detached entities shared
+ * between callers: they may be attached to users as references but must not be modified.
+ * {@link AppUserRoleManagementService} clears the cache whenever a role changes.
+ */
 @Service
 public class AppUserRoleServiceImpl implements AppUserRoleService {
     private static final Logger logger = LoggerFactory.getLogger(AppUserRoleServiceImpl.class);
@@ -27,7 +33,7 @@ public class AppUserRoleServiceImpl implements AppUserRoleService {
     }
 
     @Override
-    @Cacheable("roles")
+    @Cacheable(CacheConfig.ROLES)
     @Transactional(readOnly = true)
     public List<Role> getAllRoles() {
         AppUserRoleServiceImpl.logger.info("Retrieving all roles");
@@ -35,7 +41,7 @@ public class AppUserRoleServiceImpl implements AppUserRoleService {
     }
 
     @Override
-    @Cacheable(value = "roles", key = "#name")
+    @Cacheable(value = CacheConfig.ROLES, key = "#name")
     @Transactional(readOnly = true)
     public Role getRoleByName(final String name) {
         AppUserRoleServiceImpl.logger.info("Retrieving role by name: {}", name);
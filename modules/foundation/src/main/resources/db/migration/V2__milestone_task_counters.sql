@@ -0,0 +1,13 @@
+-- Task counters maintained by TaskProgressProjection, and the task-to-milestone link they count.
+-- Existing databases are baselined at version 1, so this is the first migration applied to them.
+
+ALTER TABLE milestones ADD COLUMN IF NOT EXISTS completed_task_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE milestones ADD COLUMN IF NOT EXISTS total_task_count INTEGER NOT NULL DEFAULT 0;
+
+ALTER TABLE task ADD COLUMN IF NOT EXISTS milestone_id UUID;
+ALTER TABLE task ADD CONSTRAINT fk_task_milestone FOREIGN KEY (milestone_id) REFERENCES milestones (id);
+CREATE INDEX IF NOT EXISTS idx_task_milestone_id ON task (milestone_id);
+
+UPDATE milestones m SET
+    total_task_count = (SELECT COUNT(*) FROM task t WHERE t.milestone_id = m.id),
+    completed_task_count = (SELECT COUNT(*) FROM task t WHERE t.milestone_id = m.id AND t.status = 'COMPLETED');
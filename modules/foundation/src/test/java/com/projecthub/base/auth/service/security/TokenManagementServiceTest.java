@@ -0,0 +1,118 @@
+package com.projecthub.base.auth.service.security;
+
+import com.projecthub.base.auth.infrastructure.persistence.token.TokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenManagementServiceTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private TokenRepository tokenRepository;
+
+    private ActiveTokenCounter activeTokenCounter;
+
+    @BeforeEach
+    void setUp() {
+        this.activeTokenCounter = new ActiveTokenCounter(100, Duration.ofMinutes(30), Duration.ofMinutes(10));
+        this.activeTokenCounter.get("alice", username -> 5L);
+        this.activeTokenCounter.get("bob", username -> 1L);
+    }
+
+    @Test
+    void purgesBatchesUntilOneComesBackShort() {
+        when(this.tokenRepository.purgeExpiredTokens(any(), eq(TokenManagementServiceTest.BATCH_SIZE)))
+            .thenReturn(new TokenRepository.PurgeResult(2, List.of("alice", "bob")))
+            .thenReturn(new TokenRepository.PurgeResult(2, List.of("alice")))
+            .thenReturn(new TokenRepository.PurgeResult(1, List.of()));
+
+        this.service(10, Duration.ZERO).cleanupExpiredTokens();
+
+        final ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(this.tokenRepository, times(3)).purgeExpiredTokens(now.capture(), eq(TokenManagementServiceTest.BATCH_SIZE));
+        // Every batch of one run purges against the same cut-off
+        assertEquals(1, now.getAllValues().stream().distinct().count());
+        assertEquals(3L, this.activeTokenCounter.get("alice", username -> 0L));
+        assertEquals(0L, this.activeTokenCounter.get("bob", username -> 0L));
+    }
+
+    @Test
+    void stopsAfterTheMaximumNumberOfBatches() {
+        when(this.tokenRepository.purgeExpiredTokens(any(), eq(TokenManagementServiceTest.BATCH_SIZE)))
+            .thenReturn(new TokenRepository.PurgeResult(2, List.of()));
+
+        this.service(3, Duration.ZERO).cleanupExpiredTokens();
+
+        verify(this.tokenRepository, times(3)).purgeExpiredTokens(any(), eq(TokenManagementServiceTest.BATCH_SIZE));
+    }
+
+    @Test
+    void emptyFirstBatchEndsTheRun() {
+        when(this.tokenRepository.purgeExpiredTokens(any(), eq(TokenManagementServiceTest.BATCH_SIZE)))
+            .thenReturn(TokenRepository.PurgeResult.EMPTY);
+
+        this.service(10, Duration.ZERO).cleanupExpiredTokens();
+
+        verify(this.tokenRepository, times(1)).purgeExpiredTokens(any(), eq(TokenManagementServiceTest.BATCH_SIZE));
+        assertEquals(5L, this.activeTokenCounter.get("alice", username -> 0L));
+    }
+
+    @Test
+    void interruptStopsThePurgeAndIsPreserved() {
+        when(this.tokenRepository.purgeExpiredTokens(any(), eq(TokenManagementServiceTest.BATCH_SIZE)))
+            .thenReturn(new TokenRepository.PurgeResult(2, List.of("alice")));
+
+        Thread.currentThread().interrupt();
+        try {
+            this.service(10, Duration.ofMillis(1)).cleanupExpiredTokens();
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+
+        verify(this.tokenRepository, times(1)).purgeExpiredTokens(any(), eq(TokenManagementServiceTest.BATCH_SIZE));
+        assertEquals(4L, this.activeTokenCounter.get("alice", username -> 0L));
+    }
+
+    @Test
+    void counterChangesWaitForTheTransactionToCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            this.activeTokenCounter.add("alice", 2);
+            this.activeTokenCounter.reset("bob");
+            assertEquals(5L, this.activeTokenCounter.get("alice", username -> 0L));
+            assertEquals(1L, this.activeTokenCounter.get("bob", username -> 0L));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(7L, this.activeTokenCounter.get("alice", username -> 0L));
+        assertEquals(0L, this.activeTokenCounter.get("bob", username -> 0L));
+    }
+
+    private TokenManagementService service(final int maxBatches, final Duration pause) {
+        return new TokenManagementService(null, this.tokenRepository, null, null, this.activeTokenCounter,
+            TokenManagementServiceTest.BATCH_SIZE, maxBatches, pause);
+    }
+}
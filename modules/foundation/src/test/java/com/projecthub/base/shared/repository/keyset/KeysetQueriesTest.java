@@ -0,0 +1,188 @@
+package com.projecthub.base.shared.repository.keyset;
+
+import com.projecthub.base.shared.domain.entity.BaseEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pages through rows whose sort keys repeat, so every page boundary that falls inside a group of
+ * equal names has to be resolved by the id tie-breaker.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+    "spring.flyway.enabled=false"
+})
+class KeysetQueriesTest {
+
+    private static final List<String> NAMES = List.of("beta", "alpha", "beta", "gamma", "beta", "delta", "gamma");
+    private static final String SORT_ATTRIBUTE = "name";
+    private static final int PAGE_SIZE = 2;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        KeysetQueriesTest.NAMES.forEach(name -> this.entityManager.persist(new KeysetRow(name)));
+        this.entityManager.flush();
+        this.entityManager.clear();
+    }
+
+    @Test
+    void forwardPagesVisitEveryRowOnceInKeysetOrder() {
+        final List<UUID> visited = new ArrayList<>();
+        String after = null;
+        int pages = 0;
+        KeysetSlice<KeysetRow> page;
+        do {
+            page = this.fetch(KeysetPageRequest.of(KeysetQueriesTest.PAGE_SIZE, after, null, null));
+            assertEquals(0 < pages, page.hasPrevious());
+            page.content().forEach(row -> visited.add(row.getId()));
+            after = page.cursors().getLast().encode();
+            pages++;
+        } while (page.hasNext());
+
+        assertEquals(this.allInKeysetOrder(), visited);
+        assertEquals(4, pages);
+    }
+
+    @Test
+    void backwardPagesVisitEveryRowOnceInKeysetOrder() {
+        final List<UUID> visited = new ArrayList<>();
+        String before = null;
+        int pages = 0;
+        KeysetSlice<KeysetRow> page;
+        do {
+            page = this.fetch(KeysetPageRequest.of(null, null, KeysetQueriesTest.PAGE_SIZE, before));
+            assertEquals(0 < pages, page.hasNext());
+            visited.addAll(0, page.content().stream().map(KeysetRow::getId).toList());
+            before = page.cursors().getFirst().encode();
+            pages++;
+        } while (page.hasPrevious());
+
+        assertEquals(this.allInKeysetOrder(), visited);
+        assertEquals(4, pages);
+    }
+
+    @Test
+    void cursorInsideTiedGroupResumesAtTheNextRowOfThatGroup() {
+        final List<UUID> ordered = this.allInKeysetOrder();
+        final List<KeysetRow> all = this.fetch(KeysetPageRequest.first(KeysetQueriesTest.NAMES.size())).content();
+        // alpha, beta, beta, beta, ...: the cursor sits on the middle "beta"
+        final KeysetRow middle = all.get(2);
+        assertEquals("beta", middle.getName());
+        final String cursor = new KeysetCursor(middle.getName(), middle.getId()).encode();
+
+        final KeysetSlice<KeysetRow> after = this.fetch(KeysetPageRequest.of(2, cursor, null, null));
+        assertEquals(ordered.subList(3, 5), after.content().stream().map(KeysetRow::getId).toList());
+        assertTrue(after.hasPrevious());
+        assertTrue(after.hasNext());
+
+        final KeysetSlice<KeysetRow> before = this.fetch(KeysetPageRequest.of(null, null, 2, cursor));
+        assertEquals(ordered.subList(0, 2), before.content().stream().map(KeysetRow::getId).toList());
+        assertFalse(before.hasPrevious());
+        assertTrue(before.hasNext());
+    }
+
+    @Test
+    void emptyPageOnlyReportsWhetherRowsFollow() {
+        final KeysetSlice<KeysetRow> page = this.fetch(KeysetPageRequest.of(0, null, null, null));
+        assertTrue(page.content().isEmpty());
+        assertTrue(page.cursors().isEmpty());
+        assertTrue(page.hasNext());
+        assertFalse(page.hasPrevious());
+
+        assertThrows(IllegalArgumentException.class, () -> KeysetPageRequest.of(-1, null, null, null));
+    }
+
+    @Test
+    void cursorsAreIndexAlignedWithRows() {
+        final KeysetSlice<KeysetRow> page = this.fetch(KeysetPageRequest.first(3));
+        for (int i = 0; i < page.content().size(); i++) {
+            final KeysetRow row = page.content().get(i);
+            assertEquals(new KeysetCursor(row.getName(), row.getId()), page.cursors().get(i));
+        }
+    }
+
+    @Test
+    void chunkedReadsVisitEveryRowOnceInKeysetOrder() {
+        final List<UUID> visited = new ArrayList<>();
+        final List<KeysetPageRequest> requests = new ArrayList<>();
+        KeysetQueries.forEachChunk(request -> {
+            requests.add(request);
+            return this.fetch(request);
+        }, KeysetQueriesTest.PAGE_SIZE, row -> visited.add(row.getId()));
+
+        assertEquals(this.allInKeysetOrder(), visited);
+        assertEquals(4, requests.size());
+        assertTrue(requests.stream().allMatch(request -> request.forward() && KeysetQueriesTest.PAGE_SIZE == request.limit()));
+    }
+
+    @Test
+    void cursorRoundTripsThroughItsEncoding() {
+        final UUID id = UUID.randomUUID();
+        for (final String sortKey : List.of("beta", "", "with\u0000separator", "naïve café")) {
+            final KeysetCursor cursor = new KeysetCursor(sortKey, id);
+            assertEquals(cursor, KeysetCursor.decode(cursor.encode()));
+        }
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("not a cursor"));
+        assertThrows(IllegalArgumentException.class, () -> KeysetPageRequest.of(2, "bm8tc2VwYXJhdG9y", null, null));
+    }
+
+    private KeysetSlice<KeysetRow> fetch(final KeysetPageRequest request) {
+        return KeysetQueries.fetch(this.entityManager, KeysetRow.class, null, KeysetQueriesTest.SORT_ATTRIBUTE,
+            KeysetRow::getName, request);
+    }
+
+    private List<UUID> allInKeysetOrder() {
+        return this.entityManager
+            .createQuery("SELECT r.id FROM KeysetRow r ORDER BY r.name, r.id", UUID.class)
+            .getResultList();
+    }
+
+    @SpringBootConfiguration
+    @AutoConfigurationPackage
+    @EntityScan(basePackageClasses = KeysetQueriesTest.class)
+    static class TestConfig {
+    }
+
+    @Entity
+    @Table(name = "keyset_row")
+    static class KeysetRow extends BaseEntity {
+        private String name;
+
+        protected KeysetRow() {
+        }
+
+        KeysetRow(final String name) {
+            this.name = name;
+            final LocalDateTime now = LocalDateTime.now();
+            this.setCreatedDate(now);
+            this.setLastModifiedDate(now);
+        }
+
+        String getName() {
+            return this.name;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.projecthub.base.shared.utils;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtUtilTest {
+
+    private static final String OLD_SECRET = "an-old-signing-secret-of-at-least-32-bytes";
+    private static final String NEW_SECRET = "a-new-signing-secret-of-at-least-32-bytes!";
+    private static final long EXPIRATION = 900;
+    private static final long REFRESH_EXPIRATION = 604800;
+
+    @Test
+    void issuedTokensRoundTrip() {
+        final JwtUtil jwtUtil = JwtUtilTest.jwtUtil(JwtUtilTest.NEW_SECRET, "primary", "");
+        final String token = jwtUtil.generateToken("alice", Map.of("role", "ADMIN"));
+
+        assertTrue(jwtUtil.validateToken(token));
+        assertTrue(jwtUtil.validateToken(token, "alice"));
+        assertFalse(jwtUtil.validateToken(token, "bob"));
+        assertEquals("alice", jwtUtil.getUsernameFromToken(token));
+        assertEquals("ADMIN", jwtUtil.getClaimFromToken(token, claims -> claims.get("role", String.class)));
+        assertEquals("primary", JwtUtilTest.keyIdOf(token, JwtUtilTest.NEW_SECRET));
+    }
+
+    @Test
+    void refreshTokensOutliveAccessTokens() {
+        final JwtUtil jwtUtil = JwtUtilTest.jwtUtil(JwtUtilTest.NEW_SECRET, "primary", "");
+        final Date accessExpiry = jwtUtil.getExpirationDateFromToken(jwtUtil.generateToken("alice"));
+        final Date refreshExpiry = jwtUtil.getExpirationDateFromToken(jwtUtil.generateRefreshToken("alice"));
+
+        assertTrue(refreshExpiry.after(accessExpiry));
+    }
+
+    @Test
+    void retiredKeysStillVerifyTokensIssuedBeforeRotation() {
+        final String issuedBeforeRotation = JwtUtilTest.jwtUtil(JwtUtilTest.OLD_SECRET, "k1", "")
+            .generateToken("alice");
+
+        final JwtUtil rotated = JwtUtilTest.jwtUtil(JwtUtilTest.NEW_SECRET, "k2", "k1=" + JwtUtilTest.OLD_SECRET);
+        assertTrue(rotated.validateToken(issuedBeforeRotation, "alice"));
+
+        final String issuedAfterRotation = rotated.generateToken("alice");
+        assertEquals("k2", JwtUtilTest.keyIdOf(issuedAfterRotation, JwtUtilTest.NEW_SECRET));
+        assertTrue(rotated.validateToken(issuedAfterRotation, "alice"));
+
+        final JwtUtil withoutRetiredKey = JwtUtilTest.jwtUtil(JwtUtilTest.NEW_SECRET, "k2", "");
+        assertFalse(withoutRetiredKey.validateToken(issuedBeforeRotation));
+        assertTrue(withoutRetiredKey.validateToken(issuedAfterRotation));
+    }
+
+    @Test
+    void tokensWithoutKeyIdAreVerifiedWithTheCurrentKey() {
+        final JwtUtil jwtUtil = JwtUtilTest.jwtUtil(JwtUtilTest.NEW_SECRET, "primary", "");
+        final long now = System.currentTimeMillis();
+        final String withoutKeyId = Jwts.builder()
+            .subject("alice")
+            .issuedAt(new Date(now))
+            .expiration(new Date(now + 60_000))
+            .signWith(Keys.hmacShaKeyFor(JwtUtilTest.NEW_SECRET.getBytes(StandardCharsets.UTF_8)))
+            .compact();
+
+        assertTrue(jwtUtil.validateToken(withoutKeyId, "alice"));
+    }
+
+    @Test
+    void rejectsForgedTamperedExpiredAndMissingTokens() {
+        final JwtUtil jwtUtil = JwtUtilTest.jwtUtil(JwtUtilTest.NEW_SECRET, "primary", "");
+
+        // Same key id, different secret
+        final String forged = JwtUtilTest.jwtUtil(JwtUtilTest.OLD_SECRET, "primary", "").generateToken("alice");
+        assertFalse(jwtUtil.validateToken(forged));
+
+        final String[] alice = jwtUtil.generateToken("alice").split("\\.");
+        final String[] mallory = jwtUtil.generateToken("mallory").split("\\.");
+        assertFalse(jwtUtil.validateToken(alice[0] + "." + mallory[1] + "." + alice[2]));
+
+        final JwtUtil expiring = new JwtUtil(JwtUtilTest.NEW_SECRET, -60, JwtUtilTest.REFRESH_EXPIRATION, "primary", "");
+        assertFalse(jwtUtil.validateToken(expiring.generateToken("alice")));
+
+        assertFalse(jwtUtil.validateToken(null));
+        assertFalse(jwtUtil.validateToken(""));
+        assertFalse(jwtUtil.validateToken("not.a.token"));
+    }
+
+    private static JwtUtil jwtUtil(final String secret, final String keyId, final String retiredKeys) {
+        return new JwtUtil(secret, JwtUtilTest.EXPIRATION, JwtUtilTest.REFRESH_EXPIRATION, keyId, retiredKeys);
+    }
+
+    private static String keyIdOf(final String token, final String secret) {
+        return Jwts.parser()
+            .verifyWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+            .build()
+            .parseSignedClaims(token)
+            .getHeader()
+            .getKeyId();
+    }
+}
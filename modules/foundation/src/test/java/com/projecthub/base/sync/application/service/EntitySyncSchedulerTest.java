@@ -0,0 +1,90 @@
+package com.projecthub.base.sync.application.service;
+
+import com.projecthub.base.shared.domain.enums.sync.SyncState;
+import com.projecthub.base.sync.api.dto.EntitySyncResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class EntitySyncSchedulerTest {
+
+    private final List<String> calls = Collections.synchronizedList(new ArrayList<>());
+    private final EntitySyncScheduler scheduler = new EntitySyncScheduler(mock(SyncStatusTracker.class), Runnable::run);
+
+    @Test
+    void appliesDeletionsChildrenFirstAfterEveryUpsert() {
+        final List<EntitySyncResult> results = this.scheduler.synchronizeAll(List.of(
+            this.synchronizer(Parent.class, Set.of(), false),
+            this.synchronizer(Child.class, Set.of(Parent.class), false),
+            this.synchronizer(GrandChild.class, Set.of(Child.class), false)));
+
+        assertEquals(List.of("sync Parent", "sync Child", "sync GrandChild",
+            "delete GrandChild", "delete Child", "delete Parent"), this.calls);
+        results.forEach(result -> assertEquals(SyncState.SUCCESS, result.state()));
+    }
+
+    @Test
+    void failedChildDefersTheDeletionsOfItsParents() {
+        final List<EntitySyncResult> results = this.scheduler.synchronizeAll(List.of(
+            this.synchronizer(Parent.class, Set.of(), false),
+            this.synchronizer(Child.class, Set.of(Parent.class), true),
+            this.synchronizer(Unrelated.class, Set.of(), false)));
+
+        assertEquals(List.of("delete Unrelated"), this.calls.stream().filter(call -> call.startsWith("delete")).toList());
+        assertEquals(Map.of("Parent", SyncState.SKIPPED, "Child", SyncState.FAILED, "Unrelated", SyncState.SUCCESS),
+            results.stream().collect(Collectors.toMap(EntitySyncResult::entityName, EntitySyncResult::state)));
+    }
+
+    private EntitySynchronizer<?> synchronizer(final Class<?> type, final Set<Class<?>> dependencies, final boolean failing) {
+        return new EntitySynchronizer<Object>() {
+            @Override
+            public void synchronize() {
+                EntitySyncSchedulerTest.this.calls.add("sync " + type.getSimpleName());
+                if (failing) {
+                    throw new IllegalStateException("store unavailable");
+                }
+            }
+
+            @Override
+            public void applyDeletes() {
+                EntitySyncSchedulerTest.this.calls.add("delete " + type.getSimpleName());
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public Class<Object> getEntityType() {
+                return (Class<Object>) type;
+            }
+
+            @Override
+            public String getEntityName() {
+                return type.getSimpleName();
+            }
+
+            @Override
+            public Set<Class<?>> getDependencies() {
+                return dependencies;
+            }
+        };
+    }
+
+    private static final class Parent {
+    }
+
+    private static final class Child {
+    }
+
+    private static final class GrandChild {
+    }
+
+    private static final class Unrelated {
+    }
+}
@@ -0,0 +1,332 @@
+package com.projecthub.base.sync.application.service.impl;
+
+import com.projecthub.base.shared.domain.enums.sync.SyncMode;
+import com.projecthub.base.shared.exception.SynchronizationException;
+import com.projecthub.base.sync.api.dto.SyncRunStatistics;
+import com.projecthub.base.sync.application.service.LocalDataService;
+import com.projecthub.base.sync.application.service.RemoteDataService;
+import com.projecthub.base.sync.application.service.SyncFingerprintStore;
+import com.projecthub.base.sync.application.service.SyncWatermarkStore;
+import com.projecthub.base.sync.application.service.UpdateService;
+import com.projecthub.base.sync.domain.value.SyncChangeSet;
+import com.projecthub.base.sync.domain.value.SyncTombstone;
+import com.projecthub.base.sync.domain.value.SyncWatermark;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@ExtendWith(MockitoExtension.class)
+class BaseSynchronizerStreamingTest {
+
+    private static final String ENTITY_NAME = "sync_test_rows";
+    private static final LocalDateTime OLDER = LocalDateTime.of(2024, 1, 1, 9, 0);
+    private static final LocalDateTime NEWER = LocalDateTime.of(2024, 1, 2, 9, 0);
+    private static final UUID FIRST = new UUID(1L, 0L);
+    private static final UUID SECOND = new UUID(2L, 0L);
+    private static final UUID THIRD = new UUID(3L, 0L);
+    /**
+     * Negative as a signed long, so {@link UUID#compareTo} would put it first; both stores put it last.
+     */
+    private static final UUID HIGHEST = new UUID(-1L, 0L);
+    private static final int LARGE_TABLE_ROWS = 1_000_000;
+    private static final int LARGE_TABLE_CHUNK_SIZE = 500;
+
+    @Mock
+    private LocalDataService localDataService;
+    @Mock
+    private RemoteDataService remoteDataService;
+    @Mock
+    private UpdateService updateService;
+    @Mock
+    private SyncWatermarkStore watermarkStore;
+    @Mock
+    private SyncFingerprintStore fingerprintStore;
+    @Captor
+    private ArgumentCaptor<SyncChangeSet<SyncTestRow>> changes;
+
+    private final AtomicBoolean localClosed = new AtomicBoolean();
+    private final AtomicBoolean remoteClosed = new AtomicBoolean();
+    private final AtomicInteger transactions = new AtomicInteger();
+    private TestRowSynchronizer synchronizer;
+
+    @BeforeEach
+    void setUp() {
+        this.synchronizer = new TestRowSynchronizer(this.localDataService, this.remoteDataService, this.updateService,
+            this.watermarkStore, this.fingerprintStore);
+        ReflectionTestUtils.setField(this.synchronizer, "syncMode", SyncMode.STREAMING);
+        ReflectionTestUtils.setField(this.synchronizer, "streamChunkSize", 2);
+        ReflectionTestUtils.setField(this.synchronizer, "transactions", this.countingTransactions());
+    }
+
+    @Test
+    void mergesBothCursorsByIdAndWritesWinnersInChunks() {
+        this.givenLocalRows(
+            SyncTestRow.of(BaseSynchronizerStreamingTest.FIRST, "local only", BaseSynchronizerStreamingTest.OLDER),
+            SyncTestRow.of(BaseSynchronizerStreamingTest.SECOND, "older locally", BaseSynchronizerStreamingTest.OLDER),
+            SyncTestRow.of(BaseSynchronizerStreamingTest.THIRD, "same on both", BaseSynchronizerStreamingTest.OLDER));
+        this.givenRemoteRows(
+            SyncTestRow.of(BaseSynchronizerStreamingTest.SECOND, "newer remotely", BaseSynchronizerStreamingTest.NEWER),
+            SyncTestRow.of(BaseSynchronizerStreamingTest.THIRD, "same on both", BaseSynchronizerStreamingTest.OLDER),
+            SyncTestRow.of(BaseSynchronizerStreamingTest.HIGHEST, "remote only", BaseSynchronizerStreamingTest.OLDER));
+
+        this.synchronizer.synchronize();
+
+        verify(this.updateService, times(2)).applyChanges(this.changes.capture(), eq(SyncTestRow.class));
+        final SyncChangeSet<SyncTestRow> first = this.changes.getAllValues().get(0);
+        assertEquals(List.of(BaseSynchronizerStreamingTest.SECOND), BaseSynchronizerStreamingTest.ids(first.localUpserts()));
+        assertEquals(List.of(BaseSynchronizerStreamingTest.FIRST), BaseSynchronizerStreamingTest.ids(first.remoteUpserts()));
+        final SyncChangeSet<SyncTestRow> second = this.changes.getAllValues().get(1);
+        assertEquals(List.of(BaseSynchronizerStreamingTest.HIGHEST), BaseSynchronizerStreamingTest.ids(second.localUpserts()));
+        assertTrue(second.remoteUpserts().isEmpty());
+        this.changes.getAllValues().forEach(chunk -> {
+            assertTrue(chunk.localDeletes().isEmpty() && chunk.remoteDeletes().isEmpty());
+            assertTrue(2 >= chunk.localUpserts().size() + chunk.remoteUpserts().size());
+        });
+
+        assertEquals(2, this.transactions.get());
+        assertEquals(new SyncRunStatistics(6, 3, 0), this.synchronizer.getLastRunStatistics());
+        assertTrue(this.localClosed.get());
+        assertTrue(this.remoteClosed.get());
+    }
+
+    /**
+     * Two generated tables of a million rows each, overlapping by half. The rows are produced on
+     * demand and the update service and fingerprint store keep nothing, so the run only completes
+     * within the test heap if the synchronizer holds no more than a chunk at a time.
+     */
+    @Test
+    void streamsAMillionRowsPerSideInBoundedChunks() {
+        final int rows = BaseSynchronizerStreamingTest.LARGE_TABLE_ROWS;
+        final int half = rows / 2;
+        when(this.localDataService.streamLocalData(eq(SyncTestRow.class), anyInt()))
+            .thenReturn(BaseSynchronizerStreamingTest.generatedRows(0, rows));
+        when(this.remoteDataService.streamRemoteData(eq(SyncTestRow.class), anyInt()))
+            .thenReturn(BaseSynchronizerStreamingTest.generatedRows(half, half + rows));
+        final LongAdder localWrites = new LongAdder();
+        final LongAdder remoteWrites = new LongAdder();
+        final AtomicInteger largestChunk = new AtomicInteger();
+        final UpdateService countingUpdateService = mock(UpdateService.class, withSettings().stubOnly());
+        doAnswer(invocation -> {
+            final SyncChangeSet<SyncTestRow> chunk = invocation.getArgument(0);
+            localWrites.add(chunk.localUpserts().size());
+            remoteWrites.add(chunk.remoteUpserts().size());
+            largestChunk.accumulateAndGet(chunk.localUpserts().size() + chunk.remoteUpserts().size(), Math::max);
+            return null;
+        }).when(countingUpdateService).applyChanges(any(), eq(SyncTestRow.class));
+        final TestRowSynchronizer large = new TestRowSynchronizer(this.localDataService, this.remoteDataService,
+            countingUpdateService, this.watermarkStore, mock(SyncFingerprintStore.class, withSettings().stubOnly()));
+        ReflectionTestUtils.setField(large, "syncMode", SyncMode.STREAMING);
+        ReflectionTestUtils.setField(large, "streamChunkSize", BaseSynchronizerStreamingTest.LARGE_TABLE_CHUNK_SIZE);
+        ReflectionTestUtils.setField(large, "transactions", this.countingTransactions());
+
+        large.synchronize();
+
+        // The first half exists only locally, the last half only remotely, the middle is identical
+        assertEquals(half, remoteWrites.sum());
+        assertEquals(half, localWrites.sum());
+        assertEquals(BaseSynchronizerStreamingTest.LARGE_TABLE_CHUNK_SIZE, largestChunk.get());
+        assertEquals(rows / BaseSynchronizerStreamingTest.LARGE_TABLE_CHUNK_SIZE, this.transactions.get());
+        assertEquals(new SyncRunStatistics(2L * rows, rows, 0), large.getLastRunStatistics());
+    }
+
+    @Test
+    void identicalStoresWriteNothing() {
+        this.givenLocalRows(SyncTestRow.of(BaseSynchronizerStreamingTest.FIRST, "same", BaseSynchronizerStreamingTest.OLDER));
+        this.givenRemoteRows(SyncTestRow.of(BaseSynchronizerStreamingTest.FIRST, "same", BaseSynchronizerStreamingTest.OLDER));
+
+        this.synchronizer.synchronize();
+
+        verify(this.updateService, never()).applyChanges(this.changes.capture(), eq(SyncTestRow.class));
+        assertEquals(new SyncRunStatistics(2, 0, 0), this.synchronizer.getLastRunStatistics());
+    }
+
+    @Test
+    void deltaRunWithoutWatermarkReconcilesByStreamingAndStoresTheWatermark() {
+        ReflectionTestUtils.setField(this.synchronizer, "syncMode", SyncMode.DELTA);
+        when(this.watermarkStore.find(BaseSynchronizerStreamingTest.ENTITY_NAME)).thenReturn(Optional.empty());
+        this.givenLocalRows(SyncTestRow.of(BaseSynchronizerStreamingTest.FIRST, "local", BaseSynchronizerStreamingTest.NEWER));
+        this.givenRemoteRows(SyncTestRow.of(BaseSynchronizerStreamingTest.SECOND, "remote", BaseSynchronizerStreamingTest.OLDER));
+
+        this.synchronizer.synchronize();
+
+        verify(this.watermarkStore).save(new SyncWatermark(BaseSynchronizerStreamingTest.ENTITY_NAME,
+            BaseSynchronizerStreamingTest.NEWER, BaseSynchronizerStreamingTest.OLDER));
+    }
+
+    @Test
+    void deltaRunLooksBackBeforeTheWatermarksAndSkipsRowsAlreadySynced() {
+        ReflectionTestUtils.setField(this.synchronizer, "syncMode", SyncMode.DELTA);
+        ReflectionTestUtils.setField(this.synchronizer, "deltaLookback", Duration.ofMinutes(1));
+        when(this.watermarkStore.find(BaseSynchronizerStreamingTest.ENTITY_NAME)).thenReturn(Optional.of(new SyncWatermark(
+            BaseSynchronizerStreamingTest.ENTITY_NAME, BaseSynchronizerStreamingTest.NEWER, BaseSynchronizerStreamingTest.OLDER)));
+        final LocalDateTime localSince = BaseSynchronizerStreamingTest.NEWER.minusMinutes(1);
+        final LocalDateTime remoteSince = BaseSynchronizerStreamingTest.OLDER.minusMinutes(1);
+        // Synced by the previous run, read again because it sits exactly at the watermark
+        final SyncTestRow synced = SyncTestRow.of(BaseSynchronizerStreamingTest.FIRST, "synced", BaseSynchronizerStreamingTest.NEWER);
+        // Committed after the previous run read the table, stamped at the same instant
+        final SyncTestRow late = SyncTestRow.of(BaseSynchronizerStreamingTest.SECOND, "late", BaseSynchronizerStreamingTest.NEWER);
+        when(this.localDataService.getLocalDataModifiedSince(SyncTestRow.class, localSince)).thenReturn(List.of(synced, late));
+        when(this.localDataService.getLocalTombstonesSince(SyncTestRow.class, localSince)).thenReturn(List.of());
+        when(this.remoteDataService.getRemoteDataModifiedSince(SyncTestRow.class, remoteSince)).thenReturn(List.of());
+        when(this.remoteDataService.getRemoteTombstonesSince(SyncTestRow.class, remoteSince)).thenReturn(List.of());
+        final long syncedFingerprint = EntityRowBinders.of(SyncTestRow.class).fingerprint(synced);
+        when(this.fingerprintStore.find(eq(BaseSynchronizerStreamingTest.ENTITY_NAME), any()))
+            .thenReturn(Map.of(BaseSynchronizerStreamingTest.FIRST, syncedFingerprint));
+
+        this.synchronizer.synchronize();
+        this.synchronizer.applyDeletes();
+
+        verify(this.updateService).applyChanges(this.changes.capture(), eq(SyncTestRow.class));
+        assertEquals(List.of(BaseSynchronizerStreamingTest.SECOND), BaseSynchronizerStreamingTest.ids(this.changes.getValue().remoteUpserts()));
+        assertTrue(this.changes.getValue().localUpserts().isEmpty());
+        verify(this.watermarkStore).save(new SyncWatermark(BaseSynchronizerStreamingTest.ENTITY_NAME,
+            BaseSynchronizerStreamingTest.NEWER, BaseSynchronizerStreamingTest.OLDER));
+    }
+
+    @Test
+    void deltaRunStagesDeletionsAndAdvancesTheWatermarksOnlyOnceTheyAreApplied() {
+        ReflectionTestUtils.setField(this.synchronizer, "syncMode", SyncMode.DELTA);
+        when(this.watermarkStore.find(BaseSynchronizerStreamingTest.ENTITY_NAME)).thenReturn(Optional.of(new SyncWatermark(
+            BaseSynchronizerStreamingTest.ENTITY_NAME, BaseSynchronizerStreamingTest.OLDER, BaseSynchronizerStreamingTest.OLDER)));
+        final SyncTestRow changed = SyncTestRow.of(BaseSynchronizerStreamingTest.FIRST, "changed", BaseSynchronizerStreamingTest.NEWER);
+        when(this.localDataService.getLocalDataModifiedSince(eq(SyncTestRow.class), any())).thenReturn(List.of(changed));
+        when(this.localDataService.getLocalTombstonesSince(eq(SyncTestRow.class), any())).thenReturn(List.of());
+        when(this.remoteDataService.getRemoteDataModifiedSince(eq(SyncTestRow.class), any())).thenReturn(List.of());
+        when(this.remoteDataService.getRemoteTombstonesSince(eq(SyncTestRow.class), any())).thenReturn(List.of(
+            new SyncTombstone(BaseSynchronizerStreamingTest.SECOND, BaseSynchronizerStreamingTest.NEWER)));
+
+        this.synchronizer.synchronize();
+
+        verify(this.updateService).applyChanges(this.changes.capture(), eq(SyncTestRow.class));
+        assertEquals(List.of(BaseSynchronizerStreamingTest.FIRST), BaseSynchronizerStreamingTest.ids(this.changes.getValue().remoteUpserts()));
+        assertTrue(this.changes.getValue().localDeletes().isEmpty());
+        verify(this.watermarkStore, never()).save(any());
+
+        this.synchronizer.applyDeletes();
+
+        verify(this.updateService, times(2)).applyChanges(this.changes.capture(), eq(SyncTestRow.class));
+        final SyncChangeSet<SyncTestRow> deletes = this.changes.getValue();
+        assertEquals(Set.of(BaseSynchronizerStreamingTest.SECOND), deletes.localDeletes());
+        assertTrue(deletes.localUpserts().isEmpty() && deletes.remoteUpserts().isEmpty() && deletes.remoteDeletes().isEmpty());
+        verify(this.fingerprintStore).delete(BaseSynchronizerStreamingTest.ENTITY_NAME, Set.of(BaseSynchronizerStreamingTest.SECOND));
+        verify(this.watermarkStore).save(new SyncWatermark(BaseSynchronizerStreamingTest.ENTITY_NAME,
+            BaseSynchronizerStreamingTest.NEWER, BaseSynchronizerStreamingTest.NEWER));
+        assertEquals(new SyncRunStatistics(2, 2, 0), this.synchronizer.getLastRunStatistics());
+    }
+
+    @Test
+    void failingCursorAbortsTheRunAndClosesBothStreams() {
+        this.givenLocalRows(SyncTestRow.of(BaseSynchronizerStreamingTest.FIRST, "local", BaseSynchronizerStreamingTest.OLDER));
+        final Iterator<SyncTestRow> failing = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                throw new IllegalStateException("connection lost");
+            }
+
+            @Override
+            public SyncTestRow next() {
+                throw new IllegalStateException("connection lost");
+            }
+        };
+        when(this.remoteDataService.streamRemoteData(eq(SyncTestRow.class), anyInt())).thenReturn(
+            StreamSupport.stream(Spliterators.spliteratorUnknownSize(failing, 0), false)
+                .onClose(() -> this.remoteClosed.set(true)));
+
+        assertThrows(SynchronizationException.class, this.synchronizer::synchronize);
+        verify(this.updateService, never()).applyChanges(this.changes.capture(), eq(SyncTestRow.class));
+        assertTrue(this.localClosed.get());
+        assertTrue(this.remoteClosed.get());
+    }
+
+    private void givenLocalRows(final SyncTestRow... rows) {
+        when(this.localDataService.streamLocalData(eq(SyncTestRow.class), anyInt()))
+            .thenReturn(Stream.of(rows).onClose(() -> this.localClosed.set(true)));
+    }
+
+    private void givenRemoteRows(final SyncTestRow... rows) {
+        when(this.remoteDataService.streamRemoteData(eq(SyncTestRow.class), anyInt()))
+            .thenReturn(Stream.of(rows).onClose(() -> this.remoteClosed.set(true)));
+    }
+
+    /**
+     * Rows with ids {@code from} (inclusive) to {@code to} (exclusive) in store order, created as
+     * the stream is consumed.
+     */
+    private static Stream<SyncTestRow> generatedRows(final long from, final long to) {
+        return LongStream.range(from, to)
+            .mapToObj(i -> SyncTestRow.of(new UUID(0L, i), "row " + i, BaseSynchronizerStreamingTest.OLDER));
+    }
+
+    /**
+     * Runs each callback directly, counting one transaction per call.
+     */
+    private TransactionOperations countingTransactions() {
+        return new TransactionOperations() {
+            @Override
+            public <R> R execute(final TransactionCallback<R> action) {
+                BaseSynchronizerStreamingTest.this.transactions.incrementAndGet();
+                return action.doInTransaction(new SimpleTransactionStatus());
+            }
+        };
+    }
+
+    private static List<UUID> ids(final List<SyncTestRow> rows) {
+        return rows.stream().map(SyncTestRow::getId).toList();
+    }
+
+    private static final class TestRowSynchronizer extends BaseSynchronizer<SyncTestRow> {
+        private TestRowSynchronizer(final LocalDataService localDataService, final RemoteDataService remoteDataService,
+                                    final UpdateService updateService, final SyncWatermarkStore watermarkStore,
+                                    final SyncFingerprintStore fingerprintStore) {
+            super(localDataService, remoteDataService, updateService, watermarkStore, fingerprintStore);
+        }
+
+        @Override
+        public Class<SyncTestRow> getEntityType() {
+            return SyncTestRow.class;
+        }
+
+        @Override
+        public String getEntityName() {
+            return BaseSynchronizerStreamingTest.ENTITY_NAME;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.projecthub.base.sync.application.service.impl;
+
+import com.projecthub.base.sync.domain.value.SyncTombstone;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the delta queries of both data services against H2 with rows stamped exactly at the
+ * watermark, which the previous run may have committed after it read the table.
+ */
+class DataServiceDeltaQueriesTest {
+
+    private static final LocalDateTime BEFORE = LocalDateTime.of(2024, 5, 1, 9, 59, 59);
+    private static final LocalDateTime WATERMARK = LocalDateTime.of(2024, 5, 1, 10, 0);
+    private static final LocalDateTime AFTER = LocalDateTime.of(2024, 5, 1, 10, 0, 1);
+    private static final UUID OLD = new UUID(1L, 0L);
+    private static final UUID AT_WATERMARK = new UUID(2L, 0L);
+    private static final UUID NEW = new UUID(3L, 0L);
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        this.database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+        this.jdbcTemplate = new JdbcTemplate(this.database);
+        this.jdbcTemplate.execute("CREATE TABLE synctestrow (id UUID PRIMARY KEY, name VARCHAR(255), notes VARCHAR(255),"
+            + " row_state VARCHAR(32), priority INT, due_date DATE, created_date TIMESTAMP, last_modified_date TIMESTAMP)");
+
+        final H2LocalDataService seed = new H2LocalDataService(this.database);
+        seed.saveLocalData(List.of(
+            SyncTestRow.of(DataServiceDeltaQueriesTest.OLD, "old", DataServiceDeltaQueriesTest.BEFORE),
+            SyncTestRow.of(DataServiceDeltaQueriesTest.AT_WATERMARK, "at watermark", DataServiceDeltaQueriesTest.WATERMARK),
+            SyncTestRow.of(DataServiceDeltaQueriesTest.NEW, "new", DataServiceDeltaQueriesTest.AFTER)));
+
+        SyncTrackingSchema.ensureTombstoneTable(this.jdbcTemplate);
+        final String tombstoneSql = SyncTrackingSchema.upsertTombstoneSql(this.jdbcTemplate);
+        final String tableName = SyncTrackingSchema.tableName(SyncTestRow.class);
+        this.jdbcTemplate.update(tombstoneSql, tableName, DataServiceDeltaQueriesTest.OLD, DataServiceDeltaQueriesTest.BEFORE);
+        this.jdbcTemplate.update(tombstoneSql, tableName, DataServiceDeltaQueriesTest.AT_WATERMARK, DataServiceDeltaQueriesTest.WATERMARK);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.database.shutdown();
+    }
+
+    @Test
+    void localQueriesIncludeRowsAtTheWatermark() {
+        final H2LocalDataService service = new H2LocalDataService(this.database);
+
+        assertEquals(List.of(DataServiceDeltaQueriesTest.AT_WATERMARK, DataServiceDeltaQueriesTest.NEW),
+            DataServiceDeltaQueriesTest.ids(service.getLocalDataModifiedSince(SyncTestRow.class, DataServiceDeltaQueriesTest.WATERMARK)));
+        assertEquals(List.of(DataServiceDeltaQueriesTest.AT_WATERMARK),
+            DataServiceDeltaQueriesTest.tombstoneIds(service.getLocalTombstonesSince(SyncTestRow.class, DataServiceDeltaQueriesTest.WATERMARK)));
+        assertEquals(3, service.getLocalDataModifiedSince(SyncTestRow.class, null).size());
+    }
+
+    @Test
+    void remoteQueriesIncludeRowsAtTheWatermark() {
+        final PostgresRemoteDataService service = new PostgresRemoteDataService(this.database);
+
+        assertEquals(List.of(DataServiceDeltaQueriesTest.AT_WATERMARK, DataServiceDeltaQueriesTest.NEW),
+            DataServiceDeltaQueriesTest.ids(service.getRemoteDataModifiedSince(SyncTestRow.class, DataServiceDeltaQueriesTest.WATERMARK)));
+        assertEquals(List.of(DataServiceDeltaQueriesTest.AT_WATERMARK),
+            DataServiceDeltaQueriesTest.tombstoneIds(service.getRemoteTombstonesSince(SyncTestRow.class, DataServiceDeltaQueriesTest.WATERMARK)));
+        assertEquals(2, service.getRemoteTombstonesSince(SyncTestRow.class, null).size());
+    }
+
+    private static List<UUID> ids(final List<SyncTestRow> rows) {
+        return rows.stream().map(SyncTestRow::getId).sorted().toList();
+    }
+
+    private static List<UUID> tombstoneIds(final List<SyncTombstone> tombstones) {
+        return tombstones.stream().map(SyncTombstone::id).sorted().toList();
+    }
+}
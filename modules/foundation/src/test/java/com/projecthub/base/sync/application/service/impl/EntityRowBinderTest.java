@@ -0,0 +1,142 @@
+package com.projecthub.base.sync.application.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EntityRowBinderTest {
+
+    private static final LocalDateTime MODIFIED = LocalDateTime.of(2024, 3, 1, 12, 30);
+
+    private final EntityRowBinder<SyncTestRow> binder = EntityRowBinders.of(SyncTestRow.class);
+
+    @Test
+    void compilesColumnsAndStatementsOnce() {
+        final List<String> columns = this.binder.getColumns();
+        assertEquals("id", columns.getFirst());
+        assertEquals(Set.of("id", "name", "notes", "row_state", "priority", "due_date", "created_date", "last_modified_date"),
+            Set.copyOf(columns));
+        assertEquals(8, columns.size());
+
+        final String columnList = String.join(", ", columns);
+        final String placeholders = String.join(", ", Collections.nCopies(columns.size(), "?"));
+        assertEquals("synctestrow", this.binder.getTableName());
+        assertEquals("SELECT " + columnList + " FROM synctestrow", this.binder.selectSql());
+        assertEquals("INSERT INTO synctestrow (" + columnList + ") VALUES (" + placeholders + ")", this.binder.insertSql());
+        assertEquals("INSERT INTO synctestrow (" + columnList + ") VALUES (" + placeholders + ") ON CONFLICT (id) DO UPDATE SET "
+            + String.join(", ", columns.stream().map(column -> column + " = EXCLUDED." + column).toList()),
+            this.binder.upsertSql());
+        assertEquals("MERGE INTO synctestrow (" + columnList + ") KEY (id) VALUES (" + placeholders + "), (" + placeholders + ")",
+            this.binder.mergeSql(2));
+        assertSame(this.binder.mergeSql(2), this.binder.mergeSql(2));
+
+        assertSame(this.binder, EntityRowBinders.of(SyncTestRow.class));
+        assertSame(this.binder, EntityRowBinders.forEntity(EntityRowBinderTest.row(UUID.randomUUID())));
+    }
+
+    @Test
+    void bindsEveryColumnAtItsPosition() throws SQLException {
+        final UUID id = UUID.randomUUID();
+        final SyncTestRow row = EntityRowBinderTest.row(id);
+        final PreparedStatement ps = mock(PreparedStatement.class);
+
+        this.binder.bind(ps, row);
+
+        verify(ps).setObject(this.position("id"), id);
+        verify(ps).setObject(this.position("name"), "Alpha");
+        verify(ps).setNull(this.position("notes"), Types.VARCHAR);
+        verify(ps).setString(this.position("row_state"), "ARCHIVED");
+        verify(ps).setObject(this.position("priority"), 3);
+        verify(ps).setNull(this.position("due_date"), Types.DATE);
+        verify(ps).setObject(this.position("created_date"), EntityRowBinderTest.MODIFIED);
+        verify(ps).setObject(this.position("last_modified_date"), EntityRowBinderTest.MODIFIED);
+    }
+
+    @Test
+    void bindsAfterAnOffsetForMultiRowStatements() throws SQLException {
+        final UUID id = UUID.randomUUID();
+        final PreparedStatement ps = mock(PreparedStatement.class);
+        final int offset = this.binder.getColumns().size();
+
+        this.binder.bind(ps, EntityRowBinderTest.row(id), offset);
+
+        verify(ps).setObject(offset + this.position("id"), id);
+        verify(ps).setString(offset + this.position("row_state"), "ARCHIVED");
+    }
+
+    @Test
+    void mapsRowsByColumnPosition() throws SQLException {
+        final UUID id = UUID.randomUUID();
+        final LocalDate dueDate = LocalDate.of(2024, 6, 30);
+        final ResultSet rs = mock(ResultSet.class);
+        when(rs.getObject(this.position("id"), UUID.class)).thenReturn(id);
+        when(rs.getObject(this.position("name"), String.class)).thenReturn("Beta");
+        when(rs.getString(this.position("row_state"))).thenReturn("ARCHIVED");
+        when(rs.getObject(this.position("priority"), Integer.class)).thenReturn(7);
+        when(rs.getObject(this.position("due_date"), LocalDate.class)).thenReturn(dueDate);
+        when(rs.getObject(this.position("last_modified_date"), LocalDateTime.class)).thenReturn(EntityRowBinderTest.MODIFIED);
+
+        final SyncTestRow row = this.binder.mapRow(rs, 0);
+
+        assertEquals(id, row.getId());
+        assertEquals("Beta", row.getName());
+        assertNull(row.getNotes());
+        assertEquals(SyncTestRow.State.ARCHIVED, row.getState());
+        assertEquals(7, row.getPriority());
+        assertEquals(dueDate, row.getDueDate());
+        assertNull(row.getCreatedDate());
+        assertEquals(EntityRowBinderTest.MODIFIED, row.getLastModifiedDate());
+    }
+
+    @Test
+    void fingerprintTracksContent() {
+        final UUID id = UUID.randomUUID();
+        final SyncTestRow row = EntityRowBinderTest.row(id);
+        final SyncTestRow same = EntityRowBinderTest.row(id);
+        assertEquals(this.binder.fingerprint(row), this.binder.fingerprint(same));
+
+        same.setPriority(4);
+        assertNotEquals(this.binder.fingerprint(row), this.binder.fingerprint(same));
+
+        // Adjacent columns must not run into each other
+        final SyncTestRow split = EntityRowBinderTest.row(id);
+        split.setName("ab");
+        split.setNotes("c");
+        final SyncTestRow shifted = EntityRowBinderTest.row(id);
+        shifted.setName("a");
+        shifted.setNotes("bc");
+        assertNotEquals(this.binder.fingerprint(split), this.binder.fingerprint(shifted));
+
+        final SyncTestRow empty = EntityRowBinderTest.row(id);
+        empty.setNotes("");
+        assertNotEquals(this.binder.fingerprint(row), this.binder.fingerprint(empty));
+    }
+
+    private int position(final String column) {
+        return this.binder.getColumns().indexOf(column) + 1;
+    }
+
+    private static SyncTestRow row(final UUID id) {
+        final SyncTestRow row = SyncTestRow.of(id, "Alpha", EntityRowBinderTest.MODIFIED);
+        row.setState(SyncTestRow.State.ARCHIVED);
+        row.setPriority(3);
+        return row;
+    }
+}
@@ -0,0 +1,89 @@
+package com.projecthub.base.sync.application.service.impl;
+
+import com.projecthub.base.shared.domain.entity.BaseEntity;
+import jakarta.persistence.Column;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Minimal synchronized entity for the sync engine tests, covering the column kinds the row
+ * binders handle: strings, an enum with an explicit column name, a primitive and a date.
+ */
+class SyncTestRow extends BaseEntity {
+
+    enum State {
+        ACTIVE,
+        ARCHIVED
+    }
+
+    @Column
+    private String name;
+
+    @Column
+    private String notes;
+
+    @Column(name = "row_state")
+    private State state;
+
+    @Column
+    private int priority;
+
+    @Column
+    private LocalDate dueDate;
+
+    SyncTestRow() {
+    }
+
+    static SyncTestRow of(final UUID id, final String name, final LocalDateTime lastModifiedDate) {
+        final SyncTestRow row = new SyncTestRow();
+        ReflectionTestUtils.setField(row, "id", id);
+        row.name = name;
+        row.state = State.ACTIVE;
+        row.setCreatedDate(lastModifiedDate);
+        row.setLastModifiedDate(lastModifiedDate);
+        return row;
+    }
+
+    String getName() {
+        return this.name;
+    }
+
+    void setName(final String name) {
+        this.name = name;
+    }
+
+    String getNotes() {
+        return this.notes;
+    }
+
+    void setNotes(final String notes) {
+        this.notes = notes;
+    }
+
+    State getState() {
+        return this.state;
+    }
+
+    void setState(final State state) {
+        this.state = state;
+    }
+
+    int getPriority() {
+        return this.priority;
+    }
+
+    void setPriority(final int priority) {
+        this.priority = priority;
+    }
+
+    LocalDate getDueDate() {
+        return this.dueDate;
+    }
+
+    void setDueDate(final LocalDate dueDate) {
+        this.dueDate = dueDate;
+    }
+}
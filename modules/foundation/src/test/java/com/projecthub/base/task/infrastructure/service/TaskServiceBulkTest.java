@@ -0,0 +1,315 @@
+package com.projecthub.base.task.infrastructure.service;
+
+import com.projecthub.base.project.domain.entity.Project;
+import com.projecthub.base.task.api.dto.BulkTaskResultDTO;
+import com.projecthub.base.task.api.dto.TaskDTO;
+import com.projecthub.base.task.domain.entity.Task;
+import com.projecthub.base.task.domain.enums.TaskStatus;
+import com.projecthub.base.task.domain.event.TaskDomainEvent;
+import com.projecthub.base.task.domain.event.TaskEventPublisher;
+import com.projecthub.base.task.infrastructure.mapper.TaskMapper;
+import com.projecthub.base.task.infrastructure.repository.TaskJpaRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskServiceBulkTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_BULK_ITEMS = 10;
+    private static final UUID PROJECT_ID = UUID.randomUUID();
+
+    @Mock
+    private TaskJpaRepository taskRepository;
+    @Mock
+    private TaskMapper taskMapper;
+    @Mock
+    private TaskEventPublisher eventPublisher;
+    @Mock
+    private EntityManager entityManager;
+    @Captor
+    private ArgumentCaptor<List<TaskDomainEvent>> events;
+
+    private TaskService taskService;
+
+    @BeforeEach
+    void setUp() {
+        this.taskService = new TaskService(this.taskRepository, this.taskMapper, this.eventPublisher,
+            this.entityManager, TaskServiceBulkTest.BATCH_SIZE, TaskServiceBulkTest.MAX_BULK_ITEMS, 100, null);
+    }
+
+    @Test
+    void createTasksInsertsValidItemsAndReportsInvalidOnes() {
+        final TaskDTO first = TaskServiceBulkTest.dto(null, "First", TaskStatus.PENDING);
+        final TaskDTO blankName = TaskServiceBulkTest.dto(null, " ", TaskStatus.PENDING);
+        final TaskDTO noStatus = TaskServiceBulkTest.dto(null, "No status", null);
+        final TaskDTO second = TaskServiceBulkTest.dto(null, "Second", TaskStatus.COMPLETED);
+        final Task firstTask = TaskServiceBulkTest.task(UUID.randomUUID(), TaskStatus.PENDING);
+        final Task secondTask = TaskServiceBulkTest.task(UUID.randomUUID(), TaskStatus.COMPLETED);
+        when(this.taskMapper.toEntity(first)).thenReturn(firstTask);
+        when(this.taskMapper.toEntity(second)).thenReturn(secondTask);
+        // The service reuses its pending list, so hand back a copy as the repository would
+        when(this.taskRepository.saveAll(anyList())).thenAnswer(call -> new ArrayList<>(call.<List<Task>>getArgument(0)));
+        this.givenExistingProjects(TaskServiceBulkTest.PROJECT_ID);
+
+        final BulkTaskResultDTO result = this.taskService.createTasks(
+            Arrays.asList(first, null, blankName, noStatus, second));
+
+        assertEquals(2, result.succeeded());
+        assertEquals(3, result.failed());
+        TaskServiceBulkTest.assertSucceeded(result.items().get(0), 0, firstTask.getId());
+        TaskServiceBulkTest.assertFailed(result.items().get(1), 1, "Task cannot be null");
+        TaskServiceBulkTest.assertFailed(result.items().get(2), 2, "Task name is mandatory");
+        TaskServiceBulkTest.assertFailed(result.items().get(3), 3, "Status is mandatory");
+        TaskServiceBulkTest.assertSucceeded(result.items().get(4), 4, secondTask.getId());
+        verify(this.taskMapper, times(2)).toEntity(any());
+
+        verify(this.eventPublisher).publishBatch(this.events.capture(), isNull());
+        final List<TaskDomainEvent> published = this.events.getValue();
+        assertEquals(4, published.size());
+        assertEquals(firstTask.getId(), assertInstanceOf(TaskDomainEvent.Created.class, published.get(0)).taskId());
+        TaskServiceBulkTest.assertStatusChanged(published.get(1), firstTask.getId(), null, TaskStatus.PENDING);
+        assertEquals(secondTask.getId(), assertInstanceOf(TaskDomainEvent.Created.class, published.get(2)).taskId());
+        TaskServiceBulkTest.assertStatusChanged(published.get(3), secondTask.getId(), null, TaskStatus.COMPLETED);
+    }
+
+    @Test
+    void createTasksFlushesOneBatchPerBatchSize() {
+        final List<TaskDTO> requests = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            final TaskDTO request = TaskServiceBulkTest.dto(null, "Task " + i, TaskStatus.PENDING);
+            final Task task = TaskServiceBulkTest.task(UUID.randomUUID(), TaskStatus.PENDING);
+            when(this.taskMapper.toEntity(request)).thenReturn(task);
+            requests.add(request);
+        }
+        when(this.taskRepository.saveAll(anyList())).thenAnswer(call -> new ArrayList<>(call.<List<Task>>getArgument(0)));
+        this.givenExistingProjects(TaskServiceBulkTest.PROJECT_ID);
+
+        final BulkTaskResultDTO result = this.taskService.createTasks(requests);
+
+        assertEquals(5, result.succeeded());
+        verify(this.taskRepository, times(3)).saveAll(anyList());
+        verify(this.entityManager, times(3)).flush();
+        verify(this.entityManager, times(3)).clear();
+    }
+
+    @Test
+    void createTasksReportsItemsWithoutAnExistingProject() {
+        final UUID unknownProjectId = UUID.randomUUID();
+        final TaskDTO valid = TaskServiceBulkTest.dto(null, "Valid", TaskStatus.PENDING);
+        final TaskDTO withoutProject = new TaskDTO(null, "Without project", null, TaskStatus.PENDING, null, null);
+        final TaskDTO unknownProject = new TaskDTO(null, "Unknown project", null, TaskStatus.PENDING, unknownProjectId, null);
+        final Task validTask = TaskServiceBulkTest.task(UUID.randomUUID(), TaskStatus.PENDING);
+        when(this.taskMapper.toEntity(valid)).thenReturn(validTask);
+        when(this.taskRepository.saveAll(anyList())).thenAnswer(call -> new ArrayList<>(call.<List<Task>>getArgument(0)));
+        final TypedQuery<UUID> projects = this.givenExistingProjects(TaskServiceBulkTest.PROJECT_ID);
+
+        final BulkTaskResultDTO result = this.taskService.createTasks(List.of(valid, withoutProject, unknownProject));
+
+        assertEquals(1, result.succeeded());
+        TaskServiceBulkTest.assertSucceeded(result.items().get(0), 0, validTask.getId());
+        TaskServiceBulkTest.assertFailed(result.items().get(1), 1, "Project is mandatory");
+        TaskServiceBulkTest.assertFailed(result.items().get(2), 2, "Project not found with ID: " + unknownProjectId);
+        verify(this.taskMapper, times(1)).toEntity(any());
+        // One lookup for every project of the request
+        verify(projects).setParameter("ids", Set.of(TaskServiceBulkTest.PROJECT_ID, unknownProjectId));
+        verify(projects, times(1)).getResultList();
+    }
+
+    @Test
+    void updateTasksAppliesExistingItemsAndReportsMissingAndInvalidOnes() {
+        final UUID changedId = UUID.randomUUID();
+        final UUID unchangedId = UUID.randomUUID();
+        final UUID invalidId = UUID.randomUUID();
+        final UUID unknownId = UUID.randomUUID();
+        final Project project = mock(Project.class);
+        when(project.getId()).thenReturn(UUID.randomUUID());
+        final Task changed = mock(Task.class);
+        when(changed.getId()).thenReturn(changedId);
+        when(changed.getProject()).thenReturn(project);
+        // The mapper is mocked, so emulate the status change it would apply
+        when(changed.getStatus()).thenReturn(TaskStatus.PENDING, TaskStatus.COMPLETED);
+        final Task unchanged = mock(Task.class);
+        when(unchanged.getId()).thenReturn(unchangedId);
+        when(unchanged.getStatus()).thenReturn(TaskStatus.PENDING);
+        final Task invalid = mock(Task.class);
+        when(invalid.getId()).thenReturn(invalidId);
+        when(this.taskRepository.findAllById(List.of(changedId, unchangedId)))
+            .thenReturn(List.of(changed, unchanged));
+        when(this.taskRepository.findAllById(List.of(invalidId, unknownId)))
+            .thenReturn(List.of(invalid));
+        when(this.taskRepository.findAllById(List.of())).thenReturn(List.of());
+
+        final TaskDTO changedRequest = TaskServiceBulkTest.dto(changedId, "Changed", TaskStatus.COMPLETED);
+        final TaskDTO unchangedRequest = TaskServiceBulkTest.dto(unchangedId, "Renamed", TaskStatus.PENDING);
+        final TaskDTO invalidRequest = TaskServiceBulkTest.dto(invalidId, "", TaskStatus.PENDING);
+        final TaskDTO unknownRequest = TaskServiceBulkTest.dto(unknownId, "Unknown", TaskStatus.PENDING);
+        final TaskDTO withoutId = TaskServiceBulkTest.dto(null, "Without ID", TaskStatus.PENDING);
+
+        final BulkTaskResultDTO result = this.taskService.updateTasks(
+            List.of(changedRequest, unchangedRequest, invalidRequest, unknownRequest, withoutId));
+
+        assertEquals(2, result.succeeded());
+        assertEquals(3, result.failed());
+        TaskServiceBulkTest.assertSucceeded(result.items().get(0), 0, changedId);
+        TaskServiceBulkTest.assertSucceeded(result.items().get(1), 1, unchangedId);
+        TaskServiceBulkTest.assertFailed(result.items().get(2), 2, "Task name is mandatory");
+        TaskServiceBulkTest.assertFailed(result.items().get(3), 3, "Task not found with ID: " + unknownId);
+        TaskServiceBulkTest.assertFailed(result.items().get(4), 4, "Task ID is required");
+        verify(this.taskMapper).updateEntityFromDto(changedRequest, changed);
+        verify(this.taskMapper).updateEntityFromDto(unchangedRequest, unchanged);
+        verify(this.taskMapper, never()).updateEntityFromDto(eq(invalidRequest), any());
+
+        verify(this.eventPublisher).publishBatch(this.events.capture(), isNull());
+        final List<TaskDomainEvent> published = this.events.getValue();
+        assertEquals(3, published.size());
+        assertEquals(changedId, assertInstanceOf(TaskDomainEvent.Updated.class, published.get(0)).taskId());
+        TaskServiceBulkTest.assertStatusChanged(published.get(1), changedId, TaskStatus.PENDING, TaskStatus.COMPLETED);
+        assertEquals(unchangedId, assertInstanceOf(TaskDomainEvent.Updated.class, published.get(2)).taskId());
+    }
+
+    @Test
+    void deleteTasksRemovesExistingItemsAndReportsMissingOnes() {
+        final UUID existingId = UUID.randomUUID();
+        final UUID unknownId = UUID.randomUUID();
+        final Task existing = TaskServiceBulkTest.task(existingId, TaskStatus.IN_PROGRESS);
+        when(this.taskRepository.findAllById(List.of(existingId, unknownId))).thenReturn(List.of(existing));
+        when(this.taskRepository.findAllById(List.of())).thenReturn(List.of());
+
+        final BulkTaskResultDTO result = this.taskService.deleteTasks(Arrays.asList(existingId, unknownId, null));
+
+        assertEquals(1, result.succeeded());
+        assertEquals(2, result.failed());
+        TaskServiceBulkTest.assertSucceeded(result.items().get(0), 0, existingId);
+        TaskServiceBulkTest.assertFailed(result.items().get(1), 1, "Task not found with ID: " + unknownId);
+        TaskServiceBulkTest.assertFailed(result.items().get(2), 2, "Task ID is required");
+        verify(this.entityManager).remove(existing);
+
+        verify(this.eventPublisher).publishBatch(this.events.capture(), isNull());
+        final List<TaskDomainEvent> published = this.events.getValue();
+        assertEquals(2, published.size());
+        assertEquals(existingId, assertInstanceOf(TaskDomainEvent.Deleted.class, published.get(0)).taskId());
+        TaskServiceBulkTest.assertStatusChanged(published.get(1), existingId, TaskStatus.IN_PROGRESS, null);
+    }
+
+    @Test
+    void deleteTasksDeletesARepeatedIdOnce() {
+        final UUID id = UUID.randomUUID();
+        final Task existing = TaskServiceBulkTest.task(id, TaskStatus.COMPLETED);
+        when(this.taskRepository.findAllById(List.of(id, id))).thenReturn(List.of(existing));
+        when(this.taskRepository.findAllById(List.of(id))).thenReturn(List.of());
+
+        final BulkTaskResultDTO result = this.taskService.deleteTasks(List.of(id, id, id));
+
+        assertEquals(1, result.succeeded());
+        assertEquals(2, result.failed());
+        TaskServiceBulkTest.assertSucceeded(result.items().get(0), 0, id);
+        TaskServiceBulkTest.assertFailed(result.items().get(1), 1, "Duplicate task ID in request: " + id);
+        TaskServiceBulkTest.assertFailed(result.items().get(2), 2, "Duplicate task ID in request: " + id);
+        verify(this.entityManager, times(1)).remove(existing);
+
+        verify(this.eventPublisher).publishBatch(this.events.capture(), isNull());
+        // The counters are decremented once
+        assertEquals(2, this.events.getValue().size());
+    }
+
+    @Test
+    void bulkRequestWithOnlyFailuresPublishesNoEvents() {
+        when(this.taskRepository.findAllById(List.of())).thenReturn(List.of());
+
+        final BulkTaskResultDTO result = this.taskService.deleteTasks(Collections.singletonList(null));
+
+        assertEquals(0, result.succeeded());
+        assertEquals(1, result.failed());
+        verify(this.entityManager, never()).remove(any());
+        verify(this.eventPublisher).publishBatch(this.events.capture(), isNull());
+        assertTrue(this.events.getValue().isEmpty());
+    }
+
+    @Test
+    void bulkRequestMustNotBeEmptyOrTooLarge() {
+        assertThrows(IllegalArgumentException.class, () -> this.taskService.createTasks(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> this.taskService.deleteTasks(null));
+        final List<UUID> tooMany = new ArrayList<>();
+        for (int i = 0; i <= TaskServiceBulkTest.MAX_BULK_ITEMS; i++) {
+            tooMany.add(UUID.randomUUID());
+        }
+        assertThrows(IllegalArgumentException.class, () -> this.taskService.deleteTasks(tooMany));
+        verify(this.eventPublisher, never()).publishBatch(anyList(), any());
+    }
+
+    private static TaskDTO dto(final UUID id, final String name, final TaskStatus status) {
+        return new TaskDTO(id, name, null, status, TaskServiceBulkTest.PROJECT_ID, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private TypedQuery<UUID> givenExistingProjects(final UUID... projectIds) {
+        final TypedQuery<UUID> query = mock(TypedQuery.class);
+        when(this.entityManager.createQuery(anyString(), eq(UUID.class))).thenReturn(query);
+        when(query.setParameter(eq("ids"), any())).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of(projectIds));
+        return query;
+    }
+
+    private static Task task(final UUID id, final TaskStatus status) {
+        final Project project = mock(Project.class);
+        when(project.getId()).thenReturn(UUID.randomUUID());
+        final Task task = mock(Task.class);
+        when(task.getId()).thenReturn(id);
+        when(task.getStatus()).thenReturn(status);
+        when(task.getProject()).thenReturn(project);
+        return task;
+    }
+
+    private static void assertSucceeded(final BulkTaskResultDTO.Item item, final int index, final UUID taskId) {
+        assertEquals(index, item.index());
+        assertEquals(taskId, item.taskId());
+        assertTrue(item.success());
+        assertNull(item.error());
+    }
+
+    private static void assertFailed(final BulkTaskResultDTO.Item item, final int index, final String error) {
+        assertEquals(index, item.index());
+        assertFalse(item.success());
+        assertEquals(error, item.error());
+    }
+
+    private static void assertStatusChanged(final TaskDomainEvent event, final UUID taskId,
+                                            final TaskStatus previousStatus, final TaskStatus status) {
+        final TaskDomainEvent.StatusChanged statusChanged = assertInstanceOf(TaskDomainEvent.StatusChanged.class, event);
+        assertEquals(taskId, statusChanged.taskId());
+        assertEquals(previousStatus, statusChanged.previousStatus());
+        assertEquals(status, statusChanged.status());
+    }
+}
@@ -5,6 +5,7 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 import org.springframework.validation.annotation.Validated;
 
 /**
@@ -55,6 +56,27 @@ public class CsvProperties {
     @NotBlank(message = "Users filepath must not be blank")
     private String usersFilepath;
 
+    /**
+     * Number of appended writes after which a CSV file's log is compacted into the file.
+     * Defaults to 1000 if not specified.
+     */
+    @Positive(message = "Compaction threshold must be positive")
+    private int compactionThreshold = 1000;
+
+    /**
+     * Number of buffered writes after which they are flushed to the log in one write.
+     * Defaults to 256 if not specified.
+     */
+    @Positive(message = "Group commit size must be positive")
+    private int groupCommitSize = 256;
+
+    /**
+     * Maximum time in milliseconds a buffered write waits before it is flushed to the log.
+     * Defaults to 200 if not specified.
+     */
+    @Positive(message = "Group commit interval must be positive")
+    private long groupCommitInterval = 200;
+
     public String getCohortsFilepath() {
         return null;
     }
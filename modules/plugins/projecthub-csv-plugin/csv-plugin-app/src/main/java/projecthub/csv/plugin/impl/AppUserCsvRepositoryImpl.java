@@ -1,8 +1,7 @@
 package projecthub.csv.plugin.impl;
 
-import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
@@ -16,7 +15,8 @@ import com.projecthub.base.models.AppUser;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import projecthub.csv.plugin.config.CsvProperties;
-import projecthub.csv.plugin.helper.CsvFileHelper;
+import projecthub.csv.plugin.storage.CsvStorageEngine;
+import projecthub.csv.plugin.storage.CsvStore;
 
 @Repository("csvUserRepository")
 @Profile("csv")
@@ -26,10 +26,12 @@ public class AppUserCsvRepositoryImpl implements AppUserCsvRepository {
     private static final String[] COLUMNS = {"id", "username", "email", "firstName", "lastName", "teamId"};
     private final Validator validator;
     private final CsvProperties csvProperties;
+    private final CsvStore<AppUser> store;
 
-    public AppUserCsvRepositoryImpl(CsvProperties csvProperties, Validator validator) {
+    public AppUserCsvRepositoryImpl(CsvProperties csvProperties, Validator validator, CsvStorageEngine storageEngine) {
         this.csvProperties = csvProperties;
         this.validator = validator;
+        this.store = storageEngine.open(csvProperties.getUsersFilepath(), AppUser.class, COLUMNS, "username");
     }
 
     /**
@@ -59,11 +61,7 @@ public class AppUserCsvRepositoryImpl implements AppUserCsvRepository {
     public AppUser save(AppUser user) {
         validateUser(user);
         try {
-            CsvFileHelper.backupCSVFile(csvProperties.getUsersFilepath());
-            List<AppUser> users = findAll();
-            users.removeIf(u -> Objects.equals(u.getId(), user.getId()));
-            users.add(user);
-            CsvHelper.writeBeansToCsv(csvProperties.getUsersFilepath(), AppUser.class, users, COLUMNS);
+            store.save(user);
             logger.info("User saved successfully: {}", user);
             return user;
         } catch (Exception e) {
@@ -72,6 +70,26 @@ public class AppUserCsvRepositoryImpl implements AppUserCsvRepository {
         }
     }
 
+    /**
+     * Saves a batch of users to the CSV file after validation, in a single log write.
+     *
+     * @param users the {@code AppUser} objects to save
+     * @return the saved {@code AppUser} objects
+     * @throws CsvDataAccessException if an error occurs during saving
+     */
+    @Override
+    public List<AppUser> saveAll(List<AppUser> users) {
+        users.forEach(this::validateUser);
+        try {
+            store.saveAll(users);
+            logger.info("{} users saved successfully", users.size());
+            return users;
+        } catch (Exception e) {
+            logger.error("Error saving users to CSV", e);
+            throw new CsvDataAccessException("Error saving users to CSV", e);
+        }
+    }
+
     /**
      * Retrieves all users from the CSV file.
      *
@@ -80,18 +98,7 @@ public class AppUserCsvRepositoryImpl implements AppUserCsvRepository {
      */
     @Override
     public List<AppUser> findAll() {
-        try (CSVReader reader = new CSVReader(new FileReader(csvProperties.getUsersFilepath()))) {
-            ColumnPositionMappingStrategy<AppUser> strategy = new ColumnPositionMappingStrategy<>();
-            strategy.setType(AppUser.class);
-            strategy.setColumnMapping(COLUMNS);
-            return new CsvToBeanBuilder<AppUser>(reader)
-                .withMappingStrategy(strategy)
-                .build()
-                .parse();
-        } catch (IOException e) {
-            logger.error("Error reading users from CSV", e);
-            throw new CsvDataAccessException("Error reading users from CSV", e);
-        }
+        return store.findAll();
     }
 
     /**
@@ -102,9 +109,7 @@ public class AppUserCsvRepositoryImpl implements AppUserCsvRepository {
      */
     @Override
     public Optional<AppUser> findById(UUID id) {
-        return findAll().stream()
-            .filter(u -> Objects.equals(u.getId(), id))
-            .findFirst();
+        return store.findById(id);
     }
 
     /**
@@ -115,28 +120,11 @@ public class AppUserCsvRepositoryImpl implements AppUserCsvRepository {
      */
     public void deleteById(UUID id) {
         try {
-            CsvFileHelper.backupCSVFile(csvProperties.getUsersFilepath());
-            List<AppUser> users = findAll();
-            users.removeIf(u -> Objects.equals(u.getId(), id));
-            try (CSVWriter writer = new CSVWriter(new FileWriter(csvProperties.getUsersFilepath()))) {
-                ColumnPositionMappingStrategy<AppUser> strategy = new ColumnPositionMappingStrategy<>();
-                strategy.setType(AppUser.class);
-                strategy.setColumnMapping(COLUMNS);
-                StatefulBeanToCsv<AppUser> beanToCsv = new StatefulBeanToCsvBuilder<AppUser>(writer)
-                    .withMappingStrategy(strategy)
-                    .build();
-                beanToCsv.write(users);
-            }
+            store.deleteById(id);
             logger.info("User deleted successfully: {}", id);
-        } catch (IOException e) {
-            logger.error("IO Error deleting user from CSV", e);
-            throw new CsvDataAccessException("IO Error deleting user from CSV", e);
-        } catch (com.opencsv.exceptions.CsvDataTypeMismatchException e) {
-            logger.error("Data type mismatch error deleting user from CSV", e);
-            throw new CsvDataAccessException("Data type mismatch error deleting user from CSV", e);
-        } catch (com.opencsv.exceptions.CsvRequiredFieldEmptyException e) {
-            logger.error("Required field empty error deleting user from CSV", e);
-            throw new CsvDataAccessException("Required field empty error deleting user from CSV", e);
+        } catch (UncheckedIOException e) {
+            logger.error("Error deleting user from CSV", e);
+            throw new CsvDataAccessException("Error deleting user from CSV", e);
         }
     }
 
@@ -148,8 +136,6 @@ public class AppUserCsvRepositoryImpl implements AppUserCsvRepository {
      */
     @Override
     public Optional<AppUser> findByUsername(String username) {
-        return findAll().stream()
-            .filter(u -> u.getUsername().equals(username))
-            .findFirst();
+        return store.findBy("username", username).stream().findFirst();
     }
 }
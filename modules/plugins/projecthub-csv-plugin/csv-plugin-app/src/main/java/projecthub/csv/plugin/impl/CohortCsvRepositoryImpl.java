@@ -4,6 +4,11 @@ import org.slf4j.Logger;
 import org.springframework.stereotype.Repository;
 import org.springframework.context.annotation.Profile;
 
+import java.io.UncheckedIOException;
+
+import projecthub.csv.plugin.storage.CsvStorageEngine;
+import projecthub.csv.plugin.storage.CsvStore;
+
 /**
  * Implementation of {@link CohortCsvRepository} that manages Cohort data using CSV files.
  * <p>
@@ -16,8 +21,10 @@ import org.springframework.context.annotation.Profile;
 public class CohortCsvRepositoryImpl implements CohortCsvRepository {
 
     private static final Logger logger = LoggerFactory.getLogger(CohortCsvRepositoryImpl.class);
+    private static final String[] COLUMNS = {"id", "name", "schoolId"};
 
     private final CsvProperties csvProperties;
+    private final CsvStore<Cohort> store;
     private final Validator validator;
 
     /**
@@ -26,9 +33,10 @@ public class CohortCsvRepositoryImpl implements CohortCsvRepository {
      * @param csvProperties the CSV configuration properties
      * @param validator     the validator for Cohort objects
      */
-    public CohortCsvRepositoryImpl(CsvProperties csvProperties, Validator validator) {
+    public CohortCsvRepositoryImpl(CsvProperties csvProperties, Validator validator, CsvStorageEngine storageEngine) {
         this.csvProperties = csvProperties;
         this.validator = validator;
+        this.store = storageEngine.open(csvProperties.getCohortsFilepath(), Cohort.class, COLUMNS, "schoolId");
     }
 
     /**
@@ -42,12 +50,7 @@ public class CohortCsvRepositoryImpl implements CohortCsvRepository {
     public Cohort save(Cohort cohort) {
         validateCohort(cohort);
         try {
-            CsvFileHelper.backupCSVFile(csvProperties.getCohortsFilepath());
-            List<Cohort> cohorts = readCohortsFromFile();
-            cohorts.removeIf(c -> Objects.equals(c.getId(), cohort.getId()));
-            cohorts.add(cohort);
-            String[] columns = {"id", "name", "schoolId"};
-            CsvHelper.writeBeansToCsv(csvProperties.getCohortsFilepath(), Cohort.class, cohorts, columns);
+            store.save(cohort);
             logger.info("Cohort saved successfully: {}", cohort);
             return cohort;
         } catch (Exception e) {
@@ -56,6 +59,26 @@ public class CohortCsvRepositoryImpl implements CohortCsvRepository {
         }
     }
 
+    /**
+     * Saves a batch of cohorts to the CSV file after validation, in a single log write.
+     *
+     * @param cohorts the {@code Cohort} objects to save
+     * @return the saved {@code Cohort} objects
+     * @throws RuntimeException if an error occurs during saving
+     */
+    @Override
+    public List<Cohort> saveAll(List<Cohort> cohorts) {
+        cohorts.forEach(this::validateCohort);
+        try {
+            store.saveAll(cohorts);
+            logger.info("{} cohorts saved successfully", cohorts.size());
+            return cohorts;
+        } catch (Exception e) {
+            logger.error("Error saving cohorts to CSV", e);
+            throw new RuntimeException("Error saving cohorts to CSV", e);
+        }
+    }
+
     /**
      * Retrieves all {@code Cohort} objects from the CSV file.
      *
@@ -64,12 +87,7 @@ public class CohortCsvRepositoryImpl implements CohortCsvRepository {
      */
     @Override
     public List<Cohort> findAll() {
-        try {
-            return readCohortsFromFile();
-        } catch (IOException e) {
-            logger.error("Error reading cohorts from CSV", e);
-            throw new RuntimeException("Error reading cohorts from CSV", e);
-        }
+        return store.findAll();
     }
 
     /**
@@ -80,15 +98,7 @@ public class CohortCsvRepositoryImpl implements CohortCsvRepository {
      */
     @Override
     public Optional<Cohort> findById(UUID id) {
-        try {
-            List<Cohort> cohorts = readCohortsFromFile();
-            return cohorts.stream()
-                .filter(c -> Objects.equals(c.getId(), id))
-                .findFirst();
-        } catch (IOException e) {
-            logger.error("Error reading cohorts from CSV", e);
-            throw new RuntimeException("Error reading cohorts from CSV", e);
-        }
+        return store.findById(id);
     }
 
     /**
@@ -100,12 +110,9 @@ public class CohortCsvRepositoryImpl implements CohortCsvRepository {
     @Override
     public void deleteById(UUID id) {
         try {
-            CsvFileHelper.backupCSVFile(csvProperties.getCohortsFilepath());
-            List<Cohort> cohorts = readCohortsFromFile();
-            cohorts.removeIf(c -> Objects.equals(c.getId(), id));
-            writeCohortsToFile(cohorts);
+            store.deleteById(id);
             logger.info("Cohort deleted successfully: {}", id);
-        } catch (IOException | CsvDataTypeMismatchException | CsvRequiredFieldEmptyException e) {
+        } catch (UncheckedIOException e) {
             logger.error("Error deleting cohort from CSV", e);
             throw new RuntimeException("Error deleting cohort from CSV", e);
         }
@@ -119,15 +126,7 @@ public class CohortCsvRepositoryImpl implements CohortCsvRepository {
      */
     @Override
     public List<Cohort> findBySchoolId(UUID schoolId) {
-        try {
-            List<Cohort> cohorts = readCohortsFromFile();
-            return cohorts.stream()
-                .filter(c -> c.getSchool() != null && Objects.equals(c.getSchool().getId(), schoolId))
-                .toList();
-        } catch (IOException e) {
-            logger.error("Error reading cohorts from CSV", e);
-            throw new RuntimeException("Error reading cohorts from CSV", e);
-        }
+        return store.findBy("schoolId", schoolId);
     }
 
     /**
@@ -146,51 +145,4 @@ public class CohortCsvRepositoryImpl implements CohortCsvRepository {
             throw new IllegalArgumentException("Cohort validation failed: " + sb);
         }
     }
-
-    /**
-     * Configures and returns the CSV mapping strategy for {@code Cohort} objects.
-     *
-     * @return the configured {@link ColumnPositionMappingStrategy} for {@code Cohort}
-     */
-    private ColumnPositionMappingStrategy<Cohort> getMappingStrategy() {
-        ColumnPositionMappingStrategy<Cohort> strategy = new ColumnPositionMappingStrategy<>();
-        strategy.setType(Cohort.class);
-        String[] memberFieldsToBindTo = {"id", "name", "schoolId"};
-        strategy.setColumnMapping(memberFieldsToBindTo);
-        return strategy;
-    }
-
-    /**
-     * Writes the list of {@code Cohort} objects to the CSV file.
-     *
-     * @param cohorts the list of {@code Cohort} objects to write
-     * @throws IOException                    if an I/O error occurs
-     * @throws CsvDataTypeMismatchException   if a data type mismatch occurs
-     * @throws CsvRequiredFieldEmptyException if a required field is empty
-     */
-    private void writeCohortsToFile(List<Cohort> cohorts) throws IOException, CsvDataTypeMismatchException, CsvRequiredFieldEmptyException {
-        try (CSVWriter writer = new CSVWriter(new FileWriter(csvProperties.getCohortsFilepath()))) {
-            ColumnPositionMappingStrategy<Cohort> strategy = getMappingStrategy();
-            StatefulBeanToCsv<Cohort> beanToCsv = new StatefulBeanToCsvBuilder<Cohort>(writer)
-                .withMappingStrategy(strategy)
-                .build();
-            beanToCsv.write(cohorts);
-        }
-    }
-
-    /**
-     * Reads and returns all {@code Cohort} objects from the CSV file.
-     *
-     * @return a list of {@code Cohort} objects
-     * @throws IOException if an I/O error occurs during reading
-     */
-    private List<Cohort> readCohortsFromFile() throws IOException {
-        try (CSVReader reader = new CSVReader(new FileReader(csvProperties.getCohortsFilepath()))) {
-            ColumnPositionMappingStrategy<Cohort> strategy = getMappingStrategy();
-            return new CsvToBeanBuilder<Cohort>(reader)
-                .withMappingStrategy(strategy)
-                .build()
-                .parse();
-        }
-    }
 }
@@ -7,36 +7,29 @@ import org.slf4j.LoggerFactory;
 
 import javax.validation.Validator;
 import javax.validation.ConstraintViolation;
+import java.io.UncheckedIOException;
 import java.util.Set;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import java.io.FileReader;
-import java.io.FileWriter;
-import java.io.IOException;
-
-import com.opencsv.CSVReader;
-import com.opencsv.CSVWriter;
-import com.opencsv.bean.ColumnPositionMappingStrategy;
-import com.opencsv.bean.CsvToBeanBuilder;
-import com.opencsv.bean.StatefulBeanToCsv;
-import com.opencsv.bean.StatefulBeanToCsvBuilder;
-import com.opencsv.exceptions.CsvDataTypeMismatchException;
-import com.opencsv.exceptions.CsvRequiredFieldEmptyException;
+import projecthub.csv.plugin.storage.CsvStorageEngine;
+import projecthub.csv.plugin.storage.CsvStore;
 
 @Repository("csvComponentRepository")
 @Profile("csv")
 public class ComponentCsvRepositoryImpl implements ComponentCsvRepository {
 
     private static final Logger logger = LoggerFactory.getLogger(ComponentCsvRepositoryImpl.class);
+    private static final String[] COLUMNS = {"id", "name", "description", "projectId"};
 
     private final Validator validator;
     private final CsvProperties csvProperties;
+    private final CsvStore<Component> store;
 
-    public ComponentCsvRepositoryImpl(CsvProperties csvProperties, Validator validator) {
+    public ComponentCsvRepositoryImpl(CsvProperties csvProperties, Validator validator, CsvStorageEngine storageEngine) {
         this.csvProperties = csvProperties;
         this.validator = validator;
+        this.store = storageEngine.open(csvProperties.getComponentsFilepath(), Component.class, COLUMNS, "projectId");
     }
 
     /**
@@ -67,12 +60,7 @@ public class ComponentCsvRepositoryImpl implements ComponentCsvRepository {
     public Component save(Component component) {
         validateComponent(component);
         try {
-            CsvFileHelper.backupCSVFile(csvProperties.getComponentsFilepath());
-            List<Component> components = readComponentsFromFile();
-            components.removeIf(c -> Objects.equals(c.getId(), component.getId()));
-            components.add(component);
-            String[] columns = {"id", "name", "description", "projectId"};
-            CsvHelper.writeBeansToCsv(csvProperties.getComponentsFilepath(), Component.class, components, columns);
+            store.save(component);
             logger.info("Component saved successfully: {}", component);
             return component;
         } catch (Exception e) {
@@ -81,6 +69,26 @@ public class ComponentCsvRepositoryImpl implements ComponentCsvRepository {
         }
     }
 
+    /**
+     * Saves a batch of components to the CSV file after validation, in a single log write.
+     *
+     * @param components the {@code Component} objects to save
+     * @return the saved {@code Component} objects
+     * @throws RuntimeException if an error occurs during saving
+     */
+    @Override
+    public List<Component> saveAll(List<Component> components) {
+        components.forEach(this::validateComponent);
+        try {
+            store.saveAll(components);
+            logger.info("{} components saved successfully", components.size());
+            return components;
+        } catch (Exception e) {
+            logger.error("Error saving components to CSV", e);
+            throw new RuntimeException("Error saving components to CSV", e);
+        }
+    }
+
     /**
      * Retrieves all components from the CSV file.
      *
@@ -88,19 +96,7 @@ public class ComponentCsvRepositoryImpl implements ComponentCsvRepository {
      */
     @Override
     public List<Component> findAll() {
-        try (CSVReader reader = new CSVReader(new FileReader(csvProperties.getComponentsFilepath()))) {
-            ColumnPositionMappingStrategy<Component> strategy = new ColumnPositionMappingStrategy<>();
-            strategy.setType(Component.class);
-            String[] memberFieldsToBindTo = {"id", "name", "description", "projectId"};
-            strategy.setColumnMapping(memberFieldsToBindTo);
-            return new CsvToBeanBuilder<Component>(reader)
-                .withMappingStrategy(strategy)
-                .build()
-                .parse();
-        } catch (IOException e) {
-            logger.error("Error reading components from CSV", e);
-            throw new RuntimeException("Error reading components from CSV", e);
-        }
+        return store.findAll();
     }
 
     /**
@@ -111,15 +107,7 @@ public class ComponentCsvRepositoryImpl implements ComponentCsvRepository {
      */
     @Override
     public Optional<Component> findById(UUID id) {
-        try {
-            List<Component> components = readComponentsFromFile();
-            return components.stream()
-                .filter(c -> Objects.equals(c.getId(), id))
-                .findFirst();
-        } catch (IOException e) {
-            logger.error("Error reading components from CSV", e);
-            throw new RuntimeException("Error reading components from CSV", e);
-        }
+        return store.findById(id);
     }
 
     /**
@@ -131,12 +119,9 @@ public class ComponentCsvRepositoryImpl implements ComponentCsvRepository {
     @Override
     public void deleteById(UUID id) {
         try {
-            CsvFileHelper.backupCSVFile(csvProperties.getComponentsFilepath());
-            List<Component> components = readComponentsFromFile();
-            components.removeIf(c -> Objects.equals(c.getId(), id));
-            writeComponentsToFile(components);
+            store.deleteById(id);
             logger.info("Component deleted successfully: {}", id);
-        } catch (IOException | CsvDataTypeMismatchException | CsvRequiredFieldEmptyException e) {
+        } catch (UncheckedIOException e) {
             logger.error("Error deleting component from CSV", e);
             throw new RuntimeException("Error deleting component from CSV", e);
         }
@@ -150,61 +135,6 @@ public class ComponentCsvRepositoryImpl implements ComponentCsvRepository {
      */
     @Override
     public List<Component> findByProjectId(UUID projectId) {
-        try {
-            List<Component> components = readComponentsFromFile();
-            return components.stream()
-                .filter(c -> c.getProject() != null && Objects.equals(c.getProject().getId(), projectId))
-                .toList();
-        } catch (IOException e) {
-            logger.error("Error reading components from CSV", e);
-            throw new RuntimeException("Error reading components from CSV", e);
-        }
-    }
-
-    /**
-     * Configures and returns the CSV mapping strategy for {@code Component} objects.
-     *
-     * @return the configured {@link ColumnPositionMappingStrategy} for {@code Component}
-     */
-    private ColumnPositionMappingStrategy<Component> getMappingStrategy() {
-        ColumnPositionMappingStrategy<Component> strategy = new ColumnPositionMappingStrategy<>();
-        strategy.setType(Component.class);
-        String[] memberFieldsToBindTo = {"id", "name", "description", "projectId"};
-        strategy.setColumnMapping(memberFieldsToBindTo);
-        return strategy;
-    }
-
-    /**
-     * Writes the list of {@code Component} objects to the CSV file.
-     *
-     * @param components the list of {@code Component} objects to write
-     * @throws IOException                    if an I/O error occurs
-     * @throws CsvDataTypeMismatchException   if a data type mismatch occurs
-     * @throws CsvRequiredFieldEmptyException if a required field is empty
-     */
-    private void writeComponentsToFile(List<Component> components) throws IOException, CsvDataTypeMismatchException, CsvRequiredFieldEmptyException {
-        try (CSVWriter writer = new CSVWriter(new FileWriter(csvProperties.getComponentsFilepath()))) {
-            ColumnPositionMappingStrategy<Component> strategy = getMappingStrategy();
-            StatefulBeanToCsv<Component> beanToCsv = new StatefulBeanToCsvBuilder<Component>(writer)
-                .withMappingStrategy(strategy)
-                .build();
-            beanToCsv.write(components);
-        }
-    }
-
-    /**
-     * Reads and returns all {@code Component} objects from the CSV file.
-     *
-     * @return a list of {@code Component} objects
-     * @throws IOException if an I/O error occurs during reading
-     */
-    private List<Component> readComponentsFromFile() throws IOException {
-        try (CSVReader reader = new CSVReader(new FileReader(csvProperties.getComponentsFilepath()))) {
-            ColumnPositionMappingStrategy<Component> strategy = getMappingStrategy();
-            return new CsvToBeanBuilder<Component>(reader)
-                .withMappingStrategy(strategy)
-                .build()
-                .parse();
-        }
+        return store.findBy("projectId", projectId);
     }
 }
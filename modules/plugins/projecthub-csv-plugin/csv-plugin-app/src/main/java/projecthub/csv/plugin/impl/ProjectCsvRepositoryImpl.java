@@ -1,17 +1,25 @@
 package projecthub.csv.plugin.impl;
 
+import java.io.UncheckedIOException;
+
+import projecthub.csv.plugin.storage.CsvStorageEngine;
+import projecthub.csv.plugin.storage.CsvStore;
+
 @Repository("csvProjectRepository")
 @Profile("csv")
 public class ProjectCsvRepositoryImpl implements ProjectCsvRepository {
 
     private static final Logger logger = LoggerFactory.getLogger(ProjectCsvRepositoryImpl.class);
+    private static final String[] COLUMNS = {"id", "name", "description", "teamId", "deadline", "startDate", "endDate", "status"};
 
     private final Validator validator;
     private final CsvProperties csvProperties;
+    private final CsvStore<Project> store;
 
-    public ProjectCsvRepositoryImpl(CsvProperties csvProperties, Validator validator) {
+    public ProjectCsvRepositoryImpl(CsvProperties csvProperties, Validator validator, CsvStorageEngine storageEngine) {
         this.csvProperties = csvProperties;
         this.validator = validator;
+        this.store = storageEngine.open(csvProperties.getProjectsFilepath(), Project.class, COLUMNS, "teamId");
     }
 
     /**
@@ -42,12 +50,7 @@ public class ProjectCsvRepositoryImpl implements ProjectCsvRepository {
     public Project save(Project project) {
         validateProject(project);
         try {
-            CsvFileHelper.backupCSVFile(csvProperties.getProjectsFilepath());
-            List<Project> projects = findAll();
-            projects.removeIf(p -> Objects.equals(p.getId(), project.getId()));
-            projects.add(project);
-            String[] columns = {"id", "name", "description", "teamId", "deadline", "startDate", "endDate", "status"};
-            CsvHelper.writeBeansToCsv(csvProperties.getProjectsFilepath(), Project.class, projects, columns);
+            store.save(project);
             logger.info("Project saved successfully: {}", project);
             return project;
         } catch (Exception e) {
@@ -56,6 +59,26 @@ public class ProjectCsvRepositoryImpl implements ProjectCsvRepository {
         }
     }
 
+    /**
+     * Saves a batch of projects to the CSV file after validation, in a single log write.
+     *
+     * @param projects the {@code Project} objects to save
+     * @return the saved {@code Project} objects
+     * @throws RuntimeException if an error occurs during saving
+     */
+    @Override
+    public List<Project> saveAll(List<Project> projects) {
+        projects.forEach(this::validateProject);
+        try {
+            store.saveAll(projects);
+            logger.info("{} projects saved successfully", projects.size());
+            return projects;
+        } catch (Exception e) {
+            logger.error("Error saving projects to CSV", e);
+            throw new RuntimeException("Error saving projects to CSV", e);
+        }
+    }
+
     /**
      * Retrieves all projects from the CSV file.
      *
@@ -63,19 +86,7 @@ public class ProjectCsvRepositoryImpl implements ProjectCsvRepository {
      */
     @Override
     public List<Project> findAll() {
-        try (CSVReader reader = new CSVReader(new FileReader(csvProperties.getProjectsFilepath()))) {
-            ColumnPositionMappingStrategy<Project> strategy = new ColumnPositionMappingStrategy<>();
-            strategy.setType(Project.class);
-            String[] memberFieldsToBindTo = {"id", "name", "description", "teamId", "deadline", "startDate", "endDate", "status"};
-            strategy.setColumnMapping(memberFieldsToBindTo);
-            return new CsvToBeanBuilder<Project>(reader)
-                .withMappingStrategy(strategy)
-                .build()
-                .parse();
-        } catch (IOException e) {
-            logger.error("Error reading projects from CSV", e);
-            throw new RuntimeException("Error reading projects from CSV", e);
-        }
+        return store.findAll();
     }
 
     /**
@@ -86,9 +97,7 @@ public class ProjectCsvRepositoryImpl implements ProjectCsvRepository {
      */
     @Override
     public Optional<Project> findById(UUID id) {
-        return findAll().stream()
-            .filter(p -> Objects.equals(p.getId(), id))
-            .findFirst();
+        return store.findById(id);
     }
 
     /**
@@ -100,22 +109,9 @@ public class ProjectCsvRepositoryImpl implements ProjectCsvRepository {
     @Override
     public void deleteById(UUID id) {
         try {
-            CsvFileHelper.backupCSVFile(csvProperties.getProjectsFilepath());
-            List<Project> projects = findAll();
-            projects.removeIf(p -> Objects.equals(p.getId(), id));
-            try (CSVWriter writer = new CSVWriter(new FileWriter(csvProperties.getProjectsFilepath()))) {
-                ColumnPositionMappingStrategy<Project> strategy = new ColumnPositionMappingStrategy<>();
-                strategy.setType(Project.class);
-                String[] memberFieldsToBindTo = {"id", "name", "description", "teamId", "deadline", "startDate", "endDate", "status"};
-                strategy.setColumnMapping(memberFieldsToBindTo);
-                StatefulBeanToCsv<Project> beanToCsv = new StatefulBeanToCsvBuilder<Project>(writer)
-                    .withMappingStrategy(strategy)
-                    .build();
-                beanToCsv.write(projects);
-            }
+            store.deleteById(id);
             logger.info("Project deleted successfully: {}", id);
-        } catch (IOException | com.opencsv.exceptions.CsvDataTypeMismatchException |
-                 com.opencsv.exceptions.CsvRequiredFieldEmptyException e) {
+        } catch (UncheckedIOException e) {
             logger.error("Error deleting project from CSV", e);
             throw new RuntimeException("Error deleting project from CSV", e);
         }
@@ -129,8 +125,6 @@ public class ProjectCsvRepositoryImpl implements ProjectCsvRepository {
      */
     @Override
     public List<Project> findAllByTeamId(UUID teamId) {
-        return findAll().stream()
-            .filter(p -> p.getTeam() != null && Objects.equals(p.getTeam().getId(), teamId))
-            .toList();
+        return store.findBy("teamId", teamId);
     }
 }
@@ -1,13 +1,8 @@
 package projecthub.csv.plugin.repository.impl;
 
-import com.opencsv.CSVReader;
-import com.opencsv.CSVWriter;
-import com.opencsv.bean.ColumnPositionMappingStrategy;
-import com.opencsv.bean.CsvToBeanBuilder;
-import com.opencsv.bean.StatefulBeanToCsv;
-import com.opencsv.bean.StatefulBeanToCsvBuilder;
 import projecthub.csv.plugin.config.CsvProperties;
-import projecthub.csv.plugin.helper.CsvHelper;
+import projecthub.csv.plugin.storage.CsvStorageEngine;
+import projecthub.csv.plugin.storage.CsvStore;
 import com.projecthub.base.models.School;
 import com.projecthub.base.repositories.csv.SchoolCsvRepository;
 import jakarta.validation.ConstraintViolation;
@@ -17,12 +12,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
-import java.io.FileReader;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
+import java.io.UncheckedIOException;
 import java.util.*;
 
 @Repository("csvSchoolRepository")
@@ -30,26 +20,16 @@ import java.util.*;
 public class SchoolCsvRepositoryImpl implements SchoolCsvRepository {
 
     private static final Logger logger = LoggerFactory.getLogger(SchoolCsvRepositoryImpl.class);
+    private static final String[] COLUMNS = {"id", "name"};
 
     private final Validator validator;
     private final CsvProperties csvProperties;
+    private final CsvStore<School> store;
 
-    public SchoolCsvRepositoryImpl(CsvProperties csvProperties, Validator validator) {
+    public SchoolCsvRepositoryImpl(CsvProperties csvProperties, Validator validator, CsvStorageEngine storageEngine) {
         this.csvProperties = csvProperties;
         this.validator = validator;
-    }
-
-    /**
-     * Creates a backup of the CSV file.
-     *
-     * @param filePath the path of the CSV file to back up
-     * @throws IOException if an I/O error occurs during backup
-     */
-    private void backupCSVFile(String filePath) throws IOException {
-        Path source = Path.of(filePath);
-        Path backup = Path.of(filePath + ".backup");
-        Files.copy(source, backup, StandardCopyOption.REPLACE_EXISTING);
-        logger.info("Backup created for file: {}", filePath);
+        this.store = storageEngine.open(csvProperties.getSchoolsFilepath(), School.class, COLUMNS);
     }
 
     /**
@@ -80,12 +60,7 @@ public class SchoolCsvRepositoryImpl implements SchoolCsvRepository {
     public School save(School school) {
         validateSchool(school);
         try {
-            backupCSVFile(csvProperties.getSchoolsFilepath());
-            List<School> schools = findAll();
-            schools.removeIf(s -> Objects.equals(s.getId(), school.getId()));
-            schools.add(school);
-            String[] columns = {"id", "name"};
-            CsvHelper.writeBeansToCsv(csvProperties.getSchoolsFilepath(), School.class, schools, columns);
+            store.save(school);
             logger.info("School saved successfully: {}", school);
             return school;
         } catch (Exception e) {
@@ -94,6 +69,26 @@ public class SchoolCsvRepositoryImpl implements SchoolCsvRepository {
         }
     }
 
+    /**
+     * Saves a batch of schools to the CSV file after validation, in a single log write.
+     *
+     * @param schools the {@code School} objects to save
+     * @return the saved {@code School} objects
+     * @throws RuntimeException if an error occurs during saving
+     */
+    @Override
+    public List<School> saveAll(List<School> schools) {
+        schools.forEach(this::validateSchool);
+        try {
+            store.saveAll(schools);
+            logger.info("{} schools saved successfully", schools.size());
+            return schools;
+        } catch (Exception e) {
+            logger.error("Error saving schools to CSV", e);
+            throw new RuntimeException("Error saving schools to CSV", e);
+        }
+    }
+
     /**
      * Retrieves all schools from the CSV file.
      *
@@ -101,19 +96,7 @@ public class SchoolCsvRepositoryImpl implements SchoolCsvRepository {
      */
     @Override
     public List<School> findAll() {
-        try (CSVReader reader = new CSVReader(new FileReader(csvProperties.getSchoolsFilepath()))) {
-            ColumnPositionMappingStrategy<School> strategy = new ColumnPositionMappingStrategy<>();
-            strategy.setType(School.class);
-            String[] memberFieldsToBindTo = {"id", "name"};
-            strategy.setColumnMapping(memberFieldsToBindTo);
-            return new CsvToBeanBuilder<School>(reader)
-                .withMappingStrategy(strategy)
-                .build()
-                .parse();
-        } catch (IOException e) {
-            logger.error("Error reading schools from CSV", e);
-            throw new RuntimeException("Error reading schools from CSV", e);
-        }
+        return store.findAll();
     }
 
     /**
@@ -124,9 +107,7 @@ public class SchoolCsvRepositoryImpl implements SchoolCsvRepository {
      */
     @Override
     public Optional<School> findById(UUID id) {
-        return findAll().stream()
-            .filter(s -> Objects.equals(s.getId(), id))
-            .findFirst();
+        return store.findById(id);
     }
 
     /**
@@ -138,22 +119,9 @@ public class SchoolCsvRepositoryImpl implements SchoolCsvRepository {
     @Override
     public void deleteById(UUID id) {
         try {
-            backupCSVFile(csvProperties.getSchoolsFilepath());
-            List<School> schools = findAll();
-            schools.removeIf(s -> Objects.equals(s.getId(), id));
-            try (CSVWriter writer = new CSVWriter(new FileWriter(csvProperties.getSchoolsFilepath()))) {
-                ColumnPositionMappingStrategy<School> strategy = new ColumnPositionMappingStrategy<>();
-                strategy.setType(School.class);
-                String[] memberFieldsToBindTo = {"id", "name"};
-                strategy.setColumnMapping(memberFieldsToBindTo);
-                StatefulBeanToCsv<School> beanToCsv = new StatefulBeanToCsvBuilder<School>(writer)
-                    .withMappingStrategy(strategy)
-                    .build();
-                beanToCsv.write(schools);
-            }
+            store.deleteById(id);
             logger.info("School deleted successfully: {}", id);
-        } catch (IOException | com.opencsv.exceptions.CsvDataTypeMismatchException |
-                 com.opencsv.exceptions.CsvRequiredFieldEmptyException e) {
+        } catch (UncheckedIOException e) {
             logger.error("Error deleting school from CSV", e);
             throw new RuntimeException("Error deleting school from CSV", e);
         }
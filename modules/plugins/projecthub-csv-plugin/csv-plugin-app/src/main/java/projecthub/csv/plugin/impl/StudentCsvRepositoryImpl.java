@@ -1,17 +1,25 @@
 package projecthub.csv.plugin.repository.impl;
 
+import java.io.UncheckedIOException;
+
+import projecthub.csv.plugin.storage.CsvStorageEngine;
+import projecthub.csv.plugin.storage.CsvStore;
+
 @Repository("csvStudentRepository")
 @Profile("csv")
 public class StudentCsvRepositoryImpl implements StudentCsvRepository {
 
     private static final Logger logger = LoggerFactory.getLogger(StudentCsvRepositoryImpl.class);
+    private static final String[] COLUMNS = {"id", "name", "teamId"};
 
     private final Validator validator;
     private final CsvProperties csvProperties;
+    private final CsvStore<Student> store;
 
-    public StudentCsvRepositoryImpl(CsvProperties csvProperties, Validator validator) {
+    public StudentCsvRepositoryImpl(CsvProperties csvProperties, Validator validator, CsvStorageEngine storageEngine) {
         this.csvProperties = csvProperties;
         this.validator = validator;
+        this.store = storageEngine.open(csvProperties.getStudentsFilepath(), Student.class, COLUMNS, "teamId");
     }
 
     /**
@@ -42,12 +50,7 @@ public class StudentCsvRepositoryImpl implements StudentCsvRepository {
     public Student save(Student student) {
         validateStudent(student);
         try {
-            CsvFileHelper.backupCSVFile(csvProperties.getStudentsFilepath());
-            List<Student> students = findAll();
-            students.removeIf(s -> Objects.equals(s.getId(), student.getId()));
-            students.add(student);
-            String[] columns = {"id", "name", "teamId"};
-            CsvHelper.writeBeansToCsv(csvProperties.getStudentsFilepath(), Student.class, students, columns);
+            store.save(student);
             logger.info("Student saved successfully: {}", student);
             return student;
         } catch (Exception e) {
@@ -56,6 +59,26 @@ public class StudentCsvRepositoryImpl implements StudentCsvRepository {
         }
     }
 
+    /**
+     * Saves a batch of students to the CSV file after validation, in a single log write.
+     *
+     * @param students the {@code Student} objects to save
+     * @return the saved {@code Student} objects
+     * @throws RuntimeException if an error occurs during saving
+     */
+    @Override
+    public List<Student> saveAll(List<Student> students) {
+        students.forEach(this::validateStudent);
+        try {
+            store.saveAll(students);
+            logger.info("{} students saved successfully", students.size());
+            return students;
+        } catch (Exception e) {
+            logger.error("Error saving students to CSV", e);
+            throw new RuntimeException("Error saving students to CSV", e);
+        }
+    }
+
     /**
      * Retrieves all students from the CSV file.
      *
@@ -63,19 +86,7 @@ public class StudentCsvRepositoryImpl implements StudentCsvRepository {
      */
     @Override
     public List<Student> findAll() {
-        try (CSVReader reader = new CSVReader(new FileReader(csvProperties.getStudentsFilepath()))) {
-            ColumnPositionMappingStrategy<Student> strategy = new ColumnPositionMappingStrategy<>();
-            strategy.setType(Student.class);
-            String[] memberFieldsToBindTo = {"id", "name", "teamId"};
-            strategy.setColumnMapping(memberFieldsToBindTo);
-            return new CsvToBeanBuilder<Student>(reader)
-                .withMappingStrategy(strategy)
-                .build()
-                .parse();
-        } catch (IOException e) {
-            logger.error("Error reading students from CSV", e);
-            throw new RuntimeException("Error reading students from CSV", e);
-        }
+        return store.findAll();
     }
 
     /**
@@ -86,9 +97,7 @@ public class StudentCsvRepositoryImpl implements StudentCsvRepository {
      */
     @Override
     public Optional<Student> findById(UUID id) {
-        return findAll().stream()
-            .filter(s -> Objects.equals(s.getId(), id))
-            .findFirst();
+        return store.findById(id);
     }
 
     /**
@@ -100,22 +109,9 @@ public class StudentCsvRepositoryImpl implements StudentCsvRepository {
     @Override
     public void deleteById(UUID id) {
         try {
-            CsvFileHelper.backupCSVFile(csvProperties.getStudentsFilepath());
-            List<Student> students = findAll();
-            students.removeIf(s -> Objects.equals(s.getId(), id));
-            try (CSVWriter writer = new CSVWriter(new FileWriter(csvProperties.getStudentsFilepath()))) {
-                ColumnPositionMappingStrategy<Student> strategy = new ColumnPositionMappingStrategy<>();
-                strategy.setType(Student.class);
-                String[] memberFieldsToBindTo = {"id", "name", "teamId"};
-                strategy.setColumnMapping(memberFieldsToBindTo);
-                StatefulBeanToCsv<Student> beanToCsv = new StatefulBeanToCsvBuilder<Student>(writer)
-                    .withMappingStrategy(strategy)
-                    .build();
-                beanToCsv.write(students);
-            }
+            store.deleteById(id);
             logger.info("Student deleted successfully: {}", id);
-        } catch (IOException | com.opencsv.exceptions.CsvDataTypeMismatchException |
-                 com.opencsv.exceptions.CsvRequiredFieldEmptyException e) {
+        } catch (UncheckedIOException e) {
             logger.error("Error deleting student from CSV", e);
             throw new RuntimeException("Error deleting student from CSV", e);
         }
@@ -129,8 +125,6 @@ public class StudentCsvRepositoryImpl implements StudentCsvRepository {
      */
     @Override
     public List<Student> findByTeamId(UUID teamId) {
-        return findAll().stream()
-            .filter(s -> s.getTeam() != null && Objects.equals(s.getTeam().getId(), teamId))
-            .toList();
+        return store.findBy("teamId", teamId);
     }
 }
@@ -1,14 +1,8 @@
 package projecthub.csv.plugin.repository.impl;
 
-import com.opencsv.CSVReader;
-import com.opencsv.CSVWriter;
-import com.opencsv.bean.ColumnPositionMappingStrategy;
-import com.opencsv.bean.CsvToBeanBuilder;
-import com.opencsv.bean.StatefulBeanToCsv;
-import com.opencsv.bean.StatefulBeanToCsvBuilder;
 import projecthub.csv.plugin.config.CsvProperties;
-import projecthub.csv.plugin.helper.CsvFileHelper;
-import projecthub.csv.plugin.helper.CsvHelper;
+import projecthub.csv.plugin.storage.CsvStorageEngine;
+import projecthub.csv.plugin.storage.CsvStore;
 import com.projecthub.base.models.Submission;
 import com.projecthub.base.repositories.csv.SubmissionCsvRepository;
 import jakarta.validation.ConstraintViolation;
@@ -18,9 +12,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
-import java.io.FileReader;
-import java.io.FileWriter;
-import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
 
 @Repository("csvSubmissionRepository")
@@ -28,13 +20,16 @@ import java.util.*;
 public class SubmissionCsvRepositoryImpl implements SubmissionCsvRepository {
 
     private static final Logger logger = LoggerFactory.getLogger(SubmissionCsvRepositoryImpl.class);
+    private static final String[] COLUMNS = {"id", "projectId", "studentId", "content", "timestamp", "grade"};
 
     private final Validator validator;
     private final CsvProperties csvProperties;
+    private final CsvStore<Submission> store;
 
-    public SubmissionCsvRepositoryImpl(CsvProperties csvProperties, Validator validator) {
+    public SubmissionCsvRepositoryImpl(CsvProperties csvProperties, Validator validator, CsvStorageEngine storageEngine) {
         this.csvProperties = csvProperties;
         this.validator = validator;
+        this.store = storageEngine.open(csvProperties.getSubmissionsFilepath(), Submission.class, COLUMNS, "studentId", "projectId");
     }
 
     /**
@@ -65,12 +60,7 @@ public class SubmissionCsvRepositoryImpl implements SubmissionCsvRepository {
     public Submission save(Submission submission) {
         validateSubmission(submission);
         try {
-            CsvFileHelper.backupCSVFile(csvProperties.getSubmissionsFilepath());
-            List<Submission> submissions = findAll();
-            submissions.removeIf(s -> Objects.equals(s.getId(), submission.getId()));
-            submissions.add(submission);
-            String[] columns = {"id", "studentId", "projectId", "submissionDate", "content"};
-            CsvHelper.writeBeansToCsv(csvProperties.getSubmissionsFilepath(), Submission.class, submissions, columns);
+            store.save(submission);
             logger.info("Submission saved successfully: {}", submission);
             return submission;
         } catch (Exception e) {
@@ -79,6 +69,26 @@ public class SubmissionCsvRepositoryImpl implements SubmissionCsvRepository {
         }
     }
 
+    /**
+     * Saves a batch of submissions to the CSV file after validation, in a single log write.
+     *
+     * @param submissions the {@code Submission} objects to save
+     * @return the saved {@code Submission} objects
+     * @throws RuntimeException if an error occurs during saving
+     */
+    @Override
+    public List<Submission> saveAll(List<Submission> submissions) {
+        submissions.forEach(this::validateSubmission);
+        try {
+            store.saveAll(submissions);
+            logger.info("{} submissions saved successfully", submissions.size());
+            return submissions;
+        } catch (Exception e) {
+            logger.error("Error saving submissions to CSV", e);
+            throw new RuntimeException("Error saving submissions to CSV", e);
+        }
+    }
+
     /**
      * Retrieves all submissions from the CSV file.
      *
@@ -86,19 +96,7 @@ public class SubmissionCsvRepositoryImpl implements SubmissionCsvRepository {
      */
     @Override
     public List<Submission> findAll() {
-        try (CSVReader reader = new CSVReader(new FileReader(csvProperties.getSubmissionsFilepath()))) {
-            ColumnPositionMappingStrategy<Submission> strategy = new ColumnPositionMappingStrategy<>();
-            strategy.setType(Submission.class);
-            String[] memberFieldsToBindTo = {"id", "projectId", "studentId", "content", "timestamp", "grade"};
-            strategy.setColumnMapping(memberFieldsToBindTo);
-            return new CsvToBeanBuilder<Submission>(reader)
-                .withMappingStrategy(strategy)
-                .build()
-                .parse();
-        } catch (IOException e) {
-            logger.error("Error reading submissions from CSV", e);
-            throw new RuntimeException("Error reading submissions from CSV", e);
-        }
+        return store.findAll();
     }
 
     /**
@@ -109,9 +107,7 @@ public class SubmissionCsvRepositoryImpl implements SubmissionCsvRepository {
      */
     @Override
     public Optional<Submission> findById(UUID id) {
-        return findAll().stream()
-            .filter(s -> Objects.equals(s.getId(), id))
-            .findFirst();
+        return store.findById(id);
     }
 
     /**
@@ -123,22 +119,9 @@ public class SubmissionCsvRepositoryImpl implements SubmissionCsvRepository {
     @Override
     public void deleteById(UUID id) {
         try {
-            CsvFileHelper.backupCSVFile(csvProperties.getSubmissionsFilepath());
-            List<Submission> submissions = findAll();
-            submissions.removeIf(s -> Objects.equals(s.getId(), id));
-            try (CSVWriter writer = new CSVWriter(new FileWriter(csvProperties.getSubmissionsFilepath()))) {
-                ColumnPositionMappingStrategy<Submission> strategy = new ColumnPositionMappingStrategy<>();
-                strategy.setType(Submission.class);
-                String[] memberFieldsToBindTo = {"id", "projectId", "studentId", "content", "timestamp", "grade"};
-                strategy.setColumnMapping(memberFieldsToBindTo);
-                StatefulBeanToCsv<Submission> beanToCsv = new StatefulBeanToCsvBuilder<Submission>(writer)
-                    .withMappingStrategy(strategy)
-                    .build();
-                beanToCsv.write(submissions);
-            }
+            store.deleteById(id);
             logger.info("Submission deleted successfully: {}", id);
-        } catch (IOException | com.opencsv.exceptions.CsvDataTypeMismatchException |
-                 com.opencsv.exceptions.CsvRequiredFieldEmptyException e) {
+        } catch (UncheckedIOException e) {
             logger.error("Error deleting submission from CSV", e);
             throw new RuntimeException("Error deleting submission from CSV", e);
         }
@@ -152,9 +135,7 @@ public class SubmissionCsvRepositoryImpl implements SubmissionCsvRepository {
      */
     @Override
     public List<Submission> findByStudentId(UUID studentId) {
-        return findAll().stream()
-            .filter(s -> s.getStudent() != null && Objects.equals(s.getStudent().getId(), studentId))
-            .toList();
+        return store.findBy("studentId", studentId);
     }
 
     /**
@@ -165,8 +146,6 @@ public class SubmissionCsvRepositoryImpl implements SubmissionCsvRepository {
      */
     @Override
     public List<Submission> findByProjectId(UUID projectId) {
-        return findAll().stream()
-            .filter(s -> s.getProject() != null && Objects.equals(s.getProject().getId(), projectId))
-            .toList();
+        return store.findBy("projectId", projectId);
     }
 }
@@ -1,16 +1,8 @@
 package projecthub.csv.plugin.repository.impl;
 
-import com.opencsv.CSVReader;
-import com.opencsv.CSVWriter;
-import com.opencsv.bean.ColumnPositionMappingStrategy;
-import com.opencsv.bean.CsvToBeanBuilder;
-import com.opencsv.bean.StatefulBeanToCsv;
-import com.opencsv.bean.StatefulBeanToCsvBuilder;
-import com.opencsv.exceptions.CsvDataTypeMismatchException;
-import com.opencsv.exceptions.CsvRequiredFieldEmptyException;
 import projecthub.csv.plugin.config.CsvProperties;
-import projecthub.csv.plugin.helper.CsvFileHelper;
-import projecthub.csv.plugin.helper.CsvHelper;
+import projecthub.csv.plugin.storage.CsvStorageEngine;
+import projecthub.csv.plugin.storage.CsvStore;
 import com.projecthub.base.models.Task;
 import com.projecthub.base.repositories.csv.TaskCsvRepository;
 import jakarta.validation.ConstraintViolation;
@@ -20,9 +12,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
-import java.io.FileReader;
-import java.io.FileWriter;
-import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
 
 @Repository("csvTaskRepository")
@@ -30,13 +20,16 @@ import java.util.*;
 public class TaskCsvRepositoryImpl implements TaskCsvRepository {
 
     private static final Logger logger = LoggerFactory.getLogger(TaskCsvRepositoryImpl.class);
+    private static final String[] COLUMNS = {"id", "name", "description", "projectId"};
 
     private final Validator validator;
     private final CsvProperties csvProperties;
+    private final CsvStore<Task> store;
 
-    public TaskCsvRepositoryImpl(CsvProperties csvProperties, Validator validator) {
+    public TaskCsvRepositoryImpl(CsvProperties csvProperties, Validator validator, CsvStorageEngine storageEngine) {
         this.csvProperties = csvProperties;
         this.validator = validator;
+        this.store = storageEngine.open(csvProperties.getTasksFilepath(), Task.class, COLUMNS, "projectId");
     }
 
     private void validateTask(Task task) {
@@ -54,14 +47,7 @@ public class TaskCsvRepositoryImpl implements TaskCsvRepository {
     public Task save(Task task) {
         validateTask(task);
         try {
-            CsvFileHelper.backupCSVFile(csvProperties.getTasksFilepath());
-            List<Task> tasks = findAll();
-            tasks.removeIf(t -> Objects.equals(t.getId(), task.getId()));
-            tasks.add(task);
-
-            String[] columns = {"id", "name", "description", "projectId"};
-            CsvHelper.writeBeansToCsv(csvProperties.getTasksFilepath(), Task.class, tasks, columns);
-
+            store.save(task);
             logger.info("Task saved successfully: {}", task);
             return task;
         } catch (Exception e) {
@@ -71,52 +57,34 @@ public class TaskCsvRepositoryImpl implements TaskCsvRepository {
     }
 
     @Override
-    public List<Task> findAll() {
-        try (CSVReader reader = new CSVReader(new FileReader(csvProperties.getTasksFilepath()))) {
-            ColumnPositionMappingStrategy<Task> strategy = new ColumnPositionMappingStrategy<>();
-            strategy.setType(Task.class);
-            String[] memberFieldsToBindTo = {"id", "name", "description", "projectId"};
-            strategy.setColumnMapping(memberFieldsToBindTo);
-
-            return new CsvToBeanBuilder<Task>(reader)
-                .withMappingStrategy(strategy)
-                .build()
-                .parse();
-        } catch (IOException e) {
-            logger.error("Error reading tasks from CSV", e);
-            throw new RuntimeException("Error reading tasks from CSV", e);
+    public List<Task> saveAll(List<Task> tasks) {
+        tasks.forEach(this::validateTask);
+        try {
+            store.saveAll(tasks);
+            logger.info("{} tasks saved successfully", tasks.size());
+            return tasks;
+        } catch (Exception e) {
+            logger.error("Error saving tasks to CSV", e);
+            throw new RuntimeException("Error saving tasks to CSV", e);
         }
     }
 
+    @Override
+    public List<Task> findAll() {
+        return store.findAll();
+    }
+
     @Override
     public Optional<Task> findById(UUID id) {
-        return findAll().stream()
-            .filter(t -> Objects.equals(t.getId(), id))
-            .findFirst();
+        return store.findById(id);
     }
 
     @Override
     public void deleteById(UUID id) {
         try {
-            CsvFileHelper.backupCSVFile(csvProperties.getTasksFilepath());
-            List<Task> tasks = findAll();
-            tasks.removeIf(t -> Objects.equals(t.getId(), id));
-
-            try (CSVWriter writer = new CSVWriter(new FileWriter(csvProperties.getTasksFilepath()))) {
-                ColumnPositionMappingStrategy<Task> strategy = new ColumnPositionMappingStrategy<>();
-                strategy.setType(Task.class);
-                String[] memberFieldsToBindTo = {"id", "name", "description", "projectId"};
-                strategy.setColumnMapping(memberFieldsToBindTo);
-
-                StatefulBeanToCsv<Task> beanToCsv = new StatefulBeanToCsvBuilder<Task>(writer)
-                    .withMappingStrategy(strategy)
-                    .build();
-
-                beanToCsv.write(tasks);
-            }
-
+            store.deleteById(id);
             logger.info("Task deleted successfully: {}", id);
-        } catch (IOException | CsvDataTypeMismatchException | CsvRequiredFieldEmptyException e) {
+        } catch (UncheckedIOException e) {
             logger.error("Error deleting task from CSV", e);
             throw new RuntimeException("Error deleting task from CSV", e);
         }
@@ -124,8 +92,6 @@ public class TaskCsvRepositoryImpl implements TaskCsvRepository {
 
     @Override
     public List<Task> findByProjectId(UUID projectId) {
-        return findAll().stream()
-            .filter(t -> t.getProject() != null && Objects.equals(t.getProject().getId(), projectId))
-            .toList();
+        return store.findBy("projectId", projectId);
     }
 }
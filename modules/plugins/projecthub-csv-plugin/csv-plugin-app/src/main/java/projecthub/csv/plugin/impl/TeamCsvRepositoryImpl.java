@@ -1,13 +1,10 @@
 package projecthub.csv.plugin.repository.impl;
 
-import com.opencsv.CSVReader;
-import com.opencsv.bean.ColumnPositionMappingStrategy;
-import com.opencsv.bean.CsvToBeanBuilder;
 import projecthub.csv.plugin.config.CsvProperties;
+import projecthub.csv.plugin.storage.CsvStorageEngine;
+import projecthub.csv.plugin.storage.CsvStore;
 import com.projecthub.base.models.Team;
 import com.projecthub.base.repositories.csv.TeamCsvRepository;
-import projecthub.csv.plugin.helper.CsvFileHelper;
-import projecthub.csv.plugin.helper.CsvHelper;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import org.slf4j.Logger;
@@ -15,8 +12,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
-import java.io.FileReader;
-import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
 
 @Repository("csvTeamRepository")
@@ -24,13 +20,16 @@ import java.util.*;
 public class TeamCsvRepositoryImpl implements TeamCsvRepository {
 
     private static final Logger logger = LoggerFactory.getLogger(TeamCsvRepositoryImpl.class);
+    private static final String[] COLUMNS = {"id", "name"};
 
     private final CsvProperties csvProperties;
+    private final CsvStore<Team> store;
     private final Validator validator;
 
-    public TeamCsvRepositoryImpl(CsvProperties csvProperties, Validator validator) {
+    public TeamCsvRepositoryImpl(CsvProperties csvProperties, Validator validator, CsvStorageEngine storageEngine) {
         this.csvProperties = csvProperties;
         this.validator = validator;
+        this.store = storageEngine.open(csvProperties.getTeamsFilepath(), Team.class, COLUMNS);
     }
 
     /**
@@ -61,12 +60,7 @@ public class TeamCsvRepositoryImpl implements TeamCsvRepository {
     public Team save(Team team) {
         validateTeam(team);
         try {
-            CsvFileHelper.backupCSVFile(csvProperties.getTeamsFilepath());
-            List<Team> teams = findAll();
-            teams.removeIf(t -> Objects.equals(t.getId(), team.getId()));
-            teams.add(team);
-            String[] columns = {"id", "name"};
-            CsvHelper.writeBeansToCsv(csvProperties.getTeamsFilepath(), Team.class, teams, columns);
+            store.save(team);
             logger.info("Team saved successfully: {}", team);
             return team;
         } catch (Exception e) {
@@ -75,6 +69,26 @@ public class TeamCsvRepositoryImpl implements TeamCsvRepository {
         }
     }
 
+    /**
+     * Saves a batch of teams to the CSV file after validation, in a single log write.
+     *
+     * @param teams the {@code Team} objects to save
+     * @return the saved {@code Team} objects
+     * @throws RuntimeException if an error occurs during saving
+     */
+    @Override
+    public List<Team> saveAll(List<Team> teams) {
+        teams.forEach(this::validateTeam);
+        try {
+            store.saveAll(teams);
+            logger.info("{} teams saved successfully", teams.size());
+            return teams;
+        } catch (Exception e) {
+            logger.error("Error saving teams to CSV", e);
+            throw new RuntimeException("Error saving teams to CSV", e);
+        }
+    }
+
     /**
      * Retrieves all teams from the CSV file.
      *
@@ -82,19 +96,7 @@ public class TeamCsvRepositoryImpl implements TeamCsvRepository {
      */
     @Override
     public List<Team> findAll() {
-        try (CSVReader reader = new CSVReader(new FileReader(csvProperties.getTeamsFilepath()))) {
-            ColumnPositionMappingStrategy<Team> strategy = new ColumnPositionMappingStrategy<>();
-            strategy.setType(Team.class);
-            String[] memberFieldsToBindTo = {"id", "name"};
-            strategy.setColumnMapping(memberFieldsToBindTo);
-            return new CsvToBeanBuilder<Team>(reader)
-                .withMappingStrategy(strategy)
-                .build()
-                .parse();
-        } catch (IOException e) {
-            logger.error("Error reading teams from CSV", e);
-            throw new RuntimeException("Error reading teams from CSV", e);
-        }
+        return store.findAll();
     }
 
     /**
@@ -105,9 +107,7 @@ public class TeamCsvRepositoryImpl implements TeamCsvRepository {
      */
     @Override
     public Optional<Team> findById(UUID id) {
-        return findAll().stream()
-            .filter(t -> Objects.equals(t.getId(), id))
-            .findFirst();
+        return store.findById(id);
     }
 
     /**
@@ -119,13 +119,9 @@ public class TeamCsvRepositoryImpl implements TeamCsvRepository {
     @Override
     public void deleteById(UUID id) {
         try {
-            CsvFileHelper.backupCSVFile(csvProperties.getTeamsFilepath());
-            List<Team> teams = findAll();
-            teams.removeIf(t -> Objects.equals(t.getId(), id));
-            String[] columns = {"id", "name"};
-            CsvHelper.writeBeansToCsv(csvProperties.getTeamsFilepath(), Team.class, teams, columns);
+            store.deleteById(id);
             logger.info("Team deleted successfully: {}", id);
-        } catch (Exception e) {
+        } catch (UncheckedIOException e) {
             logger.error("Error deleting team from CSV", e);
             throw new RuntimeException("Error deleting team from CSV", e);
         }
@@ -139,7 +135,8 @@ public class TeamCsvRepositoryImpl implements TeamCsvRepository {
      */
     @Override
     public List<Team> findByCohortId(UUID cohortId) {
-        return findAll().stream()
+        // Teams are stored without a cohort column, so there is no index to use
+        return store.findAll().stream()
             .filter(t -> t.getCohort() != null && Objects.equals(t.getCohort().getId(), cohortId))
             .toList();
     }
@@ -0,0 +1,74 @@
+package projecthub.csv.plugin.storage;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+
+import com.opencsv.CSVParser;
+import com.opencsv.CSVWriter;
+import com.opencsv.bean.ColumnPositionMappingStrategy;
+import com.opencsv.exceptions.CsvException;
+
+/**
+ * Converts between beans, column arrays and single CSV lines using the same
+ * positional mapping and quoting the repositories have always written.
+ *
+ * @param <T> the type of the beans
+ */
+class CsvRowCodec<T> {
+
+    private final ColumnPositionMappingStrategy<T> strategy;
+
+    CsvRowCodec(Class<T> type, String[] columns) {
+        this.strategy = new ColumnPositionMappingStrategy<>();
+        this.strategy.setType(type);
+        this.strategy.setColumnMapping(columns);
+    }
+
+    /**
+     * Parses one CSV line into its column values.
+     *
+     * @param line the line without its terminator
+     * @return the column values
+     */
+    String[] parse(String line) {
+        try {
+            // CSVParser keeps state between calls, so each parse gets its own instance
+            return new CSVParser().parseLine(line);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Malformed CSV line: " + line, e);
+        }
+    }
+
+    /**
+     * Formats column values as one CSV line, including the line terminator.
+     *
+     * @param values the column values
+     * @return the formatted line
+     */
+    String format(String[] values) {
+        StringWriter out = new StringWriter();
+        try (CSVWriter writer = new CSVWriter(out)) {
+            writer.writeNext(values);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    T toBean(String[] values) {
+        try {
+            return strategy.populateNewBean(values);
+        } catch (CsvException e) {
+            throw new IllegalStateException("Unable to map CSV row to bean", e);
+        }
+    }
+
+    String[] toValues(T bean) {
+        try {
+            return strategy.transmuteBean(bean);
+        } catch (CsvException e) {
+            throw new IllegalStateException("Unable to map bean to CSV row", e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package projecthub.csv.plugin.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import projecthub.csv.plugin.config.CsvProperties;
+
+/**
+ * Opens and owns the {@link CsvStore} instances shared by the CSV repositories. A single
+ * background thread group-commits their buffered log entries on a timer and runs compactions.
+ */
+@Component
+@Profile("csv")
+public class CsvStorageEngine implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(CsvStorageEngine.class);
+
+    private final CsvProperties csvProperties;
+    private final Map<String, CsvStore<?>> stores = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService backgroundExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "csv-storage");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public CsvStorageEngine(CsvProperties csvProperties) {
+        this.csvProperties = csvProperties;
+        long interval = csvProperties.getGroupCommitInterval();
+        backgroundExecutor.scheduleWithFixedDelay(this::flushAll, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Opens the store for a CSV file, or returns the already open one.
+     *
+     * @param filepath       the path of the CSV file
+     * @param type           the class type of the beans
+     * @param columns        the bean fields bound to each column, id first
+     * @param indexedColumns the columns to maintain secondary indexes for
+     * @param <T>            the type of the beans
+     * @return the store for the file
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CsvStore<T> open(String filepath, Class<T> type, String[] columns, String... indexedColumns) {
+        return (CsvStore<T>) stores.computeIfAbsent(filepath, path -> new CsvStore<>(path, type, columns,
+            indexedColumns, csvProperties.getCompactionThreshold(), csvProperties.getGroupCommitSize(),
+            this::scheduleCompaction));
+    }
+
+    private void flushAll() {
+        for (CsvStore<?> store : stores.values()) {
+            try {
+                store.flush();
+            } catch (UncheckedIOException e) {
+                // Entries stay buffered and are retried on the next tick
+                logger.error("Error flushing CSV store", e);
+            }
+        }
+    }
+
+    private void scheduleCompaction(CsvStore<?> store) {
+        backgroundExecutor.execute(() -> {
+            try {
+                store.compact();
+            } catch (IOException e) {
+                // The log is left intact, so the next threshold crossing retries
+                logger.error("Error compacting CSV store", e);
+            }
+        });
+    }
+
+    /**
+     * Waits for pending compactions, then flushes and closes all stores.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        backgroundExecutor.shutdown();
+        if (!backgroundExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+            logger.warn("CSV compaction did not finish before shutdown");
+        }
+        for (CsvStore<?> store : stores.values()) {
+            try {
+                store.close();
+            } catch (IOException e) {
+                logger.error("Error closing CSV store", e);
+            }
+        }
+    }
+}
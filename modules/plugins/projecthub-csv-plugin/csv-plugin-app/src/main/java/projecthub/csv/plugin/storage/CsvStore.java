@@ -0,0 +1,555 @@
+package projecthub.csv.plugin.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import projecthub.csv.plugin.helper.CsvFileHelper;
+
+/**
+ * Indexed storage for one CSV file.
+ * <p>
+ * The CSV file itself is the compacted base segment and is read through a memory-mapped view.
+ * An in-memory primary index maps each id to the location of its row, and optional secondary
+ * indexes map foreign key values (such as {@code projectId}) to ids, so lookups never re-parse
+ * the file. Writes are appended to a {@code .log} file next to the CSV file; once the log grows
+ * past the compaction threshold it is folded back into the base file in the background.
+ * </p>
+ * <p>
+ * Log appends are group-committed: entries are buffered and written with a single write and
+ * {@code fsync} once the batch reaches the group commit size, when {@link #flush()} is called
+ * by the engine's timer, or at the end of {@link #saveAll(List)}. Reads see buffered writes
+ * immediately because the indexes are updated before the entry is flushed.
+ * </p>
+ * <p>
+ * The id must be the first mapped column. The log is replayed over the base file on open, and
+ * replay is idempotent, so a crash at any point during compaction loses no writes.
+ * </p>
+ * <p>
+ * The base file is unmapped before compaction replaces it, since a mapped file cannot be
+ * replaced on every platform; the new file is then mapped in its place.
+ * </p>
+ *
+ * @param <T> the type of the stored beans
+ */
+public class CsvStore<T> implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(CsvStore.class);
+
+    private static final String UPSERT = "U";
+    private static final String DELETE = "D";
+    private static final Method INVOKE_CLEANER;
+    private static final Object UNSAFE;
+
+    static {
+        Method invokeCleaner = null;
+        Object unsafe = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.debug("Explicit unmapping unavailable, mappings are released by the garbage collector", e);
+        }
+        INVOKE_CLEANER = invokeCleaner;
+        UNSAFE = unsafe;
+    }
+
+    private final Path dataFile;
+    private final Path logFile;
+    private final CsvRowCodec<T> codec;
+    private final Map<String, Integer> indexedColumns = new LinkedHashMap<>();
+    private final int compactionThreshold;
+    private final int groupCommitSize;
+    private final Consumer<CsvStore<T>> compactionRequester;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean compactionRequested = new AtomicBoolean();
+
+    private final Map<UUID, RowLocation> primaryIndex = new LinkedHashMap<>();
+    private final Map<String, Map<String, Set<UUID>>> secondaryIndexes = new HashMap<>();
+    private MappedByteBuffer dataView;
+    private FileChannel logChannel;
+    private int logEntries;
+    private final ByteArrayOutputStream pendingEntries = new ByteArrayOutputStream();
+    private int pendingCount;
+
+    /**
+     * Opens the store, mapping the CSV file and replaying any pending log entries.
+     *
+     * @param filepath            the path of the CSV file
+     * @param type                the class type of the beans
+     * @param columns             the bean fields bound to each column, id first
+     * @param indexedColumns      the columns to maintain secondary indexes for
+     * @param compactionThreshold the number of log entries that triggers a compaction
+     * @param groupCommitSize     the number of buffered log entries that triggers a flush
+     * @param compactionRequester schedules {@link #compact()} off the caller's thread
+     * @throws UncheckedIOException if the files cannot be read
+     */
+    CsvStore(String filepath, Class<T> type, String[] columns, String[] indexedColumns,
+             int compactionThreshold, int groupCommitSize, Consumer<CsvStore<T>> compactionRequester) {
+        this.dataFile = Path.of(filepath);
+        this.logFile = Path.of(filepath + ".log");
+        this.codec = new CsvRowCodec<>(type, columns);
+        this.compactionThreshold = compactionThreshold;
+        this.groupCommitSize = groupCommitSize;
+        this.compactionRequester = compactionRequester;
+
+        List<String> columnList = Arrays.asList(columns);
+        for (String column : indexedColumns) {
+            int position = columnList.indexOf(column);
+            if (position < 0) {
+                throw new IllegalArgumentException("Indexed column " + column + " is not mapped for " + filepath);
+            }
+            this.indexedColumns.put(column, position);
+            this.secondaryIndexes.put(column, new HashMap<>());
+        }
+
+        try {
+            load();
+            this.logChannel = FileChannel.open(logFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error opening CSV store " + filepath, e);
+        }
+    }
+
+    /**
+     * Returns all rows, in file order.
+     *
+     * @return a list of beans
+     */
+    public List<T> findAll() {
+        lock.readLock().lock();
+        try {
+            List<T> beans = new ArrayList<>(primaryIndex.size());
+            for (RowLocation location : primaryIndex.values()) {
+                beans.add(codec.toBean(values(location)));
+            }
+            return beans;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Looks up a row through the primary index.
+     *
+     * @param id the id of the row
+     * @return an {@code Optional} containing the bean if found, or empty if not found
+     */
+    public Optional<T> findById(UUID id) {
+        lock.readLock().lock();
+        try {
+            RowLocation location = primaryIndex.get(id);
+            return location == null ? Optional.empty() : Optional.of(codec.toBean(values(location)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Looks up rows through a secondary index.
+     *
+     * @param column the indexed column
+     * @param value  the column value to match
+     * @return a list of matching beans
+     * @throws IllegalArgumentException if the column is not indexed
+     */
+    public List<T> findBy(String column, Object value) {
+        Map<String, Set<UUID>> index = secondaryIndexes.get(column);
+        if (index == null) {
+            throw new IllegalArgumentException("Column " + column + " is not indexed in " + dataFile);
+        }
+        lock.readLock().lock();
+        try {
+            Set<UUID> ids = index.getOrDefault(String.valueOf(value), Set.of());
+            List<T> beans = new ArrayList<>(ids.size());
+            for (UUID id : ids) {
+                beans.add(codec.toBean(values(primaryIndex.get(id))));
+            }
+            return beans;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Inserts or replaces a row with a single buffered log append.
+     *
+     * @param bean the bean to save
+     * @return the saved bean
+     * @throws UncheckedIOException if the log cannot be written
+     */
+    public T save(T bean) {
+        String[] values = codec.toValues(bean);
+        UUID id = UUID.fromString(values[0]);
+        lock.writeLock().lock();
+        try {
+            append(UPSERT, values);
+            put(id, new LogRow(values), values);
+            requestCompactionIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return bean;
+    }
+
+    /**
+     * Inserts or replaces a batch of rows and flushes them to the log in a single write.
+     *
+     * @param beans the beans to save
+     * @return the saved beans
+     * @throws UncheckedIOException if the log cannot be written
+     */
+    public List<T> saveAll(List<T> beans) {
+        List<String[]> rows = new ArrayList<>(beans.size());
+        for (T bean : beans) {
+            rows.add(codec.toValues(bean));
+        }
+        lock.writeLock().lock();
+        try {
+            for (String[] values : rows) {
+                append(UPSERT, values);
+                put(UUID.fromString(values[0]), new LogRow(values), values);
+            }
+            flush();
+            requestCompactionIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return beans;
+    }
+
+    /**
+     * Removes a row with a single buffered log append. Unknown ids are ignored.
+     *
+     * @param id the id of the row to delete
+     * @throws UncheckedIOException if the log cannot be written
+     */
+    public void deleteById(UUID id) {
+        lock.writeLock().lock();
+        try {
+            if (!primaryIndex.containsKey(id)) {
+                return;
+            }
+            append(DELETE, new String[]{id.toString()});
+            remove(id);
+            requestCompactionIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Writes all buffered log entries with a single write and forces them to disk.
+     *
+     * @throws UncheckedIOException if the log cannot be written
+     */
+    public void flush() {
+        lock.writeLock().lock();
+        try {
+            if (pendingCount == 0) {
+                return;
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(pendingEntries.toByteArray());
+            while (buffer.hasRemaining()) {
+                logChannel.write(buffer);
+            }
+            logChannel.force(false);
+            pendingEntries.reset();
+            pendingCount = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error appending to CSV log " + logFile, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rewrites the CSV file from the live rows, backs up the previous file, and truncates the log.
+     * Mapped rows are copied byte for byte without being re-parsed.
+     *
+     * @throws IOException if an I/O error occurs during compaction
+     */
+    public void compact() throws IOException {
+        lock.writeLock().lock();
+        try {
+            compactionRequested.set(false);
+            if (logEntries == 0) {
+                return;
+            }
+            // Everything in the index is on disk, so a failed swap can be recovered by reloading
+            flush();
+            Path compacted = dataFile.resolveSibling(dataFile.getFileName() + ".compact");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(compacted))) {
+                for (RowLocation location : primaryIndex.values()) {
+                    if (location instanceof MappedRow row) {
+                        byte[] bytes = new byte[row.length()];
+                        dataView.get(row.offset(), bytes);
+                        out.write(bytes);
+                        out.write('\n');
+                    } else {
+                        out.write(codec.format(values(location)).getBytes(StandardCharsets.UTF_8));
+                    }
+                }
+            }
+            try (FileChannel channel = FileChannel.open(compacted, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            if (Files.exists(dataFile)) {
+                CsvFileHelper.backupCSVFile(dataFile.toString());
+            }
+            // The mapped rows were copied above; nothing reads the old view until load() remaps
+            releaseDataView();
+            try {
+                Files.move(compacted, dataFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                load();
+                throw e;
+            }
+            logChannel.truncate(0);
+            int folded = logEntries;
+            load();
+            logger.info("Compacted {} log entries into CSV file: {}", folded, dataFile);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Flushes buffered entries and closes the log file. Log entries stay on disk and are replayed
+     * on the next open.
+     *
+     * @throws IOException if the log cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            flush();
+            logChannel.close();
+            primaryIndex.clear();
+            secondaryIndexes.values().forEach(Map::clear);
+            releaseDataView();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void requestCompactionIfNeeded() {
+        if (logEntries >= compactionThreshold && compactionRequested.compareAndSet(false, true)) {
+            compactionRequester.accept(this);
+        }
+    }
+
+    private void append(String operation, String[] values) {
+        String[] entry = new String[values.length + 1];
+        entry[0] = operation;
+        System.arraycopy(values, 0, entry, 1, values.length);
+        pendingEntries.writeBytes(codec.format(entry).getBytes(StandardCharsets.UTF_8));
+        pendingCount++;
+        logEntries++;
+        if (pendingCount >= groupCommitSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Rebuilds all indexes from the mapped CSV file and the log. Callers hold the write lock
+     * or are the constructor.
+     */
+    private void load() throws IOException {
+        primaryIndex.clear();
+        secondaryIndexes.values().forEach(Map::clear);
+        dataView = null;
+        logEntries = 0;
+
+        if (Files.exists(dataFile) && Files.size(dataFile) > 0) {
+            dataView = map(dataFile);
+            MappedByteBuffer view = dataView;
+            forEachLine(view, (offset, length) -> {
+                String[] values = codec.parse(line(view, offset, length));
+                put(UUID.fromString(values[0]), new MappedRow(offset, length), values);
+            });
+        }
+        if (Files.exists(logFile) && Files.size(logFile) > 0) {
+            MappedByteBuffer view = map(logFile);
+            forEachLine(view, (offset, length) -> {
+                String[] entry = codec.parse(line(view, offset, length));
+                UUID id = UUID.fromString(entry[1]);
+                if (DELETE.equals(entry[0])) {
+                    remove(id);
+                } else {
+                    String[] values = Arrays.copyOfRange(entry, 1, entry.length);
+                    put(id, new LogRow(values), values);
+                }
+                logEntries++;
+            });
+        }
+        logger.debug("Indexed {} rows ({} pending log entries) from CSV file: {}",
+            primaryIndex.size(), logEntries, dataFile);
+    }
+
+    private void put(UUID id, RowLocation location, String[] values) {
+        RowLocation previous = primaryIndex.put(id, location);
+        if (indexedColumns.isEmpty()) {
+            return;
+        }
+        String[] previousValues = previous == null ? null : values(previous);
+        for (Map.Entry<String, Integer> column : indexedColumns.entrySet()) {
+            Map<String, Set<UUID>> index = secondaryIndexes.get(column.getKey());
+            if (previousValues != null) {
+                unindex(index, column(previousValues, column.getValue()), id);
+            }
+            index.computeIfAbsent(column(values, column.getValue()), key -> new LinkedHashSet<>()).add(id);
+        }
+    }
+
+    private void remove(UUID id) {
+        RowLocation previous = primaryIndex.remove(id);
+        if (previous == null || indexedColumns.isEmpty()) {
+            return;
+        }
+        String[] previousValues = values(previous);
+        for (Map.Entry<String, Integer> column : indexedColumns.entrySet()) {
+            unindex(secondaryIndexes.get(column.getKey()), column(previousValues, column.getValue()), id);
+        }
+    }
+
+    /**
+     * Rows written before a column was added are shorter than the mapping; they index as empty.
+     */
+    private static String column(String[] values, int position) {
+        return position < values.length ? values[position] : "";
+    }
+
+    private static void unindex(Map<String, Set<UUID>> index, String value, UUID id) {
+        Set<UUID> ids = index.get(value);
+        if (ids != null && ids.remove(id) && ids.isEmpty()) {
+            index.remove(value);
+        }
+    }
+
+    private String[] values(RowLocation location) {
+        if (location instanceof LogRow row) {
+            return row.values();
+        }
+        MappedRow row = (MappedRow) location;
+        return codec.parse(line(dataView, row.offset(), row.length()));
+    }
+
+    /**
+     * Drops the base file mapping and unmaps it right away where the JDK allows it. Callers hold
+     * the write lock and must not read mapped rows afterwards until {@link #load()} remaps.
+     */
+    private void releaseDataView() {
+        MappedByteBuffer view = dataView;
+        dataView = null;
+        unmap(view);
+    }
+
+    private static void unmap(MappedByteBuffer view) {
+        if (view == null || INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, view);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.debug("Unable to unmap CSV view, leaving it to the garbage collector", e);
+        }
+    }
+
+    private static MappedByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("CSV file too large to map: " + file);
+            }
+            // The mapping stays valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static String line(ByteBuffer view, int offset, int length) {
+        return StandardCharsets.UTF_8.decode(view.slice(offset, length)).toString();
+    }
+
+    /**
+     * Splits a mapped file into CSV records. Line breaks inside quoted fields do not end a record;
+     * doubled quotes toggle the quote state twice and so need no special handling.
+     */
+    private static void forEachLine(ByteBuffer view, LineConsumer consumer) {
+        int start = 0;
+        boolean quoted = false;
+        int limit = view.limit();
+        for (int i = 0; i < limit; i++) {
+            byte b = view.get(i);
+            if (b == '"') {
+                quoted = !quoted;
+            } else if (b == '\n' && !quoted) {
+                emit(view, start, i, consumer);
+                start = i + 1;
+            }
+        }
+        emit(view, start, limit, consumer);
+    }
+
+    private static void emit(ByteBuffer view, int start, int end, LineConsumer consumer) {
+        int length = end - start;
+        if (length > 0 && view.get(end - 1) == '\r') {
+            length--;
+        }
+        if (length > 0) {
+            consumer.accept(start, length);
+        }
+    }
+
+    @FunctionalInterface
+    private interface LineConsumer {
+        void accept(int offset, int length);
+    }
+
+    private sealed interface RowLocation permits MappedRow, LogRow {
+    }
+
+    /**
+     * A row still in the compacted CSV file, decoded from the mapped view on access.
+     */
+    private record MappedRow(int offset, int length) implements RowLocation {
+    }
+
+    /**
+     * A row written since the last compaction, kept decoded until it is folded into the CSV file.
+     */
+    private record LogRow(String[] values) implements RowLocation {
+    }
+}
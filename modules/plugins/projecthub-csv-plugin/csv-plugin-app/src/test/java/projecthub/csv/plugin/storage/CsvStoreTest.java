@@ -0,0 +1,181 @@
+package projecthub.csv.plugin.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvStoreTest {
+
+    private static final String[] COLUMNS = {"id", "projectId", "name"};
+    private static final String[] INDEXED = {"projectId"};
+
+    @TempDir
+    Path directory;
+
+    private final List<CsvStore<Row>> compactionRequests = new ArrayList<>();
+
+    @Test
+    void appendedRowsAreReadBackBeforeAndAfterFlush() throws IOException {
+        UUID project = UUID.randomUUID();
+        Row first = new Row(UUID.randomUUID(), project, "first");
+        Row second = new Row(UUID.randomUUID(), project, "second");
+
+        try (CsvStore<Row> store = open(100, 100)) {
+            store.save(first);
+            store.save(second);
+            assertEquals("first", store.findById(first.id()).orElseThrow().getName());
+            assertEquals(2, store.findBy("projectId", project).size());
+
+            store.flush();
+            assertEquals(List.of("first", "second"), names(store.findAll()));
+        }
+    }
+
+    @Test
+    void updatesAndDeletesMaintainTheIndexes() throws IOException {
+        UUID oldProject = UUID.randomUUID();
+        UUID newProject = UUID.randomUUID();
+        Row row = new Row(UUID.randomUUID(), oldProject, "row");
+        Row other = new Row(UUID.randomUUID(), oldProject, "other");
+
+        try (CsvStore<Row> store = open(100, 100)) {
+            store.saveAll(List.of(row, other));
+            store.save(new Row(row.id(), newProject, "moved"));
+            store.deleteById(other.id());
+            store.deleteById(UUID.randomUUID());
+
+            assertTrue(store.findBy("projectId", oldProject).isEmpty());
+            assertEquals(List.of("moved"), names(store.findBy("projectId", newProject)));
+            assertTrue(store.findById(other.id()).isEmpty());
+        }
+    }
+
+    @Test
+    void reopeningReplaysTheLog() throws IOException {
+        Row kept = new Row(UUID.randomUUID(), UUID.randomUUID(), "kept");
+        Row deleted = new Row(UUID.randomUUID(), UUID.randomUUID(), "deleted");
+
+        try (CsvStore<Row> store = open(100, 100)) {
+            store.save(kept);
+            store.save(deleted);
+            store.deleteById(deleted.id());
+        }
+
+        try (CsvStore<Row> store = open(100, 100)) {
+            assertEquals(List.of("kept"), names(store.findAll()));
+            assertEquals(kept.projectId().toString(), store.findById(kept.id()).orElseThrow().getProjectId());
+        }
+    }
+
+    @Test
+    void compactionFoldsTheLogIntoTheCsvFile() throws IOException {
+        UUID project = UUID.randomUUID();
+        Row row = new Row(UUID.randomUUID(), project, "row");
+        Row deleted = new Row(UUID.randomUUID(), project, "deleted");
+        Row kept = new Row(UUID.randomUUID(), project, "kept");
+
+        try (CsvStore<Row> store = open(2, 100)) {
+            store.save(row);
+            store.save(deleted);
+            store.save(kept);
+            assertEquals(1, compactionRequests.size());
+            store.compact();
+            assertEquals(0, Files.size(logFile()));
+            assertEquals(List.of("row", "deleted", "kept"), names(store.findAll()));
+
+            // "kept" is now read from the mapped CSV file, which the next compaction replaces
+            store.deleteById(deleted.id());
+            store.save(new Row(row.id(), project, "renamed"));
+            store.compact();
+
+            assertEquals(List.of("renamed", "kept"), names(store.findAll()));
+            assertEquals(List.of("renamed", "kept"), names(store.findBy("projectId", project)));
+        }
+
+        assertEquals(2, Files.readAllLines(dataFile()).size());
+        assertEquals(0, Files.size(logFile()));
+        try (CsvStore<Row> store = open(100, 100)) {
+            assertEquals(List.of("renamed", "kept"), names(store.findAll()));
+        }
+    }
+
+    @Test
+    void compactionWithoutLogEntriesLeavesTheFileAlone() throws IOException {
+        try (CsvStore<Row> store = open(100, 100)) {
+            store.compact();
+        }
+        assertFalse(Files.exists(dataFile()));
+    }
+
+    private CsvStore<Row> open(int compactionThreshold, int groupCommitSize) {
+        return new CsvStore<>(dataFile().toString(), Row.class, COLUMNS, INDEXED,
+            compactionThreshold, groupCommitSize, compactionRequests::add);
+    }
+
+    private Path dataFile() {
+        return directory.resolve("rows.csv");
+    }
+
+    private Path logFile() {
+        return directory.resolve("rows.csv.log");
+    }
+
+    private static List<String> names(List<Row> rows) {
+        return rows.stream().map(Row::getName).toList();
+    }
+
+    public static class Row {
+        private String id;
+        private String projectId;
+        private String name;
+
+        public Row() {
+        }
+
+        Row(UUID id, UUID projectId, String name) {
+            this.id = id.toString();
+            this.projectId = projectId.toString();
+            this.name = name;
+        }
+
+        UUID id() {
+            return UUID.fromString(id);
+        }
+
+        UUID projectId() {
+            return UUID.fromString(projectId);
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getProjectId() {
+            return projectId;
+        }
+
+        public void setProjectId(String projectId) {
+            this.projectId = projectId;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}